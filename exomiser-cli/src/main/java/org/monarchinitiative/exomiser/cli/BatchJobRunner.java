@@ -0,0 +1,151 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.cli;
+
+import org.monarchinitiative.exomiser.api.v1.JobProto;
+import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisResults;
+import org.monarchinitiative.exomiser.core.writers.AnalysisResultsWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a batch of jobs concurrently on a fixed number of worker threads, sharing the read-only reference data of a
+ * single {@link Exomiser}. Each job is isolated from the others as the {@link Exomiser} creates a new
+ * {@link org.monarchinitiative.exomiser.core.analysis.AnalysisRunner}, VCF reader, variant factory and set of genes for
+ * every analysis.
+ * <p>
+ * The variants of a sample are all held in memory until the results are written, so running too many jobs at once can
+ * exhaust the heap. If a per-job memory estimate is provided, jobs are only started while the estimated memory of the
+ * running jobs fits into the maximum heap size.
+ *
+ * @since 14.0.0
+ */
+public class BatchJobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchJobRunner.class);
+
+    private static final long MB = 1024L * 1024L;
+
+    private final Exomiser exomiser;
+    private final int numThreads;
+    // heap budget and per-job estimate in MB, used as semaphore permits. A job estimate of zero disables the budget.
+    private final int heapBudgetMb;
+    private final int jobMemoryMb;
+
+    /**
+     * @param exomiser    the {@link Exomiser} used to run each job
+     * @param numThreads  the maximum number of jobs to run concurrently
+     * @param jobMemoryMb the estimated heap required by a single job in MB, or 0 to run jobs regardless of heap size
+     */
+    public BatchJobRunner(Exomiser exomiser, int numThreads, int jobMemoryMb) {
+        this(exomiser, numThreads, jobMemoryMb, (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / MB));
+    }
+
+    BatchJobRunner(Exomiser exomiser, int numThreads, int jobMemoryMb, int heapBudgetMb) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("numThreads must be a positive integer: " + numThreads);
+        }
+        if (jobMemoryMb < 0) {
+            throw new IllegalArgumentException("jobMemoryMb must not be negative: " + jobMemoryMb);
+        }
+        this.exomiser = exomiser;
+        this.numThreads = numThreads;
+        this.heapBudgetMb = heapBudgetMb;
+        // a job larger than the whole budget is still allowed to run on its own
+        this.jobMemoryMb = Math.min(jobMemoryMb, heapBudgetMb);
+    }
+
+    /**
+     * Runs all the jobs and writes their results, logging a throughput summary once complete. A failed job does not
+     * stop the remaining jobs from running.
+     *
+     * @param jobs the jobs to run
+     * @return the number of jobs which failed
+     */
+    public int run(List<JobProto.Job> jobs) {
+        logger.info("Running batch of {} jobs using {} threads{}", jobs.size(), numThreads, jobMemoryMb == 0 ? "" : String.format(" with %d MB per job of a %d MB heap", jobMemoryMb, heapBudgetMb));
+        Semaphore heapBudget = new Semaphore(heapBudgetMb);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicLong totalJobMillis = new AtomicLong();
+        AtomicLong completedJobMillis = new AtomicLong();
+
+        Instant timeStart = Instant.now();
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        try {
+            for (int i = 0; i < jobs.size(); i++) {
+                JobProto.Job job = jobs.get(i);
+                int jobNumber = i + 1;
+                // only the submitting thread acquires permits, so jobs are admitted in order as memory is released
+                heapBudget.acquireUninterruptibly(jobMemoryMb);
+                executorService.execute(() -> {
+                    Instant jobStart = Instant.now();
+                    try {
+                        logger.info("Running job {} of {}", jobNumber, jobs.size());
+                        AnalysisResults analysisResults = exomiser.run(job);
+                        AnalysisResultsWriter.writeToFile(analysisResults, job.getOutputOptions());
+                        completedJobMillis.addAndGet(Duration.between(jobStart, Instant.now()).toMillis());
+                        completed.incrementAndGet();
+                    } catch (Exception e) {
+                        logger.error("Job {} of {} failed", jobNumber, jobs.size(), e);
+                        failed.incrementAndGet();
+                    } finally {
+                        totalJobMillis.addAndGet(Duration.between(jobStart, Instant.now()).toMillis());
+                        heapBudget.release(jobMemoryMb);
+                    }
+                });
+            }
+        } finally {
+            executorService.shutdown();
+            awaitTermination(executorService);
+        }
+        logSummary(jobs.size(), completed.get(), failed.get(), completedJobMillis.get(), totalJobMillis.get(), Duration.between(timeStart, Instant.now()));
+        return failed.get();
+    }
+
+    private static void awaitTermination(ExecutorService executorService) {
+        try {
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void logSummary(int numJobs, int completed, int failed, long completedJobMillis, long totalJobMillis, Duration duration) {
+        long ms = Math.max(1, duration.toMillis());
+        double samplesPerHour = completed * 3_600_000.0 / ms;
+        // failed jobs can stop early, so only the completed ones count towards the time per sample
+        long meanJobMillis = completed == 0 ? 0 : completedJobMillis / completed;
+        logger.info("Finished batch of {} samples ({} completed, {} failed) in {}m {}s ({} ms) using {} threads", numJobs, completed, failed, (ms / 1000) / 60 % 60, ms / 1000 % 60, ms, numThreads);
+        logger.info("Throughput {} samples/hour, mean {} ms per sample, {}x speed-up over sequential", String.format("%.1f", samplesPerHour), meanJobMillis, String.format("%.1f", (double) totalJobMillis / ms));
+    }
+}
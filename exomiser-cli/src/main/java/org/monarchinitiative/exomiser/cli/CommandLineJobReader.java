@@ -53,9 +53,13 @@ public class CommandLineJobReader {
 
     private static final Logger logger = LoggerFactory.getLogger(CommandLineJobReader.class);
 
+    private static final Set<String> JOB_RUNNER_OPTIONS = Set.of("submit", "batch-threads", "batch-job-memory");
+
     public List<JobProto.Job> readJobs(CommandLine commandLine) {
         Set<String> userOptions = Arrays.stream(commandLine.getOptions())
                 .map(Option::getLongOpt)
+                // these options only change how or where the jobs are run
+                .filter(option -> !JOB_RUNNER_OPTIONS.contains(option))
                 .collect(Collectors.toSet());
         logger.debug("Parsed options: {}", userOptions);
 
@@ -62,6 +62,22 @@ public class CommandLineOptionsParser {
                 .argName("file")
                 .build());
 
+        options.addOption(Option.builder()
+                .longOpt("batch-threads")
+                .desc("Number of jobs from the batch or analysis-batch file to run concurrently. The reference data is" +
+                        " shared between the jobs, but each job holds its own variants in memory. (default = 1)")
+                .hasArg()
+                .argName("int")
+                .build());
+
+        options.addOption(Option.builder()
+                .longOpt("batch-job-memory")
+                .desc("Estimated heap in MB required by a single job from the batch or analysis-batch file. When set," +
+                        " jobs are only started while the estimated memory of all running jobs fits into the maximum heap size.")
+                .hasArg()
+                .argName("int")
+                .build());
+
         options.addOption(Option.builder()
                 .longOpt("sample")
                 .desc("Path to sample or phenopacket file. This should be in JSON or YAML format.")
@@ -140,6 +156,31 @@ public class CommandLineOptionsParser {
                 .valueSeparator(',')
                 .argName("string")
                 .build());
+
+        options.addOption(Option.builder()
+                .longOpt("daemon")
+                .desc("Path of a Unix domain socket on which to run Exomiser as a long-running daemon. The reference data is" +
+                        " loaded once and jobs are accepted from the --submit option until the process is stopped. This option" +
+                        " is EXCLUSIVE to all other options except daemon-threads.")
+                .hasArg()
+                .argName("socket")
+                .build());
+
+        options.addOption(Option.builder()
+                .longOpt("daemon-threads")
+                .desc("Number of jobs the daemon will run concurrently. (default = 1)")
+                .hasArg()
+                .argName("int")
+                .build());
+
+        options.addOption(Option.builder()
+                .longOpt("submit")
+                .desc("Path of the Unix domain socket of a running Exomiser daemon. The input options are submitted to the" +
+                        " daemon for analysis and the paths of the output files are printed once complete. Relative file paths" +
+                        " are resolved against the current working directory before the job is submitted.")
+                .hasArg()
+                .argName("socket")
+                .build());
     }
 
     private CommandLineOptionsParser() {
@@ -162,7 +203,25 @@ private static CommandLine validate(CommandLine commandLine) {
             // return the commandLine here as this will allow Main to print the help message
             return commandLine;
         }
-        if (commandLine.hasOption("job") && commandLine.getOptions().length > 1) {
+        if ((commandLine.hasOption("batch-threads") || commandLine.hasOption("batch-job-memory"))
+                && !(commandLine.hasOption("batch") || commandLine.hasOption("analysis-batch"))) {
+            throw new CommandLineParseError("batch-threads and batch-job-memory options require a batch or analysis-batch option");
+        }
+        if (commandLine.hasOption("batch-threads")) {
+            checkPositiveInteger(commandLine, "batch-threads");
+        }
+        if (commandLine.hasOption("batch-job-memory")) {
+            checkPositiveInteger(commandLine, "batch-job-memory");
+        }
+        if (commandLine.hasOption("daemon-threads") && !commandLine.hasOption("daemon")) {
+            throw new CommandLineParseError("daemon-threads option requires the daemon option");
+        }
+        if (commandLine.hasOption("daemon")) {
+            return validateDaemon(commandLine);
+        }
+        // the submit option only changes where the job is run, so is not counted as one of the job options
+        int numJobOptions = commandLine.hasOption("submit") ? commandLine.getOptions().length - 1 : commandLine.getOptions().length;
+        if (commandLine.hasOption("job") && numJobOptions > 1) {
             throw new CommandLineParseError("job option is exclusive");
         }
 
@@ -201,6 +260,28 @@ private static CommandLine validate(CommandLine commandLine) {
         return commandLine;
     }
 
+    private static CommandLine validateDaemon(CommandLine commandLine) {
+        int numDaemonOptions = commandLine.hasOption("daemon-threads") ? 2 : 1;
+        if (commandLine.getOptions().length > numDaemonOptions) {
+            throw new CommandLineParseError("daemon option is exclusive to all other options except daemon-threads");
+        }
+        if (commandLine.hasOption("daemon-threads")) {
+            checkPositiveInteger(commandLine, "daemon-threads");
+        }
+        return commandLine;
+    }
+
+    private static void checkPositiveInteger(CommandLine commandLine, String option) {
+        String value = commandLine.getOptionValue(option);
+        try {
+            if (Integer.parseInt(value) < 1) {
+                throw new CommandLineParseError(option + " option must be a positive integer: " + value);
+            }
+        } catch (NumberFormatException e) {
+            throw new CommandLineParseError(option + " option must be a positive integer: " + value);
+        }
+    }
+
     private static boolean hasInputFileOption(CommandLine commandLine) {
         for (String option : fileDependentOptions()) {
             if (commandLine.hasOption(option)) {
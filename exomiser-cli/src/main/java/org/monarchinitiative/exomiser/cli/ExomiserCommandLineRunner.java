@@ -28,8 +28,12 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
@@ -43,18 +47,50 @@ public class ExomiserCommandLineRunner implements CommandLineRunner {
     private static final Logger logger = LoggerFactory.getLogger(ExomiserCommandLineRunner.class);
 
     private final Exomiser exomiser;
+    private final ConfigurableApplicationContext applicationContext;
 
-    public ExomiserCommandLineRunner(Exomiser exomiser) {
+    public ExomiserCommandLineRunner(Exomiser exomiser, ConfigurableApplicationContext applicationContext) {
         this.exomiser = exomiser;
+        this.applicationContext = applicationContext;
     }
 
     @Override
     public void run(String... args) {
         CommandLine commandLine = CommandLineOptionsParser.parse(args);
+        if (commandLine.hasOption("daemon")) {
+            runDaemon(commandLine);
+            return;
+        }
         CommandLineJobReader jobReader = new CommandLineJobReader();
         List<JobProto.Job> jobs = jobReader.readJobs(commandLine);
         logger.info("Exomiser running...");
-        runJobs(jobs);
+        if (commandLine.hasOption("batch-threads") || commandLine.hasOption("batch-job-memory")) {
+            runJobsConcurrently(jobs, commandLine);
+        } else {
+            runJobs(jobs);
+        }
+    }
+
+    private void runJobsConcurrently(List<JobProto.Job> jobs, CommandLine commandLine) {
+        int numThreads = Integer.parseInt(commandLine.getOptionValue("batch-threads", "1"));
+        int jobMemoryMb = Integer.parseInt(commandLine.getOptionValue("batch-job-memory", "0"));
+        int failed = new BatchJobRunner(exomiser, numThreads, jobMemoryMb).run(jobs);
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + jobs.size() + " jobs failed");
+        }
+    }
+
+    private void runDaemon(CommandLine commandLine) {
+        Path socketPath = Path.of(commandLine.getOptionValue("daemon"));
+        int numThreads = Integer.parseInt(commandLine.getOptionValue("daemon-threads", "1"));
+        try {
+            ExomiserDaemon daemon = new ExomiserDaemon(exomiser, socketPath, numThreads);
+            // registered as a lifecycle bean so the context shutdown hook stops it before closing the data sources
+            applicationContext.getBeanFactory().registerSingleton("exomiserDaemon", daemon);
+            daemon.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start Exomiser daemon on " + socketPath, e);
+        }
     }
 
     private void runJobs(List<JobProto.Job> jobs) {
@@ -63,8 +99,7 @@ private void runJobs(List<JobProto.Job> jobs) {
         }
         if (jobs.size() > 1) {
             Instant timeStart = Instant.now();
-            //this *could* be run in parallel using parallelStream() at the expense of RAM in order to hold all the variants in memory.
-            //HOWEVER there may be threading issues so this needs investigation.
+            // use the batch-threads option to run these concurrently at the expense of RAM in order to hold all the variants in memory.
             for (int i = 0; i < jobs.size(); i++) {
                 logger.info("Running job {} of {}", i + 1, jobs.size());
                 runJob(jobs.get(i));
@@ -0,0 +1,288 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.cli;
+
+import org.monarchinitiative.exomiser.api.v1.JobProto;
+import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisResults;
+import org.monarchinitiative.exomiser.core.writers.AnalysisResultsWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.*;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running Exomiser which keeps the reference data loaded and accepts {@link JobProto.Job} submissions over a
+ * local Unix domain socket, so that each sample only pays for the analysis and not the application start-up.
+ * <p>
+ * Each connection carries a single length-delimited {@link JobProto.Job} sent by the {@link ExomiserDaemonClient}.
+ * The daemon replies with UTF-8 text lines as the job progresses: {@code RUNNING} once the job has left the queue,
+ * {@code WRITING} once the analysis has finished, then {@code OUTPUT <path>} for each results file written, followed by
+ * {@code DONE}. An {@code ERROR <message>} line ends the reply if the job could not be run. Jobs are run on a fixed
+ * number of threads and once {@link #MAX_QUEUED_JOBS} are waiting new submissions are rejected with
+ * {@code ERROR busy}.
+ * <p>
+ * The socket is only accessible to the user running the daemon. A socket file left behind by a daemon which was killed
+ * is replaced on start-up, but the daemon will refuse to start if the path is not a socket or another daemon is still
+ * listening on it.
+ * <p>
+ * The daemon is a {@link SmartLifecycle} so that, once registered with the application context, it is stopped before
+ * the data sources used by the running jobs are closed. Stopping waits a bounded time for the running and queued jobs
+ * to finish, after which the running jobs are interrupted and the queued jobs are rejected with
+ * {@code ERROR stopped}.
+ *
+ * @since 14.0.0
+ */
+public class ExomiserDaemon implements Closeable, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExomiserDaemon.class);
+
+    static final int MAX_QUEUED_JOBS = 64;
+    static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(20);
+
+    // file type bits of the unix:mode attribute, as in sys/stat.h
+    private static final int S_IFMT = 0170000;
+    private static final int S_IFSOCK = 0140000;
+
+    static final String RUNNING = "RUNNING";
+    static final String WRITING = "WRITING";
+    static final String OUTPUT = "OUTPUT";
+    static final String DONE = "DONE";
+    static final String ERROR = "ERROR";
+
+    private final Exomiser exomiser;
+    private final Path socketPath;
+    private final ServerSocketChannel serverChannel;
+    private final ThreadPoolExecutor executor;
+    private final Duration shutdownTimeout;
+
+    public ExomiserDaemon(Exomiser exomiser, Path socketPath, int numThreads) throws IOException {
+        this(exomiser, socketPath, numThreads, DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * @param shutdownTimeout the maximum time to wait for running and queued jobs to finish when the daemon is stopped
+     */
+    public ExomiserDaemon(Exomiser exomiser, Path socketPath, int numThreads, Duration shutdownTimeout) throws IOException {
+        this.exomiser = exomiser;
+        this.socketPath = socketPath;
+        this.shutdownTimeout = shutdownTimeout;
+        deleteStaleSocket(socketPath);
+        this.serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        this.serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+        // anyone able to connect can read and write files as this user, so restrict it to the owner
+        Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+        this.executor = new ThreadPoolExecutor(numThreads, numThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_JOBS));
+    }
+
+    /**
+     * A socket file left behind by a daemon which was killed will prevent binding to the address, so is deleted. Any
+     * other file, or the socket of a daemon which is still running, is left alone.
+     */
+    private static void deleteStaleSocket(Path socketPath) throws IOException {
+        if (!Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        int mode = (int) Files.getAttribute(socketPath, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+        if ((mode & S_IFMT) != S_IFSOCK) {
+            throw new IOException("Unable to start Exomiser daemon - " + socketPath + " already exists and is not a socket");
+        }
+        try (SocketChannel ignored = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            throw new IOException("Unable to start Exomiser daemon - another daemon is already listening on " + socketPath);
+        } catch (ConnectException e) {
+            logger.info("Removing stale socket {}", socketPath);
+        }
+        Files.delete(socketPath);
+    }
+
+    /**
+     * Accepts job submissions until the daemon is closed. This method blocks the calling thread.
+     */
+    public void run() {
+        logger.info("Exomiser daemon listening on {} running {} concurrent job(s)", socketPath, executor.getMaximumPoolSize());
+        while (serverChannel.isOpen()) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (IOException e) {
+                logger.error("Unable to accept connection on {}", socketPath, e);
+                continue;
+            }
+            try {
+                executor.execute(new JobHandler(channel));
+            } catch (RejectedExecutionException e) {
+                logger.warn("Rejected job submission - {} jobs already queued", getNumQueuedJobs());
+                try (channel) {
+                    reply(channel, List.of(ERROR + " busy"));
+                } catch (IOException ioException) {
+                    logger.error("Unable to reply to client", ioException);
+                }
+            }
+        }
+        logger.info("Exomiser daemon stopped");
+    }
+
+    /**
+     * Runs the job submitted on a connection. This is a named class rather than a lambda so that the connections of
+     * any queued jobs can be answered when the daemon is stopped.
+     */
+    private final class JobHandler implements Runnable {
+
+        private final SocketChannel channel;
+
+        private JobHandler(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            try (channel) {
+                JobProto.Job job = JobProto.Job.parseDelimitedFrom(Channels.newInputStream(channel));
+                runJob(job, new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                logger.error("Unable to read job submission or reply to client", e);
+            }
+        }
+
+        private void reject(String reason) {
+            try (channel) {
+                reply(channel, List.of(ERROR + " " + reason));
+            } catch (IOException e) {
+                logger.error("Unable to reply to client", e);
+            }
+        }
+    }
+
+    /**
+     * Runs the job, sending each line of the reply as soon as it is known so that the client can follow the progress
+     * of a long-running job.
+     */
+    private void runJob(JobProto.Job job, Writer writer) throws IOException {
+        if (job == null) {
+            writeLine(writer, ERROR + " no job received");
+            return;
+        }
+        writeLine(writer, RUNNING);
+        List<Path> outputFiles;
+        try {
+            AnalysisResults analysisResults = exomiser.run(job);
+            logger.info("Writing results...");
+            writeLine(writer, WRITING);
+            outputFiles = AnalysisResultsWriter.writeToFile(analysisResults, job.getOutputOptions());
+        } catch (Exception e) {
+            logger.error("Unable to run job", e);
+            writeLine(writer, ERROR + " " + e.getMessage());
+            return;
+        }
+        for (Path outputFile : outputFiles) {
+            writeLine(writer, OUTPUT + " " + outputFile.toAbsolutePath());
+        }
+        writeLine(writer, DONE);
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    private static void reply(SocketChannel channel, List<String> lines) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+        for (String line : lines) {
+            writeLine(writer, line);
+        }
+    }
+
+    int getNumQueuedJobs() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * The daemon is started by calling {@link #run()} from the command line runner, not by the application context.
+     */
+    @Override
+    public void start() {
+        // no-op
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return serverChannel.isOpen();
+    }
+
+    @Override
+    public void stop() {
+        try {
+            close();
+        } catch (IOException e) {
+            logger.error("Error stopping Exomiser daemon", e);
+        }
+    }
+
+    /**
+     * Stops accepting new submissions and waits up to the shutdown timeout for the running and queued jobs to finish.
+     * Any jobs still queued after this are rejected and the running jobs are interrupted.
+     */
+    @Override
+    public void close() throws IOException {
+        serverChannel.close();
+        executor.shutdown();
+        boolean finished = false;
+        try {
+            finished = executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!finished) {
+            List<Runnable> queuedJobs = executor.shutdownNow();
+            logger.warn("Exomiser daemon jobs did not finish within {} - rejecting {} queued job(s)", shutdownTimeout, queuedJobs.size());
+            for (Runnable queuedJob : queuedJobs) {
+                ((JobHandler) queuedJob).reject("stopped");
+            }
+        }
+        Files.deleteIfExists(socketPath);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.cli;
+
+import org.monarchinitiative.exomiser.api.v1.JobProto;
+import org.monarchinitiative.exomiser.api.v1.OutputProto;
+import org.monarchinitiative.exomiser.api.v1.SampleProto;
+import org.monarchinitiative.exomiser.core.writers.OutputSettings;
+import org.phenopackets.schema.v1.Family;
+import org.phenopackets.schema.v1.Phenopacket;
+import org.phenopackets.schema.v1.core.HtsFile;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Thin client for submitting jobs to a running {@link ExomiserDaemon}. The daemon runs in its own working directory, so
+ * the relative paths of the input and output files of a job are resolved against the working directory of the client
+ * before it is submitted.
+ *
+ * @since 14.0.0
+ */
+public class ExomiserDaemonClient {
+
+    private final UnixDomainSocketAddress address;
+
+    public ExomiserDaemonClient(Path socketPath) {
+        this.address = UnixDomainSocketAddress.of(socketPath);
+    }
+
+    /**
+     * Submits the job to the daemon and waits for it to finish.
+     *
+     * @param job the job to run
+     * @return the paths of the results files written by the daemon
+     * @throws IOException if the daemon could not be reached or was unable to run the job
+     */
+    public List<Path> submit(JobProto.Job job) throws IOException {
+        return submit(job, status -> {
+        });
+    }
+
+    /**
+     * Submits the job to the daemon and waits for it to finish, reporting its progress to the statusListener.
+     *
+     * @param job            the job to run
+     * @param statusListener called with each status line sent by the daemon, e.g. {@code RUNNING} once the job has left
+     *                       the daemon's queue
+     * @return the paths of the results files written by the daemon
+     * @throws IOException if the daemon could not be reached or was unable to run the job
+     */
+    public List<Path> submit(JobProto.Job job, Consumer<String> statusListener) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(address)) {
+            OutputStream outputStream = Channels.newOutputStream(channel);
+            resolvePaths(job, Path.of("").toAbsolutePath()).writeDelimitedTo(outputStream);
+            outputStream.flush();
+            channel.shutdownOutput();
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            List<Path> outputFiles = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ExomiserDaemon.OUTPUT + " ")) {
+                    outputFiles.add(Path.of(line.substring(ExomiserDaemon.OUTPUT.length() + 1)));
+                } else if (line.equals(ExomiserDaemon.DONE)) {
+                    return outputFiles;
+                } else if (line.startsWith(ExomiserDaemon.ERROR)) {
+                    throw new IOException("Exomiser daemon was unable to run job: " + line.substring(ExomiserDaemon.ERROR.length()).trim());
+                } else {
+                    statusListener.accept(line);
+                }
+            }
+            throw new IOException("Exomiser daemon closed the connection before the job finished");
+        }
+    }
+
+    /**
+     * Resolves the relative VCF, PED and output paths of the job against the working directory, including the default
+     * output directory used when none is specified.
+     *
+     * @param job              the job read by the client
+     * @param workingDirectory the absolute directory against which relative paths are resolved
+     * @return a copy of the job with absolute file paths
+     */
+    static JobProto.Job resolvePaths(JobProto.Job job, Path workingDirectory) {
+        JobProto.Job.Builder jobBuilder = job.toBuilder();
+        if (jobBuilder.hasSample()) {
+            SampleProto.Sample.Builder sampleBuilder = jobBuilder.getSampleBuilder();
+            sampleBuilder.setVcf(resolvePath(sampleBuilder.getVcf(), workingDirectory));
+            sampleBuilder.setPed(resolvePath(sampleBuilder.getPed(), workingDirectory));
+        }
+        if (jobBuilder.hasPhenopacket()) {
+            resolveHtsFiles(jobBuilder.getPhenopacketBuilder(), workingDirectory);
+        }
+        if (jobBuilder.hasFamily()) {
+            Family.Builder familyBuilder = jobBuilder.getFamilyBuilder();
+            familyBuilder.getHtsFilesBuilderList().forEach(htsFile -> resolveHtsFile(htsFile, workingDirectory));
+            if (familyBuilder.hasProband()) {
+                resolveHtsFiles(familyBuilder.getProbandBuilder(), workingDirectory);
+            }
+            familyBuilder.getRelativesBuilderList().forEach(relative -> resolveHtsFiles(relative, workingDirectory));
+        }
+        resolveOutputPaths(jobBuilder.getOutputOptionsBuilder(), workingDirectory);
+        return jobBuilder.build();
+    }
+
+    private static void resolveHtsFiles(Phenopacket.Builder phenopacketBuilder, Path workingDirectory) {
+        phenopacketBuilder.getHtsFilesBuilderList().forEach(htsFile -> resolveHtsFile(htsFile, workingDirectory));
+    }
+
+    private static void resolveHtsFile(HtsFile.Builder htsFile, Path workingDirectory) {
+        String uri = htsFile.getUri();
+        // these are permitted to be plain paths as well as URIs - anything with a scheme is left as-is
+        if (!uri.isEmpty() && !hasScheme(uri)) {
+            htsFile.setUri(workingDirectory.resolve(uri).toUri().toString());
+        }
+    }
+
+    private static boolean hasScheme(String uri) {
+        try {
+            return URI.create(uri).getScheme() != null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void resolveOutputPaths(OutputProto.OutputOptions.Builder outputOptions, Path workingDirectory) {
+        String outputPrefix = outputOptions.getOutputPrefix();
+        if (!outputPrefix.isEmpty()) {
+            // the deprecated prefix can name a directory with a trailing separator, which Path.resolve would drop
+            if (!Path.of(outputPrefix).isAbsolute()) {
+                outputOptions.setOutputPrefix(workingDirectory + File.separator + outputPrefix);
+            }
+            return;
+        }
+        String outputDirectory = outputOptions.getOutputDirectory();
+        Path outputDirectoryPath = outputDirectory.isEmpty() ? OutputSettings.DEFAULT_OUTPUT_DIR : Path.of(outputDirectory);
+        outputOptions.setOutputDirectory(workingDirectory.resolve(outputDirectoryPath).toString());
+    }
+
+    private static String resolvePath(String path, Path workingDirectory) {
+        return path.isEmpty() ? path : workingDirectory.resolve(path).toString();
+    }
+}
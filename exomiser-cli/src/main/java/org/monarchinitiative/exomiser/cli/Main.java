@@ -20,12 +20,16 @@
 package org.monarchinitiative.exomiser.cli;
 
 import org.apache.commons.cli.CommandLine;
+import org.monarchinitiative.exomiser.api.v1.JobProto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
 
 
@@ -48,6 +52,11 @@ public static void main(String[] args) {
             System.exit(0);
         }
 
+        // submitting to a running daemon doesn't need the reference data, so there is no need to launch the context
+        if (commandLine.hasOption("submit")) {
+            System.exit(submitJobs(commandLine));
+        }
+
         // all ok so far - try launching the app
         Locale.setDefault(Locale.UK);
         SpringApplication.run(Main.class, args).close();
@@ -55,4 +64,21 @@ public static void main(String[] args) {
         logger.info("Exomising finished - Bye!");
     }
 
+    private static int submitJobs(CommandLine commandLine) {
+        List<JobProto.Job> jobs = new CommandLineJobReader().readJobs(commandLine);
+        ExomiserDaemonClient client = new ExomiserDaemonClient(Path.of(commandLine.getOptionValue("submit")));
+        int exitCode = 0;
+        for (int i = 0; i < jobs.size(); i++) {
+            int jobNumber = i + 1;
+            logger.info("Submitting job {} of {}", jobNumber, jobs.size());
+            try {
+                client.submit(jobs.get(i), status -> logger.info("Job {} of {} {}", jobNumber, jobs.size(), status.toLowerCase(Locale.ROOT))).forEach(System.out::println);
+            } catch (IOException e) {
+                logger.error("{}", e.getMessage());
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
 }
@@ -0,0 +1,157 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.api.v1.JobProto;
+import org.monarchinitiative.exomiser.api.v1.OutputProto;
+import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.Analysis;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisResults;
+import org.monarchinitiative.exomiser.core.analysis.sample.Sample;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchJobRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AnalysisResults analysisResults = AnalysisResults.builder()
+            .sample(Sample.builder().build())
+            .analysis(Analysis.builder().build())
+            .build();
+
+    private List<JobProto.Job> jobs(int numJobs) {
+        List<JobProto.Job> jobs = new ArrayList<>();
+        for (int i = 0; i < numJobs; i++) {
+            jobs.add(JobProto.Job.newBuilder()
+                    .setOutputOptions(OutputProto.OutputOptions.newBuilder()
+                            .setOutputDirectory(tempDir.toString())
+                            .setOutputFileName("sample-" + i)
+                            .addOutputFormats("TSV_GENE")
+                            .build())
+                    .build());
+        }
+        return jobs;
+    }
+
+    /**
+     * Returns an Exomiser which records the maximum number of jobs it was running at the same time.
+     */
+    private Exomiser concurrencyRecordingExomiser(AtomicInteger maxRunning) {
+        AtomicInteger running = new AtomicInteger();
+        Exomiser exomiser = mock(Exomiser.class);
+        when(exomiser.run(any(JobProto.Job.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return analysisResults;
+        });
+        return exomiser;
+    }
+
+    @Test
+    void throwsExceptionWithNonPositiveThreads() {
+        Exomiser exomiser = mock(Exomiser.class);
+        assertThrows(IllegalArgumentException.class, () -> new BatchJobRunner(exomiser, 0, 0));
+    }
+
+    @Test
+    void throwsExceptionWithNegativeJobMemory() {
+        Exomiser exomiser = mock(Exomiser.class);
+        assertThrows(IllegalArgumentException.class, () -> new BatchJobRunner(exomiser, 1, -1));
+    }
+
+    @Test
+    void runWritesResultsForAllJobs() {
+        Exomiser exomiser = mock(Exomiser.class);
+        when(exomiser.run(any(JobProto.Job.class))).thenReturn(analysisResults);
+
+        BatchJobRunner instance = new BatchJobRunner(exomiser, 4, 0);
+        assertThat(instance.run(jobs(8)), equalTo(0));
+        for (int i = 0; i < 8; i++) {
+            assertThat(Files.exists(tempDir.resolve("sample-" + i + ".genes.tsv")), is(true));
+        }
+    }
+
+    @Test
+    void runJobsConcurrently() throws Exception {
+        // all four jobs need to be running at the same time in order to pass the latch
+        CountDownLatch allRunning = new CountDownLatch(4);
+        Exomiser exomiser = mock(Exomiser.class);
+        when(exomiser.run(any(JobProto.Job.class))).thenAnswer(invocation -> {
+            allRunning.countDown();
+            allRunning.await(10, TimeUnit.SECONDS);
+            return analysisResults;
+        });
+
+        BatchJobRunner instance = new BatchJobRunner(exomiser, 4, 0);
+        assertThat(instance.run(jobs(4)), equalTo(0));
+        assertThat(allRunning.getCount(), equalTo(0L));
+    }
+
+    @Test
+    void runContinuesAfterFailedJob() {
+        Exomiser exomiser = mock(Exomiser.class);
+        when(exomiser.run(any(JobProto.Job.class)))
+                .thenThrow(new IllegalStateException("Missing VCF"))
+                .thenReturn(analysisResults);
+
+        BatchJobRunner instance = new BatchJobRunner(exomiser, 1, 0);
+        assertThat(instance.run(jobs(3)), equalTo(1));
+    }
+
+    @Test
+    void runAdmitsJobsWhichFitHeapBudget() {
+        AtomicInteger maxRunning = new AtomicInteger();
+        Exomiser exomiser = concurrencyRecordingExomiser(maxRunning);
+
+        // only two 400 MB jobs fit into a 1000 MB heap
+        BatchJobRunner instance = new BatchJobRunner(exomiser, 4, 400, 1000);
+        assertThat(instance.run(jobs(6)), equalTo(0));
+        assertThat(maxRunning.get() <= 2, is(true));
+    }
+
+    @Test
+    void runJobLargerThanHeapBudgetRunsAlone() {
+        AtomicInteger maxRunning = new AtomicInteger();
+        Exomiser exomiser = concurrencyRecordingExomiser(maxRunning);
+
+        BatchJobRunner instance = new BatchJobRunner(exomiser, 4, 2000, 1000);
+        assertThat(instance.run(jobs(3)), equalTo(0));
+        assertThat(maxRunning.get(), equalTo(1));
+    }
+}
@@ -375,6 +375,16 @@ void readCliAnalysisWithJobSample() {
         assertThat(jobs, equalTo(List.of(PFEIFFER_SAMPLE_JOB)));
     }
 
+    @Test
+    void readAnalysisBatchWithBatchThreads() {
+        CommandLine commandLine = CommandLineOptionsParser.parse(
+                "--analysis-batch", "src/test/resources/batch-analysis-job.txt",
+                "--batch-threads", "2"
+        );
+        List<JobProto.Job> jobs = instance.readJobs(commandLine);
+        assertThat(jobs, equalTo(List.of(PFEIFFER_SAMPLE_JOB, PFEIFFER_PHENOPACKET_JOB)));
+    }
+
     @Test
     void readAnalysisBatchWithJobs() {
         CommandLine commandLine = CommandLineOptionsParser.parse(
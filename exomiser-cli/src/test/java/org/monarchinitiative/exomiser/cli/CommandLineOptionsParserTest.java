@@ -232,6 +232,67 @@ void parseJob() {
         assertThat(commandLine.getOptionValue("job"), equalTo(resource("exome-analysis.yml")));
     }
 
+    @Test
+    void parseBatchThreads() {
+        CommandLine commandLine = CommandLineOptionsParser.parse("--batch", resource("batch-analysis-job.txt"), "--batch-threads", "8", "--batch-job-memory", "4096");
+        assertThat(commandLine.getOptionValue("batch-threads"), equalTo("8"));
+        assertThat(commandLine.getOptionValue("batch-job-memory"), equalTo("4096"));
+    }
+
+    @Test
+    void parseBatchThreadsWithoutBatch() {
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse(
+                "--job", resource("exome-analysis.yml"),
+                "--batch-threads", "8"));
+    }
+
+    @Test
+    void parseBatchThreadsNotPositive() {
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse("--batch", resource("batch-analysis-job.txt"), "--batch-threads", "0"));
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse("--batch", resource("batch-analysis-job.txt"), "--batch-job-memory", "lots"));
+    }
+
+    @Test
+    void parseDaemon() {
+        CommandLine commandLine = CommandLineOptionsParser.parse("--daemon", "exomiser.sock", "--daemon-threads", "4");
+        assertTrue(commandLine.hasOption("daemon"));
+        assertThat(commandLine.getOptionValue("daemon"), equalTo("exomiser.sock"));
+        assertThat(commandLine.getOptionValue("daemon-threads"), equalTo("4"));
+    }
+
+    @Test
+    void parseDaemonIsExclusive() {
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse(
+                "--daemon", "exomiser.sock",
+                "--job", resource("exome-analysis.yml")));
+    }
+
+    @Test
+    void parseDaemonThreadsWithoutDaemon() {
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse(
+                "--daemon-threads", "4",
+                "--job", resource("exome-analysis.yml")));
+    }
+
+    @Test
+    void parseDaemonThreadsNotPositive() {
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse("--daemon", "exomiser.sock", "--daemon-threads", "0"));
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse("--daemon", "exomiser.sock", "--daemon-threads", "four"));
+    }
+
+    @Test
+    void parseSubmitJob() {
+        CommandLine commandLine = CommandLineOptionsParser.parse("--job", resource("exome-analysis.yml"), "--submit", "exomiser.sock");
+        assertTrue(commandLine.hasOption("job"));
+        assertThat(commandLine.getOptionValue("submit"), equalTo("exomiser.sock"));
+    }
+
+    @Test
+    void parseSubmitWithoutInput() {
+        assertThrows(CommandLineParseError.class, () -> CommandLineOptionsParser.parse("--submit", "exomiser.sock"),
+                "Missing an input file option!");
+    }
+
     @Test
     void printHelp() {
         CommandLineOptionsParser.printHelp();
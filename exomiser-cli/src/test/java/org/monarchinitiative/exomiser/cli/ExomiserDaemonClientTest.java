@@ -0,0 +1,109 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.cli;
+
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.api.v1.JobProto;
+import org.monarchinitiative.exomiser.api.v1.OutputProto;
+import org.monarchinitiative.exomiser.api.v1.SampleProto;
+import org.phenopackets.schema.v1.Family;
+import org.phenopackets.schema.v1.Phenopacket;
+import org.phenopackets.schema.v1.core.HtsFile;
+
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class ExomiserDaemonClientTest {
+
+    private final Path workingDirectory = Path.of("/home/user/analyses");
+
+    @Test
+    void resolvePathsMakesSamplePathsAbsolute() {
+        JobProto.Job job = JobProto.Job.newBuilder()
+                .setSample(SampleProto.Sample.newBuilder()
+                        .setVcf("vcf/sample.vcf.gz")
+                        .setPed("/data/family.ped"))
+                .build();
+
+        JobProto.Job resolved = ExomiserDaemonClient.resolvePaths(job, workingDirectory);
+
+        assertThat(resolved.getSample().getVcf(), equalTo("/home/user/analyses/vcf/sample.vcf.gz"));
+        assertThat(resolved.getSample().getPed(), equalTo("/data/family.ped"));
+    }
+
+    @Test
+    void resolvePathsUsesDefaultOutputDirectoryOfClient() {
+        JobProto.Job resolved = ExomiserDaemonClient.resolvePaths(JobProto.Job.getDefaultInstance(), workingDirectory);
+
+        assertThat(resolved.getOutputOptions().getOutputDirectory(), equalTo("/home/user/analyses/results"));
+    }
+
+    @Test
+    void resolvePathsMakesOutputDirectoryAbsolute() {
+        JobProto.Job job = JobProto.Job.newBuilder()
+                .setOutputOptions(OutputProto.OutputOptions.newBuilder()
+                        .setOutputDirectory("out")
+                        .setOutputFileName("sample"))
+                .build();
+
+        JobProto.Job resolved = ExomiserDaemonClient.resolvePaths(job, workingDirectory);
+
+        assertThat(resolved.getOutputOptions().getOutputDirectory(), equalTo("/home/user/analyses/out"));
+        assertThat(resolved.getOutputOptions().getOutputFileName(), equalTo("sample"));
+    }
+
+    @Test
+    void resolvePathsKeepsTrailingSeparatorOfOutputPrefix() {
+        JobProto.Job job = JobProto.Job.newBuilder()
+                .setOutputOptions(OutputProto.OutputOptions.newBuilder()
+                        .setOutputPrefix("out/"))
+                .build();
+
+        JobProto.Job resolved = ExomiserDaemonClient.resolvePaths(job, workingDirectory);
+
+        assertThat(resolved.getOutputOptions().getOutputPrefix(), equalTo("/home/user/analyses/out/"));
+        assertThat(resolved.getOutputOptions().getOutputDirectory(), equalTo(""));
+    }
+
+    @Test
+    void resolvePathsMakesPhenopacketAndFamilyHtsFilesAbsolute() {
+        HtsFile relativeVcf = HtsFile.newBuilder().setUri("sample.vcf.gz").build();
+        HtsFile uriVcf = HtsFile.newBuilder().setUri("file:///data/sample.vcf.gz").build();
+        JobProto.Job phenopacketJob = JobProto.Job.newBuilder()
+                .setPhenopacket(Phenopacket.newBuilder().addHtsFiles(relativeVcf).addHtsFiles(uriVcf))
+                .build();
+
+        JobProto.Job resolvedPhenopacketJob = ExomiserDaemonClient.resolvePaths(phenopacketJob, workingDirectory);
+        assertThat(resolvedPhenopacketJob.getPhenopacket().getHtsFiles(0).getUri(), equalTo("file:///home/user/analyses/sample.vcf.gz"));
+        assertThat(resolvedPhenopacketJob.getPhenopacket().getHtsFiles(1).getUri(), equalTo("file:///data/sample.vcf.gz"));
+
+        JobProto.Job familyJob = JobProto.Job.newBuilder()
+                .setFamily(Family.newBuilder()
+                        .setProband(Phenopacket.newBuilder().addHtsFiles(relativeVcf))
+                        .addHtsFiles(relativeVcf))
+                .build();
+
+        JobProto.Job resolvedFamilyJob = ExomiserDaemonClient.resolvePaths(familyJob, workingDirectory);
+        assertThat(resolvedFamilyJob.getFamily().getHtsFiles(0).getUri(), equalTo("file:///home/user/analyses/sample.vcf.gz"));
+        assertThat(resolvedFamilyJob.getFamily().getProband().getHtsFiles(0).getUri(), equalTo("file:///home/user/analyses/sample.vcf.gz"));
+    }
+}
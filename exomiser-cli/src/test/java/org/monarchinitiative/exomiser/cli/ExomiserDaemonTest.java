@@ -0,0 +1,221 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.api.v1.JobProto;
+import org.monarchinitiative.exomiser.api.v1.OutputProto;
+import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.Analysis;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisResults;
+import org.monarchinitiative.exomiser.core.analysis.sample.Sample;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExomiserDaemonTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Thread startDaemon(ExomiserDaemon daemon) {
+        Thread thread = new Thread(daemon::run);
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    void submitReturnsOutputFiles() throws Exception {
+        Exomiser exomiser = mock(Exomiser.class);
+        AnalysisResults analysisResults = AnalysisResults.builder()
+                .sample(Sample.builder().build())
+                .analysis(Analysis.builder().build())
+                .build();
+        when(exomiser.run(any(JobProto.Job.class))).thenReturn(analysisResults);
+
+        JobProto.Job job = JobProto.Job.newBuilder()
+                .setOutputOptions(OutputProto.OutputOptions.newBuilder()
+                        .setOutputDirectory(tempDir.toString())
+                        .setOutputFileName("sample")
+                        .addOutputFormats("TSV_GENE")
+                        .addOutputFormats("JSON")
+                        .build())
+                .build();
+
+        Path socketPath = tempDir.resolve("exomiser.sock");
+        ExomiserDaemon daemon = new ExomiserDaemon(exomiser, socketPath, 1);
+        Thread daemonThread = startDaemon(daemon);
+
+        List<String> statuses = new CopyOnWriteArrayList<>();
+        List<Path> outputFiles = new ExomiserDaemonClient(socketPath).submit(job, statuses::add);
+        daemon.close();
+        daemonThread.join();
+
+        assertThat(outputFiles, containsInAnyOrder(tempDir.resolve("sample.genes.tsv").toAbsolutePath(), tempDir.resolve("sample.json").toAbsolutePath()));
+        assertThat(statuses, equalTo(List.of(ExomiserDaemon.RUNNING, ExomiserDaemon.WRITING)));
+        assertThat(Files.exists(socketPath), is(false));
+    }
+
+    @Test
+    void socketIsOnlyAccessibleToOwner() throws Exception {
+        Path socketPath = tempDir.resolve("exomiser.sock");
+        try (ExomiserDaemon daemon = new ExomiserDaemon(mock(Exomiser.class), socketPath, 1)) {
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(socketPath)), equalTo("rw-------"));
+        }
+    }
+
+    @Test
+    void staleSocketIsReplaced() throws Exception {
+        Path socketPath = tempDir.resolve("exomiser.sock");
+        // closing the channel leaves the socket file behind, as when a daemon is killed
+        try (ServerSocketChannel staleChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            staleChannel.bind(UnixDomainSocketAddress.of(socketPath));
+        }
+        assertThat(Files.exists(socketPath), is(true));
+
+        ExomiserDaemon daemon = new ExomiserDaemon(mock(Exomiser.class), socketPath, 1);
+        assertThat(daemon.isRunning(), is(true));
+        daemon.close();
+    }
+
+    @Test
+    void socketOfRunningDaemonIsNotReplaced() throws Exception {
+        Path socketPath = tempDir.resolve("exomiser.sock");
+        ExomiserDaemon daemon = new ExomiserDaemon(mock(Exomiser.class), socketPath, 1);
+        Thread daemonThread = startDaemon(daemon);
+
+        IOException exception = assertThrows(IOException.class, () -> new ExomiserDaemon(mock(Exomiser.class), socketPath, 1));
+        assertThat(exception.getMessage(), containsString("already listening"));
+        assertThat(Files.exists(socketPath), is(true));
+
+        daemon.close();
+        daemonThread.join();
+    }
+
+    @Test
+    void fileWhichIsNotASocketIsNotDeleted() throws Exception {
+        Path socketPath = Files.writeString(tempDir.resolve("exomiser.sock"), "not a socket");
+
+        IOException exception = assertThrows(IOException.class, () -> new ExomiserDaemon(mock(Exomiser.class), socketPath, 1));
+        assertThat(exception.getMessage(), containsString("is not a socket"));
+        assertThat(Files.readString(socketPath), equalTo("not a socket"));
+    }
+
+    @Test
+    void submitThrowsExceptionWhenJobFails() throws Exception {
+        Exomiser exomiser = mock(Exomiser.class);
+        when(exomiser.run(any(JobProto.Job.class))).thenThrow(new IllegalStateException("No sample specified"));
+
+        Path socketPath = tempDir.resolve("exomiser.sock");
+        ExomiserDaemon daemon = new ExomiserDaemon(exomiser, socketPath, 1);
+        Thread daemonThread = startDaemon(daemon);
+
+        ExomiserDaemonClient client = new ExomiserDaemonClient(socketPath);
+        IOException exception = assertThrows(IOException.class, () -> client.submit(JobProto.Job.getDefaultInstance()));
+        daemon.close();
+        daemonThread.join();
+
+        assertThat(exception.getMessage(), containsString("No sample specified"));
+    }
+
+    @Test
+    void closeRejectsQueuedJobsAfterShutdownTimeout() throws Exception {
+        CountDownLatch jobStarted = new CountDownLatch(1);
+        CountDownLatch releaseJob = new CountDownLatch(1);
+        Exomiser exomiser = mock(Exomiser.class);
+        when(exomiser.run(any(JobProto.Job.class))).thenAnswer(invocation -> {
+            jobStarted.countDown();
+            releaseJob.await();
+            throw new IllegalStateException("interrupted");
+        });
+
+        Path socketPath = tempDir.resolve("exomiser.sock");
+        ExomiserDaemon daemon = new ExomiserDaemon(exomiser, socketPath, 1, Duration.ofMillis(100));
+        Thread daemonThread = startDaemon(daemon);
+
+        ExomiserDaemonClient client = new ExomiserDaemonClient(socketPath);
+        CompletableFuture<List<Path>> runningJob = CompletableFuture.supplyAsync(() -> submit(client));
+        jobStarted.await();
+        CompletableFuture<List<Path>> queuedJob = CompletableFuture.supplyAsync(() -> submit(client));
+        while (daemon.getNumQueuedJobs() == 0) {
+            Thread.onSpinWait();
+        }
+
+        daemon.close();
+        daemonThread.join();
+        releaseJob.countDown();
+
+        CompletionException queuedJobException = assertThrows(CompletionException.class, queuedJob::join);
+        assertThat(queuedJobException.getCause().getMessage(), containsString("stopped"));
+        assertThrows(CompletionException.class, runningJob::join);
+        assertThat(Files.exists(socketPath), is(false));
+    }
+
+    @Test
+    void daemonIsStoppedWhenApplicationContextIsClosed() throws Exception {
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.refresh();
+
+        Path socketPath = tempDir.resolve("exomiser.sock");
+        ExomiserDaemon daemon = new ExomiserDaemon(mock(Exomiser.class), socketPath, 1);
+        applicationContext.getBeanFactory().registerSingleton("exomiserDaemon", daemon);
+        Thread daemonThread = startDaemon(daemon);
+
+        applicationContext.close();
+        daemonThread.join();
+
+        assertThat(daemon.isRunning(), is(false));
+        assertThat(Files.exists(socketPath), is(false));
+    }
+
+    private static List<Path> submit(ExomiserDaemonClient client) {
+        try {
+            return client.submit(JobProto.Job.getDefaultInstance());
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @Test
+    void submitThrowsExceptionWhenNoDaemonIsRunning() {
+        ExomiserDaemonClient client = new ExomiserDaemonClient(tempDir.resolve("exomiser.sock"));
+        assertThrows(IOException.class, () -> client.submit(JobProto.Job.getDefaultInstance()));
+    }
+}
@@ -27,6 +27,7 @@
 import org.monarchinitiative.exomiser.core.analysis.util.acmg.*;
 import org.monarchinitiative.exomiser.core.filters.*;
 import org.monarchinitiative.exomiser.core.genome.*;
+import org.monarchinitiative.exomiser.core.genome.dao.AlleleDataDao;
 import org.monarchinitiative.exomiser.core.genome.dao.ClinVarDao;
 import org.monarchinitiative.exomiser.core.model.*;
 import org.monarchinitiative.exomiser.core.prioritisers.Prioritiser;
@@ -35,21 +36,19 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.UnaryOperator;
+import java.util.function.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toConcurrentMap;
+import static java.util.stream.Collectors.toMap;
 
 /**
  * @author Jules Jacobsen <jules.jacobsen@sanger.ac.uk>
@@ -58,13 +57,28 @@ abstract class AbstractAnalysisRunner implements AnalysisRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractAnalysisRunner.class);
 
+    // number of VCF records handed to a worker thread at a time when running in parallel
+    private static final int RECORD_CHUNK_SIZE = 1_000;
+
     private final GenomeAnalysisService genomeAnalysisService;
+    private final BootstrapPopulationCache bootstrapPopulationCache;
+    private final ExecutorService executorService;
 
     protected final VariantFilterRunner variantFilterRunner;
     private final GeneFilterRunner geneFilterRunner;
 
     protected AbstractAnalysisRunner(GenomeAnalysisService genomeAnalysisService, VariantFilterRunner variantFilterRunner, GeneFilterRunner geneFilterRunner) {
+        this(genomeAnalysisService, BootstrapPopulationCache.disabled(), AnalysisExecutors.defaultExecutor(), variantFilterRunner, geneFilterRunner);
+    }
+
+    /**
+     * @param executorService executor shared by all analyses on which the variants are loaded and filtered when an
+     *                        {@link Analysis} requests more than one thread. This is not shut down by the runner.
+     */
+    protected AbstractAnalysisRunner(GenomeAnalysisService genomeAnalysisService, BootstrapPopulationCache bootstrapPopulationCache, ExecutorService executorService, VariantFilterRunner variantFilterRunner, GeneFilterRunner geneFilterRunner) {
         this.genomeAnalysisService = genomeAnalysisService;
+        this.bootstrapPopulationCache = bootstrapPopulationCache;
+        this.executorService = Objects.requireNonNull(executorService);
 
         this.variantFilterRunner = variantFilterRunner;
         this.geneFilterRunner = geneFilterRunner;
@@ -80,7 +94,10 @@ public AnalysisResults run(Sample sample, Analysis analysis) {
         Path vcfPath = sample.getVcfPath();
         VcfReader vcfReader = vcfPath == null ? new NoOpVcfReader() : new VcfFileReader(vcfPath);
         // n.b. this next block will safely handle a null VCF file
-        VariantFactory variantFactory = new VariantFactoryImpl(genomeAnalysisService.getVariantAnnotator(), vcfReader);
+        VariantAnnotator variantAnnotator = genomeAnalysisService.getVariantAnnotator();
+        VariantFactory variantFactory = new VariantFactoryImpl(variantAnnotator, vcfReader, analysis.isCompactVariants());
+        // used in place of the variantFactory to read each contig of an indexed VCF as a separate shard
+        Function<String, VariantFactory> contigVariantFactories = contig -> new VariantFactoryImpl(variantAnnotator, new VcfFileReader(vcfPath, contig), analysis.isCompactVariants());
 
         List<String> sampleNames = vcfReader.readSampleIdentifiers();
         String probandIdentifier = SampleIdentifiers.checkProbandIdentifier(sample.getProbandSampleName(), sampleNames);
@@ -116,7 +133,7 @@ public AnalysisResults run(Sample sample, Analysis analysis) {
                 // Variants take up 99% of all the memory in an analysis - this scales approximately linearly with the
                 //  sample size so for whole genomes this is best run as a stream to filter out the unwanted variants
                 //  with as many filters as possible in one go
-                variantEvaluations = loadAndFilterVariants(variantFactory, probandIdentifier, allGenes, analysisGroup, analysis, filterStats);
+                variantEvaluations = loadAndFilterVariants(vcfPath, variantFactory, contigVariantFactories, probandIdentifier, allGenes, analysisGroup, analysis, filterStats);
                 // This is done here as there are GeneFilter steps which may require Variants in the genes, or the
                 //  InheritanceModeDependent steps which definitely need them...
                 assignVariantsToGenes(variantEvaluations, allGenes);
@@ -135,7 +152,7 @@ public AnalysisResults run(Sample sample, Analysis analysis) {
         // If no variant steps have been run and there is a VCF present, don't load it here - See issues #129, #478
         List<Gene> genesToScore = variantsLoaded ? getGenesWithVariants(allGenes) : allGenes.values().stream().filter(genesToScore()).collect(Collectors.toUnmodifiableList());
         // Temporarily add a new PValueGeneScorer so as not to break semver will revert to RawScoreGeneScorer in 14.0.0
-        CombinedScorePvalueCalculator combinedScorePvalueCalculator = buildCombinedScorePvalueCalculator(sample, analysis, genesToScore.size());
+        CombinedScorePvalueCalculator combinedScorePvalueCalculator = buildCombinedScorePvalueCalculator(sample, analysis, allGenes.values(), genesToScore.size());
 
         AcmgEvidenceAssigner acmgEvidenceAssigner = new Acmg2015EvidenceAssigner(probandIdentifier, inheritanceModeAnnotator.getPedigree(), genomeAnalysisService.getVariantAnnotator(), genomeAnalysisService);
         AcmgEvidenceClassifier acmgEvidenceClassifier = new Acgs2020Classifier();
@@ -181,43 +198,163 @@ private void logWarningIfSubOptimalAnalysisSumbitted(List<AnalysisGroup> analysi
         }
     }
 
-    private CombinedScorePvalueCalculator buildCombinedScorePvalueCalculator(Sample sample, Analysis analysis, int numFilteredGenes) {
+    /**
+     * The main prioritiser has already scored all the known genes in {@link #runSteps}, so the p-value background is
+     * built from these scores rather than running the prioritiser over all the known genes again. The bootstrapped
+     * population is shared between analyses with the same phenotypes via the {@link BootstrapPopulationCache}.
+     */
+    private CombinedScorePvalueCalculator buildCombinedScorePvalueCalculator(Sample sample, Analysis analysis, Collection<Gene> knownGenes, int numFilteredGenes) {
         var prioritiser = analysis.getMainPrioritiser();
-        List<Gene> knownGenes = genomeAnalysisService.getKnownGenes();
-        return prioritiser == null ? CombinedScorePvalueCalculator.withRandomScores(0, knownGenes.size(), numFilteredGenes) : CombinedScorePvalueCalculator.of(0, prioritiser, sample.getHpoIds(), knownGenes, numFilteredGenes);
+        if (prioritiser == null) {
+            return CombinedScorePvalueCalculator.withRandomScores(0, knownGenes.size(), numFilteredGenes);
+        }
+        PriorityType priorityType = prioritiser.getPriorityType();
+        List<String> knownGeneSymbols = knownGenes.stream().map(Gene::getGeneSymbol).toList();
+        double[] bootstrappedScores = bootstrapPopulationCache.get(prioritiser, sample.getGenomeAssembly(), knownGeneSymbols, sample.getHpoIds(), () -> {
+            double[] phenoScores = CombinedScorePvalueCalculator.phenoScores(priorityType, knownGenes);
+            return CombinedScorePvalueCalculator.bootstrapPopulation(priorityType, phenoScores);
+        });
+        if (logger.isDebugEnabled()) {
+            BootstrapPopulationCache.Stats stats = bootstrapPopulationCache.getStats();
+            logger.debug("Bootstrap population cache hits: {}, disk hits: {}, joins: {}, misses: {}", stats.hitCount(), stats.diskHitCount(), stats.joinCount(), stats.missCount());
+        }
+        return CombinedScorePvalueCalculator.withBootstrappedPopulation(bootstrappedScores);
     }
 
     /**
-     * @return a map of genes indexed by gene symbol.
+     * @return a map of genes indexed by gene symbol. The map is only read once created, so can be safely shared by the
+     * variant loading threads.
      */
     private Map<String, Gene> makeKnownGenes() {
+        // Gene creation is cheap as the per-analysis state of a Gene is only allocated once it is written to.
         return genomeAnalysisService.getKnownGenes()
-                .parallelStream()
-                .collect(toConcurrentMap(Gene::getGeneSymbol, Function.identity()));
+                .stream()
+                .collect(toMap(Gene::getGeneSymbol, Function.identity()));
     }
 
-    private List<VariantEvaluation> loadAndFilterVariants(VariantFactory variantFactory, String probandIdentifier, Map<String, Gene> allGenes, AnalysisGroup analysisGroup, Analysis analysis, FilterStats filterStats) {
+    private List<VariantEvaluation> loadAndFilterVariants(@Nullable Path vcfPath, VariantFactory variantFactory, Function<String, VariantFactory> contigVariantFactories, String probandIdentifier, Map<String, Gene> allGenes, AnalysisGroup analysisGroup, Analysis analysis, FilterStats filterStats) {
         GeneReassigner geneReassigner = createNonCodingVariantGeneReassigner(analysis, allGenes);
         List<VariantFilter> variantFilters = prepareVariantFilterSteps(analysis, analysisGroup);
+        int threads = analysis.getThreads();
+        // A tabix-indexed VCF can be split into one shard per contig which are run concurrently. Otherwise, the records
+        // are read on one thread and processed in parallel chunks.
+        List<String> contigs = threads > 1 && vcfPath != null ? VcfFiles.readIndexedContigs(vcfPath) : List.of();
+        if (contigs.size() > 1) {
+            return loadAndFilterVariantsByContig(contigs, contigVariantFactories, threads, probandIdentifier, allGenes, geneReassigner, variantFilters, filterStats);
+        }
+        return loadAndFilterVariants(variantFactory, threads, probandIdentifier, allGenes, geneReassigner, variantFilters, filterStats);
+    }
 
-        List<VariantEvaluation> filteredVariants;
+    /**
+     * Runs the variant filter group over each contig of the VCF as an independent shard on the shared executor, with
+     * up to the given number of shards in flight at a time. Each shard streams the variants for its contig, read by
+     * the factory supplied for that contig, through annotation and the variant filters, so only the variants passing
+     * the filters are retained. The shard results and {@link FilterStats} are merged in the order of the contigs in
+     * the VCF, giving the same output as a single sequential run. The variants are assigned to the genes once all the
+     * shards are merged.
+     */
+    private List<VariantEvaluation> loadAndFilterVariantsByContig(List<String> contigs, Function<String, VariantFactory> contigVariantFactories, int threads, String probandIdentifier, Map<String, Gene> allGenes, GeneReassigner geneReassigner, List<VariantFilter> variantFilters, FilterStats filterStats) {
+        logger.info("Loading and filtering variants from {} contigs using {} threads", contigs.size(), threads);
+        List<VariantEvaluation> filteredVariants = new ArrayList<>();
+        Deque<CompletableFuture<Shard>> inFlight = new ArrayDeque<>();
+        try {
+            Iterator<String> remainingContigs = contigs.iterator();
+            while (remainingContigs.hasNext() || !inFlight.isEmpty()) {
+                while (remainingContigs.hasNext() && inFlight.size() < threads) {
+                    VariantFactory contigVariantFactory = contigVariantFactories.apply(remainingContigs.next());
+                    inFlight.add(CompletableFuture.supplyAsync(() -> {
+                        FilterStats contigFilterStats = new FilterStats();
+                        List<VariantEvaluation> contigVariants = loadAndFilterVariants(contigVariantFactory, 1, probandIdentifier, allGenes, geneReassigner, variantFilters, contigFilterStats);
+                        return new Shard(contigVariants, contigFilterStats);
+                    }, executorService));
+                }
+                Shard result = inFlight.poll().join();
+                filteredVariants.addAll(result.variantEvaluations());
+                filterStats.merge(result.filterStats());
+            }
+            return filteredVariants;
+        } finally {
+            // the executor is shared, so don't leave queued work behind if a shard failed
+            inFlight.forEach(shard -> shard.cancel(true));
+        }
+    }
+
+    private record Shard(List<VariantEvaluation> variantEvaluations, FilterStats filterStats) {
+    }
+
+    private List<VariantEvaluation> loadAndFilterVariants(VariantFactory variantFactory, int threads, String probandIdentifier, Map<String, Gene> allGenes, GeneReassigner geneReassigner, List<VariantFilter> variantFilters, FilterStats filterStats) {
         VariantLogger variantLogger = new VariantLogger();
+        UnaryOperator<Stream<VariantEvaluation>> prepareVariants = variants -> variants
+                .peek(variantLogger.logLoadedAndPassedVariants())
+                .filter(isObservedInProband(probandIdentifier))
+                .map(geneReassigner::reassignRegulatoryAndNonCodingVariantAnnotations)
+                .map(flagWhiteListedVariants())
+                .filter(isAssociatedWithKnownGene(allGenes));
+        // The variant filters are run over batches of variants from the same chromosome so that the data providers can
+        // fetch the data for each batch in one go. As the VCF is sorted this allows the tabix data sources to read
+        // each region of the file in a single forward pass instead of seeking for every variant.
+        UnaryOperator<List<VariantEvaluation>> filterBatch = batch -> {
+            List<VariantEvaluation> retainedVariants = runVariantFilters(variantFilters, batch, filterStats);
+            retainedVariants.forEach(variantLogger.countPassedVariant());
+            return retainedVariants;
+        };
 
-        // this can be done using parallel which dramatically reduces runtime at the expense of RAM and
-        //  inability to scale past one job running on one machine
+        List<VariantEvaluation> filteredVariants = threads > 1
+                ? loadAndFilterVariantsInParallel(variantFactory, threads, prepareVariants, filterBatch)
+                : loadAndFilterVariantsSequentially(variantFactory, prepareVariants, filterBatch);
+        variantLogger.logResults();
+        return filteredVariants;
+    }
+
+    private List<VariantEvaluation> loadAndFilterVariantsSequentially(VariantFactory variantFactory, UnaryOperator<Stream<VariantEvaluation>> prepareVariants, UnaryOperator<List<VariantEvaluation>> filterBatch) {
+        List<VariantEvaluation> filteredVariants = new ArrayList<>();
+        VariantBatcher variantBatcher = new VariantBatcher(batch -> filteredVariants.addAll(filterBatch.apply(batch)));
         try (Stream<VariantEvaluation> variantStream = variantFactory.createVariantEvaluations()) {
-            filteredVariants = variantStream
-//                        .parallel()
-                    .peek(variantLogger.logLoadedAndPassedVariants())
-                    .filter(isObservedInProband(probandIdentifier))
-                    .map(geneReassigner::reassignRegulatoryAndNonCodingVariantAnnotations)
-                    .map(flagWhiteListedVariants())
-                    .filter(isAssociatedWithKnownGene(allGenes))
-                    .filter(runVariantFilters(variantFilters, filterStats))
-                    .peek(variantLogger.countPassedVariant())
-                    .toList();
+            prepareVariants.apply(variantStream).forEachOrdered(variantBatcher);
         }
-        variantLogger.logResults();
+        variantBatcher.flush();
+        return filteredVariants;
+    }
+
+    /**
+     * Reads the VCF records on the calling thread and hands them out in chunks to the shared executor which runs the
+     * annotation, data provision and variant filtering. At most two chunks per thread are in flight at any one
+     * time, so the reader blocks rather than loading the whole VCF into memory when the workers fall behind. The
+     * results of each chunk are collected in the order they were read, so the output is identical to that of the
+     * sequential path.
+     */
+    private List<VariantEvaluation> loadAndFilterVariantsInParallel(VariantFactory variantFactory, int threads, UnaryOperator<Stream<VariantEvaluation>> prepareVariants, UnaryOperator<List<VariantEvaluation>> filterBatch) {
+        logger.info("Loading and filtering variants using {} threads", threads);
+        List<VariantEvaluation> filteredVariants = new ArrayList<>();
+        Deque<CompletableFuture<List<VariantEvaluation>>> inFlight = new ArrayDeque<>();
+        try (Stream<Supplier<List<VariantEvaluation>>> recordStream = variantFactory.createVariantEvaluationSuppliers()) {
+            Iterator<Supplier<List<VariantEvaluation>>> records = recordStream.iterator();
+            while (records.hasNext()) {
+                List<Supplier<List<VariantEvaluation>>> chunk = new ArrayList<>(RECORD_CHUNK_SIZE);
+                while (records.hasNext() && chunk.size() < RECORD_CHUNK_SIZE) {
+                    chunk.add(records.next());
+                }
+                inFlight.add(CompletableFuture.supplyAsync(() -> loadAndFilterChunk(chunk, prepareVariants, filterBatch), executorService));
+                if (inFlight.size() >= threads * 2) {
+                    filteredVariants.addAll(inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                filteredVariants.addAll(inFlight.poll().join());
+            }
+        } finally {
+            // the executor is shared, so don't leave queued work behind if a chunk failed
+            inFlight.forEach(chunk -> chunk.cancel(true));
+        }
+        return filteredVariants;
+    }
+
+    private static List<VariantEvaluation> loadAndFilterChunk(List<Supplier<List<VariantEvaluation>>> chunk, UnaryOperator<Stream<VariantEvaluation>> prepareVariants, UnaryOperator<List<VariantEvaluation>> filterBatch) {
+        List<VariantEvaluation> filteredVariants = new ArrayList<>();
+        VariantBatcher variantBatcher = new VariantBatcher(batch -> filteredVariants.addAll(filterBatch.apply(batch)));
+        Stream<VariantEvaluation> variants = chunk.stream().flatMap(record -> record.get().stream());
+        prepareVariants.apply(variants).forEachOrdered(variantBatcher);
+        variantBatcher.flush();
         return filteredVariants;
     }
 
@@ -286,12 +423,88 @@ private UnaryOperator<VariantEvaluation> flagWhiteListedVariants() {
     /**
      * Defines the filtering behaviour of the runner when performing the initial load and filter of variants. Allows the
      * concrete runner to define whether a variant should pass or fail when running the variant through the variant
-     * filters defined in the variant filter group, or the initial group if there are more than one.
+     * filters defined in the variant filter group, or the initial group if there are more than one. The variants are
+     * supplied in batches of variants from the same chromosome, in VCF order, which should be run through the filters
+     * using {@link #runVariantFilter(VariantFilter, List, FilterStats)}.
      *
      * @param variantFilters
-     * @return
+     * @param variantEvaluations a batch of variants from the same chromosome
+     * @param filterStats
+     * @return the variants from the batch to be retained, in the same order as the input.
      */
-    abstract Predicate<VariantEvaluation> runVariantFilters(List<VariantFilter> variantFilters, FilterStats filterStats);
+    abstract List<VariantEvaluation> runVariantFilters(List<VariantFilter> variantFilters, List<VariantEvaluation> variantEvaluations, FilterStats filterStats);
+
+    /**
+     * Runs the variantFilter over the variantEvaluations, recording the results in the filterStats. Where the filter is
+     * a {@link VariantFilterDataProvider} the data is provided for the whole batch before running the decorated filter
+     * over each variant.
+     */
+    protected void runVariantFilter(VariantFilter variantFilter, List<VariantEvaluation> variantEvaluations, FilterStats filterStats) {
+        VariantFilter filter = variantFilter;
+        if (variantFilter instanceof VariantFilterDataProvider variantFilterDataProvider) {
+            variantFilterDataProvider.provideVariantData(variantEvaluations);
+            filter = variantFilterDataProvider.getDecoratedFilter();
+        }
+        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+            FilterResult result = variantFilterRunner.run(filter, variantEvaluation);
+            filterStats.addResult(result);
+        }
+    }
+
+    /**
+     * Where the variantFilters require both frequency and pathogenicity data, provides both for the whole batch with a
+     * single call to the {@link GenomeAnalysisService} so that the allele store is only read once for each variant,
+     * rather than once by each {@link VariantFilterDataProvider}. This is only useful when every variant is run through
+     * every filter.
+     *
+     * @return the variantFilters with the frequency and pathogenicity data providers replaced by the filters they
+     * decorate, or the input variantFilters if these do not require both.
+     */
+    protected List<VariantFilter> provideAlleleData(List<VariantFilter> variantFilters, List<VariantEvaluation> variantEvaluations) {
+        FrequencyDataProvider frequencyDataProvider = null;
+        PathogenicityDataProvider pathogenicityDataProvider = null;
+        for (VariantFilter variantFilter : variantFilters) {
+            if (frequencyDataProvider == null && variantFilter instanceof FrequencyDataProvider dataProvider) {
+                frequencyDataProvider = dataProvider;
+            }
+            if (pathogenicityDataProvider == null && variantFilter instanceof PathogenicityDataProvider dataProvider) {
+                pathogenicityDataProvider = dataProvider;
+            }
+        }
+        if (frequencyDataProvider == null || pathogenicityDataProvider == null) {
+            return variantFilters;
+        }
+
+        List<VariantEvaluation> variantsWithoutData = new ArrayList<>(variantEvaluations.size());
+        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+            if (!variantEvaluation.getFrequencyData().hasKnownFrequency() || variantEvaluation.getPathogenicityData().isEmpty()) {
+                variantsWithoutData.add(variantEvaluation);
+            }
+        }
+        if (!variantsWithoutData.isEmpty()) {
+            List<AlleleDataDao.AlleleData> alleleData = genomeAnalysisService.getVariantAlleleData(variantsWithoutData, frequencyDataProvider.getFrequencySources(), pathogenicityDataProvider.getPathogenicitySources());
+            for (int i = 0; i < variantsWithoutData.size(); i++) {
+                VariantEvaluation variantEvaluation = variantsWithoutData.get(i);
+                AlleleDataDao.AlleleData data = alleleData.get(i);
+                if (!variantEvaluation.getFrequencyData().hasKnownFrequency()) {
+                    variantEvaluation.setFrequencyData(data.frequencyData());
+                }
+                if (variantEvaluation.getPathogenicityData().isEmpty()) {
+                    variantEvaluation.setPathogenicityData(data.pathogenicityData());
+                }
+            }
+        }
+
+        List<VariantFilter> filters = new ArrayList<>(variantFilters.size());
+        for (VariantFilter variantFilter : variantFilters) {
+            if (variantFilter instanceof FrequencyDataProvider || variantFilter instanceof PathogenicityDataProvider) {
+                filters.add(((VariantFilterDataProvider) variantFilter).getDecoratedFilter());
+            } else {
+                filters.add(variantFilter);
+            }
+        }
+        return filters;
+    }
 
     protected abstract Predicate<Gene> genesToScore();
 
@@ -385,6 +598,40 @@ private void collectFilterStatsForFilter(Filter<?> filter, List<Gene> genes, Fil
         }
     }
 
+    /**
+     * Collects the variants from the stream into batches of variants on the same chromosome, which are passed to the
+     * batchConsumer when full, when the next variant is on a different chromosome, or when flushed.
+     */
+    private static class VariantBatcher implements Consumer<VariantEvaluation> {
+
+        private static final int BATCH_SIZE = 1_000;
+
+        private final Consumer<List<VariantEvaluation>> batchConsumer;
+        private List<VariantEvaluation> batch = new ArrayList<>(BATCH_SIZE);
+
+        private VariantBatcher(Consumer<List<VariantEvaluation>> batchConsumer) {
+            this.batchConsumer = batchConsumer;
+        }
+
+        @Override
+        public void accept(VariantEvaluation variantEvaluation) {
+            if (!batch.isEmpty() && batch.get(0).contigId() != variantEvaluation.contigId()) {
+                flush();
+            }
+            batch.add(variantEvaluation);
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+    }
+
     /**
      * Utility class for logging numbers of processed and passed variants.
      */
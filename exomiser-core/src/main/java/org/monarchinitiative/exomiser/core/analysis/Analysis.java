@@ -57,12 +57,14 @@
  * @author Jules Jacobsen <jules.jacobsen@sanger.ac.uk>
  */
 @JsonDeserialize(builder = Analysis.Builder.class)
-@JsonPropertyOrder({"analysisMode", "inheritanceModes", "frequencySources", "pathogenicitySources", "steps"})
+@JsonPropertyOrder({"analysisMode", "threads", "compactVariants", "inheritanceModes", "frequencySources", "pathogenicitySources", "steps"})
 public class Analysis {
 
     private static final Logger logger = LoggerFactory.getLogger(Analysis.class);
 
     private final AnalysisMode analysisMode;
+    private final int threads;
+    private final boolean compactVariants;
     @JsonProperty("inheritanceModes")
     private final InheritanceModeOptions inheritanceModeOptions;
     private final Set<FrequencySource> frequencySources;
@@ -72,6 +74,8 @@ public class Analysis {
 
     private Analysis(Builder builder) {
         this.analysisMode = builder.analysisMode;
+        this.threads = builder.threads;
+        this.compactVariants = builder.compactVariants;
         this.inheritanceModeOptions = builder.inheritanceModeOptions;
         this.frequencySources = Sets.immutableEnumSet(builder.frequencySources);
         this.pathogenicitySources = Sets.immutableEnumSet(builder.pathogenicitySources);
@@ -82,6 +86,30 @@ public AnalysisMode getAnalysisMode() {
         return analysisMode;
     }
 
+    /**
+     * The number of threads used to annotate and filter the variants in the VCF. A value of 1, the default, will run
+     * these sequentially.
+     *
+     * @return the number of threads to use when loading and filtering the variants
+     * @since 14.0.0
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * When true, the {@link org.monarchinitiative.exomiser.core.model.VariantEvaluation} will only retain the site
+     * information (position, id, alleles, quality and filters) from the VCF record, with the INFO fields and sample
+     * genotypes being dropped once they have been read. The VCF results writers will re-read the full records from the
+     * input VCF. Defaults to false.
+     *
+     * @return true if the variants should be stored in the compact form
+     * @since 14.0.0
+     */
+    public boolean isCompactVariants() {
+        return compactVariants;
+    }
+
     public InheritanceModeOptions getInheritanceModeOptions() {
         return inheritanceModeOptions;
     }
@@ -147,6 +175,8 @@ public Builder copy() {
         return builder()
                 .inheritanceModeOptions(inheritanceModeOptions)
                 .analysisMode(analysisMode)
+                .threads(threads)
+                .compactVariants(compactVariants)
                 .frequencySources(frequencySources)
                 .pathogenicitySources(pathogenicitySources)
                 .steps(analysisSteps);
@@ -155,6 +185,8 @@ public Builder copy() {
     public static class Builder {
 
         private AnalysisMode analysisMode = AnalysisMode.PASS_ONLY;
+        private int threads = 1;
+        private boolean compactVariants = false;
         private InheritanceModeOptions inheritanceModeOptions = InheritanceModeOptions.empty();
         private Set<FrequencySource> frequencySources = EnumSet.noneOf(FrequencySource.class);
         private Set<PathogenicitySource> pathogenicitySources = EnumSet.noneOf(PathogenicitySource.class);
@@ -181,6 +213,19 @@ public Builder analysisMode(AnalysisMode analysisMode) {
             return this;
         }
 
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be greater than 0, but was " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder compactVariants(boolean compactVariants) {
+            this.compactVariants = compactVariants;
+            return this;
+        }
+
         public Builder frequencySources(Set<FrequencySource> frequencySources) {
             this.frequencySources = Objects.requireNonNull(frequencySources);
             return this;
@@ -209,6 +254,8 @@ public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         Analysis analysis = (Analysis) o;
         return analysisMode == analysis.analysisMode &&
+                threads == analysis.threads &&
+                compactVariants == analysis.compactVariants &&
                 inheritanceModeOptions == analysis.inheritanceModeOptions &&
                 Objects.equals(frequencySources, analysis.frequencySources) &&
                 Objects.equals(pathogenicitySources, analysis.pathogenicitySources) &&
@@ -217,11 +264,11 @@ public boolean equals(Object o) {
 
     @Override
     public int hashCode() {
-        return Objects.hash(inheritanceModeOptions, analysisMode, frequencySources, pathogenicitySources, analysisSteps);
+        return Objects.hash(inheritanceModeOptions, analysisMode, threads, compactVariants, frequencySources, pathogenicitySources, analysisSteps);
     }
 
     @Override
     public String toString() {
-        return "Analysis{analysisMode=" + analysisMode + ", inheritanceModeOptions=" + inheritanceModeOptions + ", frequencySources=" + frequencySources + ", pathogenicitySources=" + pathogenicitySources + ", analysisSteps=" + analysisSteps + '}';
+        return "Analysis{analysisMode=" + analysisMode + ", threads=" + threads + ", compactVariants=" + compactVariants + ", inheritanceModeOptions=" + inheritanceModeOptions + ", frequencySources=" + frequencySources + ", pathogenicitySources=" + pathogenicitySources + ", analysisSteps=" + analysisSteps + '}';
     }
 }
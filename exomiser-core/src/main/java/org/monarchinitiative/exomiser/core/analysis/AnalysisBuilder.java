@@ -91,6 +91,29 @@ public AnalysisBuilder analysisMode(AnalysisMode analysisMode) {
         return this;
     }
 
+    /**
+     * Sets the number of threads used to annotate and filter the variants. Values greater than 1 will run these steps
+     * in parallel, producing the same results as a sequential run.
+     *
+     * @since 14.0.0
+     */
+    public AnalysisBuilder threads(int threads) {
+        builder.threads(threads);
+        return this;
+    }
+
+    /**
+     * Sets whether the variants should drop the INFO fields and sample genotypes of the original VCF record once read.
+     * This reduces the memory required for large, multi-sample VCF files at the cost of re-reading the VCF when writing
+     * the VCF results.
+     *
+     * @since 14.0.0
+     */
+    public AnalysisBuilder compactVariants(boolean compactVariants) {
+        builder.compactVariants(compactVariants);
+        return this;
+    }
+
     public AnalysisBuilder frequencySources(Set<FrequencySource> frequencySources) {
         this.frequencySources = Sets.immutableEnumSet(frequencySources);
         builder.frequencySources(frequencySources);
@@ -0,0 +1,75 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.analysis;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executor on which the analysis runners load and filter the variants of an {@link Analysis} requesting
+ * more than one thread. A single executor is intended to be shared by all the analyses run by an application, rather
+ * than creating and tearing down a thread pool for each analysis.
+ *
+ * @since 14.0.0
+ */
+public final class AnalysisExecutors {
+
+    private AnalysisExecutors() {
+    }
+
+    /**
+     * @param threads the maximum number of threads used by all the analyses sharing the executor
+     * @return a new fixed size executor of daemon threads. This should be shut down by the caller when no longer
+     * required.
+     */
+    public static ExecutorService newAnalysisExecutor(int threads) {
+        return Executors.newFixedThreadPool(threads, new AnalysisThreadFactory());
+    }
+
+    /**
+     * @return the executor shared by the runners which have not been provided with one, e.g. outside a Spring
+     * application. This is never shut down, but uses daemon threads so will not prevent the JVM from exiting.
+     */
+    static ExecutorService defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    private static class DefaultExecutorHolder {
+        private static final ExecutorService EXECUTOR = newAnalysisExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    private static class AnalysisThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "exomiser-analysis-" + poolNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -21,6 +21,7 @@
 package org.monarchinitiative.exomiser.core.analysis;
 
 import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.util.BootstrapPopulationCache;
 import org.monarchinitiative.exomiser.core.genome.GenomeAnalysisService;
 import org.monarchinitiative.exomiser.core.genome.GenomeAnalysisServiceProvider;
 import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
@@ -29,8 +30,11 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * High-level factory for creating an {@link Analysis} and {@link AnalysisRunner}. This is
  * pretty much all that's needed to run an analysis with.
@@ -49,12 +53,24 @@ public class AnalysisFactory {
     private final GenomeAnalysisServiceProvider genomeAnalysisServiceProvider;
     private final PriorityFactory priorityFactory;
     private final OntologyService ontologyService;
+    private final BootstrapPopulationCache bootstrapPopulationCache;
+    private final ExecutorService analysisExecutor;
 
-    @Autowired
     public AnalysisFactory(GenomeAnalysisServiceProvider genomeAnalysisServiceProvider, PriorityFactory priorityFactory, OntologyService ontologyService) {
+        this(genomeAnalysisServiceProvider, priorityFactory, ontologyService, BootstrapPopulationCache.disabled(), AnalysisExecutors.defaultExecutor());
+    }
+
+    /**
+     * @param analysisExecutor executor shared by all the analyses on which the variants are loaded and filtered when an
+     *                         analysis requests more than one thread. The lifecycle of this is managed by the caller.
+     */
+    @Autowired
+    public AnalysisFactory(GenomeAnalysisServiceProvider genomeAnalysisServiceProvider, PriorityFactory priorityFactory, OntologyService ontologyService, BootstrapPopulationCache bootstrapPopulationCache, @Qualifier("exomiserAnalysisExecutor") ExecutorService analysisExecutor) {
         this.genomeAnalysisServiceProvider = genomeAnalysisServiceProvider;
         this.priorityFactory = priorityFactory;
         this.ontologyService = ontologyService;
+        this.bootstrapPopulationCache = bootstrapPopulationCache;
+        this.analysisExecutor = analysisExecutor;
     }
 
     public AnalysisRunner getAnalysisRunner(GenomeAssembly genomeAssembly, AnalysisMode analysisMode) {
@@ -65,11 +81,11 @@ public AnalysisRunner getAnalysisRunner(GenomeAssembly genomeAssembly, AnalysisM
 
         switch (analysisMode) {
             case FULL:
-                return new SimpleAnalysisRunner(genomeAnalysisService);
+                return new SimpleAnalysisRunner(genomeAnalysisService, bootstrapPopulationCache, analysisExecutor);
             case PASS_ONLY:
             default:
                 //this guy takes up the least RAM
-                return new PassOnlyAnalysisRunner(genomeAnalysisService);
+                return new PassOnlyAnalysisRunner(genomeAnalysisService, bootstrapPopulationCache, analysisExecutor);
         }
     }
 
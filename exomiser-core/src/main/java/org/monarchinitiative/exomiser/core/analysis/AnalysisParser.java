@@ -318,6 +318,8 @@ public AnalysisBuilder constructBuilder(Map analysisMap) {
 //                    .hpoIds(parseHpoIds(analysisMap))
 
                     .analysisMode(parseAnalysisMode(analysisMap))
+                    .threads(parseThreads(analysisMap))
+                    .compactVariants(parseCompactVariants(analysisMap))
                     .inheritanceModes(inheritanceModeOptions(analysisMap))
                     .frequencySources(parseFrequencySources(analysisMap))
                     .pathogenicitySources(parsePathogenicitySources(analysisMap));
@@ -391,6 +393,19 @@ private AnalysisMode parseAnalysisMode(Map<String, String> analysisMap) {
             return AnalysisMode.valueOf(value);
         }
 
+        private int parseThreads(Map<String, Object> analysisMap) {
+            Object value = analysisMap.get("threads");
+            if (value == null) {
+                return 1;
+            }
+            return Integer.parseInt(value.toString());
+        }
+
+        private boolean parseCompactVariants(Map<String, Object> analysisMap) {
+            Object value = analysisMap.get("compactVariants");
+            return value != null && Boolean.parseBoolean(value.toString());
+        }
+
         private void warnUserAboutDeprecatedGeneScoreMode(Map analysisMap) {
             if (analysisMap.containsKey("geneScoreMode")) {
                 logger.warn("geneScoreMode is deprecated and will have no effect. " +
@@ -84,6 +84,16 @@ public AnalysisProtoBuilder analysisMode(AnalysisMode analysisMode) {
         return this;
     }
 
+    public AnalysisProtoBuilder threads(int threads) {
+        builder.setThreads(threads);
+        return this;
+    }
+
+    public AnalysisProtoBuilder compactVariants(boolean compactVariants) {
+        builder.setCompactVariants(compactVariants);
+        return this;
+    }
+
     public AnalysisProtoBuilder inheritanceModes(InheritanceModeOptions inheritanceModeOptions) {
         this.inheritanceModeOptions = Objects.requireNonNull(inheritanceModeOptions);
         // maintain order as supplied
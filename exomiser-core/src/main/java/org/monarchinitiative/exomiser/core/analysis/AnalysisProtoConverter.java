@@ -38,6 +38,9 @@ public class AnalysisProtoConverter implements ProtoConverter<Analysis, Analysis
     public AnalysisProto.Analysis toProto(Analysis analysis) {
         return AnalysisProto.Analysis.newBuilder()
                 .setAnalysisMode(analysis.getAnalysisMode() == AnalysisMode.PASS_ONLY ? AnalysisProto.AnalysisMode.PASS_ONLY : AnalysisProto.AnalysisMode.FULL)
+                // 0 is the proto default for a sequential run
+                .setThreads(analysis.getThreads() > 1 ? analysis.getThreads() : 0)
+                .setCompactVariants(analysis.isCompactVariants())
                 .putAllInheritanceModes(analysis.getInheritanceModeOptions().getMaxFreqs().entrySet().stream().collect(Collectors.toMap(subModeOfInheritanceFloatEntry -> subModeOfInheritanceFloatEntry.getKey().toString(), Map.Entry::getValue)))
                 .addAllFrequencySources(analysis.getFrequencySources().stream().map(Objects::toString).collect(Collectors.toList()))
                 .addAllPathogenicitySources(analysis.getPathogenicitySources().stream().map(Objects::toString).collect(Collectors.toList()))
@@ -49,6 +49,25 @@ public synchronized void addResult(FilterResult result) {
         filterCounters.put(filterType, counter);
     }
 
+    /**
+     * Adds the counts from the other {@link FilterStats} to this one. Filters not already run are added after those
+     * already present, so merging the stats of analysis shards in the order of the input will preserve the order in
+     * which the filters were run.
+     *
+     * @param other the {@link FilterStats} to be added to this one
+     * @since 14.0.0
+     */
+    public synchronized void merge(FilterStats other) {
+        synchronized (other) {
+            filtersRun.addAll(other.filtersRun);
+            other.filterCounters.forEach((filterType, otherCounter) -> {
+                FilterCounter counter = filterCounters.computeIfAbsent(filterType, key -> new FilterCounter());
+                counter.passCount += otherCounter.passCount;
+                counter.failCount += otherCounter.failCount;
+            });
+        }
+    }
+
     public int getPassCountForFilter(FilterType filterType) {
         FilterCounter filterCounter = filterCounters.get(filterType);
         return filterCounter == null ? 0 : filterCounter.getPassCount();
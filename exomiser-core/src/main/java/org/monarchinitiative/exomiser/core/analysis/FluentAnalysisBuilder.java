@@ -50,6 +50,10 @@
 
     public FluentAnalysisBuilder analysisMode(AnalysisMode analysisMode);
 
+    public FluentAnalysisBuilder threads(int threads);
+
+    public FluentAnalysisBuilder compactVariants(boolean compactVariants);
+
     public FluentAnalysisBuilder frequencySources(Set<FrequencySource> frequencySources);
 
     public FluentAnalysisBuilder pathogenicitySources(Set<PathogenicitySource> pathogenicitySources);
@@ -183,6 +183,9 @@ private Analysis parseProtoAnalysis(AnalysisProto.Analysis protoAnalysis) {
         AnalysisBuilder analysisBuilder = new AnalysisBuilder(genomeAnalysisServiceProvider, prioritiserFactory, ontologyService)
                 .inheritanceModes(inheritanceModeOptions)
                 .analysisMode(parseAnalysisMode(protoAnalysis.getAnalysisMode()))
+                // unset in the proto is 0, which should run sequentially
+                .threads(Math.max(1, protoAnalysis.getThreads()))
+                .compactVariants(protoAnalysis.getCompactVariants())
                 .frequencySources(frequencySources)
                 .pathogenicitySources(pathogenicitySources);
 
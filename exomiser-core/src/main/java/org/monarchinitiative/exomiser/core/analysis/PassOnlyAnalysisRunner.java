@@ -20,7 +20,7 @@
 
 package org.monarchinitiative.exomiser.core.analysis;
 
-import org.monarchinitiative.exomiser.core.filters.FilterResult;
+import org.monarchinitiative.exomiser.core.analysis.util.BootstrapPopulationCache;
 import org.monarchinitiative.exomiser.core.filters.SimpleGeneFilterRunner;
 import org.monarchinitiative.exomiser.core.filters.SparseVariantFilterRunner;
 import org.monarchinitiative.exomiser.core.filters.VariantFilter;
@@ -28,8 +28,10 @@
 import org.monarchinitiative.exomiser.core.model.Gene;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -44,6 +46,10 @@ class PassOnlyAnalysisRunner extends AbstractAnalysisRunner {
         super(genomeAnalysisService, new SparseVariantFilterRunner(), new SimpleGeneFilterRunner());
     }
 
+    PassOnlyAnalysisRunner(GenomeAnalysisService genomeAnalysisService, BootstrapPopulationCache bootstrapPopulationCache, ExecutorService executorService) {
+        super(genomeAnalysisService, bootstrapPopulationCache, executorService, new SparseVariantFilterRunner(), new SimpleGeneFilterRunner());
+    }
+
     @Override
     protected Predicate<VariantEvaluation> isAssociatedWithKnownGene(Map<String, Gene> genes) {
         return variantEvaluation -> {
@@ -55,17 +61,22 @@ protected Predicate<VariantEvaluation> isAssociatedWithKnownGene(Map<String, Gen
     }
 
     @Override
-    protected Predicate<VariantEvaluation> runVariantFilters(List<VariantFilter> variantFilters, FilterStats filterStats) {
-        return variantEvaluation -> {
-            //loop through the filters and only run if the variantEvaluation has passed all prior filters
-            for (VariantFilter filter : variantFilters) {
-                if (variantEvaluation.passedFilters()) {
-                    FilterResult result = variantFilterRunner.run(filter, variantEvaluation);
-                    filterStats.addResult(result);
-                }
+    protected List<VariantEvaluation> runVariantFilters(List<VariantFilter> variantFilters, List<VariantEvaluation> variantEvaluations, FilterStats filterStats) {
+        //loop through the filters and only run if the variantEvaluation has passed all prior filters
+        for (VariantFilter filter : variantFilters) {
+            runVariantFilter(filter, passedVariants(variantEvaluations), filterStats);
+        }
+        return passedVariants(variantEvaluations);
+    }
+
+    private List<VariantEvaluation> passedVariants(List<VariantEvaluation> variantEvaluations) {
+        List<VariantEvaluation> passedVariants = new ArrayList<>(variantEvaluations.size());
+        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+            if (variantEvaluation.passedFilters()) {
+                passedVariants.add(variantEvaluation);
             }
-            return variantEvaluation.passedFilters();
-        };
+        }
+        return passedVariants;
     }
 
     @Override
@@ -20,7 +20,7 @@
 
 package org.monarchinitiative.exomiser.core.analysis;
 
-import org.monarchinitiative.exomiser.core.filters.FilterResult;
+import org.monarchinitiative.exomiser.core.analysis.util.BootstrapPopulationCache;
 import org.monarchinitiative.exomiser.core.filters.SimpleGeneFilterRunner;
 import org.monarchinitiative.exomiser.core.filters.SimpleVariantFilterRunner;
 import org.monarchinitiative.exomiser.core.filters.VariantFilter;
@@ -30,6 +30,7 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 
 /**
@@ -43,21 +44,23 @@ class SimpleAnalysisRunner extends AbstractAnalysisRunner {
         super(genomeAnalysisService, new SimpleVariantFilterRunner(), new SimpleGeneFilterRunner());
     }
 
+    SimpleAnalysisRunner(GenomeAnalysisService genomeAnalysisService, BootstrapPopulationCache bootstrapPopulationCache, ExecutorService executorService) {
+        super(genomeAnalysisService, bootstrapPopulationCache, executorService, new SimpleVariantFilterRunner(), new SimpleGeneFilterRunner());
+    }
+
     @Override
     protected Predicate<VariantEvaluation> isAssociatedWithKnownGene(Map<String, Gene> genes) {
         return variantEvaluation -> genes.containsKey(variantEvaluation.getGeneSymbol());
     }
 
     @Override
-    protected Predicate<VariantEvaluation> runVariantFilters(List<VariantFilter> variantFilters, FilterStats filterStats) {
-        return variantEvaluation -> {
-            //loop through the filters and run them over the variantEvaluation according to the variantFilterRunner behaviour
-            variantFilters.forEach(filter -> {
-                FilterResult result = variantFilterRunner.run(filter, variantEvaluation);
-                filterStats.addResult(result);
-            });
-            return true;
-        };
+    protected List<VariantEvaluation> runVariantFilters(List<VariantFilter> variantFilters, List<VariantEvaluation> variantEvaluations, FilterStats filterStats) {
+        //every variant is run through every filter, so the data required by the filters can be provided up-front
+        //loop through the filters and run them over the variantEvaluations according to the variantFilterRunner behaviour
+        for (VariantFilter filter : provideAlleleData(variantFilters, variantEvaluations)) {
+            runVariantFilter(filter, variantEvaluations, filterStats);
+        }
+        return variantEvaluations;
     }
 
     @Override
@@ -0,0 +1,293 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.analysis.util;
+
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.prioritisers.Prioritiser;
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, least-recently-used cache of the bootstrapped combined score populations created by
+ * {@link CombinedScorePvalueCalculator#bootstrapPopulation(PriorityType, double[])}. A population only depends on the
+ * prioritiser and the phenotype scores of the known genes, which in turn only depend on the sample HPO terms, the known
+ * genes of the genome assembly and the phenotype data version, so re-analyses and batches of samples with the same
+ * phenotypes can share the same population.
+ * <p>
+ * Each population takes ~4MB of memory. If a directory is provided the populations are also written to disk so that
+ * they can be re-used by later runs using the same data version. Concurrent requests for the same population wait for
+ * the first to create it rather than each creating their own.
+ *
+ * @since 14.0.0
+ */
+public class BootstrapPopulationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(BootstrapPopulationCache.class);
+
+    private static final BootstrapPopulationCache DISABLED = new BootstrapPopulationCache("", 0, null);
+
+    private final String dataVersion;
+    private final int maximumSize;
+    @Nullable
+    private final Path directory;
+
+    private final Map<Key, double[]> populations;
+    private final ConcurrentMap<Key, CompletableFuture<double[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder diskHitCount = new LongAdder();
+    private final LongAdder joinCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param dataVersion the phenotype data version, used to invalidate the populations written to disk
+     * @param maximumSize the maximum number of populations held in memory. A size of 0 disables the in-memory cache.
+     * @param directory   optional directory in which to persist the populations
+     */
+    public BootstrapPopulationCache(String dataVersion, int maximumSize, @Nullable Path directory) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must be >= 0");
+        }
+        this.dataVersion = Objects.requireNonNull(dataVersion);
+        this.maximumSize = maximumSize;
+        this.directory = directory;
+        this.populations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, double[]> eldest) {
+                return size() > BootstrapPopulationCache.this.maximumSize;
+            }
+        };
+    }
+
+    public static BootstrapPopulationCache inMemory(String dataVersion, int maximumSize) {
+        return new BootstrapPopulationCache(dataVersion, maximumSize, null);
+    }
+
+    /**
+     * @return a cache which will always create a new population.
+     */
+    public static BootstrapPopulationCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns the population for the prioritiser, known genes and HPO ids, creating it with the supplier if it is not
+     * already cached. If another thread is already creating the same population this will wait for it.
+     *
+     * @param prioritiser        the prioritiser which scored the genes
+     * @param genomeAssembly     the genome assembly of the sample
+     * @param knownGeneSymbols   the symbols of the known genes scored by the prioritiser, in any order
+     * @param hpoIds             the sample HPO ids, in any order
+     * @param populationSupplier function to create the population if it is not cached
+     * @return the bootstrapped population. This is shared so must not be modified.
+     */
+    public double[] get(Prioritiser<?> prioritiser, GenomeAssembly genomeAssembly, Collection<String> knownGeneSymbols, Collection<String> hpoIds, Supplier<double[]> populationSupplier) {
+        if (maximumSize == 0 && directory == null) {
+            missCount.increment();
+            return populationSupplier.get();
+        }
+        Key key = Key.of(prioritiser, genomeAssembly, knownGeneSymbols, hpoIds, dataVersion);
+        double[] cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<double[]> future = new CompletableFuture<>();
+        CompletableFuture<double[]> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            joinCount.increment();
+            return existing.join();
+        }
+        try {
+            // another thread may have finished loading this between the first check and claiming the load
+            cached = getCached(key);
+            double[] population = cached != null ? cached : load(key, populationSupplier);
+            future.complete(population);
+            return population;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    @Nullable
+    private double[] getCached(Key key) {
+        synchronized (populations) {
+            double[] population = populations.get(key);
+            if (population != null) {
+                hitCount.increment();
+            }
+            return population;
+        }
+    }
+
+    private double[] load(Key key, Supplier<double[]> populationSupplier) {
+        double[] population = readFromDisk(key);
+        if (population != null) {
+            diskHitCount.increment();
+        } else {
+            missCount.increment();
+            population = populationSupplier.get();
+            writeToDisk(key, population);
+        }
+        if (maximumSize > 0) {
+            synchronized (populations) {
+                populations.put(key, population);
+            }
+        }
+        return population;
+    }
+
+    public Stats getStats() {
+        return new Stats(hitCount.sum(), diskHitCount.sum(), joinCount.sum(), missCount.sum());
+    }
+
+    /**
+     * @return the number of populations held in memory
+     */
+    public int size() {
+        synchronized (populations) {
+            return populations.size();
+        }
+    }
+
+    @Nullable
+    private double[] readFromDisk(Key key) {
+        if (directory == null) {
+            return null;
+        }
+        Path path = directory.resolve(key.fileName());
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (!inputStream.readUTF().equals(key.toString())) {
+                // hash collision - the population will be re-created and overwrite this file
+                return null;
+            }
+            double[] population = new double[inputStream.readInt()];
+            for (int i = 0; i < population.length; i++) {
+                population[i] = inputStream.readDouble();
+            }
+            logger.debug("Read bootstrapped population from {}", path);
+            return population;
+        } catch (IOException e) {
+            logger.warn("Unable to read bootstrapped population from {}", path, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(Key key, double[] population) {
+        if (directory == null) {
+            return;
+        }
+        Path path = directory.resolve(key.fileName());
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, key.fileName(), ".tmp");
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), 1 << 16))) {
+                outputStream.writeUTF(key.toString());
+                outputStream.writeInt(population.length);
+                for (double score : population) {
+                    outputStream.writeDouble(score);
+                }
+            }
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Written bootstrapped population to {}", path);
+        } catch (IOException e) {
+            logger.warn("Unable to write bootstrapped population to {}", path, e);
+        }
+    }
+
+    /**
+     * Cache key for a bootstrapped population. The prioritiser is included as well as its {@link PriorityType} as
+     * prioritiser options, e.g. the HiPhive organisms, change the score distribution. The known genes differ between
+     * genome assemblies and transcript sources, so these are identified by a hash of their symbols.
+     *
+     * @param priorityType    the type of the prioritiser
+     * @param prioritiser     a description of the prioritiser and its options
+     * @param genomeAssembly  the genome assembly of the sample
+     * @param knownGenesHash  a hash of the de-duplicated and sorted known gene symbols
+     * @param hpoIds          the normalised, i.e. de-duplicated and sorted, HPO ids
+     * @param dataVersion     the phenotype data version
+     */
+    public record Key(PriorityType priorityType, String prioritiser, GenomeAssembly genomeAssembly, String knownGenesHash, List<String> hpoIds, String dataVersion) {
+
+        public static Key of(Prioritiser<?> prioritiser, GenomeAssembly genomeAssembly, Collection<String> knownGeneSymbols, Collection<String> hpoIds, String dataVersion) {
+            List<String> normalisedHpoIds = hpoIds.stream()
+                    .map(String::trim)
+                    .filter(hpoId -> !hpoId.isEmpty())
+                    .distinct()
+                    .sorted()
+                    .toList();
+            String knownGenesHash = sha256(String.join("\n", new TreeSet<>(knownGeneSymbols)));
+            return new Key(prioritiser.getPriorityType(), prioritiser.toString(), genomeAssembly, knownGenesHash, normalisedHpoIds, dataVersion);
+        }
+
+        private String fileName() {
+            return "bootstrap-" + sha256(toString()) + ".bin";
+        }
+
+        private static String sha256(String value) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * @param hitCount     number of populations found in memory
+     * @param diskHitCount number of populations read from disk
+     * @param joinCount    number of requests which waited for another thread to read or create the same population
+     * @param missCount    number of populations created
+     */
+    public record Stats(long hitCount, long diskHitCount, long joinCount, long missCount) {
+
+        public long requestCount() {
+            return hitCount + diskHitCount + joinCount + missCount;
+        }
+
+        public double hitRate() {
+            long requestCount = requestCount();
+            return requestCount == 0 ? 0 : (double) (hitCount + diskHitCount) / requestCount;
+        }
+    }
+}
@@ -17,18 +17,35 @@
 public class CombinedScorePvalueCalculator {
 
     private static final Logger logger = LoggerFactory.getLogger(CombinedScorePvalueCalculator.class);
-    private final Set<PriorityType> priorityTypes;
     private final double[] bootstrappedScores;
 
     private CombinedScorePvalueCalculator(PriorityType prioritiserType, double[] phenoScoreCache) {
+        this(bootstrapPopulation(prioritiserType, phenoScoreCache));
+    }
+
+    private CombinedScorePvalueCalculator(double[] bootstrappedScores) {
+        this.bootstrappedScores = bootstrappedScores;
+    }
+
+    /**
+     * Creates the sorted, bootstrapped population of combined scores used to calculate the p-values. This depends only
+     * on the {@link PriorityType} and the distribution of phenotype scores, so can be re-used for analyses with the
+     * same phenotypes using a {@link BootstrapPopulationCache}.
+     *
+     * @param prioritiserType the {@link PriorityType} of the prioritiser which produced the phenotype scores
+     * @param phenoScoreCache the phenotype scores for all the known genes
+     * @return an ascending sorted array of combined scores
+     * @since 14.0.0
+     */
+    public static double[] bootstrapPopulation(PriorityType prioritiserType, double[] phenoScoreCache) {
         // Create a constant-sized population of 500K combined scores so that the combined score p-value calculation
         // always runs in an acceptable time for any analysis combination (WGS/ES, FULL/PASS_ONLY). The value of 500K
         // was chosen to be suitably large that either an exome or genome's worth of returned variants (hundreds to thousands)
         // will have a significant population to be compared with.
-        this.priorityTypes = Set.of(prioritiserType);
+        Set<PriorityType> priorityTypes = Set.of(prioritiserType);
         long population = 500_000L;
         // TODO: Replace Random with java.util.random.RandomGenerator when upgrading java version >= 17
-        this.bootstrappedScores = phenoScoreCache.length == 0 ? new double[]{} : new Random()
+        double[] bootstrappedScores = phenoScoreCache.length == 0 ? new double[]{} : new Random()
                 .ints(population, 0, phenoScoreCache.length)
                 .parallel()
                 .mapToDouble(index -> {
@@ -37,12 +54,29 @@ private CombinedScorePvalueCalculator(PriorityType prioritiserType, double[] phe
                     return GeneScorer.calculateCombinedScore(randomVariantScore, randomPhenoScore, priorityTypes);
                 })
                 .toArray();
+        // sort the population once here so that the p-value lookups can use a binary search rather than scanning the
+        // whole population for each gene and MOI
+        Arrays.parallelSort(bootstrappedScores);
         logger.debug("Created bootstrapped population of {}", bootstrappedScores.length);
-        SummaryStatistics summaryStatistics = new SummaryStatistics(bootstrappedScores);
         if (logger.isDebugEnabled()) {
+            SummaryStatistics summaryStatistics = new SummaryStatistics(bootstrappedScores);
             logger.debug("Combined score distribution:\n{}", summaryStatistics.asciiDistribution(bootstrappedScores));
+            logger.debug("Combined score {}", summaryStatistics);
         }
-        logger.debug("Combined score {}", summaryStatistics);
+        return bootstrappedScores;
+    }
+
+    /**
+     * Creates a {@link CombinedScorePvalueCalculator} from a population previously created with
+     * {@link #bootstrapPopulation(PriorityType, double[])}.
+     *
+     * @param bootstrappedScores an ascending sorted array of combined scores. This is not copied so must not be modified.
+     * @return a {@link CombinedScorePvalueCalculator} instance
+     * @since 14.0.0
+     */
+    public static CombinedScorePvalueCalculator withBootstrappedPopulation(double[] bootstrappedScores) {
+        Objects.requireNonNull(bootstrappedScores);
+        return new CombinedScorePvalueCalculator(bootstrappedScores);
     }
 
     /**
@@ -65,11 +99,28 @@ public static CombinedScorePvalueCalculator of(int bootStrapValue, Prioritiser<?
         Objects.requireNonNull(sampleHpoIds);
         Objects.requireNonNull(unscoredGenes);
         logger.debug("Setting up phenotype score cache on {} genes", unscoredGenes.size());
-        var phenoScoreCache = generatePhenoScoreCache(prioritiser, sampleHpoIds, unscoredGenes);
+        prioritiser.prioritizeGenes(sampleHpoIds, unscoredGenes);
+        var phenoScoreCache = phenoScores(prioritiser.getPriorityType(), unscoredGenes);
         logger.debug("Creating bootstrapped combined scores...");
         return new CombinedScorePvalueCalculator(prioritiser.getPriorityType(), phenoScoreCache);
     }
 
+    /**
+     * Returns the score of the {@link PriorityResult} of the given type for each gene, or 0 where the gene has no
+     * result of that type.
+     *
+     * @since 14.0.0
+     */
+    public static double[] phenoScores(PriorityType priorityType, Collection<Gene> genes) {
+        double[] phenoScores = new double[genes.size()];
+        int i = 0;
+        for (Gene gene : genes) {
+            PriorityResult priorityResult = gene.getPriorityResult(priorityType);
+            phenoScores[i++] = priorityResult == null ? 0.0 : priorityResult.getScore();
+        }
+        return phenoScores;
+    }
+
     /**
      * Returns a no-op p-value calculator which will always return the value 1.0 for any input value.
      *
@@ -79,43 +130,41 @@ public static CombinedScorePvalueCalculator noOpCombinedScorePvalueCalculator()
         return NoOpPvalueScorer.instance();
     }
 
-    private static double[] generatePhenoScoreCache(Prioritiser<?> prioritiser, List<String> hpoIds, List<Gene> genes) {
-        prioritiser.prioritizeGenes(hpoIds, genes);
-        PriorityType priorityType = prioritiser.getPriorityType();
-        return genes.stream()
-                .mapToDouble(gene -> {
-                    PriorityResult priorityResult = gene.getPriorityResult(priorityType);
-                    if (priorityResult != null) {
-                        return priorityResult.getScore();
-                    }
-                    return 0.0;
-                })
-                .toArray();
-    }
-
     double calculatePvalueFromCombinedScore(double combinedScore) {
         // this is run in a hot loop for the gene score calculation, so pre-compute the population statistics on class
         // instantiation
         if (combinedScore == 0 || bootstrappedScores.length == 0) {
             return 1d;
         }
-        int numHigherScores = 1;
-        for (int i = 0; i < bootstrappedScores.length; ++i) {
-            double randomCombined = bootstrappedScores[i];
-            if (randomCombined >= combinedScore) {
-                ++numHigherScores;
+        int numHigherScores = 1 + (bootstrappedScores.length - indexOfFirstScoreGreaterThanOrEqualTo(combinedScore));
+        return (double) numHigherScores / bootstrappedScores.length;
+    }
+
+    /**
+     * Returns the index of the first element in the sorted bootstrappedScores which is >= the input score, or the
+     * length of the array if there are none. Unlike {@link Arrays#binarySearch(double[], double)} this is guaranteed to
+     * return the lowest index in the case of duplicate values.
+     */
+    private int indexOfFirstScoreGreaterThanOrEqualTo(double combinedScore) {
+        int low = 0;
+        int high = bootstrappedScores.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bootstrappedScores[mid] < combinedScore) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-
-        return (double) numHigherScores / bootstrappedScores.length;
+        return low;
     }
 
     private static class NoOpPvalueScorer extends CombinedScorePvalueCalculator {
 
-        private static final NoOpPvalueScorer INSTANCE = new NoOpPvalueScorer(PriorityType.NONE, new double[0]);
+        private static final NoOpPvalueScorer INSTANCE = new NoOpPvalueScorer();
 
-        private NoOpPvalueScorer(PriorityType prioritiserType, double[] phenoScoreCache) {
-            super(prioritiserType, phenoScoreCache);
+        private NoOpPvalueScorer() {
+            super(new double[0]);
         }
 
         private static NoOpPvalueScorer instance() {
@@ -20,6 +20,7 @@
 
 package org.monarchinitiative.exomiser.core.analysis.util.acmg;
 
+import com.google.common.collect.MapMaker;
 import de.charite.compbio.jannovar.annotation.VariantEffect;
 import de.charite.compbio.jannovar.mendel.ModeOfInheritance;
 import org.monarchinitiative.exomiser.core.analysis.util.GeneConstraint;
@@ -38,6 +39,7 @@
 
 
 import java.util.*;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import static org.monarchinitiative.exomiser.core.analysis.util.acmg.AcmgCriterion.*;
@@ -55,6 +57,12 @@ public class Acmg2015EvidenceAssigner implements AcmgEvidenceAssigner {
 
     private final VariantDataService variantDataService;
     private final VariantAnnotator variantAnnotator;
+    private final PS1PM5Assigner ps1PM5Assigner;
+
+    // The evidence which does not depend on the mode of inheritance is only assigned once per variant, rather than once
+    // for each compatible mode of inheritance. Weak keys use identity comparison, which is required here as a variant
+    // overlapping two genes is represented by two VariantEvaluation with equal coordinates but different annotations.
+    private final ConcurrentMap<VariantEvaluation, AcmgEvidence> moiIndependentEvidence = new MapMaker().weakKeys().makeMap();
 
 //    private final VariantType variantType;
 
@@ -68,6 +76,7 @@ public Acmg2015EvidenceAssigner(String probandId, Pedigree pedigree, VariantAnno
         this.probandSex = proband.getSex();
         this.variantAnnotator = Objects.requireNonNull(variantAnnotator);
         this.variantDataService = Objects.requireNonNull(variantDataService);
+        this.ps1PM5Assigner = new PS1PM5Assigner(variantDataService, variantAnnotator);
     }
 
     /**
@@ -97,6 +106,7 @@ public AcmgEvidence assignVariantAcmgEvidence(VariantEvaluation variantEvaluatio
 //        TranscriptModel transcriptModel = new TranscriptModel(variantEvaluation.getTranscriptAnnotations().get(0).getAccession(), variantEvaluation.getGeneSymbol(), )
 
         AcmgEvidence.Builder acmgEvidenceBuilder = AcmgEvidence.builder();
+        acmgEvidenceBuilder.addAll(moiIndependentEvidence.computeIfAbsent(variantEvaluation, this::assignMoiIndependentEvidence));
 
         boolean hasCompatibleDiseaseMatches = !compatibleDiseaseMatches.isEmpty();
 
@@ -109,6 +119,32 @@ public AcmgEvidence assignVariantAcmgEvidence(VariantEvaluation variantEvaluatio
             assignPS2(acmgEvidenceBuilder, variantEvaluation, modeOfInheritance, contributingVariants, hasCompatibleDiseaseMatches, proband);
             // PM6 "Assumed de novo, but without confirmation of paternity and maternity"
 //            assignPM6(acmgEvidenceBuilder, variantEvaluation, modeOfInheritance, contributingVariants, hasCompatibleDiseaseMatches);
+        }
+
+        // PM3 "For recessive disorders, detected in trans with a pathogenic variant"
+        assignPM3orBP2(acmgEvidenceBuilder, variantEvaluation, modeOfInheritance, contributingVariants, hasCompatibleDiseaseMatches);
+        // PM4 Protein length changes as a result of in-frame deletions/insertions in a nonrepeat region or stop-loss variants
+        // n.b. this depends on whether PVS1 was assigned for the current MOI
+        assignPM4(acmgEvidenceBuilder, variantEvaluation);
+
+            // PP4 "Patient’s phenotype or family history is highly specific for a disease with a single genetic etiology"
+        assignPP4(acmgEvidenceBuilder, compatibleDiseaseMatches);
+
+        return acmgEvidenceBuilder.build();
+    }
+
+    /**
+     * Assigns the criteria which only depend on the variant itself and the pedigree, i.e. those which will be the same
+     * for every mode of inheritance the variant is tested against. These are assigned once per variant and re-used by
+     * {@link #assignVariantAcmgEvidence(VariantEvaluation, ModeOfInheritance, List, List, List)}.
+     *
+     * @since 14.0.0
+     */
+    AcmgEvidence assignMoiIndependentEvidence(VariantEvaluation variantEvaluation) {
+        AcmgEvidence.Builder acmgEvidenceBuilder = AcmgEvidence.builder();
+
+        if (pedigree.containsId(probandId)) {
+            Individual proband = pedigree.getIndividualById(probandId);
             // BS4 "Lack of segregation in affected members of a family"
             assignBS4(acmgEvidenceBuilder, variantEvaluation, proband);
         }
@@ -119,12 +155,6 @@ public AcmgEvidence assignVariantAcmgEvidence(VariantEvaluation variantEvaluatio
         // BA1 "Allele frequency is >5% in Exome Sequencing Project, 1000 Genomes Project, or Exome Aggregation Consortium"
         assignBA1(acmgEvidenceBuilder, frequencyData);
 
-        // PM3 "For recessive disorders, detected in trans with a pathogenic variant"
-        assignPM3orBP2(acmgEvidenceBuilder, variantEvaluation, modeOfInheritance, contributingVariants, hasCompatibleDiseaseMatches);
-        // PM4 Protein length changes as a result of in-frame deletions/insertions in a nonrepeat region or stop-loss variants
-        assignPM4(acmgEvidenceBuilder, variantEvaluation);
-        // TODO: PM5 "Novel missense change at an amino acid residue where a different missense change determined to be pathogenic has been seen before
-
         // PP2 "Missense variant in a gene that has a low rate of benign missense variation and in which missense variants are a common mechanism of disease"
         // BP1 "Missense variant in a gene for which primarily truncating variants are known to cause disease"
 //        BP1PP2Assigner bp1PP2Assigner = new BP1PP2Assigner(variantDataService);
@@ -133,13 +163,8 @@ public AcmgEvidence assignVariantAcmgEvidence(VariantEvaluation variantEvaluatio
         // PS1 "Same amino acid change as a previously established pathogenic variant regardless of nucleotide change"
         // Should NOT assign for PS1 for same base change. Unable to assign PS1 due to lack of AA change info in database
         // PM5: "Novel missense change at an amino acid residue where a different missense change determined to be pathogenic has been seen before"
-        PS1PM5Assigner ps1PM5Assigner = new PS1PM5Assigner(variantDataService, variantAnnotator);
         ps1PM5Assigner.assignPS1orPM5(acmgEvidenceBuilder,variantEvaluation);
 
-
-            // PP4 "Patient’s phenotype or family history is highly specific for a disease with a single genetic etiology"
-        assignPP4(acmgEvidenceBuilder, compatibleDiseaseMatches);
-
         PathogenicityData pathogenicityData = variantEvaluation.getPathogenicityData();
         ClinVarData clinVarData = variantEvaluation.getPathogenicityData().getClinVarData();
         if (!clinVarData.isEmpty()) {
@@ -303,7 +328,6 @@ private void assignPP5(AcmgEvidence.Builder acmgEvidenceBuilder, ClinVarData cli
     }
 
     public void assignPS1orPM5(AcmgEvidence.Builder acmgEvidenceBuilder, VariantEvaluation variantEvaluation) {
-        PS1PM5Assigner ps1PM5Assigner =  new PS1PM5Assigner(variantDataService, variantAnnotator);
         ps1PM5Assigner.assignPS1orPM5(acmgEvidenceBuilder, variantEvaluation);
 
     }
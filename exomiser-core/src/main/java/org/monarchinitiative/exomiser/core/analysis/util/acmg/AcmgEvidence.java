@@ -198,6 +198,16 @@ public Builder add(AcmgCriterion acmgCriterion, Evidence evidence) {
             return this;
         }
 
+        /**
+         * Adds all the criteria, and their evidence, from the given {@link AcmgEvidence} to this builder.
+         *
+         * @since 14.0.0
+         */
+        public Builder addAll(AcmgEvidence acmgEvidence) {
+            this.evidence.putAll(acmgEvidence.evidence());
+            return this;
+        }
+
         public boolean contains(AcmgCriterion acmgCriterion) {
             return evidence.containsKey(acmgCriterion);
         }
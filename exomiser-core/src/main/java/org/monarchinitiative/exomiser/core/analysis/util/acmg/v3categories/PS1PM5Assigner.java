@@ -8,6 +8,7 @@
 import org.monarchinitiative.exomiser.core.model.VariantAnnotation;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
 import org.monarchinitiative.svart.GenomicVariant;
 import org.monarchinitiative.svart.VariantType;
 import org.slf4j.Logger;
@@ -33,6 +34,10 @@ public PS1PM5Assigner(VariantDataService variantDataService, VariantAnnotator va
     /**
      * PS1 "Same amino acid change as a previously established pathogenic variant regardless of nucleotide change"
      * PM5 "Novel missense change at an amino acid residue where a different missense change determined to be pathogenic has been seen before"
+     * <p>
+     * Where the {@link VariantDataService} has a pre-computed ClinVar protein index, this is a keyed lookup on the
+     * transcript and amino acid position of the variant. Otherwise, the ClinVar variants within 2bp of the variant are
+     * annotated on-the-fly.
      */
     public void assignPS1orPM5(AcmgEvidence.Builder acmgEvidenceBuilder, VariantEvaluation variantEvaluation) {
         if (variantEvaluation.getVariantEffect() == VariantEffect.MISSENSE_VARIANT){
@@ -44,6 +49,10 @@ public void assignPS1orPM5(AcmgEvidence.Builder acmgEvidenceBuilder, VariantEval
             TranscriptAnnotation transcriptAnnotation = annotations.get(0);
             String proteinChangeFromInput = transcriptAnnotation.getHgvsProtein();
             String cdnaChangeFromInput = transcriptAnnotation.getHgvsCdna();
+            if (variantDataService.hasClinVarProteinChangeIndex()) {
+                assignFromProteinChangeIndex(acmgEvidenceBuilder, transcriptAnnotation.getAccession(), proteinChangeFromInput, cdnaChangeFromInput);
+                return;
+            }
             Map<GenomicVariant, ClinVarData> cvData = variantDataService.findClinVarDataOverlappingGenomicInterval(variantEvaluation.withPadding(2, 2));
             logger.debug("" + cvData);
 
@@ -86,4 +95,24 @@ public void assignPS1orPM5(AcmgEvidence.Builder acmgEvidenceBuilder, VariantEval
             }
         }
     }
+
+    private void assignFromProteinChangeIndex(AcmgEvidence.Builder acmgEvidenceBuilder, String transcriptAccession, String proteinChangeFromInput, String cdnaChangeFromInput) {
+        int proteinPosition = ClinVarProteinChange.proteinPosition(proteinChangeFromInput);
+        if (proteinPosition == -1) {
+            return;
+        }
+        for (ClinVarProteinChange clinVarProteinChange : variantDataService.findClinVarProteinChanges(transcriptAccession, proteinPosition)) {
+            String proteinChangeFromClinVar = clinVarProteinChange.hgvsProtein();
+            String cdnaChangeFromClinVar = clinVarProteinChange.hgvsCdna();
+            if (proteinChangeFromInput.equals(proteinChangeFromClinVar) && cdnaChangeFromInput.equals(cdnaChangeFromClinVar)) {
+                // same variant - should be assigning PP5 or BP6
+                continue;
+            }
+            if (proteinChangeFromInput.equals(proteinChangeFromClinVar)) {
+                acmgEvidenceBuilder.add(PS1);
+            } else {
+                acmgEvidenceBuilder.add(PM5);
+            }
+        }
+    }
 }
@@ -25,7 +25,9 @@
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencySource;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -48,6 +50,10 @@ public FrequencyDataProvider(VariantDataService variantDataService, Set<Frequenc
         }
     }
 
+    public Set<FrequencySource> getFrequencySources() {
+        return EnumSet.copyOf(frequencySources);
+    }
+
     @Override
     public void provideVariantData(VariantEvaluation variantEvaluation) {
         //check there are no frequencies first - this may be genuine, or possibly the variant hasn't yet had the data added
@@ -58,4 +64,27 @@ public void provideVariantData(VariantEvaluation variantEvaluation) {
         }
     }
 
+    /**
+     * Provides the frequency data for a batch of variants with a single call to the {@link VariantDataService} so that
+     * the allele store can be read for the whole batch in a single pass.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public void provideVariantData(List<VariantEvaluation> variantEvaluations) {
+        List<VariantEvaluation> variantsWithoutData = new ArrayList<>(variantEvaluations.size());
+        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+            if (!variantEvaluation.getFrequencyData().hasKnownFrequency()) {
+                variantsWithoutData.add(variantEvaluation);
+            }
+        }
+        if (variantsWithoutData.isEmpty()) {
+            return;
+        }
+        List<FrequencyData> frequencyData = variantDataService.getVariantFrequencyData(variantsWithoutData, frequencySources);
+        for (int i = 0; i < variantsWithoutData.size(); i++) {
+            variantsWithoutData.get(i).setFrequencyData(frequencyData.get(i));
+        }
+    }
+
 }
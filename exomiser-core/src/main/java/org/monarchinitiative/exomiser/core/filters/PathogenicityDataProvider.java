@@ -30,7 +30,9 @@
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicitySource;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -51,6 +53,10 @@ public PathogenicityDataProvider(VariantDataService variantDataService, Set<Path
         }
     }
 
+    public Set<PathogenicitySource> getPathogenicitySources() {
+        return EnumSet.copyOf(pathogenicitySources);
+    }
+
     @Override
     public void provideVariantData(VariantEvaluation variantEvaluation) {
         if (variantEvaluation.getPathogenicityData().isEmpty()) {
@@ -59,4 +65,27 @@ public void provideVariantData(VariantEvaluation variantEvaluation) {
         }
     }
 
+    /**
+     * Provides the pathogenicity data for a batch of variants with a single call to the {@link VariantDataService} so
+     * that the tabix-backed sources can read the data for the batch in a single forward pass over the file.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public void provideVariantData(List<VariantEvaluation> variantEvaluations) {
+        List<VariantEvaluation> variantsWithoutData = new ArrayList<>(variantEvaluations.size());
+        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+            if (variantEvaluation.getPathogenicityData().isEmpty()) {
+                variantsWithoutData.add(variantEvaluation);
+            }
+        }
+        if (variantsWithoutData.isEmpty()) {
+            return;
+        }
+        List<PathogenicityData> pathData = variantDataService.getVariantPathogenicityData(variantsWithoutData, pathogenicitySources);
+        for (int i = 0; i < variantsWithoutData.size(); i++) {
+            variantsWithoutData.get(i).setPathogenicityData(pathData.get(i));
+        }
+    }
+
 }
@@ -22,6 +22,8 @@
 
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 
+import java.util.List;
+
 /**
  * Decorator interface to provide data for variants just in time for the filter 
  * which requires it.
@@ -41,6 +43,18 @@ public interface VariantFilterDataProvider extends VariantFilter {
      */
     void provideVariantData(VariantEvaluation variantEvaluation);
 
+    /**
+     * Provides a batch of variantEvaluations with the implementation-specific data. Implementations backed by
+     * position-sorted data sources can override this to fetch the data for the whole batch in one go.
+     * @param variantEvaluations
+     * @since 14.0.0
+     */
+    default void provideVariantData(List<VariantEvaluation> variantEvaluations) {
+        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+            provideVariantData(variantEvaluation);
+        }
+    }
+
     @Override
     default FilterResult runFilter(VariantEvaluation variantEvaluation) {
         provideVariantData(variantEvaluation);
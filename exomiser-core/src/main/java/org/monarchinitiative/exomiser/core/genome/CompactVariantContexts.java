@@ -0,0 +1,100 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome;
+
+import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.variantcontext.VariantContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Utility class for creating and reloading compact, sites-only, copies of VCF records. A compact record only retains
+ * the CHROM, POS, ID, REF, ALT, QUAL and FILTER fields. The INFO fields and sample genotypes make up the bulk of the
+ * memory used by a record from a multi-sample VCF, so these are dropped once the {@link org.monarchinitiative.exomiser.core.model.VariantEvaluation}
+ * has been built. The full record can be re-read from the original VCF file when it is required for output.
+ * <p>
+ * A VCF can contain several records with the same CHROM, POS, REF and ALT, so the compact records are identified by
+ * their index within the records for that contig, which is stored as the record source.
+ *
+ * @since 14.0.0
+ */
+public class CompactVariantContexts {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactVariantContexts.class);
+
+    private CompactVariantContexts() {
+    }
+
+    /**
+     * @param variantContext the full VCF record
+     * @param recordIndex    the zero-based index of the record within the records for its contig in the VCF file
+     * @return a sites-only copy of the input record
+     */
+    static VariantContext toSitesOnly(VariantContext variantContext, int recordIndex) {
+        return new VariantContextBuilder(variantContext)
+                .source(String.valueOf(recordIndex))
+                .noGenotypes()
+                .attributes(Map.of())
+                .make();
+    }
+
+    /**
+     * Streams through the VCF file once, returning the full records for the input compact records. Only the matching
+     * records are retained, so the memory used is proportional to the number of records requested rather than the size
+     * of the VCF.
+     *
+     * @param vcfPath         the original input VCF
+     * @param variantContexts the compact records to reload
+     * @return an identity map of the input record to the full VCF record. Input records not found in the VCF will not
+     * be present.
+     */
+    public static Map<VariantContext, VariantContext> reloadRecords(Path vcfPath, Collection<VariantContext> variantContexts) {
+        Map<RecordKey, VariantContext> recordsToReload = new HashMap<>(variantContexts.size());
+        for (VariantContext variantContext : variantContexts) {
+            recordsToReload.put(new RecordKey(variantContext.getContig(), Integer.parseInt(variantContext.getSource())), variantContext);
+        }
+        // n.b. identity is key here as VariantContext doesn't override equals() or hashCode()
+        Map<VariantContext, VariantContext> fullRecords = new IdentityHashMap<>(variantContexts.size());
+        Map<String, Integer> contigRecordCounts = new HashMap<>();
+        try (Stream<VariantContext> records = VcfFiles.readVariantContexts(vcfPath)) {
+            Iterator<VariantContext> iterator = records.iterator();
+            while (iterator.hasNext() && !recordsToReload.isEmpty()) {
+                VariantContext record = iterator.next();
+                int recordIndex = contigRecordCounts.merge(record.getContig(), 1, Integer::sum) - 1;
+                VariantContext compactRecord = recordsToReload.remove(new RecordKey(record.getContig(), recordIndex));
+                if (compactRecord != null) {
+                    fullRecords.put(compactRecord, record);
+                }
+            }
+        }
+        if (!recordsToReload.isEmpty()) {
+            logger.warn("Unable to find {} records in {} - these will be written without INFO or sample fields", recordsToReload.size(), vcfPath);
+        }
+        return fullRecords;
+    }
+
+    private record RecordKey(String contig, int recordIndex) {
+    }
+}
@@ -50,7 +50,8 @@ public class GeneFactory {
 
     private final JannovarData jannovarData;
 
-    private Set<GeneIdentifier> geneIdentifiers;
+    // lazily created and shared by the analyses of concurrently running jobs
+    private volatile Set<GeneIdentifier> geneIdentifiers;
 
     public GeneFactory(JannovarData jannovarData) {
         this.jannovarData = jannovarData;
@@ -21,6 +21,7 @@
 package org.monarchinitiative.exomiser.core.genome;
 
 import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.monarchinitiative.exomiser.core.genome.dao.AlleleDataDao.AlleleData;
 import org.monarchinitiative.exomiser.core.model.*;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencySource;
@@ -95,6 +96,21 @@ public PathogenicityData getVariantPathogenicityData(Variant variant, Set<Pathog
         return variantDataService.getVariantPathogenicityData(variant, pathogenicitySources);
     }
 
+    @Override
+    public List<FrequencyData> getVariantFrequencyData(List<? extends Variant> variants, Set<FrequencySource> frequencySources) {
+        return variantDataService.getVariantFrequencyData(variants, frequencySources);
+    }
+
+    @Override
+    public List<PathogenicityData> getVariantPathogenicityData(List<? extends Variant> variants, Set<PathogenicitySource> pathogenicitySources) {
+        return variantDataService.getVariantPathogenicityData(variants, pathogenicitySources);
+    }
+
+    @Override
+    public List<AlleleData> getVariantAlleleData(List<? extends Variant> variants, Set<FrequencySource> frequencySources, Set<PathogenicitySource> pathogenicitySources) {
+        return variantDataService.getVariantAlleleData(variants, frequencySources, pathogenicitySources);
+    }
+
     @Override
     public Map<GenomicVariant, ClinVarData> findClinVarDataOverlappingGenomicInterval(GenomicInterval genomicInterval) {
         return variantDataService.findClinVarDataOverlappingGenomicInterval(genomicInterval);
@@ -26,6 +26,7 @@
 package org.monarchinitiative.exomiser.core.genome;
 
 import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.monarchinitiative.exomiser.core.genome.dao.AlleleDataDao.AlleleData;
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
@@ -34,6 +35,8 @@
 import org.monarchinitiative.svart.GenomicInterval;
 import org.monarchinitiative.svart.GenomicVariant;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -46,7 +49,74 @@ public interface VariantDataService {
     public boolean variantIsWhiteListed(Variant variant);
     public FrequencyData getVariantFrequencyData(Variant variant, Set<FrequencySource> frequencySources);
     public PathogenicityData getVariantPathogenicityData(Variant variant, Set<PathogenicitySource> pathogenicitySources);
+
+    /**
+     * Batch version of {@link #getVariantFrequencyData(Variant, Set)} which allows implementations to read the data for
+     * a batch of variants, ideally from the same region of a chromosome, in one go.
+     *
+     * @return a list of {@link FrequencyData} in the same order as the input variants.
+     * @since 14.0.0
+     */
+    public default List<FrequencyData> getVariantFrequencyData(List<? extends Variant> variants, Set<FrequencySource> frequencySources) {
+        List<FrequencyData> frequencyData = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            frequencyData.add(getVariantFrequencyData(variant, frequencySources));
+        }
+        return frequencyData;
+    }
+
+    /**
+     * Batch version of {@link #getVariantPathogenicityData(Variant, Set)} which allows implementations to read the
+     * data for a batch of variants, ideally from the same region of a chromosome, in one go.
+     *
+     * @return a list of {@link PathogenicityData} in the same order as the input variants.
+     * @since 14.0.0
+     */
+    public default List<PathogenicityData> getVariantPathogenicityData(List<? extends Variant> variants, Set<PathogenicitySource> pathogenicitySources) {
+        List<PathogenicityData> pathogenicityData = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            pathogenicityData.add(getVariantPathogenicityData(variant, pathogenicitySources));
+        }
+        return pathogenicityData;
+    }
+
+    /**
+     * Combined batch version of {@link #getVariantFrequencyData(List, Set)} and
+     * {@link #getVariantPathogenicityData(List, Set)} for callers which require both for the same variants. This allows
+     * implementations where the frequency and pathogenicity data are stored together to only read each allele once.
+     *
+     * @return a list of {@link AlleleData} in the same order as the input variants.
+     * @since 14.0.0
+     */
+    public default List<AlleleData> getVariantAlleleData(List<? extends Variant> variants, Set<FrequencySource> frequencySources, Set<PathogenicitySource> pathogenicitySources) {
+        List<FrequencyData> frequencyData = getVariantFrequencyData(variants, frequencySources);
+        List<PathogenicityData> pathogenicityData = getVariantPathogenicityData(variants, pathogenicitySources);
+        List<AlleleData> alleleData = new ArrayList<>(variants.size());
+        for (int i = 0; i < variants.size(); i++) {
+            alleleData.add(new AlleleData(frequencyData.get(i), pathogenicityData.get(i)));
+        }
+        return alleleData;
+    }
+
     public Map<GenomicVariant, ClinVarData> findClinVarDataOverlappingGenomicInterval(GenomicInterval genomicInterval);
     public ClinVarGeneStats getClinVarGeneStats(String geneSymbol);
 
+    /**
+     * @return true if {@link #findClinVarProteinChanges(String, int)} is backed by a pre-computed index.
+     * @since 14.0.0
+     */
+    public default boolean hasClinVarProteinChangeIndex() {
+        return false;
+    }
+
+    /**
+     * Returns the pathogenic or likely pathogenic (2 stars or above) ClinVar missense changes at the given amino acid
+     * position of a transcript, as pre-computed in the ClinVar protein index.
+     *
+     * @since 14.0.0
+     */
+    public default List<ClinVarProteinChange> findClinVarProteinChanges(String transcriptAccession, int proteinPosition) {
+        return List.of();
+    }
+
 }
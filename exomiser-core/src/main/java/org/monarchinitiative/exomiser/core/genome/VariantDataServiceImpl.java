@@ -23,6 +23,7 @@
 
 import de.charite.compbio.jannovar.annotation.VariantEffect;
 import org.monarchinitiative.exomiser.core.genome.dao.*;
+import org.monarchinitiative.exomiser.core.genome.dao.AlleleDataDao.AlleleData;
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.frequency.Frequency;
@@ -34,6 +35,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
@@ -97,7 +99,7 @@ public FrequencyData getVariantFrequencyData(Variant variant, Set<FrequencySourc
         if (isStructural(variant)) {
             return svFrequencyDao.getFrequencyData(variant);
         }
-        // This could be run alongside the pathogenicities as they are all stored in the same datastore
+        // The batch version of this method reads these alongside the pathogenicities as they are all stored in the same datastore
         FrequencyData defaultFrequencyData = defaultFrequencyDao.getFrequencyData(variant);
 
         List<Frequency> allFrequencies = filterFrequencies(variant, frequencySources, defaultFrequencyData);
@@ -105,6 +107,75 @@ public FrequencyData getVariantFrequencyData(Variant variant, Set<FrequencySourc
         return FrequencyData.of(defaultFrequencyData.getRsId(), allFrequencies);
     }
 
+    /**
+     * Batch version of {@link #getVariantFrequencyData(Variant, Set)}. Where the default frequency data are held in an
+     * {@link AlleleDataDao} these are read for the whole batch in a single pass over the store.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public List<FrequencyData> getVariantFrequencyData(List<? extends Variant> variants, Set<FrequencySource> frequencySources) {
+        if (!(defaultFrequencyDao instanceof AlleleDataDao alleleDataDao)) {
+            return VariantDataService.super.getVariantFrequencyData(variants, frequencySources);
+        }
+        List<Variant> smallVariants = smallVariants(variants);
+        List<AlleleData> alleleData = alleleDataDao.getAlleleData(smallVariants);
+        return mergeFrequencyData(variants, frequencySources, alleleData.iterator());
+    }
+
+    /**
+     * Combined batch version of {@link #getVariantFrequencyData(List, Set)} and
+     * {@link #getVariantPathogenicityData(List, Set)}. Where the default frequency and pathogenicity data are held in the
+     * same {@link AlleleDataDao} both are read for the whole batch in a single pass over the store, rather than reading
+     * each allele once for each type of data.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public List<AlleleData> getVariantAlleleData(List<? extends Variant> variants, Set<FrequencySource> frequencySources, Set<PathogenicitySource> pathogenicitySources) {
+        if (!(defaultFrequencyDao instanceof AlleleDataDao alleleDataDao) || defaultFrequencyDao != defaultPathogenicityDao || pathogenicitySources.isEmpty()) {
+            return VariantDataService.super.getVariantAlleleData(variants, frequencySources, pathogenicitySources);
+        }
+        List<Variant> smallVariants = smallVariants(variants);
+        List<AlleleData> alleleData = alleleDataDao.getAlleleData(smallVariants);
+        List<PathogenicityData> defaultPathogenicityData = new ArrayList<>(alleleData.size());
+        for (AlleleData data : alleleData) {
+            defaultPathogenicityData.add(data.pathogenicityData());
+        }
+        List<FrequencyData> frequencyData = mergeFrequencyData(variants, frequencySources, alleleData.iterator());
+        List<PathogenicityData> pathogenicityData = getVariantPathogenicityData(variants, pathogenicitySources, defaultPathogenicityData);
+
+        List<AlleleData> results = new ArrayList<>(variants.size());
+        for (int i = 0; i < variants.size(); i++) {
+            results.add(new AlleleData(frequencyData.get(i), pathogenicityData.get(i)));
+        }
+        return results;
+    }
+
+    private List<FrequencyData> mergeFrequencyData(List<? extends Variant> variants, Set<FrequencySource> frequencySources, Iterator<AlleleData> alleleData) {
+        List<FrequencyData> results = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            if (isStructural(variant)) {
+                results.add(svFrequencyDao.getFrequencyData(variant));
+                continue;
+            }
+            FrequencyData defaultFrequencyData = alleleData.next().frequencyData();
+            List<Frequency> allFrequencies = filterFrequencies(variant, frequencySources, defaultFrequencyData);
+            results.add(FrequencyData.of(defaultFrequencyData.getRsId(), allFrequencies));
+        }
+        return results;
+    }
+
+    private List<Variant> smallVariants(List<? extends Variant> variants) {
+        List<Variant> smallVariants = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            if (!isStructural(variant)) {
+                smallVariants.add(variant);
+            }
+        }
+        return smallVariants;
+    }
+
     private List<Frequency> filterFrequencies(Variant variant, Set<FrequencySource> frequencySources, FrequencyData defaultFrequencyData) {
         List<Frequency> allFrequencies = new ArrayList<>();
         for (Frequency frequency : defaultFrequencyData.getKnownFrequencies()) {
@@ -135,7 +206,7 @@ public PathogenicityData getVariantPathogenicityData(Variant variant, Set<Pathog
 
         ClinVarData clinVarData = clinVarDao.getClinVarData(variant);
 
-        // This could be run alongside the frequencies as they are all stored in the same datastore
+        // The batch version of this method uses the data read alongside the frequencies as they are all stored in the same datastore
         if (pathogenicitySources.isEmpty()) {
             // Fast-path for the unlikely case when no sources are defined - we'll just return the ClinVar data
             return PathogenicityData.of(clinVarData);
@@ -168,6 +239,75 @@ public PathogenicityData getVariantPathogenicityData(Variant variant, Set<Pathog
             defaultPathogenicityData = defaultPathogenicityDao.getPathogenicityData(variant);
         }
 
+        return mergePathogenicityData(variant, pathogenicitySources, clinVarData, defaultPathogenicityData, allPathScores);
+    }
+
+    /**
+     * Batch version of {@link #getVariantPathogenicityData(Variant, Set)}. The CADD, REMM and TEST tabix sources are
+     * read for the whole batch at once, which allows them to read each region of the file in a single forward pass
+     * rather than seeking for each variant.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public List<PathogenicityData> getVariantPathogenicityData(List<? extends Variant> variants, Set<PathogenicitySource> pathogenicitySources) {
+        return getVariantPathogenicityData(variants, pathogenicitySources, null);
+    }
+
+    /**
+     * @param defaultPathogenicityData the default pathogenicity data for the non-structural variants, in the same order
+     *                                 as the input, if these have already been read. If null these are read from the
+     *                                 defaultPathogenicityDao.
+     */
+    private List<PathogenicityData> getVariantPathogenicityData(List<? extends Variant> variants, Set<PathogenicitySource> pathogenicitySources, @Nullable List<PathogenicityData> defaultPathogenicityData) {
+        if (pathogenicitySources.isEmpty()) {
+            return VariantDataService.super.getVariantPathogenicityData(variants, pathogenicitySources);
+        }
+        List<Variant> smallVariants = new ArrayList<>(variants.size());
+        List<Variant> nonCodingSmallVariants = new ArrayList<>();
+        for (Variant variant : variants) {
+            if (!isStructural(variant)) {
+                smallVariants.add(variant);
+                if (variant.isNonCodingVariant()) {
+                    nonCodingSmallVariants.add(variant);
+                }
+            }
+        }
+        // run async - tabix sources are slow compared to MVStore
+        CompletableFuture<List<PathogenicityData>> futureRemmData = pathogenicitySources.contains(REMM) ? CompletableFuture.supplyAsync(() -> remmDao.getPathogenicityData(nonCodingSmallVariants)) : CompletableFuture.completedFuture(List.of());
+        CompletableFuture<List<PathogenicityData>> futureCaddData = pathogenicitySources.contains(CADD) ? CompletableFuture.supplyAsync(() -> caddDao.getPathogenicityData(smallVariants)) : CompletableFuture.completedFuture(List.of());
+        CompletableFuture<List<PathogenicityData>> futureTestData = pathogenicitySources.contains(TEST) ? CompletableFuture.supplyAsync(() -> testPathScoreDao.getPathogenicityData(smallVariants)) : CompletableFuture.completedFuture(List.of());
+
+        Iterator<PathogenicityData> remmData = futureRemmData.join().iterator();
+        Iterator<PathogenicityData> caddData = futureCaddData.join().iterator();
+        Iterator<PathogenicityData> testData = futureTestData.join().iterator();
+        Iterator<PathogenicityData> defaultData = defaultPathogenicityData == null ? null : defaultPathogenicityData.iterator();
+
+        List<PathogenicityData> results = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            if (isStructural(variant)) {
+                results.add(svPathogenicityDao.getPathogenicityData(variant));
+                continue;
+            }
+            ClinVarData clinVarData = clinVarDao.getClinVarData(variant);
+            PathogenicityData variantDefaultPathogenicityData = defaultData == null ? defaultPathogenicityDao.getPathogenicityData(variant) : defaultData.next();
+            // n.b. the scores are added in the same order as the single variant method
+            List<PathogenicityScore> allPathScores = new ArrayList<>();
+            if (pathogenicitySources.contains(REMM) && variant.isNonCodingVariant()) {
+                allPathScores.addAll(remmData.next().getPredictedPathogenicityScores());
+            }
+            if (pathogenicitySources.contains(CADD)) {
+                allPathScores.addAll(caddData.next().getPredictedPathogenicityScores());
+            }
+            if (pathogenicitySources.contains(TEST)) {
+                allPathScores.addAll(testData.next().getPredictedPathogenicityScores());
+            }
+            results.add(mergePathogenicityData(variant, pathogenicitySources, clinVarData, variantDefaultPathogenicityData, allPathScores));
+        }
+        return results;
+    }
+
+    private PathogenicityData mergePathogenicityData(Variant variant, Set<PathogenicitySource> pathogenicitySources, ClinVarData clinVarData, PathogenicityData defaultPathogenicityData, List<PathogenicityScore> allPathScores) {
         // we're going to deliberately ignore synonymous variants from dbNSFP as these shouldn't be there
         // e.g. ?assembly=hg37&chr=1&start=158581087&ref=G&alt=A has a MutationTaster score of 1
         if (variant.getVariantEffect() != VariantEffect.SYNONYMOUS_VARIANT) {
@@ -204,6 +344,16 @@ public ClinVarGeneStats getClinVarGeneStats(String geneSymbol) {
         return clinVarDao.getClinVarGeneStats(geneSymbol);
     }
 
+    @Override
+    public boolean hasClinVarProteinChangeIndex() {
+        return clinVarDao.hasProteinChangeIndex();
+    }
+
+    @Override
+    public List<ClinVarProteinChange> findClinVarProteinChanges(String transcriptAccession, int proteinPosition) {
+        return clinVarDao.findClinVarProteinChanges(transcriptAccession, proteinPosition);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
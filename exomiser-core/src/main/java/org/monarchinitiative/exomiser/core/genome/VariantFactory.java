@@ -23,6 +23,8 @@
 import htsjdk.variant.variantcontext.VariantContext;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 
+import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -40,4 +42,16 @@ public interface VariantFactory {
      */
     public Stream<VariantEvaluation> createVariantEvaluations();
 
+    /**
+     * Returns a stream of suppliers, each of which creates the {@link VariantEvaluation} for a single input record.
+     * The records are read sequentially as the stream is consumed, but the relatively expensive conversion and
+     * annotation of each record is deferred until the supplier is called, which can be done on any thread. The
+     * default implementation does all the work as the records are read.
+     *
+     * @since 14.0.0
+     */
+    public default Stream<Supplier<List<VariantEvaluation>>> createVariantEvaluationSuppliers() {
+        return createVariantEvaluations().map(variantEvaluation -> () -> List.of(variantEvaluation));
+    }
+
 }
@@ -25,6 +25,7 @@
  */
 package org.monarchinitiative.exomiser.core.genome;
 
+import com.google.common.base.Suppliers;
 import htsjdk.variant.variantcontext.Allele;
 import htsjdk.variant.variantcontext.Genotype;
 import htsjdk.variant.variantcontext.GenotypesContext;
@@ -43,10 +44,13 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -63,43 +67,92 @@ public class VariantFactoryImpl implements VariantFactory {
     private final VariantContextConverter variantContextConverter;
 
     private final VcfReader vcfReader;
+    private final boolean compactVariants;
 
     public VariantFactoryImpl(VariantAnnotator variantAnnotator, Path vcfPath) {
         this(variantAnnotator, new VcfFileReader(vcfPath));
     }
 
     public VariantFactoryImpl(VariantAnnotator variantAnnotator, VcfReader vcfReader) {
+        this(variantAnnotator, vcfReader, false);
+    }
+
+    /**
+     * @param compactVariants if true, the {@link VariantEvaluation} created will only retain the site information from
+     *                        the original {@link VariantContext}, i.e. the INFO fields and sample genotypes are dropped
+     *                        once the {@link SampleGenotypes} have been extracted.
+     * @since 14.0.0
+     */
+    public VariantFactoryImpl(VariantAnnotator variantAnnotator, VcfReader vcfReader, boolean compactVariants) {
         Objects.requireNonNull(variantAnnotator);
         Objects.requireNonNull(vcfReader);
         this.variantAnnotator = variantAnnotator;
         this.genomeAssembly = variantAnnotator.genomeAssembly();
         this.variantContextConverter = VariantContextConverter.of(genomeAssembly.genomicAssembly(), VariantTrimmer.leftShiftingTrimmer(VariantTrimmer.retainingCommonBase()));
         this.vcfReader = vcfReader;
+        this.compactVariants = compactVariants;
     }
 
     @Override
     public Stream<VariantEvaluation> createVariantEvaluations() {
         logger.info("Annotating variant records, trimming sequences and normalising positions...");
         VariantCounter counter = new VariantCounter();
+        Function<VariantContext, Supplier<VariantContext>> retainedVariantContexts = retainedVariantContexts();
         return vcfReader.readVariantContexts()
                 .peek(counter.countVariantContext())
-                .flatMap(toVariantEvaluations())
+                .flatMap(variantContext -> toVariantEvaluations(variantContext, retainedVariantContexts.apply(variantContext)))
                 .peek(counter.countAnnotatedVariant())
                 .onClose(counter::logCount);
     }
 
+    @Override
+    public Stream<Supplier<List<VariantEvaluation>>> createVariantEvaluationSuppliers() {
+        logger.info("Annotating variant records, trimming sequences and normalising positions...");
+        VariantCounter counter = new VariantCounter();
+        Function<VariantContext, Supplier<VariantContext>> retainedVariantContexts = retainedVariantContexts();
+        return vcfReader.readVariantContexts()
+                .peek(counter.countVariantContext())
+                .<Supplier<List<VariantEvaluation>>>map(variantContext -> {
+                    // this is called in the order of the records in the VCF, the returned supplier might not be
+                    Supplier<VariantContext> retainedVariantContext = retainedVariantContexts.apply(variantContext);
+                    return () -> {
+                        List<VariantEvaluation> variantEvaluations = toVariantEvaluations(variantContext, retainedVariantContext).toList();
+                        variantEvaluations.forEach(counter.countAnnotatedVariant());
+                        return variantEvaluations;
+                    };
+                })
+                .onClose(counter::logCount);
+    }
+
     /**
      * An Exomiser VariantEvaluation is a single-allele variant whereas the VariantContext can have multiple alleles.
      * This means that a multi allele Variant record in a VCF can result in several VariantEvaluations - one for each
      * alternate allele.
      */
-    private Function<VariantContext, Stream<VariantEvaluation>> toVariantEvaluations() {
-        return variantContext -> variantContext.getAlternateAlleles().stream()
-                .map(buildAlleleVariantEvaluations(variantContext))
+    private Stream<VariantEvaluation> toVariantEvaluations(VariantContext variantContext, Supplier<VariantContext> retainedVariantContext) {
+        return variantContext.getAlternateAlleles().stream()
+                .map(buildAlleleVariantEvaluations(variantContext, retainedVariantContext))
                 .flatMap(Collection::stream);
     }
 
-    private Function<Allele, List<VariantEvaluation>> buildAlleleVariantEvaluations(VariantContext variantContext) {
+    /**
+     * Returns a function providing the {@link VariantContext} to be held by the {@link VariantEvaluation} for each
+     * record. This must be applied to the records in the order they are read from the VCF. All the alleles of a record
+     * share the same instance, as the VCF writers rely on this to write the record once. In compact mode the
+     * {@link CompactVariantContexts#toSitesOnly} copy is only made if an allele is actually converted.
+     */
+    private Function<VariantContext, Supplier<VariantContext>> retainedVariantContexts() {
+        if (!compactVariants) {
+            return variantContext -> () -> variantContext;
+        }
+        Map<String, Integer> contigRecordCounts = new HashMap<>();
+        return variantContext -> {
+            int recordIndex = contigRecordCounts.merge(variantContext.getContig(), 1, Integer::sum) - 1;
+            return Suppliers.memoize(() -> CompactVariantContexts.toSitesOnly(variantContext, recordIndex));
+        };
+    }
+
+    private Function<Allele, List<VariantEvaluation>> buildAlleleVariantEvaluations(VariantContext variantContext, Supplier<VariantContext> retainedVariantContext) {
         return altAllele -> {
             // Itererating by alleleId here this is less clean, but faster
             // alternate Alleles are always after the reference allele, which is 0
@@ -107,7 +160,7 @@ private Function<Allele, List<VariantEvaluation>> buildAlleleVariantEvaluations(
             GenotypesContext genotypes = variantContext.getGenotypes();
             // n.b. samples with no genotypes (e.g. ./. or .) will return no variants
             if (alleleIsObservedInGenotypes(altAllele, genotypes) || hasCopyNumber(altAllele, genotypes)) {
-                return buildVariantEvaluations(variantContext, altAlleleId, altAllele);
+                return buildVariantEvaluations(variantContext, retainedVariantContext, altAlleleId, altAllele);
             }
             logger.debug("Skipping allele {} - has no genotype or copy-number", altAllele);
             return List.of();
@@ -144,7 +197,7 @@ private boolean hasCopyNumber(Allele allele, GenotypesContext genotypesContext)
      * Creates a VariantEvaluation made from all the relevant bits of the
      * VariantContext and VariantAnnotations for a given alternative allele.
      */
-    private List<VariantEvaluation> buildVariantEvaluations(VariantContext variantContext, int altAlleleId, Allele altAllele) {
+    private List<VariantEvaluation> buildVariantEvaluations(VariantContext variantContext, Supplier<VariantContext> retainedVariantContext, int altAlleleId, Allele altAllele) {
         // It is possible for a variant to overlap two or more genes (see issue https://github.com/exomiser/Exomiser/issues/294)
         // so we're expecting a single gene per variant annotation which might have different variant consequences and different
         // phenotypes for each gene
@@ -163,7 +216,7 @@ private List<VariantEvaluation> buildVariantEvaluations(VariantContext variantCo
         if (variant == null) {
             return List.of();
         }
-        VariantEvaluation.Builder variantBuilder = createVariantBuilder(variantContext, altAlleleId, variant);
+        VariantEvaluation.Builder variantBuilder = createVariantBuilder(variantContext, retainedVariantContext.get(), altAlleleId, variant);
         List<VariantAnnotation> variantAnnotations = variantAnnotator.annotate(variant);
         // now we have a list of variant annotations - one per gene including affected transcripts and regulatory regions
         List<VariantEvaluation> variantEvaluations = new ArrayList<>(variantAnnotations.size());
@@ -174,13 +227,13 @@ private List<VariantEvaluation> buildVariantEvaluations(VariantContext variantCo
         return variantEvaluations;
     }
 
-    private VariantEvaluation.Builder createVariantBuilder(VariantContext variantContext, int altAlleleId, GenomicVariant variant) {
+    private VariantEvaluation.Builder createVariantBuilder(VariantContext variantContext, VariantContext retainedVariantContext, int altAlleleId, GenomicVariant variant) {
         SampleGenotypes sampleGenotypes = VariantContextSampleGenotypeConverter.createAlleleSampleGenotypes(variantContext, altAlleleId);
 
         return VariantEvaluation.builder()
                 .variant(variant)
                 .genomeAssembly(genomeAssembly)
-                .variantContext(variantContext)
+                .variantContext(retainedVariantContext)
                 .altAlleleId(altAlleleId)
                 .id((".".equals(variantContext.getID())) ? "" : variantContext.getID())
                 .sampleGenotypes(sampleGenotypes)
@@ -24,6 +24,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
@@ -37,9 +38,22 @@ public class VcfFileReader implements VcfReader {
     private static final Logger logger = LoggerFactory.getLogger(VcfFileReader.class);
 
     private final Path vcfPath;
+    @Nullable
+    private final String contig;
 
     public VcfFileReader(Path vcfPath) {
         this.vcfPath = Objects.requireNonNull(vcfPath, "Cannot read from null vcfPath");
+        this.contig = null;
+    }
+
+    /**
+     * Creates a reader for only the variants on the given contig of a tabix-indexed VCF file.
+     *
+     * @since 14.0.0
+     */
+    public VcfFileReader(Path vcfPath, String contig) {
+        this.vcfPath = Objects.requireNonNull(vcfPath, "Cannot read from null vcfPath");
+        this.contig = Objects.requireNonNull(contig, "Cannot read from null contig");
     }
 
     @Override
@@ -49,6 +63,6 @@ public List<String> readSampleIdentifiers() {
 
     @Override
     public Stream<VariantContext> readVariantContexts() {
-        return VcfFiles.readVariantContexts(vcfPath);
+        return contig == null ? VcfFiles.readVariantContexts(vcfPath) : VcfFiles.readVariantContexts(vcfPath, contig);
     }
 }
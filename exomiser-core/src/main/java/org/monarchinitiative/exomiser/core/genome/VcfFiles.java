@@ -20,6 +20,8 @@
 
 package org.monarchinitiative.exomiser.core.genome;
 
+import htsjdk.tribble.index.tabix.TabixIndex;
+import htsjdk.tribble.util.TabixUtils;
 import htsjdk.variant.variantcontext.VariantContext;
 import htsjdk.variant.vcf.VCFFileReader;
 import htsjdk.variant.vcf.VCFHeader;
@@ -27,6 +29,8 @@
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
@@ -59,6 +63,49 @@ public static Stream<VariantContext> readVariantContexts(Path vcfPath) {
         }
     }
 
+    /**
+     * Creates a {@code Stream} of {@code VariantContext} for a single contig from the indicated tabix-indexed VCF file.
+     * The underlying reader is closed when the stream is closed.
+     *
+     * @param vcfPath path of the bgzipped VCF file. This requires a tabix index (.tbi) alongside it.
+     * @param contig  name of the contig to read, as found in the VCF
+     * @return a {@code Stream} of the {@code VariantContext} on the contig, in file order
+     * @since 14.0.0
+     */
+    public static Stream<VariantContext> readVariantContexts(Path vcfPath, String contig) {
+        Objects.requireNonNull(vcfPath, "Cannot read from null vcfPath");
+        Objects.requireNonNull(contig, "Cannot read from null contig");
+        logger.debug("Reading variants on contig {} from VCF file {}", contig, vcfPath);
+        VCFFileReader vcfReader = new VCFFileReader(vcfPath, true);
+        // 2^29 is the largest position which can be represented in a tabix index
+        return vcfReader.query(contig, 1, 1 << 29)
+                .stream()
+                .onClose(vcfReader::close);
+    }
+
+    /**
+     * Reads the names of the contigs with variants in the tabix index of the VCF file. This method will return an empty
+     * list if the file is not tabix-indexed. Note that CSI indexes are not supported by htsjdk for VCF files so these
+     * will also return an empty list.
+     *
+     * @param vcfPath path to the bgzipped VCF file
+     * @return the contig names in the order found in the index, which is the order they appear in the VCF file
+     * @since 14.0.0
+     */
+    public static List<String> readIndexedContigs(Path vcfPath) {
+        Objects.requireNonNull(vcfPath, "Cannot read from null vcfPath");
+        Path indexPath = Path.of(vcfPath + TabixUtils.STANDARD_INDEX_EXTENSION);
+        if (!Files.exists(indexPath)) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(new TabixIndex(indexPath).getSequenceNames());
+        } catch (IOException e) {
+            logger.error("Unable to read tabix index {}", indexPath, e);
+        }
+        return List.of();
+    }
+
     /**
      * Reads the header of the provided VCF file and returns a {@code VCFHeader}.
      *
@@ -0,0 +1,52 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+
+import java.util.List;
+
+/**
+ * Provides the {@link FrequencyData} and {@link PathogenicityData} for a batch of variants from a data source which
+ * stores both together, so that each allele is only read once.
+ *
+ * @since 14.0.0
+ */
+public interface AlleleDataDao {
+
+    /**
+     * @param variants the variants to get the data for. These do not need to be in any particular order, although
+     *                 implementations will be most efficient when these are from the same region of a chromosome.
+     * @return a list of {@link AlleleData} in the same order as the input variants.
+     */
+    List<AlleleData> getAlleleData(List<? extends Variant> variants);
+
+    record AlleleData(FrequencyData frequencyData, PathogenicityData pathogenicityData) {
+
+        private static final AlleleData EMPTY = new AlleleData(FrequencyData.empty(), PathogenicityData.empty());
+
+        public static AlleleData empty() {
+            return EMPTY;
+        }
+    }
+}
@@ -24,6 +24,9 @@
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @since 12.0.0
  * @author Jules Jacobsen <j.jacobsen@qmul.ac.uk>
@@ -34,4 +37,19 @@ public interface AllelePropertiesDao {
 
     AlleleProto.AlleleProperties getAlleleProperties(Variant variant);
 
+    /**
+     * Batch version of {@link #getAlleleProperties(Variant)}. Implementations can override this to read the whole batch
+     * in a single pass over the data source.
+     *
+     * @return a list of {@link AlleleProto.AlleleProperties} in the same order as the input variants.
+     * @since 14.0.0
+     */
+    default List<AlleleProto.AlleleProperties> getAlleleProperties(List<? extends Variant> variants) {
+        List<AlleleProto.AlleleProperties> alleleProperties = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            alleleProperties.add(getAlleleProperties(variant));
+        }
+        return alleleProperties;
+    }
+
 }
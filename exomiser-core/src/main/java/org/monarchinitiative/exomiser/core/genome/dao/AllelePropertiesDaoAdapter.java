@@ -26,6 +26,9 @@
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Adapter class for providing {@link FrequencyDao} and {@link PathogenicityDao} views on the {@link AllelePropertiesDao}.
  * This is a bit of a hack due to the 'proxy' Spring caching implementation where method interception of calls occurs
@@ -35,7 +38,7 @@
  * @since 12.0.0
  * @author Jules Jacobsen <j.jacobsen@qmul.ac.uk>
  */
-public class AllelePropertiesDaoAdapter implements FrequencyDao, PathogenicityDao {
+public class AllelePropertiesDaoAdapter implements FrequencyDao, PathogenicityDao, AlleleDataDao {
 
     private final AllelePropertiesDao allelePropertiesDao;
 
@@ -54,4 +57,14 @@ public PathogenicityData getPathogenicityData(Variant variant) {
         AlleleProto.AlleleProperties alleleProperties = allelePropertiesDao.getAlleleProperties(variant);
         return AlleleProtoAdaptor.toPathogenicityData(alleleProperties);
     }
+
+    @Override
+    public List<AlleleData> getAlleleData(List<? extends Variant> variants) {
+        List<AlleleProto.AlleleProperties> allelePropertiesList = allelePropertiesDao.getAlleleProperties(variants);
+        List<AlleleData> alleleData = new ArrayList<>(allelePropertiesList.size());
+        for (AlleleProto.AlleleProperties alleleProperties : allelePropertiesList) {
+            alleleData.add(new AlleleData(AlleleProtoAdaptor.toFrequencyData(alleleProperties), AlleleProtoAdaptor.toPathogenicityData(alleleProperties)));
+        }
+        return alleleData;
+    }
 }
@@ -29,9 +29,14 @@
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * MVStore implementation of the {@link AllelePropertiesDao}
  *
@@ -44,9 +49,21 @@ public class AllelePropertiesDaoMvStore implements AllelePropertiesDao {
     private static final Logger logger = LoggerFactory.getLogger(AllelePropertiesDaoMvStore.class);
 
     private final MVMap<AlleleProto.AlleleKey, AlleleProto.AlleleProperties> map;
+    @Nullable
+    private final Cache variantCache;
 
     public AllelePropertiesDaoMvStore(MVStore mvStore) {
-        map = MvStoreUtil.openAlleleMVMap(mvStore);
+        this(mvStore, null);
+    }
+
+    /**
+     * @param variantCache the cache used by {@link #getAlleleProperties(Variant)}, e.g. {@code hg19.allele}, so that the
+     *                     batch reads can share its entries. May be null if the data is not cached.
+     * @since 14.0.0
+     */
+    public AllelePropertiesDaoMvStore(MVStore mvStore, @Nullable Cache variantCache) {
+        this.map = MvStoreUtil.openAlleleMVMap(mvStore);
+        this.variantCache = variantCache;
     }
 
     @Caching(cacheable = {
@@ -70,4 +87,23 @@ public AlleleProto.AlleleProperties getAlleleProperties(Variant variant) {
         return getAlleleProperties(alleleKey, variant.getGenomeAssembly());
     }
 
+    /**
+     * Reads the {@link AlleleProto.AlleleProperties} for the variants missing from the variant cache in a single
+     * forward pass over the map, adding these to the cache.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public List<AlleleProto.AlleleProperties> getAlleleProperties(List<? extends Variant> variants) {
+        return VariantCacheBatchLoader.getAll(variantCache, variants, this::readAlleleProperties);
+    }
+
+    private List<AlleleProto.AlleleProperties> readAlleleProperties(List<Variant> variants) {
+        List<AlleleProto.AlleleKey> alleleKeys = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            alleleKeys.add(AlleleProtoAdaptor.toAlleleKey(variant));
+        }
+        return MvStoreUtil.getAll(map, alleleKeys, AlleleProto.AlleleProperties.getDefaultInstance());
+    }
+
 }
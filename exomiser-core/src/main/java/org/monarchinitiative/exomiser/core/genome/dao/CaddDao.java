@@ -25,17 +25,22 @@
  */
 package org.monarchinitiative.exomiser.core.genome.dao;
 
-import htsjdk.tribble.readers.TabixReader;
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.CaddScore;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
 import org.monarchinitiative.svart.VariantType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
  
 /**
  *
@@ -47,10 +52,22 @@ public class CaddDao implements PathogenicityDao {
 
     private final TabixDataSource caddInDelTabixDataSource;
     private final TabixDataSource caddSnvTabixDataSource;
+    @Nullable
+    private final Cache variantCache;
 
     public CaddDao(TabixDataSource caddInDelTabixDataSource, TabixDataSource caddSnvTabixDataSource) {
+        this(caddInDelTabixDataSource, caddSnvTabixDataSource, null);
+    }
+
+    /**
+     * @param variantCache the cache used by {@link #getPathogenicityData(Variant)}, e.g. {@code hg19.cadd}, so that the
+     *                     batch reads can share its entries. May be null if the data is not cached.
+     * @since 14.0.0
+     */
+    public CaddDao(TabixDataSource caddInDelTabixDataSource, TabixDataSource caddSnvTabixDataSource, @Nullable Cache variantCache) {
         this.caddInDelTabixDataSource = caddInDelTabixDataSource;
         this.caddSnvTabixDataSource = caddSnvTabixDataSource;
+        this.variantCache = variantCache;
     }
 
     @Caching(cacheable = {
@@ -74,29 +91,84 @@ private PathogenicityData processResults(Variant variant) {
         return getCaddPathogenicityData(caddInDelTabixDataSource, chromosome, start, ref, alt);
     }
 
-    private synchronized PathogenicityData getCaddPathogenicityData(TabixDataSource tabixDataSource, String chromosome, int start, String ref, String alt) {
+    private PathogenicityData getCaddPathogenicityData(TabixDataSource tabixDataSource, String chromosome, int start, String ref, String alt) {
         try {
-            TabixReader.Iterator results = tabixDataSource.query(chromosome, start, start);
-            String line;
-            //there can be 0 - N results in this format:
-            //#Chrom  Pos     Ref     Alt     RawScore        PHRED
-            //2       14962   C       CA      -0.138930       1.458
-            //2       14962   C       CAA     -0.155009       1.356
-            //2       14962   CA      C       0.194173        4.618
-            while ((line = results.next()) != null) {
-                String[] elements = line.split("\t");
-                String caddRef = elements[2];
-                String caddAlt = elements[3];
-                if (caddRef.equals(ref) && caddAlt.equals(alt)) {
-                    return makeCaddPathData(elements[5]);
+            return tabixDataSource.query(chromosome, start, start, results -> {
+                String line;
+                //there can be 0 - N results in this format:
+                //#Chrom  Pos     Ref     Alt     RawScore        PHRED
+                //2       14962   C       CA      -0.138930       1.458
+                //2       14962   C       CAA     -0.155009       1.356
+                //2       14962   CA      C       0.194173        4.618
+                while ((line = results.next()) != null) {
+                    String[] elements = line.split("\t");
+                    String caddRef = elements[2];
+                    String caddAlt = elements[3];
+                    if (caddRef.equals(ref) && caddAlt.equals(alt)) {
+                        return makeCaddPathData(elements[5]);
+                    }
                 }
-            }
+                return PathogenicityData.empty();
+            });
         } catch (IOException e) {
             logger.error("Unable to read from CADD tabix file {}", tabixDataSource.getSource(), e);
         }
         return PathogenicityData.empty();
     }
  
+    /**
+     * Reads the CADD data for the variants missing from the variant cache in a single forward pass over each of the SNV
+     * and InDel files, adding these to the cache.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public List<PathogenicityData> getPathogenicityData(List<? extends Variant> variants) {
+        return VariantCacheBatchLoader.getAll(variantCache, variants, this::readPathogenicityData);
+    }
+
+    private List<PathogenicityData> readPathogenicityData(List<Variant> variants) {
+        List<Variant> snvs = new ArrayList<>();
+        List<Variant> indels = new ArrayList<>();
+        for (Variant variant : variants) {
+            if (variant.variantType() == VariantType.SNV) {
+                snvs.add(variant);
+            } else {
+                indels.add(variant);
+            }
+        }
+        Iterator<PathogenicityData> snvResults = getCaddPathogenicityData(caddSnvTabixDataSource, snvs).iterator();
+        Iterator<PathogenicityData> indelResults = getCaddPathogenicityData(caddInDelTabixDataSource, indels).iterator();
+        List<PathogenicityData> results = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            results.add(variant.variantType() == VariantType.SNV ? snvResults.next() : indelResults.next());
+        }
+        return results;
+    }
+
+    private List<PathogenicityData> getCaddPathogenicityData(TabixDataSource tabixDataSource, List<Variant> variants) {
+        if (variants.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return TabixBatchReader.read(tabixDataSource, variants, Variant::start, this::findCaddPathogenicityData);
+        } catch (IOException e) {
+            logger.error("Unable to read from CADD tabix file {}", tabixDataSource.getSource(), e);
+        }
+        return Collections.nCopies(variants.size(), PathogenicityData.empty());
+    }
+
+    private PathogenicityData findCaddPathogenicityData(Variant variant, List<String[]> lines) {
+        for (String[] elements : lines) {
+            String caddRef = elements[2];
+            String caddAlt = elements[3];
+            if (caddRef.equals(variant.ref()) && caddAlt.equals(variant.alt())) {
+                return makeCaddPathData(elements[5]);
+            }
+        }
+        return PathogenicityData.empty();
+    }
+
     private PathogenicityData makeCaddPathData(String phredScaledCaddScore) {
         float score = Float.parseFloat(phredScaledCaddScore);
         CaddScore caddScore = CaddScore.of(score);
@@ -5,9 +5,11 @@
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarGeneStats;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
 import org.monarchinitiative.svart.GenomicInterval;
 import org.monarchinitiative.svart.GenomicVariant;
 
+import java.util.List;
 import java.util.Map;
 
 
@@ -24,4 +26,27 @@ public interface ClinVarDao {
 
      ClinVarGeneStats getClinVarGeneStats(String geneSymbol);
 
+    /**
+     * @return true if this DAO has a pre-computed index of the ClinVar missense changes by transcript and amino acid
+     * position, in which case {@link #findClinVarProteinChanges(String, int)} can be used in place of annotating the
+     * ClinVar variants returned by {@link #findClinVarDataOverlappingGenomicInterval(GenomicInterval)}.
+     * @since 14.0.0
+     */
+    default boolean hasProteinChangeIndex() {
+        return false;
+    }
+
+    /**
+     * Returns the pathogenic or likely pathogenic (2 stars or above) ClinVar missense changes at the given amino acid
+     * position of a transcript.
+     *
+     * @param transcriptAccession the transcript accession e.g. ENST00000358487.5
+     * @param proteinPosition     the 1-based amino acid position in the translated transcript
+     * @return the ClinVar changes at the given position, or an empty list if there are none or there is no index.
+     * @since 14.0.0
+     */
+    default List<ClinVarProteinChange> findClinVarProteinChanges(String transcriptAccession, int proteinPosition) {
+        return List.of();
+    }
+
 }
@@ -0,0 +1,216 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
+import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarGeneStats;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto;
+import org.monarchinitiative.svart.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+
+/**
+ * {@link ClinVarDao} which reads the ClinVar variants from the {@link MVStore} once, on construction, and holds them
+ * in memory as sorted per-chromosome position arrays with the {@link ClinVarData} decoded up-front. Single variant
+ * lookups and interval queries are a binary search over the positions of a chromosome with no B-tree traversal or
+ * protobuf decoding, at the cost of holding the whole of ClinVar (approx. 2-3 million variants) on the heap. This is
+ * worthwhile for long-running services or large batches, where the ACMG assigners and {@code KnownVariantFilter}
+ * repeatedly query the same regions.
+ * <p>
+ * The gene statistics and protein change index are small and are read from the underlying {@link MVStore} as normal.
+ *
+ * @since 14.0.0
+ */
+public class ClinVarDaoInMemory implements ClinVarDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClinVarDaoInMemory.class);
+
+    private final GenomeAssembly genomeAssembly;
+    // indexed by contigId
+    private final ContigClinVar[] contigClinVars = new ContigClinVar[26];
+    private final ClinVarDaoMvStore clinVarDaoMvStore;
+
+    public ClinVarDaoInMemory(MVStore mvStore, GenomeAssembly genomeAssembly) {
+        this.genomeAssembly = genomeAssembly;
+        this.clinVarDaoMvStore = new ClinVarDaoMvStore(mvStore, genomeAssembly);
+        loadClinVar(mvStore);
+    }
+
+    private void loadClinVar(MVStore mvStore) {
+        long startTime = System.currentTimeMillis();
+        List<List<ClinVarEntry>> entriesByContig = new ArrayList<>(contigClinVars.length);
+        for (int i = 0; i < contigClinVars.length; i++) {
+            entriesByContig.add(new ArrayList<>());
+        }
+        if (MvStoreUtil.hasPackedClinVarMap(mvStore)) {
+            MVMap<Long, AlleleProto.ClinVar> packedClinVarMap = MvStoreUtil.openPackedClinVarMVMap(mvStore);
+            for (Map.Entry<Long, AlleleProto.ClinVar> entry : packedClinVarMap.entrySet()) {
+                long key = entry.getKey();
+                addEntry(entriesByContig, PackedAlleleKey.chr(key), PackedAlleleKey.position(key), PackedAlleleKey.ref(key), PackedAlleleKey.alt(key), entry.getValue());
+            }
+        }
+        // in a packed store this only contains the alleles which cannot be packed
+        MVMap<AlleleProto.AlleleKey, AlleleProto.ClinVar> clinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+        for (Map.Entry<AlleleProto.AlleleKey, AlleleProto.ClinVar> entry : clinVarMap.entrySet()) {
+            AlleleProto.AlleleKey alleleKey = entry.getKey();
+            addEntry(entriesByContig, alleleKey.getChr(), alleleKey.getPosition(), alleleKey.getRef(), alleleKey.getAlt(), entry.getValue());
+        }
+
+        int total = 0;
+        for (int contigId = 0; contigId < contigClinVars.length; contigId++) {
+            List<ClinVarEntry> entries = entriesByContig.get(contigId);
+            if (!entries.isEmpty()) {
+                contigClinVars[contigId] = ContigClinVar.of(entries);
+                total += entries.size();
+            }
+        }
+        logger.info("Loaded {} ClinVar variants into memory in {} ms", total, System.currentTimeMillis() - startTime);
+    }
+
+    private static void addEntry(List<List<ClinVarEntry>> entriesByContig, int contigId, int position, String ref, String alt, AlleleProto.ClinVar clinVar) {
+        if (contigId < 0 || contigId >= entriesByContig.size()) {
+            logger.debug("Skipping ClinVar variant on unrecognised contig {}", contigId);
+            return;
+        }
+        entriesByContig.get(contigId).add(new ClinVarEntry(position, compact(ref), compact(alt), AlleleProtoAdaptor.toClinVarData(clinVar)));
+    }
+
+    // the vast majority of ClinVar alleles are single bases so share a single instance of each of these
+    private static String compact(String allele) {
+        return allele.length() == 1 ? allele.intern() : allele;
+    }
+
+    @Override
+    public ClinVarData getClinVarData(@Nonnull Variant variant) {
+        ContigClinVar contigClinVar = contigClinVar(variant.contigId());
+        if (contigClinVar == null) {
+            return ClinVarData.empty();
+        }
+        int position = variant.start();
+        for (int i = contigClinVar.firstIndexOf(position); i < contigClinVar.size() && contigClinVar.positions[i] == position; i++) {
+            if (contigClinVar.refs[i].equals(variant.ref()) && contigClinVar.alts[i].equals(variant.alt())) {
+                return contigClinVar.values[i];
+            }
+        }
+        return ClinVarData.empty();
+    }
+
+    @Override
+    public Map<GenomicVariant, ClinVarData> findClinVarDataOverlappingGenomicInterval(GenomicInterval genomicInterval) {
+        Contig contig = genomicInterval.contig();
+        if (!genomeAssembly.containsContig(contig)) {
+            return Collections.emptyMap();
+        }
+        ContigClinVar contigClinVar = contigClinVar(genomicInterval.contigId());
+        if (contigClinVar == null) {
+            return Collections.emptyMap();
+        }
+        int start = genomicInterval.start();
+        int end = genomicInterval.end();
+        Map<GenomicVariant, ClinVarData> results = new LinkedHashMap<>();
+        for (int i = contigClinVar.firstIndexOf(start); i < contigClinVar.size() && contigClinVar.positions[i] <= end; i++) {
+            String ref = contigClinVar.refs[i];
+            GenomicVariant genomicVariant = GenomicVariant.builder()
+                    .variant(contig, Strand.POSITIVE, Coordinates.ofAllele(CoordinateSystem.oneBased(), contigClinVar.positions[i], ref), ref, contigClinVar.alts[i])
+                    .build();
+            results.put(genomicVariant, contigClinVar.values[i]);
+        }
+        return results;
+    }
+
+    @Override
+    public ClinVarGeneStats getClinVarGeneStats(String geneSymbol) {
+        return clinVarDaoMvStore.getClinVarGeneStats(geneSymbol);
+    }
+
+    @Override
+    public boolean hasProteinChangeIndex() {
+        return clinVarDaoMvStore.hasProteinChangeIndex();
+    }
+
+    @Override
+    public List<ClinVarProteinChange> findClinVarProteinChanges(String transcriptAccession, int proteinPosition) {
+        return clinVarDaoMvStore.findClinVarProteinChanges(transcriptAccession, proteinPosition);
+    }
+
+    private ContigClinVar contigClinVar(int contigId) {
+        return contigId >= 0 && contigId < contigClinVars.length ? contigClinVars[contigId] : null;
+    }
+
+    private record ClinVarEntry(int position, String ref, String alt, ClinVarData clinVarData) {
+    }
+
+    /**
+     * The ClinVar variants on a single contig, sorted by position. The arrays are parallel i.e. the variant at index i
+     * is {@code positions[i] refs[i] alts[i]} with the data {@code values[i]}.
+     */
+    private record ContigClinVar(int[] positions, String[] refs, String[] alts, ClinVarData[] values) {
+
+        static ContigClinVar of(List<ClinVarEntry> entries) {
+            // a stable sort keeps the MVStore key order for variants at the same position
+            entries.sort(Comparator.comparingInt(ClinVarEntry::position));
+            int size = entries.size();
+            int[] positions = new int[size];
+            String[] refs = new String[size];
+            String[] alts = new String[size];
+            ClinVarData[] values = new ClinVarData[size];
+            for (int i = 0; i < size; i++) {
+                ClinVarEntry entry = entries.get(i);
+                positions[i] = entry.position();
+                refs[i] = entry.ref();
+                alts[i] = entry.alt();
+                values[i] = entry.clinVarData();
+            }
+            return new ContigClinVar(positions, refs, alts, values);
+        }
+
+        int size() {
+            return positions.length;
+        }
+
+        /**
+         * Returns the index of the first variant at or after the given position, or {@link #size()} if there are none.
+         */
+        int firstIndexOf(int position) {
+            int low = 0;
+            int high = positions.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[mid] < position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
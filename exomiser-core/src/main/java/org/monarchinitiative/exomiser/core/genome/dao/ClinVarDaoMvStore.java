@@ -1,21 +1,29 @@
 package org.monarchinitiative.exomiser.core.genome.dao;
 
 import de.charite.compbio.jannovar.annotation.VariantEffect;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.h2.mvstore.Cursor;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.InvalidAlleleProtoException;
 import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
 import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarGeneStats;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 import org.monarchinitiative.svart.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.text.Position;
 import java.util.*;
 
@@ -29,25 +37,48 @@ public class ClinVarDaoMvStore implements ClinVarDao {
     private final GenomeAssembly genomeAssembly;
     private final MVMap<AlleleProto.AlleleKey, AlleleProto.ClinVar> clinVarMap;
     private final MVMap<String, ClinVarGeneStats> clinVarGeneStatsMap;
+    // only present in stores converted to use PackedAlleleKey. In these the clinVarMap only contains the alleles which
+    // cannot be packed.
+    @Nullable
+    private final MVMap<Long, AlleleProto.ClinVar> packedClinVarMap;
+    // only present in stores where the ClinVar protein index has been built
+    @Nullable
+    private final MVMap<String, byte[]> clinVarProteinMap;
+
     public ClinVarDaoMvStore(MVStore mvStore, GenomeAssembly genomeAssembly) {
         clinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
         clinVarGeneStatsMap = MvStoreUtil.openGeneStatsMVMap(mvStore);
+        packedClinVarMap = MvStoreUtil.hasPackedClinVarMap(mvStore) ? MvStoreUtil.openPackedClinVarMVMap(mvStore) : null;
+        clinVarProteinMap = MvStoreUtil.hasClinVarProteinMap(mvStore) ? MvStoreUtil.openClinVarProteinMVMap(mvStore) : null;
         this.genomeAssembly = genomeAssembly;
     }
 
+    @Caching(cacheable = {
+            @Cacheable(cacheNames = "hg19.clinvar", keyGenerator = "variantKeyGenerator", condition = "#variant.genomeAssembly == T(org.monarchinitiative.exomiser.core.genome.GenomeAssembly).HG19"),
+            @Cacheable(cacheNames = "hg38.clinvar", keyGenerator = "variantKeyGenerator", condition = "#variant.genomeAssembly == T(org.monarchinitiative.exomiser.core.genome.GenomeAssembly).HG38"),
+    })
     @Override
     public ClinVarData getClinVarData(@Nonnull Variant variant) {
-        AlleleProto.AlleleKey alleleKey = AlleleProtoAdaptor.toAlleleKey(variant);
-        AlleleProto.ClinVar clinVar = clinVarMap.get(alleleKey);
+        AlleleProto.ClinVar clinVar = getClinVar(variant);
         return clinVar == null ? ClinVarData.empty() : AlleleProtoAdaptor.toClinVarData(clinVar);
     }
 
     public ClinVarData getClinVarDataFromGenomicVariant(@Nonnull GenomicVariant variant) {
-        AlleleProto.AlleleKey alleleKey = AlleleProtoAdaptor.toAlleleKey(variant);
-        AlleleProto.ClinVar clinVar = clinVarMap.get(alleleKey);
+        AlleleProto.ClinVar clinVar = getClinVar(variant);
         return clinVar == null ? ClinVarData.empty() : AlleleProtoAdaptor.toClinVarData(clinVar);
     }
 
+    @Nullable
+    private AlleleProto.ClinVar getClinVar(GenomicVariant variant) {
+        if (packedClinVarMap != null) {
+            long key = PackedAlleleKey.pack(variant.contigId(), variant.start(), variant.ref(), variant.alt());
+            if (key != PackedAlleleKey.NOT_PACKABLE) {
+                return packedClinVarMap.get(key);
+            }
+        }
+        return clinVarMap.get(AlleleProtoAdaptor.toAlleleKey(variant));
+    }
+
     public GenomicVariant alleleKeyToGenomicVariant(AlleleProto.AlleleKey alleleKey, Contig contig) {
         return GenomicVariant.builder()
                 .variant(contig, Strand.POSITIVE, Coordinates.ofAllele(CoordinateSystem.oneBased(), alleleKey.getPosition(), alleleKey.getRef()), alleleKey.getRef(), alleleKey.getAlt()).build();
@@ -71,6 +102,18 @@ public Map<GenomicVariant, ClinVarData> findClinVarDataOverlappingGenomicInterva
         int start = genomicInterval.start();
         int end = genomicInterval.end();
 
+        if (packedClinVarMap != null) {
+            long upperKey = PackedAlleleKey.upperBound(chr, end);
+            Cursor<Long, AlleleProto.ClinVar> cursor = packedClinVarMap.cursor(PackedAlleleKey.lowerBound(chr, start));
+            while (cursor.hasNext() && cursor.next() <= upperKey) {
+                long key = cursor.getKey();
+                GenomicVariant genomicVariant = GenomicVariant.builder()
+                        .variant(contig, Strand.POSITIVE, Coordinates.ofAllele(CoordinateSystem.oneBased(), PackedAlleleKey.position(key), PackedAlleleKey.ref(key)), PackedAlleleKey.ref(key), PackedAlleleKey.alt(key))
+                        .build();
+                results.put(genomicVariant, AlleleProtoAdaptor.toClinVarData(cursor.getValue()));
+            }
+        }
+
         // build Allele keys for map and define bounds
         AlleleProto.AlleleKey lowerBound = AlleleProto.AlleleKey.newBuilder()
                 .setChr(chr)
@@ -106,6 +149,32 @@ public Map<GenomicVariant, ClinVarData> findClinVarDataOverlappingGenomicInterva
 
     }
 
+    @Override
+    public boolean hasProteinChangeIndex() {
+        return clinVarProteinMap != null;
+    }
+
+    @Override
+    public List<ClinVarProteinChange> findClinVarProteinChanges(String transcriptAccession, int proteinPosition) {
+        if (clinVarProteinMap == null) {
+            return List.of();
+        }
+        byte[] bytes = clinVarProteinMap.get(MvStoreUtil.clinVarProteinKey(transcriptAccession, proteinPosition));
+        if (bytes == null) {
+            return List.of();
+        }
+        try {
+            AlleleProto.ClinVarProteinChanges proteinChanges = AlleleProto.ClinVarProteinChanges.parseFrom(bytes);
+            List<ClinVarProteinChange> results = new ArrayList<>(proteinChanges.getChangesCount());
+            for (AlleleProto.ClinVarProteinChanges.ProteinChange change : proteinChanges.getChangesList()) {
+                results.add(new ClinVarProteinChange(change.getHgvsCdna(), change.getHgvsProtein()));
+            }
+            return results;
+        } catch (InvalidProtocolBufferException e) {
+            throw new InvalidAlleleProtoException(e);
+        }
+    }
+
     @Override
     public ClinVarGeneStats getClinVarGeneStats(String geneSymbol) {
         return clinVarGeneStatsMap.get(geneSymbol);
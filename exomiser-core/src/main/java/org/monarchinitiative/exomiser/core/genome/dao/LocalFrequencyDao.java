@@ -20,7 +20,6 @@
 
 package org.monarchinitiative.exomiser.core.genome.dao;
 
-import htsjdk.tribble.readers.TabixReader;
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.frequency.Frequency;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
@@ -64,7 +63,7 @@ private FrequencyData processResults(Variant variant) {
         return getPositionFrequencyData(chromosome, start, ref, alt);
     }
 
-    private synchronized FrequencyData getPositionFrequencyData(String chromosome, int start, String ref, String alt) {
+    private FrequencyData getPositionFrequencyData(String chromosome, int start, String ref, String alt) {
         //Local frequency file defined as tab-delimited lines in 'VCF-lite' format:
         //chr   pos ref alt freq(%)
         //1 12345   A   T   23.0  (an A->T SNP on chr1 at position 12345 with frequency of 23.0%)
@@ -73,16 +72,18 @@ private synchronized FrequencyData getPositionFrequencyData(String chromosome, i
         //1 12345   AT   G   0.02  (an AT->G deletion on chr1 at position 12345 with frequency of 0.02%)
         //1 12345   T   .   0.03  (an T->. monomorphic site (no alt allele) on chr1 at position 12345 with frequency of 0.03%)
         try {
-            TabixReader.Iterator results = tabixDataSource.query(chromosome, start, start);
-            String line;
-            while ((line = results.next()) != null) {
-                String[] elements = line.split("\t");
-                String refField = elements[2];
-                String altField = elements[3];
-                if (refField.equals(ref) && altField.equals(alt)) {
-                    return parseLocalFrequency(elements[4]);
+            return tabixDataSource.query(chromosome, start, start, results -> {
+                String line;
+                while ((line = results.next()) != null) {
+                    String[] elements = line.split("\t");
+                    String refField = elements[2];
+                    String altField = elements[3];
+                    if (refField.equals(ref) && altField.equals(alt)) {
+                        return parseLocalFrequency(elements[4]);
+                    }
                 }
-            }
+                return FrequencyData.empty();
+            });
         } catch (IOException e) {
             logger.error("Unable to read from local frequency tabix file {}", tabixDataSource.getSource(), e);
         }
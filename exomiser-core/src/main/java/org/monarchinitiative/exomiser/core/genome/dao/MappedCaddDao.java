@@ -0,0 +1,100 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.CaddScore;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.svart.VariantType;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link PathogenicityDao} for CADD SNV scores held in a {@link MappedScoreFile}. CADD does not provide scores for every
+ * possible InDel, so these are too sparse to store as a position-indexed array and are delegated to the supplied
+ * InDel DAO, usually a tabix-backed {@link CaddDao}. As the InDel DAO is not itself a Spring bean, the InDel lookups
+ * are cached here. The SNV scores are read directly from the memory-mapped file so are not worth caching. As with the
+ * {@link CaddDao}, an SNV only gets a score if both its ref and alt alleles match, so a variant with the wrong reference
+ * base is not given the score of another allele.
+ *
+ * @since 14.0.0
+ */
+public class MappedCaddDao implements PathogenicityDao {
+
+    private final MappedScoreFile caddSnvScores;
+    private final PathogenicityDao caddInDelDao;
+
+    public MappedCaddDao(MappedScoreFile caddSnvScores, PathogenicityDao caddInDelDao) {
+        if (caddSnvScores.getSlots() != MappedScoreFile.SNV_SLOTS) {
+            throw new IllegalArgumentException("CADD SNV scores require " + MappedScoreFile.SNV_SLOTS + " slots per position, but " + caddSnvScores.getSource() + " has " + caddSnvScores.getSlots());
+        }
+        this.caddSnvScores = caddSnvScores;
+        this.caddInDelDao = caddInDelDao;
+    }
+
+    @Caching(cacheable = {
+            @Cacheable(cacheNames = "hg19.cadd", keyGenerator = "variantKeyGenerator", condition = "#variant.genomeAssembly == T(org.monarchinitiative.exomiser.core.genome.GenomeAssembly).HG19 and #variant.variantType() != T(org.monarchinitiative.svart.VariantType).SNV"),
+            @Cacheable(cacheNames = "hg38.cadd", keyGenerator = "variantKeyGenerator", condition = "#variant.genomeAssembly == T(org.monarchinitiative.exomiser.core.genome.GenomeAssembly).HG38 and #variant.variantType() != T(org.monarchinitiative.svart.VariantType).SNV"),
+    })
+    @Override
+    public PathogenicityData getPathogenicityData(Variant variant) {
+        if (variant.variantType() == VariantType.SNV) {
+            return getSnvPathogenicityData(variant);
+        }
+        return caddInDelDao.getPathogenicityData(variant);
+    }
+
+    @Override
+    public List<PathogenicityData> getPathogenicityData(List<? extends Variant> variants) {
+        List<Variant> indels = new ArrayList<>();
+        for (Variant variant : variants) {
+            if (variant.variantType() != VariantType.SNV) {
+                indels.add(variant);
+            }
+        }
+        Iterator<PathogenicityData> indelResults = indels.isEmpty() ? List.<PathogenicityData>of().iterator() : caddInDelDao.getPathogenicityData(indels).iterator();
+        List<PathogenicityData> results = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            results.add(variant.variantType() == VariantType.SNV ? getSnvPathogenicityData(variant) : indelResults.next());
+        }
+        return results;
+    }
+
+    private PathogenicityData getSnvPathogenicityData(Variant variant) {
+        float score = caddSnvScores.getSnvScore(variant.contigId(), variant.start(), variant.ref(), variant.alt());
+        if (Float.isNaN(score)) {
+            return PathogenicityData.empty();
+        }
+        return PathogenicityData.of(CaddScore.of(score));
+    }
+
+    @Override
+    public String toString() {
+        return "MappedCaddDao{" +
+                "caddSnvScores=" + caddSnvScores +
+                ", caddInDelDao=" + caddInDelDao +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.RemmScore;
+
+/**
+ * {@link PathogenicityDao} for REMM scores held in a {@link MappedScoreFile}. This returns the same scores as the
+ * {@link RemmDao} without reading the tabix file.
+ *
+ * @since 14.0.0
+ */
+public class MappedRemmDao implements PathogenicityDao {
+
+    private final MappedScoreFile remmScores;
+
+    public MappedRemmDao(MappedScoreFile remmScores) {
+        if (remmScores.getSlots() != MappedScoreFile.POSITION_SLOTS) {
+            throw new IllegalArgumentException("REMM scores require " + MappedScoreFile.POSITION_SLOTS + " slot per position, but " + remmScores.getSource() + " has " + remmScores.getSlots());
+        }
+        this.remmScores = remmScores;
+    }
+
+    @Override
+    public PathogenicityData getPathogenicityData(Variant variant) {
+        // REMM has not been trained on missense variants so skip these
+        if (variant.getVariantEffect() == VariantEffect.MISSENSE_VARIANT) {
+            return PathogenicityData.empty();
+        }
+        float score = remmScores.getMaxScore(variant.contigId(), variant.start(), RemmDao.calculateEndPosition(variant));
+        if (Float.isNaN(score)) {
+            return PathogenicityData.empty();
+        }
+        return PathogenicityData.of(RemmScore.of(score));
+    }
+
+    @Override
+    public String toString() {
+        return "MappedRemmDao{" +
+                "remmScores=" + remmScores +
+                '}';
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped store of quantised per-position scores, as written by {@link MappedScoreFileWriter}. Each
+ * chromosome is stored as a contiguous array of unsigned 16-bit values with a fixed number of allele slots per
+ * position, so that a lookup is an offset calculation into a {@link MappedByteBuffer} with no parsing or locking.
+ * <p>
+ * The file layout is:
+ * <pre>
+ * header:  magic (int), version (int), slots per position (int), scale (float), number of contigs (int), index offset (long)
+ * data:    for each contig, (numPositions * slots) unsigned shorts, {@link #MISSING} where there is no score
+ * refs:    SNV files only, for each contig, numPositions reference bases as ASCII bytes, {@link #MISSING_REF} if unknown
+ * index:   for each contig, contigId (int), first position (int), number of positions (int), data offset (long),
+ *          refs offset (long, -1 if there are no reference bases)
+ * </pre>
+ * Scores are stored as {@code round(score * scale)}, so values are only as precise as {@code 1 / scale}.
+ * <p>
+ * For SNV scores each position has three slots, one for each non-reference base. These are ordered A, C, G, T with
+ * the reference base removed, e.g. a reference of C gives the slots A, G, T. As the slot alone does not identify the
+ * reference base, this is also stored for each position and checked by {@link #getSnvScore(int, int, String, String)}.
+ * Position-only scores, such as REMM, use a single slot.
+ *
+ * @since 14.0.0
+ */
+public final class MappedScoreFile {
+
+    static final int MAGIC = 0x45585053; // 'EXPS'
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 28;
+    static final int INDEX_ENTRY_SIZE = 28;
+    static final char MISSING = 0xFFFF;
+    static final byte MISSING_REF = 0;
+
+    public static final int SNV_SLOTS = 3;
+    public static final int POSITION_SLOTS = 1;
+
+    private static final String BASES = "ACGT";
+
+    private final Path source;
+    private final int slots;
+    private final float scale;
+    // indexed by contigId
+    private final ContigScores[] contigScores;
+
+    private MappedScoreFile(Path source, int slots, float scale, ContigScores[] contigScores) {
+        this.source = source;
+        this.slots = slots;
+        this.scale = scale;
+        this.contigScores = contigScores;
+    }
+
+    /**
+     * Maps the scores file into memory. The file channel is closed once the contigs have been mapped - the mapped
+     * buffers remain valid until they are garbage collected.
+     *
+     * @param path path to a file written by the {@link MappedScoreFileWriter}
+     * @return a {@link MappedScoreFile} for the given path
+     * @throws IOException if the file cannot be read or is not in the expected format
+     */
+    public static MappedScoreFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(path + " is not a mapped scores file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported mapped scores file version " + version + " in " + path);
+            }
+            int slots = header.getInt();
+            float scale = header.getFloat();
+            int numContigs = header.getInt();
+            long indexOffset = header.getLong();
+
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, (long) numContigs * INDEX_ENTRY_SIZE);
+            // the array is indexed by contig id, so is sized to the largest contig id in the file rather than assuming
+            // the number of contigs in any particular assembly
+            int maxContigId = -1;
+            for (int i = 0; i < numContigs; i++) {
+                int contigId = index.getInt(i * INDEX_ENTRY_SIZE);
+                if (contigId < 0) {
+                    throw new IOException("Invalid contig id " + contigId + " in " + path);
+                }
+                maxContigId = Math.max(maxContigId, contigId);
+            }
+            ContigScores[] contigScores = new ContigScores[maxContigId + 1];
+            for (int i = 0; i < numContigs; i++) {
+                int contigId = index.getInt();
+                int firstPosition = index.getInt();
+                int numPositions = index.getInt();
+                long dataOffset = index.getLong();
+                long refsOffset = index.getLong();
+                long size = (long) numPositions * slots * Character.BYTES;
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("Contig " + contigId + " in " + path + " is too large to map");
+                }
+                MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, size);
+                MappedByteBuffer refs = refsOffset == -1 ? null : channel.map(FileChannel.MapMode.READ_ONLY, refsOffset, numPositions);
+                contigScores[contigId] = new ContigScores(firstPosition, numPositions, data, refs);
+            }
+            return new MappedScoreFile(path, slots, scale, contigScores);
+        }
+    }
+
+    public Path getSource() {
+        return source;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the index of the slot in which the score for an SNV with the given ref and alt alleles is stored, or -1
+     * if either allele is not a single A, C, G or T base or they are the same.
+     */
+    public static int snvSlot(String ref, String alt) {
+        if (ref.length() != 1 || alt.length() != 1) {
+            return -1;
+        }
+        int refIndex = BASES.indexOf(ref.charAt(0));
+        int altIndex = BASES.indexOf(alt.charAt(0));
+        if (refIndex == -1 || altIndex == -1 || refIndex == altIndex) {
+            return -1;
+        }
+        return altIndex > refIndex ? altIndex - 1 : altIndex;
+    }
+
+    /**
+     * Returns the score stored at the given position and slot, or {@code Float.NaN} if there is no score.
+     */
+    public float getScore(int contigId, int position, int slot) {
+        ContigScores scores = contigScores(contigId);
+        if (scores == null || slot < 0 || slot >= slots || !scores.contains(position)) {
+            return Float.NaN;
+        }
+        return toScore(scores.get((position - scores.firstPosition) * slots + slot));
+    }
+
+    /**
+     * Returns the score for an SNV with the given ref and alt alleles, or {@code Float.NaN} if there is no score or the
+     * ref allele does not match the reference base stored for that position.
+     */
+    public float getSnvScore(int contigId, int position, String ref, String alt) {
+        int slot = snvSlot(ref, alt);
+        ContigScores scores = contigScores(contigId);
+        if (scores == null || slot == -1 || slot >= slots || !scores.contains(position)) {
+            return Float.NaN;
+        }
+        int offset = position - scores.firstPosition;
+        if (scores.getRef(offset) != ref.charAt(0)) {
+            return Float.NaN;
+        }
+        return toScore(scores.get(offset * slots + slot));
+    }
+
+    /**
+     * Returns the maximum score stored in any slot between the start and end positions inclusive, or
+     * {@code Float.NaN} if there are no scores in the region.
+     */
+    public float getMaxScore(int contigId, int start, int end) {
+        ContigScores scores = contigScores(contigId);
+        if (scores == null) {
+            return Float.NaN;
+        }
+        int from = Math.max(start, scores.firstPosition);
+        int to = Math.min(end, scores.firstPosition + scores.numPositions - 1);
+        int max = -1;
+        for (int i = (from - scores.firstPosition) * slots; i < (to - scores.firstPosition + 1) * slots; i++) {
+            char value = scores.get(i);
+            if (value != MISSING) {
+                max = Math.max(max, value);
+            }
+        }
+        return max == -1 ? Float.NaN : max / scale;
+    }
+
+    private ContigScores contigScores(int contigId) {
+        return contigId >= 0 && contigId < contigScores.length ? contigScores[contigId] : null;
+    }
+
+    private float toScore(char value) {
+        return value == MISSING ? Float.NaN : value / scale;
+    }
+
+    private record ContigScores(int firstPosition, int numPositions, MappedByteBuffer data, MappedByteBuffer refs) {
+
+        boolean contains(int position) {
+            return position >= firstPosition && position < firstPosition + numPositions;
+        }
+
+        // absolute gets do not modify the buffer position, so are safe to share between threads
+        char get(int index) {
+            return data.getChar(index * Character.BYTES);
+        }
+
+        char getRef(int offset) {
+            return refs == null ? (char) MISSING_REF : (char) refs.get(offset);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedScoreFile{" +
+                "source=" + source +
+                ", slots=" + slots +
+                ", scale=" + scale +
+                '}';
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.monarchinitiative.exomiser.core.genome.dao.MappedScoreFile.*;
+
+/**
+ * Writes a {@link MappedScoreFile} from a stream of scores. Scores must be written one contig at a time in ascending
+ * position order, as found in a tabix-indexed file. Any positions not written between the first and last positions of
+ * a contig are filled with missing values.
+ * <p>
+ * Files with {@link MappedScoreFile#SNV_SLOTS} also store the reference base of each position, which must be supplied
+ * using {@link #write(int, int, char, int, float)}. These are buffered in a temporary file alongside the output and
+ * appended to it on {@link #close()}.
+ *
+ * @since 14.0.0
+ */
+public class MappedScoreFileWriter implements Closeable {
+
+    private final Path path;
+    private final int slots;
+    private final float scale;
+    private final DataOutputStream dataOutputStream;
+    private final Path refsPath;
+    private final DataOutputStream refsOutputStream;
+    private final List<IndexEntry> index = new ArrayList<>();
+
+    private long offset = HEADER_SIZE;
+    private long refsOffset = 0;
+
+    private int contigId = -1;
+    private int firstPosition;
+    private int position;
+    private final char[] currentPosition;
+    private byte currentRef = MISSING_REF;
+
+    /**
+     * @param path  the output file
+     * @param slots the number of scores stored per position, e.g. {@link MappedScoreFile#SNV_SLOTS}
+     * @param scale the multiplier used to quantise the scores. Scores will be stored to a precision of 1 / scale and
+     *              must be in the range 0 - (65534 / scale).
+     */
+    public MappedScoreFileWriter(Path path, int slots, float scale) throws IOException {
+        this.path = path;
+        this.slots = slots;
+        this.scale = scale;
+        this.currentPosition = new char[slots];
+        this.dataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path.toFile()), 1 << 16));
+        // placeholder - the header is written on close once the index offset is known
+        dataOutputStream.write(new byte[HEADER_SIZE]);
+        if (slots == SNV_SLOTS) {
+            this.refsPath = path.resolveSibling(path.getFileName() + ".refs.tmp");
+            this.refsOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(refsPath.toFile()), 1 << 16));
+        } else {
+            this.refsPath = null;
+            this.refsOutputStream = null;
+        }
+    }
+
+    /**
+     * Writes an SNV score along with the reference base of the position.
+     *
+     * @param ref the reference base, one of A, C, G or T. This must be the same for all the scores at a position.
+     */
+    public void write(int contigId, int position, char ref, int slot, float score) throws IOException {
+        if (refsOutputStream == null) {
+            throw new IllegalStateException("Reference bases can only be written to files with " + SNV_SLOTS + " slots");
+        }
+        if ("ACGT".indexOf(ref) == -1) {
+            throw new IllegalArgumentException("Reference base must be one of A, C, G or T but was " + ref);
+        }
+        writeScore(contigId, position, slot, score);
+        if (currentRef != MISSING_REF && currentRef != ref) {
+            throw new IllegalArgumentException("Reference base " + ref + " at " + contigId + ":" + position + " does not match " + (char) currentRef);
+        }
+        currentRef = (byte) ref;
+    }
+
+    public void write(int contigId, int position, int slot, float score) throws IOException {
+        if (refsOutputStream != null) {
+            throw new IllegalStateException("Files with " + SNV_SLOTS + " slots require the reference base of each position");
+        }
+        writeScore(contigId, position, slot, score);
+    }
+
+    private void writeScore(int contigId, int position, int slot, float score) throws IOException {
+        if (slot < 0 || slot >= slots) {
+            throw new IllegalArgumentException("Slot " + slot + " out of range 0-" + (slots - 1));
+        }
+        if (contigId != this.contigId) {
+            startContig(contigId, position);
+        } else if (position < this.position) {
+            throw new IllegalArgumentException("Positions must be written in ascending order. Got " + contigId + ":" + position + " after " + contigId + ":" + this.position);
+        } else if (position > this.position) {
+            writeCurrentPosition();
+            writeMissing(position - this.position - 1);
+            this.position = position;
+        }
+        currentPosition[slot] = quantise(score);
+    }
+
+    private void startContig(int contigId, int position) throws IOException {
+        if (this.contigId != -1) {
+            finishContig();
+        }
+        for (IndexEntry entry : index) {
+            if (entry.contigId() == contigId) {
+                throw new IllegalArgumentException("Contig " + contigId + " has already been written - scores must be grouped by contig");
+            }
+        }
+        this.contigId = contigId;
+        this.firstPosition = position;
+        this.position = position;
+        Arrays.fill(currentPosition, MISSING);
+    }
+
+    private void finishContig() throws IOException {
+        writeCurrentPosition();
+        int numPositions = position - firstPosition + 1;
+        long contigStart = offset - (long) numPositions * slots * Character.BYTES;
+        long contigRefsStart = refsOutputStream == null ? -1 : refsOffset - numPositions;
+        index.add(new IndexEntry(contigId, firstPosition, numPositions, contigStart, contigRefsStart));
+    }
+
+    private void writeCurrentPosition() throws IOException {
+        for (char value : currentPosition) {
+            dataOutputStream.writeChar(value);
+        }
+        offset += (long) slots * Character.BYTES;
+        Arrays.fill(currentPosition, MISSING);
+        if (refsOutputStream != null) {
+            refsOutputStream.writeByte(currentRef);
+            refsOffset++;
+            currentRef = MISSING_REF;
+        }
+    }
+
+    private void writeMissing(int numPositions) throws IOException {
+        for (long i = 0; i < (long) numPositions * slots; i++) {
+            dataOutputStream.writeChar(MISSING);
+        }
+        offset += (long) numPositions * slots * Character.BYTES;
+        if (refsOutputStream != null) {
+            for (int i = 0; i < numPositions; i++) {
+                refsOutputStream.writeByte(MISSING_REF);
+            }
+            refsOffset += numPositions;
+        }
+    }
+
+    private char quantise(float score) {
+        long value = Math.round((double) score * scale);
+        if (Float.isNaN(score) || value < 0 || value >= MISSING) {
+            throw new IllegalArgumentException("Score " + score + " cannot be stored with a scale of " + scale);
+        }
+        return (char) value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (contigId != -1) {
+            finishContig();
+            contigId = -1;
+        }
+        long refsStart = offset;
+        if (refsOutputStream != null) {
+            refsOutputStream.close();
+            Files.copy(refsPath, dataOutputStream);
+            Files.delete(refsPath);
+        }
+        long indexOffset = refsStart + refsOffset;
+        for (IndexEntry entry : index) {
+            dataOutputStream.writeInt(entry.contigId());
+            dataOutputStream.writeInt(entry.firstPosition());
+            dataOutputStream.writeInt(entry.numPositions());
+            dataOutputStream.writeLong(entry.dataOffset());
+            dataOutputStream.writeLong(entry.refsOffset() == -1 ? -1 : refsStart + entry.refsOffset());
+        }
+        dataOutputStream.close();
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.writeInt(MAGIC);
+            file.writeInt(VERSION);
+            file.writeInt(slots);
+            file.writeFloat(scale);
+            file.writeInt(index.size());
+            file.writeLong(indexOffset);
+        }
+    }
+
+    // refsOffset is relative to the start of the refs section, which is only known on close
+    private record IndexEntry(int contigId, int firstPosition, int numPositions, long dataOffset, long refsOffset) {
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
+import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
+import org.monarchinitiative.exomiser.core.model.AllelePropertiesReader;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link FrequencyDao} and {@link PathogenicityDao} for an allele {@link MVStore} which has been converted to use
+ * {@link PackedAlleleKey} keys. Alleles which can be packed are looked-up using a primitive key and only the requested
+ * frequency or pathogenicity fields are decoded from the stored bytes. All other alleles are looked-up in the original
+ * protobuf keyed overflow map.
+ *
+ * @since 14.0.0
+ */
+public class PackedAllelePropertiesDaoMvStore implements FrequencyDao, PathogenicityDao, AlleleDataDao {
+
+    private final MVMap<Long, byte[]> packedMap;
+    private final MVMap<AlleleProto.AlleleKey, AlleleProto.AlleleProperties> overflowMap;
+
+    public PackedAllelePropertiesDaoMvStore(MVStore mvStore) {
+        this.packedMap = MvStoreUtil.openPackedAlleleMVMap(mvStore);
+        this.overflowMap = MvStoreUtil.openAlleleMVMap(mvStore);
+    }
+
+    @Override
+    public FrequencyData getFrequencyData(Variant variant) {
+        long key = PackedAlleleKey.pack(variant.contigId(), variant.start(), variant.ref(), variant.alt());
+        if (key == PackedAlleleKey.NOT_PACKABLE) {
+            return AlleleProtoAdaptor.toFrequencyData(getOverflowAlleleProperties(variant));
+        }
+        byte[] alleleProperties = packedMap.get(key);
+        return alleleProperties == null ? FrequencyData.empty() : AllelePropertiesReader.readFrequencyData(alleleProperties);
+    }
+
+    @Override
+    public PathogenicityData getPathogenicityData(Variant variant) {
+        long key = PackedAlleleKey.pack(variant.contigId(), variant.start(), variant.ref(), variant.alt());
+        if (key == PackedAlleleKey.NOT_PACKABLE) {
+            return AlleleProtoAdaptor.toPathogenicityData(getOverflowAlleleProperties(variant));
+        }
+        byte[] alleleProperties = packedMap.get(key);
+        return alleleProperties == null ? PathogenicityData.empty() : AllelePropertiesReader.readPathogenicityData(alleleProperties);
+    }
+
+    @Override
+    public List<AlleleData> getAlleleData(List<? extends Variant> variants) {
+        List<AlleleData> alleleData = new ArrayList<>(Collections.nCopies(variants.size(), AlleleData.empty()));
+        List<Long> packedKeys = new ArrayList<>(variants.size());
+        List<Integer> packedIndices = new ArrayList<>(variants.size());
+        for (int i = 0; i < variants.size(); i++) {
+            Variant variant = variants.get(i);
+            long key = PackedAlleleKey.pack(variant.contigId(), variant.start(), variant.ref(), variant.alt());
+            if (key == PackedAlleleKey.NOT_PACKABLE) {
+                AlleleProto.AlleleProperties alleleProperties = getOverflowAlleleProperties(variant);
+                alleleData.set(i, new AlleleData(AlleleProtoAdaptor.toFrequencyData(alleleProperties), AlleleProtoAdaptor.toPathogenicityData(alleleProperties)));
+            } else {
+                packedKeys.add(key);
+                packedIndices.add(i);
+            }
+        }
+        List<byte[]> packedValues = MvStoreUtil.getAll(packedMap, packedKeys, null);
+        for (int i = 0; i < packedValues.size(); i++) {
+            byte[] alleleProperties = packedValues.get(i);
+            if (alleleProperties != null) {
+                alleleData.set(packedIndices.get(i), new AlleleData(AllelePropertiesReader.readFrequencyData(alleleProperties), AllelePropertiesReader.readPathogenicityData(alleleProperties)));
+            }
+        }
+        return alleleData;
+    }
+
+    private AlleleProto.AlleleProperties getOverflowAlleleProperties(Variant variant) {
+        return overflowMap.getOrDefault(AlleleProtoAdaptor.toAlleleKey(variant), AlleleProto.AlleleProperties.getDefaultInstance());
+    }
+}
@@ -28,6 +28,9 @@
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Jules Jacobsen <jules.jacobsen@sanger.ac.uk>
  */
@@ -35,4 +38,21 @@ public interface PathogenicityDao {
 
     PathogenicityData getPathogenicityData(Variant variant);
 
+    /**
+     * Batch version of {@link #getPathogenicityData(Variant)}. Implementations backed by position-sorted files can
+     * override this to read the data for the whole batch in a single forward pass, rather than issuing a separate
+     * query for each variant.
+     *
+     * @param variants the variants to get the data for. These do not need to be in any particular order.
+     * @return a list of {@link PathogenicityData} in the same order as the input variants.
+     * @since 14.0.0
+     */
+    default List<PathogenicityData> getPathogenicityData(List<? extends Variant> variants) {
+        List<PathogenicityData> pathogenicityData = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            pathogenicityData.add(getPathogenicityData(variant));
+        }
+        return pathogenicityData;
+    }
+
 }
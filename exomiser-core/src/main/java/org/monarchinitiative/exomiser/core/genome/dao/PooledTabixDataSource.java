@@ -0,0 +1,217 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import htsjdk.tribble.readers.TabixReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link TabixDataSource} which lends out {@link TabixReader} from a bounded pool. A {@link TabixReader} holds a single
+ * file pointer which is advanced by the {@link TabixReader.Iterator} returned from a query, so a shared instance can only
+ * be used by one thread at a time. Lending each query its own reader removes the need for any locking in the DAOs,
+ * allowing concurrent analyses and parallel variant streams to query the same file at the same time, while the number
+ * of open file handles and loaded indexes is limited to the size of the pool regardless of how many threads use it.
+ * <p>
+ * Readers are opened lazily, up to the maximum. Once all of these are in use a query will wait for one to be returned.
+ * {@link #query(String, int, int, ResultsFunction)} holds the reader while the results are consumed and should be
+ * preferred. The other query methods read all the results into memory before returning the reader to the pool, so are
+ * only suitable for small regions.
+ *
+ * @since 14.0.0
+ */
+public class PooledTabixDataSource implements TabixDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledTabixDataSource.class);
+
+    private final String source;
+    private final Supplier<TabixReader> tabixReaderSupplier;
+    private final int maxReaders;
+
+    private final BlockingQueue<TabixReaderAdaptor> idleReaders;
+    private final Queue<TabixReaderAdaptor> openReaders = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger numOpenReaders = new AtomicInteger();
+
+    /**
+     * Creates a new {@link PooledTabixDataSource} for the tabix-indexed file. A reader is opened eagerly so that any
+     * problems with the file are reported here rather than on the first query.
+     *
+     * @param tabixFile  path to a bgzipped, tabix-indexed file with the index in the same directory.
+     * @param maxReaders the maximum number of readers to open, i.e. the number of threads able to query the file at
+     *                   the same time.
+     * @throws IOException if the file or its index cannot be read.
+     */
+    public PooledTabixDataSource(Path tabixFile, int maxReaders) throws IOException {
+        this(tabixFile.toAbsolutePath().toString(), openTabixReader(tabixFile.toAbsolutePath().toString()), maxReaders);
+        try {
+            returnReader(borrowReader());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    PooledTabixDataSource(String source, Supplier<TabixReader> tabixReaderSupplier, int maxReaders) {
+        if (maxReaders < 1) {
+            throw new IllegalArgumentException("maxReaders must be > 0");
+        }
+        this.source = Objects.requireNonNull(source);
+        this.tabixReaderSupplier = Objects.requireNonNull(tabixReaderSupplier);
+        this.maxReaders = maxReaders;
+        this.idleReaders = new ArrayBlockingQueue<>(maxReaders);
+    }
+
+    private static Supplier<TabixReader> openTabixReader(String tabixFile) {
+        return () -> {
+            try {
+                return new TabixReader(tabixFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private TabixReaderAdaptor borrowReader() throws InterruptedIOException {
+        TabixReaderAdaptor tabixReaderAdaptor = idleReaders.poll();
+        if (tabixReaderAdaptor != null) {
+            return tabixReaderAdaptor;
+        }
+        if (reserveNewReader()) {
+            try {
+                return newTabixReaderAdaptor();
+            } catch (RuntimeException e) {
+                numOpenReaders.decrementAndGet();
+                throw e;
+            }
+        }
+        try {
+            return idleReaders.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a TabixReader for " + source);
+        }
+    }
+
+    private boolean reserveNewReader() {
+        int current;
+        do {
+            current = numOpenReaders.get();
+            if (current >= maxReaders) {
+                return false;
+            }
+        } while (!numOpenReaders.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private TabixReaderAdaptor newTabixReaderAdaptor() {
+        logger.debug("Opening new TabixReader for {} on thread {}", source, Thread.currentThread().getName());
+        TabixReaderAdaptor tabixReaderAdaptor = new TabixReaderAdaptor(tabixReaderSupplier.get());
+        openReaders.add(tabixReaderAdaptor);
+        return tabixReaderAdaptor;
+    }
+
+    private void returnReader(TabixReaderAdaptor tabixReaderAdaptor) {
+        idleReaders.offer(tabixReaderAdaptor);
+    }
+
+    @Override
+    public <T> T query(String chromosome, int start, int end, ResultsFunction<T> resultsFunction) throws IOException {
+        TabixReaderAdaptor tabixReaderAdaptor = borrowReader();
+        try {
+            return resultsFunction.apply(tabixReaderAdaptor.query(chromosome, start, end));
+        } finally {
+            returnReader(tabixReaderAdaptor);
+        }
+    }
+
+    /**
+     * @deprecated Unless you're 100% certain, use the method query(String chromosome, int start, int end) which will
+     * automatically translate the chromosome name to the internal tabix identifier. USING THIS METHOD MAY RESULT IN NO
+     * DATA BEING RETURNED DUE TO CHROMOSOME NAMING DIFFERENCES.
+     */
+    @Override
+    public TabixReader.Iterator query(String query) {
+        try {
+            TabixReaderAdaptor tabixReaderAdaptor = borrowReader();
+            try {
+                return readAll(tabixReaderAdaptor.query(query));
+            } finally {
+                returnReader(tabixReaderAdaptor);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public TabixReader.Iterator query(String chromosome, int start, int end) {
+        try {
+            return query(chromosome, start, end, PooledTabixDataSource::readAll);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TabixReader.Iterator readAll(TabixReader.Iterator results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = results.next()) != null) {
+            lines.add(line);
+        }
+        Iterator<String> iterator = lines.iterator();
+        return () -> iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Closes all the {@link TabixReader} opened by this instance.
+     */
+    @Override
+    public void close() {
+        TabixReaderAdaptor tabixReaderAdaptor;
+        while ((tabixReaderAdaptor = openReaders.poll()) != null) {
+            tabixReaderAdaptor.close();
+        }
+        idleReaders.clear();
+        numOpenReaders.set(0);
+    }
+
+    @Override
+    public String getSource() {
+        return source;
+    }
+
+    int numOpenReaders() {
+        return numOpenReaders.get();
+    }
+}
@@ -26,16 +26,21 @@
 package org.monarchinitiative.exomiser.core.genome.dao;
 
 import de.charite.compbio.jannovar.annotation.VariantEffect;
-import htsjdk.tribble.readers.TabixReader;
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.RemmScore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  *
@@ -46,9 +51,21 @@ public class RemmDao implements PathogenicityDao {
     private final Logger logger = LoggerFactory.getLogger(RemmDao.class);
 
     private final TabixDataSource remmTabixDataSource;
+    @Nullable
+    private final Cache variantCache;
 
     public RemmDao(TabixDataSource remmTabixDataSource) {
+        this(remmTabixDataSource, null);
+    }
+
+    /**
+     * @param variantCache the cache used by {@link #getPathogenicityData(Variant)}, e.g. {@code hg19.remm}, so that the
+     *                     batch reads can share its entries. May be null if the data is not cached.
+     * @since 14.0.0
+     */
+    public RemmDao(TabixDataSource remmTabixDataSource, @Nullable Cache variantCache) {
         this.remmTabixDataSource = remmTabixDataSource;
+        this.variantCache = variantCache;
     }
 
     @Caching(cacheable = {
@@ -72,7 +89,61 @@ private PathogenicityData processResults(Variant variant) {
         return getRemmData(chromosome, start, end);
     }
 
-    private int calculateEndPosition(Variant variant) {
+    /**
+     * Reads the REMM data for the variants missing from the variant cache in a single forward pass over the REMM file,
+     * adding these to the cache.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public List<PathogenicityData> getPathogenicityData(List<? extends Variant> variants) {
+        return VariantCacheBatchLoader.getAll(variantCache, variants, this::readPathogenicityData);
+    }
+
+    private List<PathogenicityData> readPathogenicityData(List<Variant> variants) {
+        // REMM has not been trained on missense variants so skip these
+        List<Variant> nonMissenseVariants = new ArrayList<>();
+        for (Variant variant : variants) {
+            if (variant.getVariantEffect() != VariantEffect.MISSENSE_VARIANT) {
+                nonMissenseVariants.add(variant);
+            }
+        }
+        Iterator<PathogenicityData> remmResults = getRemmData(nonMissenseVariants).iterator();
+        List<PathogenicityData> results = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            results.add(variant.getVariantEffect() == VariantEffect.MISSENSE_VARIANT ? PathogenicityData.empty() : remmResults.next());
+        }
+        return results;
+    }
+
+    private List<PathogenicityData> getRemmData(List<Variant> variants) {
+        if (variants.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return TabixBatchReader.read(remmTabixDataSource, variants, RemmDao::calculateEndPosition, this::findMaxRemmScore);
+        } catch (IOException e) {
+            logger.error("Unable to read from REMM tabix file {}", remmTabixDataSource.getSource(), e);
+        }
+        return Collections.nCopies(variants.size(), PathogenicityData.empty());
+    }
+
+    private PathogenicityData findMaxRemmScore(Variant variant, List<String[]> lines) {
+        float score = Float.NaN;
+        for (String[] elements : lines) {
+            if (Float.isNaN(score)) {
+                score = Float.parseFloat(elements[2]);
+            } else {
+                score = Math.max(score, Float.parseFloat(elements[2]));
+            }
+        }
+        if (!Float.isNaN(score)) {
+            return PathogenicityData.of(RemmScore.of(score));
+        }
+        return PathogenicityData.empty();
+    }
+
+    static int calculateEndPosition(Variant variant) {
         int pos = variant.start();
 
         //we're doing this here in order not to have to count all this each time we need the value
@@ -102,22 +173,21 @@ private static boolean isInsertion(int refLength, int altLength) {
         return refLength < altLength;
     }
 
-    private synchronized PathogenicityData getRemmData(String chromosome, int start, int end) {
+    private PathogenicityData getRemmData(String chromosome, int start, int end) {
         try {
-            float score = Float.NaN;
-            String line;
-            TabixReader.Iterator results = remmTabixDataSource.query(chromosome, start, end);
-            while ((line = results.next()) != null) {
-                String[] elements = line.split("\t");
-                if (Float.isNaN(score)) {
-                    score = Float.parseFloat(elements[2]);
-                } else {
-                    score = Math.max(score, Float.parseFloat(elements[2]));
+            return remmTabixDataSource.query(chromosome, start, end, results -> {
+                float score = Float.NaN;
+                String line;
+                while ((line = results.next()) != null) {
+                    String[] elements = line.split("\t");
+                    if (Float.isNaN(score)) {
+                        score = Float.parseFloat(elements[2]);
+                    } else {
+                        score = Math.max(score, Float.parseFloat(elements[2]));
+                    }
                 }
-            }
-            if (!Float.isNaN(score)) {
-                return PathogenicityData.of(RemmScore.of(score));
-            }
+                return Float.isNaN(score) ? PathogenicityData.empty() : PathogenicityData.of(RemmScore.of(score));
+            });
         } catch (IOException e) {
             logger.error("Unable to read from REMM tabix file {}", remmTabixDataSource.getSource(), e);
         }
@@ -0,0 +1,149 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import htsjdk.tribble.readers.TabixReader;
+import org.monarchinitiative.exomiser.core.model.Variant;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reads the lines for a batch of variants from a position-sorted tabix file in a single forward pass. The variants are
+ * sorted by contig and start position and then grouped into regions of nearby variants. Each region is read with a
+ * single tabix query, keeping the iterator and therefore the current BGZF block open between the variants in that
+ * region rather than seeking and decompressing the same block again for each variant.
+ * <p>
+ * This class assumes the files to be in the CADD/REMM format where the first two columns are the chromosome and the
+ * 1-based position.
+ *
+ * @since 14.0.0
+ */
+final class TabixBatchReader {
+
+    /**
+     * Maximum distance between the end of one variant and the start of the next for them to be read in the same
+     * region. This is roughly the number of positions covered by a single 64KB BGZF block of a CADD SNV file, past which
+     * it is cheaper to seek than to read through the intervening lines.
+     */
+    static final int MAX_REGION_GAP = 1_000;
+
+    private TabixBatchReader() {
+        //uninstantiable - static helper class.
+    }
+
+    /**
+     * @param tabixDataSource the data source to query
+     * @param variants        the variants to query for in any order
+     * @param endFunction     returns the 1-based end position of the region to be queried for a variant
+     * @param resultFunction  converts the lines overlapping the query region for a variant into the required result
+     * @return the results of the resultFunction for each variant in the same order as the input variants
+     * @throws IOException if the tabix file cannot be read
+     */
+    static <T> List<T> read(TabixDataSource tabixDataSource, List<? extends Variant> variants, ToIntFunction<Variant> endFunction, BiFunction<Variant, List<String[]>, T> resultFunction) throws IOException {
+        int numVariants = variants.size();
+        Integer[] positionOrder = new Integer[numVariants];
+        for (int i = 0; i < numVariants; i++) {
+            positionOrder[i] = i;
+        }
+        Arrays.sort(positionOrder, Comparator.<Integer>comparingInt(i -> variants.get(i).contigId())
+                .thenComparingInt(i -> variants.get(i).start()));
+
+        List<T> results = new ArrayList<>(Collections.nCopies(numVariants, null));
+        int regionStartIndex = 0;
+        while (regionStartIndex < numVariants) {
+            Variant first = variants.get(positionOrder[regionStartIndex]);
+            int regionEnd = endFunction.applyAsInt(first);
+            int regionEndIndex = regionStartIndex + 1;
+            while (regionEndIndex < numVariants) {
+                Variant next = variants.get(positionOrder[regionEndIndex]);
+                if (next.contigId() != first.contigId() || next.start() > regionEnd + MAX_REGION_GAP) {
+                    break;
+                }
+                regionEnd = Math.max(regionEnd, endFunction.applyAsInt(next));
+                regionEndIndex++;
+            }
+            int startIndex = regionStartIndex;
+            int endIndex = regionEndIndex;
+            tabixDataSource.query(first.contigName(), first.start(), regionEnd, regionResults -> {
+                RegionCursor regionCursor = new RegionCursor(regionResults);
+                for (int i = startIndex; i < endIndex; i++) {
+                    int index = positionOrder[i];
+                    Variant variant = variants.get(index);
+                    List<String[]> lines = regionCursor.linesOverlapping(variant.start(), endFunction.applyAsInt(variant));
+                    results.set(index, resultFunction.apply(variant, lines));
+                }
+                return null;
+            });
+            regionStartIndex = regionEndIndex;
+        }
+        return results;
+    }
+
+    /**
+     * Forward-only cursor over the lines of a tabix region. Only retains the lines which could still overlap a query
+     * with a start greater than or equal to the last one.
+     */
+    private static class RegionCursor {
+
+        private final TabixReader.Iterator iterator;
+        private final Deque<String[]> buffer = new ArrayDeque<>();
+        private boolean exhausted = false;
+
+        private RegionCursor(TabixReader.Iterator iterator) {
+            this.iterator = iterator;
+        }
+
+        /**
+         * Returns the lines with a position between the start and end (inclusive). Successive calls must be made with
+         * a non-decreasing start position.
+         */
+        private List<String[]> linesOverlapping(int start, int end) throws IOException {
+            while (!buffer.isEmpty() && position(buffer.peekFirst()) < start) {
+                buffer.removeFirst();
+            }
+            while (!exhausted && (buffer.isEmpty() || position(buffer.peekLast()) <= end)) {
+                String line = iterator.next();
+                if (line == null) {
+                    exhausted = true;
+                } else {
+                    String[] elements = line.split("\t");
+                    if (position(elements) >= start) {
+                        buffer.addLast(elements);
+                    }
+                }
+            }
+            List<String[]> lines = new ArrayList<>();
+            for (String[] elements : buffer) {
+                if (position(elements) > end) {
+                    break;
+                }
+                lines.add(elements);
+            }
+            return lines;
+        }
+
+        private static int position(String[] elements) {
+            return Integer.parseInt(elements[1]);
+        }
+    }
+}
@@ -23,6 +23,7 @@
 import htsjdk.tribble.readers.TabixReader;
 
 import java.io.Closeable;
+import java.io.IOException;
 
 /**
  * Abstraction for querying Tabix files. The HTSJK TabixReader is not easy to test and provides no interface or
@@ -37,6 +38,25 @@ public interface TabixDataSource extends Closeable {
 
     TabixReader.Iterator query(String chromosome, int start, int end);
 
+    /**
+     * Runs the query and applies the resultsFunction to the results. Implementations which share their readers between
+     * threads hold a reader for the duration of the function, so the iterator must not be used once it has returned.
+     *
+     * @since 14.0.0
+     */
+    default <T> T query(String chromosome, int start, int end, ResultsFunction<T> resultsFunction) throws IOException {
+        return resultsFunction.apply(query(chromosome, start, end));
+    }
+
     String getSource();
 
+    /**
+     * @since 14.0.0
+     */
+    @FunctionalInterface
+    interface ResultsFunction<T> {
+
+        T apply(TabixReader.Iterator results) throws IOException;
+    }
+
 }
\ No newline at end of file
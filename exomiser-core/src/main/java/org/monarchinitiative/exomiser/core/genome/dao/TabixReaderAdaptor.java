@@ -29,7 +29,9 @@
 import java.util.stream.Collectors;
 
 /**
- * Wrapper for an HTSJDK TabixReader.
+ * Wrapper for an HTSJDK TabixReader. Note that the {@link TabixReader.Iterator} returned from a query shares the file
+ * pointer of the underlying reader, so an instance of this class is not safe for concurrent use. Use a
+ * {@link PooledTabixDataSource} where the data source is to be queried from multiple threads.
  *
  * @author Jules Jacobsen <j.jacobsen@qmul.ac.uk>
  */
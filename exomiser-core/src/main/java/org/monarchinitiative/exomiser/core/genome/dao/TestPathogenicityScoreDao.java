@@ -27,10 +27,14 @@
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicitySource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Class for querying test pathogenicity scores from a tabix file.
@@ -61,9 +65,21 @@ public class TestPathogenicityScoreDao implements PathogenicityDao {
     private static final Logger logger = LoggerFactory.getLogger(TestPathogenicityScoreDao.class);
 
     private final TabixDataSource tabixDataSource;
+    @Nullable
+    private final Cache variantCache;
 
     public TestPathogenicityScoreDao(TabixDataSource tabixDataSource) {
+        this(tabixDataSource, null);
+    }
+
+    /**
+     * @param variantCache the cache used by {@link #getPathogenicityData(Variant)}, e.g. {@code hg19.test_path}, so that
+     *                     the batch reads can share its entries. May be null if the data is not cached.
+     * @since 14.0.0
+     */
+    public TestPathogenicityScoreDao(TabixDataSource tabixDataSource, @Nullable Cache variantCache) {
         this.tabixDataSource = tabixDataSource;
+        this.variantCache = variantCache;
     }
 
     @Caching(cacheable = {
@@ -76,6 +92,23 @@ public PathogenicityData getPathogenicityData(Variant variant) {
         return processResults(variant);
     }
 
+    /**
+     * Batch version of {@link #getPathogenicityData(Variant)} which reads the variants missing from the variant cache,
+     * adding these to the cache.
+     *
+     * @since 14.0.0
+     */
+    @Override
+    public List<PathogenicityData> getPathogenicityData(List<? extends Variant> variants) {
+        return VariantCacheBatchLoader.getAll(variantCache, variants, missingVariants -> {
+            List<PathogenicityData> results = new ArrayList<>(missingVariants.size());
+            for (Variant variant : missingVariants) {
+                results.add(processResults(variant));
+            }
+            return results;
+        });
+    }
+
     private PathogenicityData processResults(Variant variant) {
         String chromosome = variant.contigName();
         String ref = variant.ref();
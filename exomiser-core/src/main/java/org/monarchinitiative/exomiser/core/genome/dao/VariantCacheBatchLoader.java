@@ -0,0 +1,91 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NoOpCache;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads the data for a batch of variants through the same per-variant cache entries as the single variant
+ * {@link org.springframework.cache.annotation.Cacheable} DAO methods. The batch methods are not intercepted by the
+ * Spring caching proxy, so without this a batched read would neither get a hit from, nor populate, the variant cache.
+ * <p>
+ * The cache keys are the {@link org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleKey} of each variant, as
+ * created by the {@code variantKeyGenerator} used in the {@link org.springframework.cache.annotation.Cacheable}
+ * annotations of the DAOs.
+ *
+ * @since 14.0.0
+ */
+final class VariantCacheBatchLoader {
+
+    private VariantCacheBatchLoader() {
+        //uninstantiable - static helper class.
+    }
+
+    /**
+     * @param cache       the variant cache to check and populate. If this is null or a {@link NoOpCache} all the variants
+     *                    are read using the batchLoader.
+     * @param variants    the variants to get the data for
+     * @param batchLoader reads the data for the variants missing from the cache in a single batch, returning the results
+     *                    in the same order as the input variants
+     * @return the cached or loaded data for each variant in the same order as the input variants
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> getAll(@Nullable Cache cache, List<? extends Variant> variants, Function<List<Variant>, List<T>> batchLoader) {
+        if (cache == null || cache instanceof NoOpCache) {
+            return batchLoader.apply(Collections.unmodifiableList(variants));
+        }
+        List<T> results = new ArrayList<>(variants.size());
+        List<Object> missingKeys = new ArrayList<>();
+        List<Variant> missingVariants = new ArrayList<>();
+        List<Integer> missingIndices = new ArrayList<>();
+        for (int i = 0; i < variants.size(); i++) {
+            Variant variant = variants.get(i);
+            Object key = AlleleProtoAdaptor.toAlleleKey(variant);
+            Cache.ValueWrapper valueWrapper = cache.get(key);
+            if (valueWrapper == null) {
+                results.add(null);
+                missingKeys.add(key);
+                missingVariants.add(variant);
+                missingIndices.add(i);
+            } else {
+                results.add((T) valueWrapper.get());
+            }
+        }
+        if (missingVariants.isEmpty()) {
+            return results;
+        }
+        List<T> loaded = batchLoader.apply(missingVariants);
+        for (int i = 0; i < loaded.size(); i++) {
+            T value = loaded.get(i);
+            cache.put(missingKeys.get(i), value);
+            results.set(missingIndices.get(i), value);
+        }
+        return results;
+    }
+}
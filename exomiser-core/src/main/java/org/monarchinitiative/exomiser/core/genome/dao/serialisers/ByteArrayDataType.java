@@ -0,0 +1,78 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao.serialisers;
+
+import org.h2.mvstore.DataUtils;
+import org.h2.mvstore.WriteBuffer;
+import org.h2.mvstore.type.DataType;
+import org.h2.util.Utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link DataType} for storing values as raw bytes in the {@link org.h2.mvstore.MVStore}. This is used for the packed
+ * allele map where the serialised {@link org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleProperties} are
+ * only decoded on request by the {@link org.monarchinitiative.exomiser.core.model.AllelePropertiesReader}.
+ *
+ * @since 14.0.0
+ */
+public class ByteArrayDataType implements DataType {
+
+    public static final ByteArrayDataType INSTANCE = new ByteArrayDataType();
+
+    @Override
+    public int compare(Object a, Object b) {
+        return -1;
+    }
+
+    @Override
+    public int getMemory(Object obj) {
+        return ((byte[]) obj).length;
+    }
+
+    @Override
+    public void read(ByteBuffer buff, Object[] obj, int len, boolean key) {
+        for (int i = 0; i < len; i++) {
+            obj[i] = read(buff);
+        }
+    }
+
+    @Override
+    public void write(WriteBuffer buff, Object[] obj, int len, boolean key) {
+        for (int i = 0; i < len; i++) {
+            write(buff, obj[i]);
+        }
+    }
+
+    @Override
+    public byte[] read(ByteBuffer buff) {
+        int len = DataUtils.readVarInt(buff);
+        byte[] data = Utils.newBytes(len);
+        buff.get(data);
+        return data;
+    }
+
+    @Override
+    public void write(WriteBuffer buff, Object obj) {
+        byte[] data = (byte[]) obj;
+        buff.putVarInt(data.length).put(data);
+    }
+}
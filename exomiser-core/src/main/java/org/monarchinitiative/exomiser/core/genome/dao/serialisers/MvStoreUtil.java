@@ -21,8 +21,10 @@
 package org.monarchinitiative.exomiser.core.genome.dao.serialisers;
 
 import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.h2.mvstore.Cursor;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.h2.mvstore.type.DataType;
 import org.h2.mvstore.type.ObjectDataType;
 import org.h2.mvstore.type.StringDataType;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
@@ -34,6 +36,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -48,9 +54,15 @@ public class MvStoreUtil {
     private static final Logger logger = LoggerFactory.getLogger(MvStoreUtil.class);
     private static final String ALLELE_MAP_NAME = "alleles";
     private static final String CLINVAR_MAP_NAME = "clinvar";
+    private static final String PACKED_ALLELE_MAP_NAME = "alleles.packed";
+    private static final String PACKED_CLINVAR_MAP_NAME = "clinvar.packed";
+    private static final String CLINVAR_PROTEIN_MAP_NAME = "clinvar.protein";
 
     private static final String GENESTATS_MAP_NAME = "genestats";
 
+    // the number of entries a cursor will step over before it is re-positioned on the next key
+    private static final int MAX_CURSOR_STEPS = 32;
+
     private MvStoreUtil() {
         //static utility class - not instantiable
     }
@@ -83,6 +95,129 @@ public static MVMap<AlleleKey, AlleleProto.ClinVar> openClinVarMVMap(MVStore mvS
         return openMap(mvStore, CLINVAR_MAP_NAME, clinVarMapBuilder());
     }
 
+    /**
+     * Opens the 'alleles.packed' map from the {@link MVStore}. This contains the serialised
+     * {@link AlleleProperties} for all alleles which can be encoded as a {@link PackedAlleleKey}. In a packed store the
+     * 'alleles' map opened with {@link #openAlleleMVMap(MVStore)} only contains the alleles which cannot be packed.
+     *
+     * @param mvStore The {@code MVStore} to be used for the 'alleles.packed' {@link MVMap}
+     * @return an instance of the {@link MVMap}. This map may be empty.
+     * @since 14.0.0
+     */
+    public static MVMap<Long, byte[]> openPackedAlleleMVMap(MVStore mvStore) {
+        return openMap(mvStore, PACKED_ALLELE_MAP_NAME, packedAlleleMapBuilder());
+    }
+
+    /**
+     * Opens the 'clinvar.packed' map from the {@link MVStore}. In a packed store the 'clinvar' map opened with
+     * {@link #openClinVarMVMap(MVStore)} only contains the alleles which cannot be encoded as a {@link PackedAlleleKey}.
+     *
+     * @param mvStore The {@code MVStore} to be used for the 'clinvar.packed' {@link MVMap}
+     * @return an instance of the {@link MVMap}. This map may be empty.
+     * @since 14.0.0
+     */
+    public static MVMap<Long, AlleleProto.ClinVar> openPackedClinVarMVMap(MVStore mvStore) {
+        return openMap(mvStore, PACKED_CLINVAR_MAP_NAME, packedClinVarMapBuilder());
+    }
+
+    /**
+     * @return true if the store contains the 'alleles.packed' map written by the packed allele migration.
+     * @since 14.0.0
+     */
+    public static boolean hasPackedAlleleMap(MVStore mvStore) {
+        return mvStore.hasMap(PACKED_ALLELE_MAP_NAME);
+    }
+
+    /**
+     * @return true if the store contains the 'clinvar.packed' map written by the packed allele migration.
+     * @since 14.0.0
+     */
+    public static boolean hasPackedClinVarMap(MVStore mvStore) {
+        return mvStore.hasMap(PACKED_CLINVAR_MAP_NAME);
+    }
+
+    /**
+     * Opens the 'clinvar.protein' map from the {@link MVStore}. This contains the serialised
+     * {@link AlleleProto.ClinVarProteinChanges} for the pathogenic or likely pathogenic ClinVar missense variants,
+     * keyed by the transcript accession and amino acid position as returned by
+     * {@link #clinVarProteinKey(String, int)}.
+     *
+     * @param mvStore The {@code MVStore} to be used for the 'clinvar.protein' {@link MVMap}
+     * @return an instance of the {@link MVMap}. This map may be empty.
+     * @since 14.0.0
+     */
+    public static MVMap<String, byte[]> openClinVarProteinMVMap(MVStore mvStore) {
+        return openMap(mvStore, CLINVAR_PROTEIN_MAP_NAME, clinVarProteinMapBuilder());
+    }
+
+    /**
+     * @return true if the store contains the 'clinvar.protein' map written by the ClinVar protein index build.
+     * @since 14.0.0
+     */
+    public static boolean hasClinVarProteinMap(MVStore mvStore) {
+        return mvStore.hasMap(CLINVAR_PROTEIN_MAP_NAME);
+    }
+
+    /**
+     * @return the key for the 'clinvar.protein' map e.g. 'ENST00000358487.5:342'
+     * @since 14.0.0
+     */
+    public static String clinVarProteinKey(String transcriptAccession, int proteinPosition) {
+        return transcriptAccession + ':' + proteinPosition;
+    }
+
+    /**
+     * Looks-up the values for a batch of keys by walking a single {@link Cursor} forwards through the map in key order,
+     * rather than descending the B-tree for every key. Keys which are close together, such as those for the variants
+     * from a sorted VCF file, are mostly found by stepping the cursor over the intervening entries. Where the next key
+     * is more than a few entries ahead the cursor is re-positioned on that key.
+     *
+     * @param map          the map to read from
+     * @param keys         the keys to look-up, in any order
+     * @param defaultValue the value to return for keys not in the map
+     * @return the values in the same order as the input keys
+     * @since 14.0.0
+     */
+    public static <K, V> List<V> getAll(MVMap<K, V> map, List<K> keys, V defaultValue) {
+        List<V> values = new ArrayList<>(Collections.nCopies(keys.size(), defaultValue));
+        if (keys.isEmpty()) {
+            return values;
+        }
+        DataType keyType = map.getKeyType();
+        Integer[] keyOrder = new Integer[keys.size()];
+        for (int i = 0; i < keyOrder.length; i++) {
+            keyOrder[i] = i;
+        }
+        Arrays.sort(keyOrder, (a, b) -> keyType.compare(keys.get(a), keys.get(b)));
+
+        Cursor<K, V> cursor = map.cursor(keys.get(keyOrder[0]));
+        K cursorKey = nextKey(cursor);
+        for (int index : keyOrder) {
+            K key = keys.get(index);
+            int steps = 0;
+            while (cursorKey != null && keyType.compare(cursorKey, key) < 0) {
+                if (++steps > MAX_CURSOR_STEPS) {
+                    cursor = map.cursor(key);
+                    cursorKey = nextKey(cursor);
+                    break;
+                }
+                cursorKey = nextKey(cursor);
+            }
+            if (cursorKey == null) {
+                // the remaining keys are all after the last key in the map
+                break;
+            }
+            if (keyType.compare(cursorKey, key) == 0) {
+                values.set(index, cursor.getValue());
+            }
+        }
+        return values;
+    }
+
+    private static <K> K nextKey(Cursor<K, ?> cursor) {
+        return cursor.hasNext() ? cursor.next() : null;
+    }
+
     private static <K, V> MVMap<K, V> openMap(MVStore mvStore, String mapName, MVMap.Builder<K, V> mapBuilder) {
         Objects.requireNonNull(mvStore);
         if (!mvStore.hasMap(mapName)) {
@@ -101,6 +236,24 @@ public static MVMap.Builder<AlleleKey, AlleleProperties> alleleMapBuilder() {
                 .valueType(AllelePropertiesDataType.INSTANCE);
     }
 
+    public static MVMap.Builder<Long, byte[]> packedAlleleMapBuilder() {
+        return new MVMap.Builder<Long, byte[]>()
+                .keyType(PackedAlleleKeyDataType.INSTANCE)
+                .valueType(ByteArrayDataType.INSTANCE);
+    }
+
+    public static MVMap.Builder<Long, AlleleProto.ClinVar> packedClinVarMapBuilder() {
+        return new MVMap.Builder<Long, AlleleProto.ClinVar>()
+                .keyType(PackedAlleleKeyDataType.INSTANCE)
+                .valueType(ClinVarDataType.INSTANCE);
+    }
+
+    public static MVMap.Builder<String, byte[]> clinVarProteinMapBuilder() {
+        return new MVMap.Builder<String, byte[]>()
+                .keyType(StringDataType.INSTANCE)
+                .valueType(ByteArrayDataType.INSTANCE);
+    }
+
     public static MVMap.Builder<String, ClinVarGeneStats> geneStatsMapBuilder() {
         return new MVMap.Builder<String, ClinVarGeneStats>()
                 .keyType(StringDataType.INSTANCE)
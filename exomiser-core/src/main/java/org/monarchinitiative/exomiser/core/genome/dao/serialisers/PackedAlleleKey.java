@@ -0,0 +1,159 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao.serialisers;
+
+/**
+ * Encodes an allele as a single {@code long} for use as a key in the packed allele maps of the
+ * {@link org.h2.mvstore.MVStore}. This avoids the creation and serialisation of an
+ * {@link org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleKey} for every lookup.
+ * <p>
+ * The key layout, from the most significant bit, is:
+ * <pre>
+ * 1 bit   unused (always 0 so that keys are positive)
+ * 5 bits  chromosome (1-31)
+ * 28 bits position (1-268,435,455)
+ * 3 bits  ref length (1-7)
+ * 3 bits  alt length (1-7)
+ * 24 bits ref then alt bases, 2 bits per base (A=0, C=1, G=2, T=3), up to 12 bases in total
+ * </pre>
+ * The natural ordering of the keys is therefore by chromosome, then position, so that a range of positions can be
+ * scanned using {@link #lowerBound(int, int)} and {@link #upperBound(int, int)}. Alleles which cannot be packed, for
+ * example longer indels or those containing an N, are stored in an overflow map keyed by the original
+ * {@link org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleKey}.
+ *
+ * @since 14.0.0
+ */
+public class PackedAlleleKey {
+
+    /**
+     * Returned by {@link #pack(int, int, String, String)} for alleles which cannot be encoded.
+     */
+    public static final long NOT_PACKABLE = -1L;
+
+    private static final int MAX_CHR = (1 << 5) - 1;
+    private static final int MAX_POSITION = (1 << 28) - 1;
+    private static final int MAX_ALLELE_LENGTH = 7;
+    private static final int MAX_BASES = 12;
+
+    private static final int CHR_SHIFT = 58;
+    private static final int POSITION_SHIFT = 30;
+    private static final int REF_LENGTH_SHIFT = 27;
+    private static final int ALT_LENGTH_SHIFT = 24;
+    private static final long ALLELE_MASK = (1L << POSITION_SHIFT) - 1;
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private PackedAlleleKey() {
+        //static utility class - not instantiable
+    }
+
+    /**
+     * @return the packed key for the allele or {@link #NOT_PACKABLE} if the allele cannot be encoded.
+     */
+    public static long pack(int chr, int position, String ref, String alt) {
+        int refLength = ref.length();
+        int altLength = alt.length();
+        if (chr < 1 || chr > MAX_CHR || position < 1 || position > MAX_POSITION
+                || refLength == 0 || refLength > MAX_ALLELE_LENGTH
+                || altLength == 0 || altLength > MAX_ALLELE_LENGTH
+                || refLength + altLength > MAX_BASES) {
+            return NOT_PACKABLE;
+        }
+        long bases = 0;
+        int shift = ALT_LENGTH_SHIFT;
+        for (int i = 0; i < refLength; i++) {
+            int base = encode(ref.charAt(i));
+            if (base == -1) {
+                return NOT_PACKABLE;
+            }
+            shift -= 2;
+            bases |= (long) base << shift;
+        }
+        for (int i = 0; i < altLength; i++) {
+            int base = encode(alt.charAt(i));
+            if (base == -1) {
+                return NOT_PACKABLE;
+            }
+            shift -= 2;
+            bases |= (long) base << shift;
+        }
+        return lowerBound(chr, position)
+                | (long) refLength << REF_LENGTH_SHIFT
+                | (long) altLength << ALT_LENGTH_SHIFT
+                | bases;
+    }
+
+    /**
+     * @return the smallest possible key for the chromosome and position
+     */
+    public static long lowerBound(int chr, int position) {
+        return (long) chr << CHR_SHIFT | (long) position << POSITION_SHIFT;
+    }
+
+    /**
+     * @return the largest possible key for the chromosome and position
+     */
+    public static long upperBound(int chr, int position) {
+        return lowerBound(chr, position) | ALLELE_MASK;
+    }
+
+    public static int chr(long key) {
+        return (int) (key >>> CHR_SHIFT);
+    }
+
+    public static int position(long key) {
+        return (int) (key >>> POSITION_SHIFT) & MAX_POSITION;
+    }
+
+    public static String ref(long key) {
+        int refLength = refLength(key);
+        return decode(key, ALT_LENGTH_SHIFT, refLength);
+    }
+
+    public static String alt(long key) {
+        int refLength = refLength(key);
+        int altLength = (int) (key >>> ALT_LENGTH_SHIFT) & MAX_ALLELE_LENGTH;
+        return decode(key, ALT_LENGTH_SHIFT - refLength * 2, altLength);
+    }
+
+    private static int refLength(long key) {
+        return (int) (key >>> REF_LENGTH_SHIFT) & MAX_ALLELE_LENGTH;
+    }
+
+    private static String decode(long key, int shift, int length) {
+        char[] bases = new char[length];
+        for (int i = 0; i < length; i++) {
+            shift -= 2;
+            bases[i] = BASES[(int) (key >>> shift) & 3];
+        }
+        return new String(bases);
+    }
+
+    private static int encode(char base) {
+        return switch (base) {
+            case 'A' -> 0;
+            case 'C' -> 1;
+            case 'G' -> 2;
+            case 'T' -> 3;
+            default -> -1;
+        };
+    }
+}
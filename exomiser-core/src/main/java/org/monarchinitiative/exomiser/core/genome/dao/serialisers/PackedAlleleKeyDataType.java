@@ -0,0 +1,72 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao.serialisers;
+
+import org.h2.mvstore.WriteBuffer;
+import org.h2.mvstore.type.DataType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Specialised {@link DataType} for (de)serialising {@link PackedAlleleKey} encoded {@code long} keys into and out of
+ * the {@link org.h2.mvstore.MVStore}. Keys are written as fixed-width longs as the high bits are always set, so a
+ * variable-length encoding would be larger.
+ *
+ * @since 14.0.0
+ */
+public class PackedAlleleKeyDataType implements DataType {
+
+    public static final PackedAlleleKeyDataType INSTANCE = new PackedAlleleKeyDataType();
+
+    @Override
+    public int compare(Object a, Object b) {
+        return Long.compare((Long) a, (Long) b);
+    }
+
+    @Override
+    public int getMemory(Object obj) {
+        return Long.BYTES;
+    }
+
+    @Override
+    public void read(ByteBuffer buff, Object[] obj, int len, boolean key) {
+        for (int i = 0; i < len; i++) {
+            obj[i] = read(buff);
+        }
+    }
+
+    @Override
+    public void write(WriteBuffer buff, Object[] obj, int len, boolean key) {
+        for (int i = 0; i < len; i++) {
+            write(buff, obj[i]);
+        }
+    }
+
+    @Override
+    public Long read(ByteBuffer buff) {
+        return buff.getLong();
+    }
+
+    @Override
+    public void write(WriteBuffer buff, Object obj) {
+        buff.putLong((Long) obj);
+    }
+}
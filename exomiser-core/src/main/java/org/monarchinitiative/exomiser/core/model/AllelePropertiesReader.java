@@ -0,0 +1,145 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.model;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.monarchinitiative.exomiser.core.model.frequency.Frequency;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencySource;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityScore;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicitySource;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleProperties;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the {@link FrequencyData} or {@link PathogenicityData} directly from serialised {@link AlleleProperties}
+ * without parsing the whole message. Only the fields required for the requested data are decoded, all the others are
+ * skipped over. This gives the same results as parsing the {@link AlleleProperties} and using the
+ * {@link AlleleProtoAdaptor}, but without allocating the message, its properties map and the boxed values.
+ *
+ * @since 14.0.0
+ */
+public class AllelePropertiesReader {
+
+    private static final int RS_ID_TAG = tag(AlleleProperties.RS_ID_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int PROPERTIES_TAG = tag(AlleleProperties.PROPERTIES_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int CLINVAR_TAG = tag(AlleleProperties.CLINVAR_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    // map<string, float> entries are written as a message with the key as field 1 and the value as field 2
+    private static final int PROPERTY_KEY_TAG = tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int PROPERTY_VALUE_TAG = tag(2, WireFormat.WIRETYPE_FIXED32);
+
+    private AllelePropertiesReader() {
+        //un-instantiable utility class
+    }
+
+    public static FrequencyData readFrequencyData(byte[] alleleProperties) {
+        if (alleleProperties.length == 0) {
+            return FrequencyData.empty();
+        }
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(alleleProperties);
+            String rsId = "";
+            List<Frequency> frequencies = new ArrayList<>();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (tag == RS_ID_TAG) {
+                    rsId = input.readStringRequireUtf8();
+                } else if (tag == PROPERTIES_TAG) {
+                    readProperty(input, frequencies, null);
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            return FrequencyData.of(rsId, frequencies);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read frequency data from AlleleProperties", e);
+        }
+    }
+
+    public static PathogenicityData readPathogenicityData(byte[] alleleProperties) {
+        if (alleleProperties.length == 0) {
+            return PathogenicityData.empty();
+        }
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(alleleProperties);
+            ClinVarData clinVarData = ClinVarData.empty();
+            List<PathogenicityScore> pathogenicityScores = new ArrayList<>();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (tag == PROPERTIES_TAG) {
+                    readProperty(input, null, pathogenicityScores);
+                } else if (tag == CLINVAR_TAG) {
+                    clinVarData = AlleleProtoAdaptor.toClinVarData(ClinVar.parseFrom(input.readBytes()));
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            return PathogenicityData.of(clinVarData, pathogenicityScores);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read pathogenicity data from AlleleProperties", e);
+        }
+    }
+
+    /**
+     * Reads a single entry of the properties map, adding it to the frequencies or pathogenicity scores if it is of the
+     * required type. A null list indicates that type is not required.
+     */
+    private static void readProperty(CodedInputStream input, List<Frequency> frequencies, List<PathogenicityScore> pathogenicityScores) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        String key = "";
+        float value = 0f;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (tag == PROPERTY_KEY_TAG) {
+                key = input.readStringRequireUtf8();
+            } else if (tag == PROPERTY_VALUE_TAG) {
+                value = input.readFloat();
+            } else {
+                input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        if (frequencies != null) {
+            FrequencySource frequencySource = AlleleProtoAdaptor.FREQUENCY_SOURCE_MAP.get(key);
+            if (frequencySource != null) {
+                frequencies.add(Frequency.of(frequencySource, value));
+            }
+        }
+        if (pathogenicityScores != null) {
+            PathogenicitySource pathogenicitySource = AlleleProtoAdaptor.PATHOGENICITY_SOURCE_MAP.get(key);
+            if (pathogenicitySource != null) {
+                pathogenicityScores.add(PathogenicityScore.of(pathogenicitySource, value));
+            }
+        }
+    }
+
+    private static int tag(int fieldNumber, int wireType) {
+        return fieldNumber << 3 | wireType;
+    }
+}
@@ -55,7 +55,7 @@ public class AlleleProtoAdaptor {
 
     // These maps are constant look-ups for keys in the AlleleProto.AlleleProperties propertiesMap which was generated by the
     // genome-data module. The keys are AlleleProperty string values.
-    private static final Map<String, FrequencySource> FREQUENCY_SOURCE_MAP = new ImmutableMap.Builder<String, FrequencySource>()
+    static final Map<String, FrequencySource> FREQUENCY_SOURCE_MAP = new ImmutableMap.Builder<String, FrequencySource>()
             .put("KG", THOUSAND_GENOMES)
             .put("TOPMED", TOPMED)
             .put("UK10K", UK10K)
@@ -91,7 +91,7 @@ public class AlleleProtoAdaptor {
             .put("GNOMAD_G_SAS", GNOMAD_G_SAS)
             .build();
 
-    private static final Map<String, PathogenicitySource> PATHOGENICITY_SOURCE_MAP = new ImmutableMap.Builder<String, PathogenicitySource>()
+    static final Map<String, PathogenicitySource> PATHOGENICITY_SOURCE_MAP = new ImmutableMap.Builder<String, PathogenicitySource>()
             .put("POLYPHEN", POLYPHEN)
             .put("MUT_TASTER", MUTATION_TASTER)
             .put("SIFT", SIFT)
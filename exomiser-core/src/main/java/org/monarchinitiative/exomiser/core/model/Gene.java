@@ -78,19 +78,34 @@ public class Gene implements Comparable<Gene>, Filterable, Inheritable {
     @JsonIgnore //cut down on repeated fields
     private final int entrezGeneId;
 
-    private final Set<FilterType> failedFilterTypes = new LinkedHashSet<>();
-    private final Set<FilterType> passedFilterTypes = new LinkedHashSet<>();
-    private final Map<FilterType, FilterResult> filterResults = new EnumMap<>(FilterType.class);
-
-    private GeneScore topGeneScore;
-    private final Map<ModeOfInheritance, GeneScore> geneScoreMap = new EnumMap<>(ModeOfInheritance.class);
+    // The per-analysis state of the gene. Every known gene is created for an analysis, but only a minority of these
+    // will ever have variants, filter results or scores added, so the state is only created on the first write.
+    @Nullable
+    private volatile GeneState state;
+    // The score returned for an unscored gene. This is built on first use, so that sorting the unscored genes does not
+    // allocate a new score for each comparison. Racing threads may each build one, but these are equal.
+    @Nullable
+    private volatile GeneScore emptyGeneScore;
 
-    private final Map<PriorityType, PriorityResult> priorityResultsMap = new EnumMap<>(PriorityType.class);
     /**
-     * A list of all of the variants that affect this gene.
+     * Mutable analysis results for a {@link Gene}.
      */
-    private final List<VariantEvaluation> variantEvaluations = new ArrayList<>();
-    private Set<ModeOfInheritance> inheritanceModes = EnumSet.noneOf(ModeOfInheritance.class);
+    private static final class GeneState {
+        private final Set<FilterType> failedFilterTypes = new LinkedHashSet<>();
+        private final Set<FilterType> passedFilterTypes = new LinkedHashSet<>();
+        private final Map<FilterType, FilterResult> filterResults = new EnumMap<>(FilterType.class);
+
+        @Nullable
+        private GeneScore topGeneScore;
+        private final Map<ModeOfInheritance, GeneScore> geneScoreMap = new EnumMap<>(ModeOfInheritance.class);
+
+        private final Map<PriorityType, PriorityResult> priorityResultsMap = new EnumMap<>(PriorityType.class);
+        /**
+         * A list of all of the variants that affect this gene.
+         */
+        private final List<VariantEvaluation> variantEvaluations = new ArrayList<>();
+        private Set<ModeOfInheritance> inheritanceModes = Collections.emptySet();
+    }
 
     /**
      * Preferred constructor. Given the {@link GeneIdentifier} contains all the data it can
@@ -106,8 +121,6 @@ public Gene(GeneIdentifier geneIdentifier) {
 
         this.geneSymbol = geneIdentifier.getGeneSymbol();
         this.entrezGeneId = geneIdentifier.getEntrezIdAsInteger();
-
-        this.topGeneScore = GeneScore.builder().geneIdentifier(geneIdentifier).build();
     }
 
     /**
@@ -123,6 +136,48 @@ public Gene(String geneSymbol, int geneId) {
         this(GeneIdentifier.builder().geneId(String.valueOf(geneId)).geneSymbol(geneSymbol).entrezId(String.valueOf(geneId)).build());
     }
 
+    /**
+     * @return the state of this gene, creating it if this is the first write.
+     */
+    private GeneState state() {
+        GeneState current = state;
+        if (current == null) {
+            synchronized (this) {
+                current = state;
+                if (current == null) {
+                    current = new GeneState();
+                    state = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<VariantEvaluation> variantEvaluations() {
+        GeneState current = state;
+        return current == null ? Collections.emptyList() : current.variantEvaluations;
+    }
+
+    private Set<ModeOfInheritance> inheritanceModes() {
+        GeneState current = state;
+        return current == null ? Collections.emptySet() : current.inheritanceModes;
+    }
+
+    private Set<FilterType> failedFilterTypes() {
+        GeneState current = state;
+        return current == null ? Collections.emptySet() : current.failedFilterTypes;
+    }
+
+    private Set<FilterType> passedFilterTypes() {
+        GeneState current = state;
+        return current == null ? Collections.emptySet() : current.passedFilterTypes;
+    }
+
+    private Map<ModeOfInheritance, GeneScore> geneScoreMap() {
+        GeneState current = state;
+        return current == null ? Collections.emptyMap() : current.geneScoreMap;
+    }
+
     /**
      * Note that currently, the gene symbols are associated with the Variants.
      * Probably it would be more natural to associate that with a field of this
@@ -159,11 +214,11 @@ public int getEntrezGeneID() {
      */
     @JsonIgnore
     public int getNumberOfVariants() {
-        return variantEvaluations.size();
+        return variantEvaluations().size();
     }
 
     public boolean hasVariants() {
-        return !variantEvaluations.isEmpty();
+        return !variantEvaluations().isEmpty();
     }
 
     /**
@@ -174,12 +229,13 @@ public boolean hasVariants() {
      */
     public final void addVariant(VariantEvaluation variantEvaluation) {
         Objects.requireNonNull(variantEvaluation);
-        addGeneFilterResultsToVariant(variantEvaluation);
-        variantEvaluations.add(variantEvaluation);
+        GeneState current = state();
+        addGeneFilterResultsToVariant(current, variantEvaluation);
+        current.variantEvaluations.add(variantEvaluation);
     }
 
-    private void addGeneFilterResultsToVariant(VariantEvaluation variantEvaluation) {
-        for (FilterResult filterResult : filterResults.values()) {
+    private void addGeneFilterResultsToVariant(GeneState current, VariantEvaluation variantEvaluation) {
+        for (FilterResult filterResult : current.filterResults.values()) {
             if (filterResult.getFilterType() != FilterType.INHERITANCE_FILTER) {
                 variantEvaluation.addFilterResult(filterResult);
             }
@@ -190,17 +246,17 @@ private void addGeneFilterResultsToVariant(VariantEvaluation variantEvaluation)
      * @return A list of all variants in the VCF file that affect this gene.
      */
     public List<VariantEvaluation> getVariantEvaluations() {
-        return variantEvaluations;
+        return variantEvaluations();
     }
 
     @JsonIgnore
     public List<VariantEvaluation> getPassedVariantEvaluations() {
-        return variantEvaluations.stream().filter(VariantEvaluation::passedFilters).collect(toList());
+        return variantEvaluations().stream().filter(VariantEvaluation::passedFilters).collect(toList());
     }
 
     @JsonIgnore
     public List<VariantEvaluation> getNonContributingPassedVariantEvaluations() {
-        return variantEvaluations.stream()
+        return variantEvaluations().stream()
                 .filter(VariantEvaluation::passedFilters)
                 .filter(variantEvaluation -> !variantEvaluation.contributesToGeneScore())
                 .collect(toList());
@@ -208,12 +264,12 @@ public List<VariantEvaluation> getNonContributingPassedVariantEvaluations() {
 
     @Override
     public Set<ModeOfInheritance> getCompatibleInheritanceModes() {
-        return inheritanceModes;
+        return inheritanceModes();
     }
 
     @Override
     public void setCompatibleInheritanceModes(Set<ModeOfInheritance> inheritanceModes) {
-        this.inheritanceModes = Collections.unmodifiableSet(EnumSet.copyOf(inheritanceModes));
+        state().inheritanceModes = Collections.unmodifiableSet(EnumSet.copyOf(inheritanceModes));
     }
 
     /**
@@ -223,7 +279,7 @@ public void setCompatibleInheritanceModes(Set<ModeOfInheritance> inheritanceMode
      */
     @Override
     public boolean isCompatibleWith(ModeOfInheritance modeOfInheritance) {
-        return modeOfInheritance == ModeOfInheritance.ANY || inheritanceModes.contains(modeOfInheritance);
+        return modeOfInheritance == ModeOfInheritance.ANY || inheritanceModes().contains(modeOfInheritance);
     }
 
     /**
@@ -232,6 +288,7 @@ public boolean isCompatibleWith(ModeOfInheritance modeOfInheritance) {
      */
     @JsonIgnore
     public boolean isCompatibleWithRecessive() {
+        Set<ModeOfInheritance> inheritanceModes = inheritanceModes();
         return inheritanceModes.contains(ModeOfInheritance.AUTOSOMAL_RECESSIVE) || inheritanceModes.contains(ModeOfInheritance.X_RECESSIVE);
     }
 
@@ -241,6 +298,7 @@ public boolean isCompatibleWithRecessive() {
      */
     @JsonIgnore
     public boolean isCompatibleWithDominant() {
+        Set<ModeOfInheritance> inheritanceModes = inheritanceModes();
         return inheritanceModes.contains(ModeOfInheritance.AUTOSOMAL_DOMINANT) || inheritanceModes.contains(ModeOfInheritance.X_DOMINANT);
     }
 
@@ -250,6 +308,7 @@ public boolean isCompatibleWithDominant() {
      */
     @JsonIgnore
     public boolean isConsistentWithX() {
+        Set<ModeOfInheritance> inheritanceModes = inheritanceModes();
         return inheritanceModes.contains(ModeOfInheritance.X_RECESSIVE) || inheritanceModes.contains(ModeOfInheritance.X_DOMINANT);
     }
 
@@ -258,6 +317,7 @@ public boolean isConsistentWithX() {
      */
     @JsonIgnore
     public boolean isXChromosomal() {
+        List<VariantEvaluation> variantEvaluations = variantEvaluations();
         if (variantEvaluations.isEmpty()) {
             return false;
         }
@@ -267,6 +327,7 @@ public boolean isXChromosomal() {
 
     @JsonIgnore
     public boolean isYChromosomal() {
+        List<VariantEvaluation> variantEvaluations = variantEvaluations();
         if (variantEvaluations.isEmpty()) {
             return false;
         }
@@ -279,7 +340,7 @@ public boolean isYChromosomal() {
      */
     public void addPriorityResult(PriorityResult priorityResult) {
         Objects.requireNonNull(priorityResult);
-        priorityResultsMap.put(priorityResult.getPriorityType(), priorityResult);
+        state().priorityResultsMap.put(priorityResult.getPriorityType(), priorityResult);
     }
 
     /**
@@ -288,7 +349,7 @@ public void addPriorityResult(PriorityResult priorityResult) {
      */
     @Nullable
     public PriorityResult getPriorityResult(PriorityType type) {
-        return priorityResultsMap.get(type);
+        return getPriorityResults().get(type);
     }
 
     /**
@@ -303,7 +364,7 @@ public PriorityResult getPriorityResult(PriorityType type) {
     @Nullable
     @SuppressWarnings("unchecked")
     public <T extends PriorityResult> T getPriorityResult(Class<T> clazz) {
-        for (PriorityResult priorityResult : priorityResultsMap.values()) {
+        for (PriorityResult priorityResult : getPriorityResults().values()) {
             if (clazz.isInstance(priorityResult)) {
                 return (T) priorityResult;
             }
@@ -316,7 +377,8 @@ public <T extends PriorityResult> T getPriorityResult(Class<T> clazz) {
      * result of filtering
      */
     public Map<PriorityType, PriorityResult> getPriorityResults() {
-        return priorityResultsMap;
+        GeneState current = state;
+        return current == null ? Collections.emptyMap() : current.priorityResultsMap;
     }
 
     public List<Disease> getAssociatedDiseases() {
@@ -332,8 +394,9 @@ public List<Disease> getAssociatedDiseases() {
      */
     public synchronized void addGeneScore(GeneScore geneScore) {
         Objects.requireNonNull(geneScore);
-        geneScoreMap.put(geneScore.getModeOfInheritance(), geneScore);
-        topGeneScore = GeneScore.max(topGeneScore, geneScore);
+        GeneState current = state();
+        current.geneScoreMap.put(geneScore.getModeOfInheritance(), geneScore);
+        current.topGeneScore = GeneScore.max(getTopGeneScore(), geneScore);
     }
 
     public synchronized void addGeneScores(Collection<GeneScore> geneScores) {
@@ -345,11 +408,25 @@ public synchronized void addGeneScores(Collection<GeneScore> geneScores) {
 
     @JsonIgnore
     public GeneScore getTopGeneScore() {
-        return topGeneScore;
+        GeneState current = state;
+        if (current == null || current.topGeneScore == null) {
+            return getEmptyGeneScore();
+        }
+        return current.topGeneScore;
+    }
+
+    private GeneScore getEmptyGeneScore() {
+        GeneScore empty = emptyGeneScore;
+        if (empty == null) {
+            // the default is created on demand as most genes are never scored
+            empty = GeneScore.builder().geneIdentifier(geneIdentifier).build();
+            emptyGeneScore = empty;
+        }
+        return empty;
     }
 
     public List<GeneScore> getGeneScores() {
-        return List.copyOf(geneScoreMap.values());
+        return List.copyOf(geneScoreMap().values());
     }
 
     /**
@@ -364,20 +441,21 @@ public List<GeneScore> getCompatibleGeneScores() {
         // GeneScore but in this case it will have an MOI.ANY. So, in the case that no compatible inheritanceModes are
         // present, the ANY GeneScore should be returned here otherwise the ResultsWriters relying on this method
         // (TSV and VCF) will return empty data. See issue https://github.com/exomiser/Exomiser/issues/481
-        return inheritanceModes.isEmpty() ? anyMoiScoreOrEmptyList() : geneScoreMap.entrySet().stream()
+        Set<ModeOfInheritance> inheritanceModes = inheritanceModes();
+        return inheritanceModes.isEmpty() ? anyMoiScoreOrEmptyList() : geneScoreMap().entrySet().stream()
                 .filter(entry -> inheritanceModes.contains(entry.getKey()))
                 .map(Map.Entry::getValue)
                 .collect(Collectors.toUnmodifiableList());
     }
 
     private List<GeneScore> anyMoiScoreOrEmptyList() {
-        GeneScore geneScore = geneScoreMap.get(ModeOfInheritance.ANY);
+        GeneScore geneScore = geneScoreMap().get(ModeOfInheritance.ANY);
         return geneScore != null ? List.of(geneScore) : List.of();
     }
 
     public GeneScore getGeneScoreForMode(ModeOfInheritance modeOfInheritance) {
         Objects.requireNonNull(modeOfInheritance);
-        return geneScoreMap.getOrDefault(modeOfInheritance, GeneScore.builder()
+        return geneScoreMap().getOrDefault(modeOfInheritance, GeneScore.builder()
                 .geneIdentifier(this.geneIdentifier)
                 .modeOfInheritance(modeOfInheritance)
                 .build()
@@ -388,7 +466,7 @@ public GeneScore getGeneScoreForMode(ModeOfInheritance modeOfInheritance) {
      * Gets the priority score for the gene.
      */
     public double getPriorityScore() {
-        return topGeneScore.getPhenotypeScore();
+        return getTopGeneScore().getPhenotypeScore();
     }
 
     /**
@@ -399,7 +477,7 @@ public double getPriorityScore() {
      */
     public double getPriorityScoreForMode(ModeOfInheritance modeOfInheritance) {
         Objects.requireNonNull(modeOfInheritance);
-        GeneScore geneScore = geneScoreMap.getOrDefault(modeOfInheritance, GeneScore.empty());
+        GeneScore geneScore = geneScoreMap().getOrDefault(modeOfInheritance, GeneScore.empty());
         return geneScore.getPhenotypeScore();
     }
 
@@ -407,7 +485,7 @@ public double getPriorityScoreForMode(ModeOfInheritance modeOfInheritance) {
      * Get the variant score for the gene.
      */
     public double getVariantScore() {
-        return topGeneScore.getVariantScore();
+        return getTopGeneScore().getVariantScore();
     }
 
     /**
@@ -415,17 +493,17 @@ public double getVariantScore() {
      */
     public double getVariantScoreForMode(ModeOfInheritance modeOfInheritance) {
         Objects.requireNonNull(modeOfInheritance);
-        GeneScore geneScore = geneScoreMap.getOrDefault(modeOfInheritance, GeneScore.empty());
+        GeneScore geneScore = geneScoreMap().getOrDefault(modeOfInheritance, GeneScore.empty());
         return geneScore.getVariantScore();
     }
 
     public double getCombinedScore() {
-        return topGeneScore.getCombinedScore();
+        return getTopGeneScore().getCombinedScore();
     }
 
     @JsonGetter
     public double pValue() {
-        return topGeneScore.pValue();
+        return getTopGeneScore().pValue();
     }
 
     /**
@@ -436,7 +514,7 @@ public double pValue() {
      */
     public double getCombinedScoreForMode(ModeOfInheritance modeOfInheritance) {
         Objects.requireNonNull(modeOfInheritance);
-        GeneScore geneScore = geneScoreMap.getOrDefault(modeOfInheritance, GeneScore.empty());
+        GeneScore geneScore = geneScoreMap().getOrDefault(modeOfInheritance, GeneScore.empty());
         return geneScore.getCombinedScore();
     }
 
@@ -447,15 +525,15 @@ public double getCombinedScoreForMode(ModeOfInheritance modeOfInheritance) {
      */
     @Override
     public boolean passedFilters() {
-        return isUnfiltered() || failedFilterTypes.isEmpty() && atLeastOneVariantPassedFilters();
+        return isUnfiltered() || failedFilterTypes().isEmpty() && atLeastOneVariantPassedFilters();
     }
 
     private boolean isUnfiltered() {
-        return failedFilterTypes.isEmpty() && variantEvaluations.isEmpty();
+        return failedFilterTypes().isEmpty() && variantEvaluations().isEmpty();
     }
 
     private boolean atLeastOneVariantPassedFilters() {
-        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+        for (VariantEvaluation variantEvaluation : variantEvaluations()) {
             if (variantEvaluation.passedFilters()) {
                 return true;
             }
@@ -466,14 +544,14 @@ private boolean atLeastOneVariantPassedFilters() {
     @Override
     public boolean passedFilter(FilterType filterType) {
         Objects.requireNonNull(filterType);
-        if (!failedFilterTypes.contains(filterType) && passedFilterTypes.contains(filterType)) {
+        if (!failedFilterTypes().contains(filterType) && passedFilterTypes().contains(filterType)) {
             return true;
         }
         return atLeastOneVariantPassedFilter(filterType);
     }
 
     private boolean atLeastOneVariantPassedFilter(FilterType filterType) {
-        for (VariantEvaluation variantEvaluation : variantEvaluations) {
+        for (VariantEvaluation variantEvaluation : variantEvaluations()) {
             if (variantEvaluation.passedFilter(filterType)) {
                 return true;
             }
@@ -491,20 +569,21 @@ private FilterStatus getFilterStatus() {
     @Override
     public boolean addFilterResult(FilterResult filterResult) {
         Objects.requireNonNull(filterResult);
-        filterResults.put(filterResult.getFilterType(), filterResult);
+        GeneState current = state();
+        current.filterResults.put(filterResult.getFilterType(), filterResult);
         if (filterResult.passed()) {
-            return addPassedFilterResult(filterResult);
+            return addPassedFilterResult(current, filterResult);
         }
-        return addFailedFilterResult(filterResult);
+        return addFailedFilterResult(current, filterResult);
     }
 
-    private boolean addPassedFilterResult(FilterResult filterResult) {
-        passedFilterTypes.add(filterResult.getFilterType());
+    private boolean addPassedFilterResult(GeneState current, FilterResult filterResult) {
+        current.passedFilterTypes.add(filterResult.getFilterType());
         return true;
     }
 
-    private boolean addFailedFilterResult(FilterResult filterResult) {
-        failedFilterTypes.add(filterResult.getFilterType());
+    private boolean addFailedFilterResult(GeneState current, FilterResult filterResult) {
+        current.failedFilterTypes.add(filterResult.getFilterType());
         return false;
     }
 
@@ -559,7 +638,7 @@ public static Comparator<Gene> comparingScoreForInheritanceMode(ModeOfInheritanc
      */
     @Override
     public int compareTo(Gene otherGene) {
-        return GeneScore.compare(topGeneScore, otherGene.topGeneScore);
+        return GeneScore.compare(getTopGeneScore(), otherGene.getTopGeneScore());
     }
 
     @Override
@@ -567,14 +646,14 @@ public String toString() {
         return "Gene{" +
                 "geneSymbol='" + geneSymbol + '\'' +
                 ", entrezGeneId=" + entrezGeneId +
-                ", compatibleWith=" + inheritanceModes +
+                ", compatibleWith=" + inheritanceModes() +
                 ", filterStatus=" + getFilterStatus() +
-                ", failedFilterTypes=" + failedFilterTypes +
-                ", passedFilterTypes=" + passedFilterTypes +
+                ", failedFilterTypes=" + failedFilterTypes() +
+                ", passedFilterTypes=" + passedFilterTypes() +
                 ", combinedScore=" + getCombinedScore() +
                 ", phenotypeScore=" + getPriorityScore() +
                 ", variantScore=" + getVariantScore() +
-                ", variants=" + variantEvaluations.size() +
+                ", variants=" + variantEvaluations().size() +
                 '}';
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.model.pathogenicity;
+
+import java.util.Objects;
+
+/**
+ * The cDNA and protein changes of a pathogenic or likely pathogenic ClinVar missense variant on a transcript, as
+ * pre-computed by the ClinVar protein index build. Used to assign PS1 and PM5 without having to re-annotate the
+ * ClinVar variants surrounding a variant of interest.
+ *
+ * @param hgvsCdna    the HGVS cDNA change e.g. c.1024T>A
+ * @param hgvsProtein the HGVS protein change e.g. p.(Cys342Ser)
+ * @since 14.0.0
+ */
+public record ClinVarProteinChange(String hgvsCdna, String hgvsProtein) {
+
+    public ClinVarProteinChange {
+        Objects.requireNonNull(hgvsCdna);
+        Objects.requireNonNull(hgvsProtein);
+    }
+
+    /**
+     * Parses the amino acid position from a missense HGVS protein change e.g. p.(Cys342Ser) or p.Cys342Ser returns
+     * 342.
+     *
+     * @param hgvsProtein the HGVS protein change
+     * @return the amino acid position of the change or -1 if this could not be found
+     */
+    public static int proteinPosition(String hgvsProtein) {
+        if (hgvsProtein == null) {
+            return -1;
+        }
+        int start = -1;
+        for (int i = 0; i < hgvsProtein.length(); i++) {
+            char c = hgvsProtein.charAt(i);
+            if (Character.isDigit(c)) {
+                if (start == -1) {
+                    start = i;
+                }
+            } else if (start != -1) {
+                return Integer.parseInt(hgvsProtein, start, i, 10);
+            }
+        }
+        return start == -1 ? -1 : Integer.parseInt(hgvsProtein, start, hgvsProtein.length(), 10);
+    }
+}
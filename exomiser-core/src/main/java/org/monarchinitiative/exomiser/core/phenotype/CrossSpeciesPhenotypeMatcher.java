@@ -20,27 +20,37 @@
 
 package org.monarchinitiative.exomiser.core.phenotype;
 
-import javax.annotation.Nullable;
 import java.util.*;
-import java.util.function.Function;
 
-import static java.util.stream.Collectors.*;
+import static java.util.stream.Collectors.toCollection;
 
 
 /**
  * Stores the PhenotypeMatches for a set of query PhenotypeTerms for an Organism. These represent the best possible matches
  * a {@link Model} could have.
+ * <p>
+ * The matched query and organism phenotype ids are each given an integer index when the matcher is created and the
+ * {@link PhenotypeMatch} scores are stored in a dense query x organism phenotype matrix. Scoring a model then only
+ * requires a single map look-up per model phenotype, after which the best forward and reverse matches are found by
+ * scanning primitive arrays rather than building and hashing concatenated id keys for every query-model phenotype pair.
  *
  * @author Jules Jacobsen <jules.jacobsen@sanger.ac.uk>
  */
 class CrossSpeciesPhenotypeMatcher implements PhenotypeMatcher {
 
+    private static final double NO_MATCH = Double.NEGATIVE_INFINITY;
+
     private final QueryPhenotypeMatch queryPhenotypeMatch;
 
-    private final Set<String> matchedOrganismPhenotypeIds;
-    private final Set<String> matchedQueryPhenotypeIds;
+    private final int numQueryPhenotypes;
+    // organism phenotype id : column index in the matrix
+    private final Map<String, Integer> organismPhenotypeIndex;
+    private final int numOrganismPhenotypes;
 
-    private final Map<String, PhenotypeMatch> mappedTerms;
+    // row-major [query][organism] matrices of the match scores and the corresponding PhenotypeMatch. Pairs of terms with
+    // no match have a score of NO_MATCH and a null PhenotypeMatch.
+    private final double[] scores;
+    private final PhenotypeMatch[] matches;
 
     /**
      * @param organism                  - The organism for which these PhenotypeMatches are associated.
@@ -60,27 +70,42 @@ private CrossSpeciesPhenotypeMatcher(QueryPhenotypeMatch queryPhenotypeMatch) {
 
         Map<PhenotypeTerm, Set<PhenotypeMatch>> termPhenotypeMatches = queryPhenotypeMatch.getQueryTermPhenotypeMatches();
 
-        this.matchedOrganismPhenotypeIds = termPhenotypeMatches.values()
-                .stream()
-                .flatMap(set -> set.stream().map(PhenotypeMatch::getMatchPhenotypeId))
-                .collect(collectingAndThen(toCollection(TreeSet::new), Collections::unmodifiableSet));
-
-        this.matchedQueryPhenotypeIds = queryPhenotypeMatch.getBestPhenotypeMatches()
+        // the matched query and organism phenotypes are indexed in id order
+        Set<String> matchedQueryPhenotypeIds = queryPhenotypeMatch.getBestPhenotypeMatches()
                 .stream()
                 .map(PhenotypeMatch::getQueryPhenotypeId)
                 .collect(toCollection(TreeSet::new));
+        Map<String, Integer> queryPhenotypeIndex = indexOf(matchedQueryPhenotypeIds);
 
-        //'hpId + mpId' : phenotypeMatch
-        this.mappedTerms = termPhenotypeMatches.values()
+        Set<String> matchedOrganismPhenotypeIds = termPhenotypeMatches.values()
                 .stream()
-                .flatMap(Collection::stream)
-                .collect(collectingAndThen(
-                        toMap(makeKey(), Function.identity()),
-                        Collections::unmodifiableMap));
+                .flatMap(set -> set.stream().map(PhenotypeMatch::getMatchPhenotypeId))
+                .collect(toCollection(TreeSet::new));
+        this.organismPhenotypeIndex = indexOf(matchedOrganismPhenotypeIds);
+
+        this.numQueryPhenotypes = queryPhenotypeIndex.size();
+        this.numOrganismPhenotypes = organismPhenotypeIndex.size();
+        this.scores = new double[numQueryPhenotypes * numOrganismPhenotypes];
+        this.matches = new PhenotypeMatch[numQueryPhenotypes * numOrganismPhenotypes];
+        Arrays.fill(scores, NO_MATCH);
+        for (Set<PhenotypeMatch> phenotypeMatches : termPhenotypeMatches.values()) {
+            for (PhenotypeMatch match : phenotypeMatches) {
+                Integer queryIndex = queryPhenotypeIndex.get(match.getQueryPhenotypeId());
+                if (queryIndex != null) {
+                    int cell = queryIndex * numOrganismPhenotypes + organismPhenotypeIndex.get(match.getMatchPhenotypeId());
+                    scores[cell] = match.getScore();
+                    matches[cell] = match;
+                }
+            }
+        }
     }
 
-    private Function<PhenotypeMatch, String> makeKey() {
-        return match -> KeyGenerator.forwardKey(match.getQueryPhenotypeId(), match.getMatchPhenotypeId());
+    private static Map<String, Integer> indexOf(Set<String> ids) {
+        Map<String, Integer> index = new HashMap<>();
+        for (String id : ids) {
+            index.put(id, index.size());
+        }
+        return Collections.unmodifiableMap(index);
     }
 
     @Override
@@ -117,73 +142,16 @@ public QueryPhenotypeMatch getQueryPhenotypeMatch() {
      */
     @Override
     public PhenodigmMatchRawScore matchPhenotypeIds(List<String> modelPhenotypes) {
-        return getPhenodigmMatchRawScoreNew(modelPhenotypes);
-    }
-
-    private PhenodigmMatchRawScore getPhenodigmMatchRawScoreOriginal(List<String> modelPhenotypes) {
         // Could be HP, MP or ZP id
-        List<String> matchedModelPhenotypeIds = getMatchedModelPhenotypeIds(modelPhenotypes);
-
-        // return values
-        double maxModelMatchScore = 0;
-        double sumModelBestMatchScores = 0;
-        final Map<PhenotypeTerm, PhenotypeMatch> bestPhenotypeMatchForTerms = new LinkedHashMap<>();
-
-        // calculate forwards hp-mp scores
-        for (String hpId : matchedQueryPhenotypeIds) {
-            double bestMatchScore = 0;
-            for (String mpId : matchedModelPhenotypeIds) {
-                String matchIds = hpId + mpId;
-                if (mappedTerms.containsKey(matchIds)) {
-                    PhenotypeMatch match = mappedTerms.get(matchIds);
-                    double matchScore = match.getScore();
-                    // identify best match
-                    bestMatchScore = Math.max(matchScore, bestMatchScore);
-                    if (matchScore > 0) {
-                        addMatchIfAbsentOrBetterThanCurrent(match, bestPhenotypeMatchForTerms);
-                    }
-                }
-            }
-            if (bestMatchScore > 0) {
-                sumModelBestMatchScores += bestMatchScore;
-                maxModelMatchScore = Math.max(bestMatchScore, maxModelMatchScore);
-            }
-        }
-        // calculate reciprocal mp-hp scores
-        for (String mpId : matchedModelPhenotypeIds) {
-            double bestMatchScore = 0;
-            for (String hpId : matchedQueryPhenotypeIds) {
-                String matchIds = hpId + mpId;
-                if (mappedTerms.containsKey(matchIds)) {
-                    PhenotypeMatch match = mappedTerms.get(matchIds);
-                    double matchScore = match.getScore();
-                    // identify best match
-                    bestMatchScore = Math.max(matchScore, bestMatchScore);
-                    if (matchScore > 0) {
-                        addMatchIfAbsentOrBetterThanCurrent(match, bestPhenotypeMatchForTerms);
-                    }
-                }
-            }
-            if (bestMatchScore > 0) {
-                sumModelBestMatchScores += bestMatchScore;
-                maxModelMatchScore = Math.max(bestMatchScore, maxModelMatchScore);
-            }
-        }
-
-        return new PhenodigmMatchRawScore(maxModelMatchScore, sumModelBestMatchScores, matchedModelPhenotypeIds, List
-                .copyOf(bestPhenotypeMatchForTerms.values()));
-    }
-
-    private PhenodigmMatchRawScore getPhenodigmMatchRawScoreNew(List<String> modelPhenotypes) {
-        // Could be HP, MP or ZP id
-        List<String> matchedModelPhenotypeIds = getMatchedModelPhenotypeIds(modelPhenotypes);
+        List<String> matchedModelPhenotypeIds = new ArrayList<>(modelPhenotypes.size());
+        int[] matchedModelPhenotypeIndices = getMatchedModelPhenotypeIndices(modelPhenotypes, matchedModelPhenotypeIds);
 
         // return values
         double maxModelMatchScore = 0;
         double sumModelBestMatchScores = 0;
         Map<PhenotypeTerm, PhenotypeMatch> bestPhenotypeMatchForTerms = new LinkedHashMap<>();
 
-        List<PhenotypeMatch> bestForwardReverseMatches = findBestForwardAndReverseMatches(matchedModelPhenotypeIds);
+        List<PhenotypeMatch> bestForwardReverseMatches = findBestForwardAndReverseMatches(matchedModelPhenotypeIndices);
         for (PhenotypeMatch match : bestForwardReverseMatches) {
             double score = match.getScore();
             if (score > 0) {
@@ -197,14 +165,21 @@ private PhenodigmMatchRawScore getPhenodigmMatchRawScoreNew(List<String> modelPh
                 .copyOf(bestPhenotypeMatchForTerms.values()));
     }
 
-    private List<String> getMatchedModelPhenotypeIds(List<String> modelPhenotypes) {
-        List<String> matchedModelPhenotypeIds = new ArrayList<>();
+    /**
+     * Returns the matrix column indices of the model phenotypes which have a match to a query phenotype, in the order
+     * of the input model phenotypes. The ids of these phenotypes are added to the matchedModelPhenotypeIds.
+     */
+    private int[] getMatchedModelPhenotypeIndices(List<String> modelPhenotypes, List<String> matchedModelPhenotypeIds) {
+        int[] indices = new int[modelPhenotypes.size()];
+        int numMatched = 0;
         for (String modelPhenotype : modelPhenotypes) {
-            if (matchedOrganismPhenotypeIds.contains(modelPhenotype)) {
+            Integer index = organismPhenotypeIndex.get(modelPhenotype);
+            if (index != null) {
+                indices[numMatched++] = index;
                 matchedModelPhenotypeIds.add(modelPhenotype);
             }
         }
-        return matchedModelPhenotypeIds;
+        return numMatched == indices.length ? indices : Arrays.copyOf(indices, numMatched);
     }
 
     private void addMatchIfAbsentOrBetterThanCurrent(PhenotypeMatch match, Map<PhenotypeTerm, PhenotypeMatch> bestPhenotypeMatchForTerms) {
@@ -216,82 +191,42 @@ private void addMatchIfAbsentOrBetterThanCurrent(PhenotypeMatch match, Map<Pheno
     }
 
     List<PhenotypeMatch> findBestForwardAndReverseMatches(List<String> matchedModelPhenotypeIds) {
-        // This is about 20% faster than the original implementation, is easier for the compiler to optimise and less
-        // repetitive. Doing this with streams is about 2x slower.
-        // Based on running the Pfeiffer sample three times in succession and averaging over 5 runs, time in ms
-        // 9009 human, 37522 mouse, 3157 fish models.
-        // Original implementation: 120,115,9 | 63,79,10 | 39,61,5
-        // New implementation:       98,99,10 | 60,52,15 | 29,48,8
-        List<PhenotypeMatch> bestForwardReverseMatches = new ArrayList<>();
-        // find forward matches: query-model
-        findForwardMatches(matchedModelPhenotypeIds, bestForwardReverseMatches);
-        // find reverse matches: model-query
-        findReverseMatches(matchedModelPhenotypeIds, bestForwardReverseMatches);
-        return bestForwardReverseMatches;
+        return findBestForwardAndReverseMatches(getMatchedModelPhenotypeIndices(matchedModelPhenotypeIds, new ArrayList<>()));
     }
 
-    private void findForwardMatches(List<String> matchedModelPhenotypeIds, List<PhenotypeMatch> bestForwardReverseMatches) {
-        for (String hp : matchedQueryPhenotypeIds) {
-            PhenotypeMatch best = getBestPhenotypeMatch(hp, matchedModelPhenotypeIds, KeyGenerator.FORWARD);
-            if (best != null) {
-                bestForwardReverseMatches.add(best);
+    private List<PhenotypeMatch> findBestForwardAndReverseMatches(int[] matchedModelPhenotypeIndices) {
+        List<PhenotypeMatch> bestForwardReverseMatches = new ArrayList<>();
+        // find forward matches: query-model
+        for (int query = 0; query < numQueryPhenotypes; query++) {
+            int rowStart = query * numOrganismPhenotypes;
+            int bestCell = -1;
+            double bestScore = NO_MATCH;
+            for (int model : matchedModelPhenotypeIndices) {
+                int cell = rowStart + model;
+                if (scores[cell] > bestScore) {
+                    bestScore = scores[cell];
+                    bestCell = cell;
+                }
             }
-        }
-    }
-
-    private void findReverseMatches(List<String> matchedModelPhenotypeIds, List<PhenotypeMatch> bestForwardReverseMatches) {
-        for (String mp : matchedModelPhenotypeIds) {
-            PhenotypeMatch best = getBestPhenotypeMatch(mp, matchedQueryPhenotypeIds, KeyGenerator.REVERSE);
-            if (best != null) {
-                bestForwardReverseMatches.add(best);
+            if (bestCell != -1) {
+                bestForwardReverseMatches.add(matches[bestCell]);
             }
         }
-    }
-
-    @Nullable
-    private PhenotypeMatch getBestPhenotypeMatch(String hp, Iterable<String> matchedModelPhenotypeIds, KeyGenerator keyGenerator) {
-        PhenotypeMatch best = null;
-        for (String mp : matchedModelPhenotypeIds) {
-            // mapped terms are indexed with hp-model phenotype keys. The similarity is reflexive so we just need to generate the
-            // correct key depending on which way were comparing the terms. This is handled by the relevant KeyGenerator.
-            String key = keyGenerator.getKey(hp, mp);
-            PhenotypeMatch match = mappedTerms.get(key);
-            if (match != null) {
-                if (best == null || match.getScore() > best.getScore()) {
-                    best = match;
+        // find reverse matches: model-query
+        for (int model : matchedModelPhenotypeIndices) {
+            int bestCell = -1;
+            double bestScore = NO_MATCH;
+            for (int cell = model; cell < scores.length; cell += numOrganismPhenotypes) {
+                if (scores[cell] > bestScore) {
+                    bestScore = scores[cell];
+                    bestCell = cell;
                 }
             }
+            if (bestCell != -1) {
+                bestForwardReverseMatches.add(matches[bestCell]);
+            }
         }
-        return best;
-    }
-
-    /**
-     * Generates keys for the mappedTerms map by concatenating the input values in the order defined in the implementation.
-     */
-    private interface KeyGenerator {
-
-        KeyGenerator FORWARD = new ForwardKeyGenerator();
-        KeyGenerator REVERSE = new ReverseKeyGenerator();
-
-        String getKey(String a, String b);
-
-        static String forwardKey(String a, String b) {
-            return FORWARD.getKey(a, b);
-        }
-    }
-
-    private static class ForwardKeyGenerator implements KeyGenerator {
-        @Override
-        public String getKey(String a, String b) {
-            return a + b;
-        }
-    }
-
-    private static class ReverseKeyGenerator implements KeyGenerator {
-        @Override
-        public String getKey(String a, String b) {
-            return b + a;
-        }
+        return bestForwardReverseMatches;
     }
 
     @Override
@@ -0,0 +1,61 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.phenotype.dao;
+
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeMatch;
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeTerm;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link OntologyDao} which serves the phenotype matches for an HPO term from a memory-mapped
+ * {@link PhenotypeMappingFile} rather than querying the hp_*_mappings tables of the phenotype database for every term.
+ * The ontology terms themselves are still provided by the database-backed {@link OntologyDao} for the organism.
+ *
+ * @since 14.0.0
+ */
+public class MappedOntologyDao implements OntologyDao {
+
+    private final OntologyDao ontologyTermDao;
+    private final PhenotypeMappingFile phenotypeMappingFile;
+
+    public MappedOntologyDao(OntologyDao ontologyTermDao, PhenotypeMappingFile phenotypeMappingFile) {
+        this.ontologyTermDao = Objects.requireNonNull(ontologyTermDao);
+        this.phenotypeMappingFile = Objects.requireNonNull(phenotypeMappingFile);
+    }
+
+    @Override
+    public Set<PhenotypeTerm> getAllTerms() {
+        return ontologyTermDao.getAllTerms();
+    }
+
+    @Override
+    public Set<PhenotypeMatch> getPhenotypeMatchesForHpoTerm(PhenotypeTerm hpoTerm) {
+        return phenotypeMappingFile.getPhenotypeMatches(hpoTerm);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedOntologyDao{" +
+                "phenotypeMappingFile=" + phenotypeMappingFile +
+                '}';
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.phenotype.dao;
+
+import com.google.common.collect.ImmutableSet;
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeMatch;
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeTerm;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only, memory-mapped store of the pre-computed phenotype matches for each HPO term against the terms of a single
+ * ontology i.e. the contents of one of the hp_hp_mappings, hp_mp_mappings or hp_zp_mappings tables, as written by
+ * {@link PhenotypeMappingFileWriter}. The matches for a query term are stored as a contiguous block of fixed-size
+ * records so that finding them is a single hash look-up for the block offset followed by reading the records directly
+ * from the mapped file, with no SQL or JDBC.
+ * <p>
+ * The file layout is:
+ * <pre>
+ * header:  magic (int), version (int), number of records (long), terms offset (long), number of terms (int), number of query terms (int)
+ * records: for each match, hit term index (int), LCS term index (int), simJ (double), IC (double), score (double)
+ * terms:   for each term, id (UTF), label (UTF)
+ * queries: for each query term, term index (int), first record (long), number of records (int)
+ * </pre>
+ * The term ids and labels are read onto the heap when the file is opened. The records are mapped in chunks of up to
+ * 1GB so that files with more than {@code Integer.MAX_VALUE} bytes of records can be read.
+ *
+ * @since 14.0.0
+ */
+public final class PhenotypeMappingFile {
+
+    static final int MAGIC = 0x4558504D; // 'EXPM'
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+    // 2^25 records of 32 bytes = 1GB per mapped chunk
+    static final int CHUNK_RECORDS_SHIFT = 25;
+    static final int CHUNK_RECORDS = 1 << CHUNK_RECORDS_SHIFT;
+
+    private final Path source;
+    private final PhenotypeTerm[] terms;
+    // query term id : record block
+    private final Map<String, QueryRecords> queryRecords;
+    private final MappedByteBuffer[] chunks;
+
+    private PhenotypeMappingFile(Path source, PhenotypeTerm[] terms, Map<String, QueryRecords> queryRecords, MappedByteBuffer[] chunks) {
+        this.source = source;
+        this.terms = terms;
+        this.queryRecords = queryRecords;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Maps the phenotype mappings file into memory. The file channel is closed once the records have been mapped - the
+     * mapped buffers remain valid until they are garbage collected.
+     *
+     * @param path path to a file written by the {@link PhenotypeMappingFileWriter}
+     * @return a {@link PhenotypeMappingFile} for the given path
+     * @throws IOException if the file cannot be read or is not in the expected format
+     */
+    public static PhenotypeMappingFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(path + " is not a phenotype mappings file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported phenotype mappings file version " + version + " in " + path);
+            }
+            long numRecords = header.getLong();
+            long termsOffset = header.getLong();
+            int numTerms = header.getInt();
+            int numQueries = header.getInt();
+
+            PhenotypeTerm[] terms = new PhenotypeTerm[numTerms];
+            Map<String, QueryRecords> queryRecords = new HashMap<>(numQueries * 2);
+            channel.position(termsOffset);
+            // don't close this as it will close the channel which is closed by the outer try
+            DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            for (int i = 0; i < numTerms; i++) {
+                terms[i] = PhenotypeTerm.of(dataInputStream.readUTF(), dataInputStream.readUTF());
+            }
+            for (int i = 0; i < numQueries; i++) {
+                String queryId = terms[dataInputStream.readInt()].getId();
+                queryRecords.put(queryId, new QueryRecords(dataInputStream.readLong(), dataInputStream.readInt()));
+            }
+
+            int numChunks = (int) ((numRecords + CHUNK_RECORDS - 1) >>> CHUNK_RECORDS_SHIFT);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[numChunks];
+            for (int i = 0; i < numChunks; i++) {
+                long firstRecord = (long) i << CHUNK_RECORDS_SHIFT;
+                long chunkRecords = Math.min(CHUNK_RECORDS, numRecords - firstRecord);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + firstRecord * RECORD_SIZE, chunkRecords * RECORD_SIZE);
+            }
+            return new PhenotypeMappingFile(path, terms, Map.copyOf(queryRecords), chunks);
+        }
+    }
+
+    public Path getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the phenotype matches for the query term, in the order in which they were written, or an empty set if
+     * there are none.
+     */
+    public Set<PhenotypeMatch> getPhenotypeMatches(PhenotypeTerm queryTerm) {
+        QueryRecords records = queryRecords.get(queryTerm.getId());
+        if (records == null) {
+            return Set.of();
+        }
+        ImmutableSet.Builder<PhenotypeMatch> phenotypeMatches = ImmutableSet.builderWithExpectedSize(records.numRecords());
+        for (long record = records.firstRecord(); record < records.firstRecord() + records.numRecords(); record++) {
+            MappedByteBuffer chunk = chunks[(int) (record >>> CHUNK_RECORDS_SHIFT)];
+            // absolute gets do not modify the buffer position, so are safe to share between threads
+            int offset = (int) (record & (CHUNK_RECORDS - 1)) * RECORD_SIZE;
+            PhenotypeMatch match = PhenotypeMatch.builder()
+                    .query(queryTerm)
+                    .match(terms[chunk.getInt(offset)])
+                    .lcs(terms[chunk.getInt(offset + 4)])
+                    .simj(chunk.getDouble(offset + 8))
+                    .ic(chunk.getDouble(offset + 16))
+                    .score(chunk.getDouble(offset + 24))
+                    .build();
+            phenotypeMatches.add(match);
+        }
+        return phenotypeMatches.build();
+    }
+
+    private record QueryRecords(long firstRecord, int numRecords) {
+    }
+
+    @Override
+    public String toString() {
+        return "PhenotypeMappingFile{" +
+                "source=" + source +
+                ", queryTerms=" + queryRecords.size() +
+                '}';
+    }
+}
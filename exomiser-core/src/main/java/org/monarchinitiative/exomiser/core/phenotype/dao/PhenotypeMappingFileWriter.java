@@ -0,0 +1,177 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.phenotype.dao;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static org.monarchinitiative.exomiser.core.phenotype.dao.PhenotypeMappingFile.*;
+
+/**
+ * Writes a {@link PhenotypeMappingFile} from a stream of phenotype matches. The matches can be written in any order -
+ * they are first written to a temporary file alongside the output and are then grouped by query term when
+ * {@link #finish()} is called, keeping the order in which the matches for each query term were written.
+ * <p>
+ * The output file is assembled under a temporary name and only renamed to the output path once it is complete, so a
+ * writer which is closed without being finished, for instance after an exception, leaves no partial output behind.
+ *
+ * @since 14.0.0
+ */
+public class PhenotypeMappingFileWriter implements Closeable {
+
+    private final Path path;
+    // records of query term index (int), hit term index (int), LCS term index (int), simJ, IC, score (double)
+    private final Path tempPath;
+    private final DataOutputStream tempOutputStream;
+    // the output file, until it is complete
+    private final Path partPath;
+
+    // the id and label of each term, in order of first appearance
+    private final Map<Term, Integer> termIndex = new LinkedHashMap<>();
+    // query term index : number of records
+    private final Map<Integer, Integer> queryRecordCounts = new HashMap<>();
+    private long numRecords = 0;
+
+    public PhenotypeMappingFileWriter(Path path) throws IOException {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.partPath = path.resolveSibling(path.getFileName() + ".part");
+        this.tempOutputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath), 1 << 16));
+    }
+
+    public void write(String queryId, String queryTerm, String hitId, String hitTerm, double simJ, double ic, double score, String lcsId, String lcsTerm) throws IOException {
+        int query = indexOf(queryId, queryTerm);
+        tempOutputStream.writeInt(query);
+        tempOutputStream.writeInt(indexOf(hitId, hitTerm));
+        tempOutputStream.writeInt(indexOf(lcsId, lcsTerm));
+        tempOutputStream.writeDouble(simJ);
+        tempOutputStream.writeDouble(ic);
+        tempOutputStream.writeDouble(score);
+        queryRecordCounts.merge(query, 1, Integer::sum);
+        numRecords++;
+    }
+
+    private int indexOf(String id, String label) {
+        return termIndex.computeIfAbsent(new Term(id, label), key -> termIndex.size());
+    }
+
+    public long getNumRecords() {
+        return numRecords;
+    }
+
+    /**
+     * Writes the matches to the output file, replacing any existing file at the output path. The writer should be
+     * closed afterwards.
+     */
+    public void finish() throws IOException {
+        tempOutputStream.close();
+        List<Term> terms = new ArrayList<>(termIndex.keySet());
+        // assign each query term a contiguous block of records, in query id order
+        List<Integer> queries = new ArrayList<>(queryRecordCounts.keySet());
+        queries.sort(Comparator.comparing(query -> terms.get(query).id()));
+        Map<Integer, Long> queryFirstRecords = new HashMap<>();
+        long firstRecord = 0;
+        for (Integer query : queries) {
+            queryFirstRecords.put(query, firstRecord);
+            firstRecord += queryRecordCounts.get(query);
+        }
+        long termsOffset = HEADER_SIZE + numRecords * RECORD_SIZE;
+
+        try (FileChannel channel = FileChannel.open(partPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            writeRecords(channel, queryFirstRecords);
+            // the terms and queries sections are appended after the records
+            channel.position(termsOffset);
+            DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            for (Term term : terms) {
+                dataOutputStream.writeUTF(term.id());
+                dataOutputStream.writeUTF(term.label());
+            }
+            for (Integer query : queries) {
+                dataOutputStream.writeInt(query);
+                dataOutputStream.writeLong(queryFirstRecords.get(query));
+                dataOutputStream.writeInt(queryRecordCounts.get(query));
+            }
+            dataOutputStream.flush();
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putLong(numRecords);
+            header.putLong(termsOffset);
+            header.putInt(terms.size());
+            header.putInt(queries.size());
+            header.force();
+        }
+        Files.move(partPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Removes the temporary files. If {@link #finish()} has not been called, nothing is written to the output path.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            tempOutputStream.close();
+        } finally {
+            Files.deleteIfExists(tempPath);
+            Files.deleteIfExists(partPath);
+        }
+    }
+
+    /**
+     * Copies the records from the temporary file into the block for their query term in the output file.
+     */
+    private void writeRecords(FileChannel channel, Map<Integer, Long> queryFirstRecords) throws IOException {
+        Map<Integer, Long> queryNextRecords = new HashMap<>(queryFirstRecords);
+        int numChunks = (int) ((numRecords + CHUNK_RECORDS - 1) >>> CHUNK_RECORDS_SHIFT);
+        MappedByteBuffer[] chunks = new MappedByteBuffer[numChunks];
+        for (int i = 0; i < numChunks; i++) {
+            long chunkFirstRecord = (long) i << CHUNK_RECORDS_SHIFT;
+            long chunkRecords = Math.min(CHUNK_RECORDS, numRecords - chunkFirstRecord);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + chunkFirstRecord * RECORD_SIZE, chunkRecords * RECORD_SIZE);
+        }
+        try (DataInputStream tempInputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(tempPath), 1 << 16))) {
+            for (long i = 0; i < numRecords; i++) {
+                int query = tempInputStream.readInt();
+                long record = queryNextRecords.merge(query, 1L, Long::sum) - 1;
+                MappedByteBuffer chunk = chunks[(int) (record >>> CHUNK_RECORDS_SHIFT)];
+                int offset = (int) (record & (CHUNK_RECORDS - 1)) * RECORD_SIZE;
+                chunk.putInt(offset, tempInputStream.readInt());
+                chunk.putInt(offset + 4, tempInputStream.readInt());
+                chunk.putDouble(offset + 8, tempInputStream.readDouble());
+                chunk.putDouble(offset + 16, tempInputStream.readDouble());
+                chunk.putDouble(offset + 24, tempInputStream.readDouble());
+            }
+        }
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    private record Term(String id, String label) {
+    }
+}
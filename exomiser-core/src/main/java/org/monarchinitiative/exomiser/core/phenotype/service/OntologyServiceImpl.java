@@ -29,6 +29,7 @@
 import org.monarchinitiative.exomiser.core.phenotype.PhenotypeTerm;
 import org.monarchinitiative.exomiser.core.phenotype.dao.HumanPhenotypeOntologyDao;
 import org.monarchinitiative.exomiser.core.phenotype.dao.MousePhenotypeOntologyDao;
+import org.monarchinitiative.exomiser.core.phenotype.dao.OntologyDao;
 import org.monarchinitiative.exomiser.core.phenotype.dao.ZebraFishPhenotypeOntologyDao;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,23 +54,34 @@ public class OntologyServiceImpl implements OntologyService {
 
     private static final Logger logger = LoggerFactory.getLogger(OntologyServiceImpl.class);
 
-    private final HumanPhenotypeOntologyDao hpoDao;
-    private final MousePhenotypeOntologyDao mpoDao;
-    private final ZebraFishPhenotypeOntologyDao zpoDao;
+    private final OntologyDao hpoDao;
+    private final OntologyDao mpoDao;
+    private final OntologyDao zpoDao;
 
     private final HpoIdChecker hpoIdChecker;
 
     @Autowired
     public OntologyServiceImpl(HumanPhenotypeOntologyDao hpoDao, MousePhenotypeOntologyDao mpoDao, ZebraFishPhenotypeOntologyDao zpoDao) {
+        this(hpoDao, hpoDao, mpoDao, zpoDao);
+    }
+
+    /**
+     * Use this constructor to provide alternative sources of the phenotype matches for each organism, e.g. a
+     * {@link org.monarchinitiative.exomiser.core.phenotype.dao.MappedOntologyDao}.
+     *
+     * @param hpoAltIdDao the {@link HumanPhenotypeOntologyDao} used to look up the alternate HPO ids.
+     * @since 14.0.0
+     */
+    public OntologyServiceImpl(HumanPhenotypeOntologyDao hpoAltIdDao, OntologyDao hpoDao, OntologyDao mpoDao, OntologyDao zpoDao) {
         this.hpoDao = hpoDao;
         this.mpoDao = mpoDao;
         this.zpoDao = zpoDao;
 
-        Map<String, PhenotypeTerm> hpAltIds = setUpHpoAltIds();
+        Map<String, PhenotypeTerm> hpAltIds = setUpHpoAltIds(hpoAltIdDao);
         this.hpoIdChecker = HpoIdChecker.of(hpAltIds);
     }
 
-    private Map<String, PhenotypeTerm> setUpHpoAltIds() {
+    private Map<String, PhenotypeTerm> setUpHpoAltIds(HumanPhenotypeOntologyDao hpoDao) {
         Map<String, PhenotypeTerm> hpAltIds = hpoDao.getIdToPhenotypeTerms();
         // in cases where there old phenotype database schema is being used the above will log an exception
         // and return an empty list. In that case instead of refusing to start, revert back to the old behaviour of not
@@ -94,11 +94,14 @@ public Stream<HiPhivePriorityResult> prioritise(List<String> hpoIds, List<Gene>
 
         HiPhiveProteinInteractionScorer ppiScorer = makeHiPhiveProteinInteractionScorer(allScoredModelsByGene, options.runPpi());
 
+        List<Integer> entrezGeneIds = genes.stream().map(Gene::getEntrezGeneID).collect(toUnmodifiableList());
+        Map<Integer, GeneMatch> closestPhenoMatchesInNetwork = ppiScorer.getClosestPhenoMatchesInNetwork(entrezGeneIds);
+
         logger.debug("Prioritising genes...");
-        return genes.stream().map(makeHiPhivePriorityResult(hpoPhenotypeTerms, allScoredModelsByGene, ppiScorer));
+        return genes.stream().map(makeHiPhivePriorityResult(hpoPhenotypeTerms, allScoredModelsByGene, closestPhenoMatchesInNetwork));
     }
 
-    private Function<Gene, HiPhivePriorityResult> makeHiPhivePriorityResult(List<PhenotypeTerm> hpoPhenotypeTerms, ListMultimap<Integer, GeneModelPhenotypeMatch> allScoredModelsByGene, HiPhiveProteinInteractionScorer ppiScorer) {
+    private Function<Gene, HiPhivePriorityResult> makeHiPhivePriorityResult(List<PhenotypeTerm> hpoPhenotypeTerms, ListMultimap<Integer, GeneModelPhenotypeMatch> allScoredModelsByGene, Map<Integer, GeneMatch> closestPhenoMatchesInNetwork) {
         return gene -> {
             Integer entrezGeneId = gene.getEntrezGeneID();
             String geneSymbol = gene.getGeneSymbol();
@@ -107,7 +110,7 @@ private Function<Gene, HiPhivePriorityResult> makeHiPhivePriorityResult(List<Phe
 
             double phenoScore = getMaxGenePhenoScore(geneModelPhenotypeMatches);
 
-            GeneMatch closestPhenoMatchInNetwork = ppiScorer.getClosestPhenoMatchInNetwork(entrezGeneId);
+            GeneMatch closestPhenoMatchInNetwork = closestPhenoMatchesInNetwork.getOrDefault(entrezGeneId, GeneMatch.NO_HIT);
             List<GeneModelPhenotypeMatch> closestPhysicallyInteractingGeneModels = closestPhenoMatchInNetwork.getBestMatchModels();
             double ppiScore = closestPhenoMatchInNetwork.getScore();
 
@@ -161,7 +164,9 @@ private ListMultimap<Integer, GeneModelPhenotypeMatch> makeGeneModelsForOrganism
         ListMultimap<Integer, GeneModelPhenotypeMatch> scoredModelsByGene = ArrayListMultimap.create();
         Set<Integer> wantedGeneIds = genes.stream().map(Gene::getEntrezGeneID).collect(toUnmodifiableSet());
         for (PhenotypeMatcher organismPhenotypeMatcher : phenotypeMatchers) {
-            Set<GeneModel> modelsToScore = priorityService.getModelsForOrganism(organismPhenotypeMatcher.getOrganism())
+            // only the models with a phenotype matching the query can have a score above zero
+            Set<String> matchedPhenotypeIds = getMatchedPhenotypeIds(organismPhenotypeMatcher);
+            Set<GeneModel> modelsToScore = priorityService.getModelsForOrganismWithPhenotypes(organismPhenotypeMatcher.getOrganism(), matchedPhenotypeIds)
                     .stream()
                     // remove known disease-gene models for purposes of benchmarking i.e to simulate novel gene discovery performance
                     .filter(removeBenchmarkingModels())
@@ -178,6 +183,16 @@ private ListMultimap<Integer, GeneModelPhenotypeMatch> makeGeneModelsForOrganism
         return scoredModelsByGene;
     }
 
+    private Set<String> getMatchedPhenotypeIds(PhenotypeMatcher organismPhenotypeMatcher) {
+        Set<String> matchedPhenotypeIds = new HashSet<>();
+        for (Set<PhenotypeMatch> phenotypeMatches : organismPhenotypeMatcher.getTermPhenotypeMatches().values()) {
+            for (PhenotypeMatch phenotypeMatch : phenotypeMatches) {
+                matchedPhenotypeIds.add(phenotypeMatch.getMatchPhenotypeId());
+            }
+        }
+        return matchedPhenotypeIds;
+    }
+
     private List<PhenotypeMatcher> createPhenotypeMatchers(List<PhenotypeTerm> hpoPhenotypeTerms, PhenotypeMatcher referenceOrganismPhenotypeMatcher, Set<Organism> organismsToCompare) {
         List<PhenotypeMatcher> phenotypeMatchers = new ArrayList<>();
         for (Organism organism : organismsToCompare) {
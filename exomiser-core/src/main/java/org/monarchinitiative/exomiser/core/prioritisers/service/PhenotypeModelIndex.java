@@ -0,0 +1,83 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.prioritisers.service;
+
+import org.monarchinitiative.exomiser.core.prioritisers.model.GeneModel;
+
+import java.util.*;
+
+/**
+ * Inverted index of phenotype id to the models annotated with that phenotype, for a single organism. This is used to
+ * find the models which share at least one phenotype with the matches for a query, as all other models will score zero
+ * against it.
+ *
+ * @since 14.0.0
+ */
+class PhenotypeModelIndex {
+
+    private static final int[] NO_MODELS = new int[0];
+
+    private final List<GeneModel> models;
+    // phenotype id : indices of the models annotated with that phenotype, in ascending order
+    private final Map<String, int[]> phenotypeModelIndices;
+
+    PhenotypeModelIndex(List<GeneModel> models) {
+        this.models = List.copyOf(models);
+        Map<String, List<Integer>> phenotypeModels = new HashMap<>();
+        for (int i = 0; i < this.models.size(); i++) {
+            for (String phenotypeId : this.models.get(i).getPhenotypeIds()) {
+                List<Integer> modelIndices = phenotypeModels.computeIfAbsent(phenotypeId, k -> new ArrayList<>());
+                // models can be annotated with the same phenotype more than once
+                if (modelIndices.isEmpty() || modelIndices.get(modelIndices.size() - 1) != i) {
+                    modelIndices.add(i);
+                }
+            }
+        }
+        Map<String, int[]> index = new HashMap<>(phenotypeModels.size());
+        phenotypeModels.forEach((phenotypeId, modelIndices) -> index.put(phenotypeId, modelIndices.stream().mapToInt(Integer::intValue).toArray()));
+        this.phenotypeModelIndices = index;
+    }
+
+    int size() {
+        return models.size();
+    }
+
+    List<GeneModel> getModels() {
+        return models;
+    }
+
+    /**
+     * @param phenotypeIds the phenotype ids to find models for
+     * @return the models annotated with at least one of the given phenotype ids, in the order the models were indexed
+     */
+    List<GeneModel> getModelsWithAnyPhenotype(Collection<String> phenotypeIds) {
+        BitSet matchedModels = new BitSet(models.size());
+        for (String phenotypeId : phenotypeIds) {
+            for (int modelIndex : phenotypeModelIndices.getOrDefault(phenotypeId, NO_MODELS)) {
+                matchedModels.set(modelIndex);
+            }
+        }
+        List<GeneModel> matched = new ArrayList<>(matchedModels.cardinality());
+        for (int i = matchedModels.nextSetBit(0); i >= 0; i = matchedModels.nextSetBit(i + 1)) {
+            matched.add(models.get(i));
+        }
+        return matched;
+    }
+}
@@ -38,8 +38,11 @@
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service class which offers a single interface to other services required by
@@ -56,6 +59,8 @@ public class PriorityService {
     private final PhenotypeMatchService phenotypeMatchService;
     private final DiseaseDao diseaseDao;
 
+    private final Map<Organism, OrganismModelIndex> phenotypeModelIndices = new ConcurrentHashMap<>();
+
     @Autowired
     public PriorityService(ModelService modelService, PhenotypeMatchService phenotypeMatchService, DiseaseDao diseaseDao) {
         this.modelService = modelService;
@@ -87,8 +92,38 @@ public PhenotypeMatcher getPhenotypeMatcherForOrganism(List<PhenotypeTerm> query
         }
     }
 
+    /**
+     * Returns all the models for the organism. These are loaded from the {@link ModelService} once per organism and
+     * kept, together with their {@link PhenotypeModelIndex}, for the lifetime of this service so that this and
+     * {@link #getModelsForOrganismWithPhenotypes(Organism, Collection)} share a single copy of the models.
+     */
     @Cacheable(value = "models", key = "#species", cacheResolver = "modelCacheResolver")
     public List<GeneModel> getModelsForOrganism(Organism species) {
+        return getPhenotypeModelIndex(species).getModels();
+    }
+
+    /**
+     * Returns the models for the organism which are annotated with at least one of the given phenotype ids. Any other
+     * model cannot match the query phenotypes and so would score zero. The models are indexed by their phenotypes the
+     * first time an organism is requested. The index is permanent - it is never evicted or rebuilt for the lifetime of
+     * this service, so changes to the underlying model data will not be seen without restarting the application.
+     *
+     * @param species      the organism of the models
+     * @param phenotypeIds the HP, MP or ZP ids matched by the query phenotypes for this organism
+     * @return the models for the organism with at least one of the phenotypes, in the same order as
+     * {@link #getModelsForOrganism(Organism)}
+     * @since 14.0.0
+     */
+    public List<GeneModel> getModelsForOrganismWithPhenotypes(Organism species, Collection<String> phenotypeIds) {
+        return getPhenotypeModelIndex(species).getModelsWithAnyPhenotype(phenotypeIds);
+    }
+
+    private PhenotypeModelIndex getPhenotypeModelIndex(Organism species) {
+        // the holder is cheap to create, the models are only loaded by the first call to get() and outside of the map
+        return phenotypeModelIndices.computeIfAbsent(species, OrganismModelIndex::new).get();
+    }
+
+    private List<GeneModel> loadModelsForOrganism(Organism species) {
         logger.debug("Fetching disease/gene model phenotype annotations and HUMAN-{} gene orthologs", species);
         switch (species) {
             case HUMAN:
@@ -102,6 +137,35 @@ public List<GeneModel> getModelsForOrganism(Organism species) {
         }
     }
 
+    /**
+     * Memoises the {@link PhenotypeModelIndex} for an organism, so concurrent first requests for the same organism
+     * load the models only once without blocking requests for other organisms.
+     */
+    private final class OrganismModelIndex {
+
+        private final Organism species;
+        private volatile PhenotypeModelIndex phenotypeModelIndex;
+
+        private OrganismModelIndex(Organism species) {
+            this.species = species;
+        }
+
+        private PhenotypeModelIndex get() {
+            PhenotypeModelIndex index = phenotypeModelIndex;
+            if (index == null) {
+                synchronized (this) {
+                    index = phenotypeModelIndex;
+                    if (index == null) {
+                        index = new PhenotypeModelIndex(loadModelsForOrganism(species));
+                        logger.debug("Indexed phenotypes for {} {} models", index.size(), species);
+                        phenotypeModelIndex = index;
+                    }
+                }
+            }
+            return index;
+        }
+    }
+
     public List<Disease> getDiseaseDataAssociatedWithGeneId(int geneId) {
         return diseaseDao.getDiseaseDataAssociatedWithGeneId(geneId);
     }
@@ -27,7 +27,10 @@
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.zip.GZIPInputStream;
@@ -118,6 +121,96 @@ public static DataMatrix loadInMemoryDataMatrix(Path ppiMapPath) {
         return InMemoryDataMatrix.fromMap(columns, entrezIdToRowIndex);
     }
 
+    /**
+     * Loads a memory-mapped {@code DataMatrix} written by {@link #writeMappedDataMatrix(DataMatrix, Path)}. Like the
+     * off-heap matrix this takes no start-up time or heap, but the data is read straight from the OS page cache without
+     * deserialising the columns, and is shared between any other JVMs on the same host using the same file.
+     *
+     * @param mappedMatrixPath the {@code Path} to the memory-mapped {@code DataMatrix} file.
+     * @return a memory-mapped instance of the {@code DataMatrix}
+     * @since 14.0.0
+     */
+    public static DataMatrix loadMappedDataMatrix(Path mappedMatrixPath) {
+        logger.debug("Loading memory-mapped PPI data matrix from {}...", mappedMatrixPath);
+        try {
+            return MappedDataMatrix.open(mappedMatrixPath);
+        } catch (IOException e) {
+            throw new DataMatrixIoException("Unable to load mapped DataMatrix from " + mappedMatrixPath, e);
+        }
+    }
+
+    /**
+     * Converts the {@link MVStore} {@code DataMatrix} at {@code ppiMapPath}, as written by
+     * {@link #convertToMap(String, String, Path)}, into the memory-mapped format read by
+     * {@link #loadMappedDataMatrix(Path)}. The columns are copied one at a time so the whole matrix is never held in
+     * memory.
+     *
+     * @param ppiMapPath the {@code Path} to the {@link MVStore} containing the {@code DataMatrix} data.
+     * @param outFile    the writable {@code Path} of the desired output file.
+     * @since 14.0.0
+     */
+    public static void convertToMappedDataMatrix(Path ppiMapPath, Path outFile) {
+        OffHeapDataMatrix offHeapDataMatrix = OffHeapDataMatrix.load(ppiMapPath);
+        try {
+            writeMappedDataMatrix(offHeapDataMatrix, outFile);
+        } finally {
+            offHeapDataMatrix.close();
+        }
+    }
+
+    /**
+     * Writes the {@code DataMatrix} in the memory-mapped format read by {@link #loadMappedDataMatrix(Path)}, fetching
+     * each gene column with {@link DataMatrix#getColumnMatrixForGene(int)}.
+     *
+     * @param dataMatrix the square {@code DataMatrix} to write.
+     * @param outFile    the writable {@code Path} of the desired output file.
+     * @since 14.0.0
+     */
+    public static void writeMappedDataMatrix(DataMatrix dataMatrix, Path outFile) {
+        int numRows = dataMatrix.numRows();
+        if (numRows != dataMatrix.numColumns()) {
+            throw new IllegalArgumentException("DataMatrix must be square");
+        }
+        Map<Integer, Integer> entrezIdToRowIndex = dataMatrix.getEntrezIdToRowIndex();
+        // the columns are written in row index order
+        int[] geneIdsByRowIndex = new int[numRows];
+        for (Map.Entry<Integer, Integer> entry : entrezIdToRowIndex.entrySet()) {
+            geneIdsByRowIndex[entry.getValue()] = entry.getKey();
+        }
+        logger.info("Writing {} * {} memory-mapped DataMatrix to {}", numRows, numRows, outFile);
+        try (FileChannel channel = FileChannel.open(outFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(MappedDataMatrix.HEADER_SIZE)
+                    .putInt(MappedDataMatrix.MAGIC)
+                    .putInt(MappedDataMatrix.VERSION)
+                    .putInt(numRows)
+                    .putInt(numRows);
+            writeFully(channel, header.flip());
+
+            ByteBuffer index = ByteBuffer.allocate(numRows * MappedDataMatrix.INDEX_ENTRY_SIZE);
+            for (int row = 0; row < numRows; row++) {
+                index.putInt(geneIdsByRowIndex[row]).putInt(row);
+            }
+            writeFully(channel, index.flip());
+
+            ByteBuffer column = ByteBuffer.allocate(numRows * Float.BYTES);
+            for (int row = 0; row < numRows; row++) {
+                logLineNumberIfMultipleOf(row, 500);
+                FloatMatrix columnMatrix = dataMatrix.getColumnMatrixForGene(geneIdsByRowIndex[row]);
+                column.clear();
+                column.asFloatBuffer().put(columnMatrix.data, 0, numRows);
+                writeFully(channel, column);
+            }
+        } catch (IOException e) {
+            throw new DataMatrixIoException("Unable to write mapped DataMatrix to " + outFile, e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
     /**
      * Loads an in memory {@code DataMatrix} from the input file arguments. This is inferior to using one of the map-backed
      * implementations as it takes a lot longer to load (typically ~45-60s compared to ~5s) and ~1GB more RAM than the
@@ -22,15 +22,22 @@
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
-import org.jblas.FloatMatrix;
 import org.monarchinitiative.exomiser.core.prioritisers.model.GeneMatch;
 import org.monarchinitiative.exomiser.core.prioritisers.model.GeneModelPhenotypeMatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
+ * Finds the closest high-quality phenotypically matched gene in the protein-protein interaction network for a gene.
+ * <p>
+ * The weighted random-walk scores for the high-quality genes are held as a dense row-major {@code float[]} with one
+ * row per gene in the {@link DataMatrix} and one column per high-quality gene, so finding the closest gene is a
+ * sequential scan of a single row. {@link #getClosestPhenoMatchesInNetwork(Collection)} will scan the rows for a batch
+ * of genes in parallel.
  *
  * @author Jules Jacobsen <j.jacobsen@qmul.ac.uk>
  */
@@ -44,7 +51,10 @@ public class HiPhiveProteinInteractionScorer {
     private final ListMultimap<Integer, GeneModelPhenotypeMatch> bestGeneModels;
 
     private final List<GeneColumnIndex> weightedHighQualityMatrixIndex;
-    private final FloatMatrix weightedHighQualityMatrix;
+    private final Map<Integer, Integer> highQualityGeneColumns;
+    // row-major numRows * numHighQualityColumns matrix
+    private final float[] weightedHighQualityMatrix;
+    private final int numHighQualityColumns;
 
     public static HiPhiveProteinInteractionScorer empty() {
         return EMPTY;
@@ -55,7 +65,9 @@ private HiPhiveProteinInteractionScorer() {
         this.bestGeneModels = ArrayListMultimap.create();
 
         this.weightedHighQualityMatrixIndex = Collections.emptyList();
-        this.weightedHighQualityMatrix = FloatMatrix.EMPTY;
+        this.highQualityGeneColumns = Collections.emptyMap();
+        this.weightedHighQualityMatrix = new float[0];
+        this.numHighQualityColumns = 0;
     }
 
     public HiPhiveProteinInteractionScorer(DataMatrix dataMatrix, ListMultimap<Integer, GeneModelPhenotypeMatch> bestGeneModels, double highQualityPhenoScoreCutOff) {
@@ -63,6 +75,8 @@ public HiPhiveProteinInteractionScorer(DataMatrix dataMatrix, ListMultimap<Integ
         this.bestGeneModels = bestGeneModels;
 
         this.weightedHighQualityMatrixIndex = makeWeightedHighQualityMatrixIndex(highQualityPhenoScoreCutOff, dataMatrix, bestGeneModels.values());
+        this.highQualityGeneColumns = makeHighQualityGeneColumns(weightedHighQualityMatrixIndex);
+        this.numHighQualityColumns = weightedHighQualityMatrixIndex.size();
         this.weightedHighQualityMatrix = makeWeightedHighQualityProteinInteractionMatrix(dataMatrix, weightedHighQualityMatrixIndex);
     }
 
@@ -98,42 +112,65 @@ private Map<Integer, Double> getHighestGeneIdPhenoScoresInDataMatrix(double high
         return Collections.unmodifiableMap(highestGeneIdPhenoScores);
     }
 
-    private FloatMatrix makeWeightedHighQualityProteinInteractionMatrix(DataMatrix dataMatrix, List<GeneColumnIndex> highQualityPhenotypeMappings) {
+    private Map<Integer, Integer> makeHighQualityGeneColumns(List<GeneColumnIndex> highQualityPhenotypeMappings) {
+        Map<Integer, Integer> geneColumns = new HashMap<>();
+        for (GeneColumnIndex geneColumnIndex : highQualityPhenotypeMappings) {
+            geneColumns.put(geneColumnIndex.geneId, geneColumnIndex.columnIndex);
+        }
+        return geneColumns;
+    }
+
+    private float[] makeWeightedHighQualityProteinInteractionMatrix(DataMatrix dataMatrix, List<GeneColumnIndex> highQualityPhenotypeMappings) {
         logger.debug("Making weighted-score Protein-Protein interaction sub-matrix from high quality phenotypic gene matches...");
         logger.debug("Original data matrix ({} rows * {} columns)", dataMatrix.numRows(), dataMatrix.numColumns());
         int rows = dataMatrix.numRows();
         int cols = highQualityPhenotypeMappings.size();
-        FloatMatrix highQualityPpiMatrix = FloatMatrix.zeros(rows, cols);
+        float[] highQualityPpiMatrix = new float[Math.multiplyExact(rows, cols)];
         for (GeneColumnIndex geneColumnIndex : highQualityPhenotypeMappings) {
             //The original DataMatrix is a symmetrical matrix this new one is asymmetrical with the original rows but only high-quality columns.
-            FloatMatrix column = dataMatrix.getColumnMatrixForGene(geneColumnIndex.geneId);
-            FloatMatrix weightedColumn = column.mul((float) geneColumnIndex.phenoScore);
-            highQualityPpiMatrix.putColumn(geneColumnIndex.columnIndex, weightedColumn);
+            float[] column = dataMatrix.getColumnMatrixForGene(geneColumnIndex.geneId).data;
+            float phenoScore = (float) geneColumnIndex.phenoScore;
+            for (int row = 0; row < rows; row++) {
+                highQualityPpiMatrix[row * cols + geneColumnIndex.columnIndex] = column[row] * phenoScore;
+            }
         }
-        logger.debug("Made high quality interaction matrix ({} rows * {} columns)", highQualityPpiMatrix.getRows(), highQualityPpiMatrix
-                .getColumns());
+        logger.debug("Made high quality interaction matrix ({} rows * {} columns)", rows, cols);
         return highQualityPpiMatrix;
     }
 
+    /**
+     * Finds the closest phenotype match in the interaction network for each of the given genes, scanning the rows of the
+     * weighted high-quality matrix in parallel.
+     *
+     * @param entrezGeneIds the entrez gene ids of the genes to find matches for
+     * @return a map of entrez gene id to its closest {@link GeneMatch}, which may be {@link GeneMatch#NO_HIT}
+     * @since 14.0.0
+     */
+    public Map<Integer, GeneMatch> getClosestPhenoMatchesInNetwork(Collection<Integer> entrezGeneIds) {
+        return entrezGeneIds.parallelStream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), this::getClosestPhenoMatchInNetwork));
+    }
+
     public GeneMatch getClosestPhenoMatchInNetwork(Integer entrezGeneId) {
         if (!dataMatrix.containsGene(entrezGeneId) || weightedHighQualityMatrixIndex.isEmpty()) {
             return GeneMatch.NO_HIT;
         }
         int rowIndex = dataMatrix.getRowIndexForGene(entrezGeneId);
-        GeneColumnIndex topHighQualityGene = getGeneColumnIndexOfMostPhenotypicallySimilarGene(rowIndex, entrezGeneId);
+        int topHighQualityColumn = getColumnOfMostPhenotypicallySimilarGene(rowIndex, entrezGeneId);
         /* Changed method to return -1 if no hit as otherwise could not distinguish between
         no hit or hit to 1st entry in column (entrezGene 50640). When querying with 50640 this
         resulted in a self-hit being returned with a PPI score of 0.5+0.7=1.2 and also lots of
         low-scoring (0.5) PPI hits to 50640 for other genes with no PPI match
          */
-        if (topHighQualityGene == null) {
+        if (topHighQualityColumn == -1) {
             return GeneMatch.NO_HIT;
         }
 
         // optimal adjustment based on benchmarking to allow walker scores to compete with low phenotype scores
-        double walkerScore = 0.5 + weightedHighQualityMatrix.get(rowIndex, topHighQualityGene.columnIndex);
+        double walkerScore = 0.5 + weightedHighQualityMatrix[rowIndex * numHighQualityColumns + topHighQualityColumn];
 
-        Integer closestGeneId = topHighQualityGene.geneId;
+        Integer closestGeneId = weightedHighQualityMatrixIndex.get(topHighQualityColumn).geneId;
         List<GeneModelPhenotypeMatch> models = bestGeneModels.get(closestGeneId);
 
         return GeneMatch.builder()
@@ -144,20 +181,20 @@ public GeneMatch getClosestPhenoMatchInNetwork(Integer entrezGeneId) {
                 .build();
     }
 
-    private GeneColumnIndex getGeneColumnIndexOfMostPhenotypicallySimilarGene(int rowIndex, Integer entrezGeneId) {
-        GeneColumnIndex bestGeneColumnIndex = null;
-        double bestScore = 0;
-        for (GeneColumnIndex geneColumnIndex : weightedHighQualityMatrixIndex) {
-            //avoid self-hits now are testing genes with direct pheno-evidence as well
-            if (!geneColumnIndex.geneId.equals(entrezGeneId)) {
-                double cellScore = weightedHighQualityMatrix.get(rowIndex, geneColumnIndex.columnIndex);
-                if (cellScore > bestScore) {
-                    bestScore = cellScore;
-                    bestGeneColumnIndex = geneColumnIndex;
-                }
+    private int getColumnOfMostPhenotypicallySimilarGene(int rowIndex, Integer entrezGeneId) {
+        //avoid self-hits now are testing genes with direct pheno-evidence as well
+        int selfColumn = highQualityGeneColumns.getOrDefault(entrezGeneId, -1);
+        int rowOffset = rowIndex * numHighQualityColumns;
+        int bestColumn = -1;
+        float bestScore = 0;
+        for (int column = 0; column < numHighQualityColumns; column++) {
+            float cellScore = weightedHighQualityMatrix[rowOffset + column];
+            if (cellScore > bestScore && column != selfColumn) {
+                bestScore = cellScore;
+                bestColumn = column;
             }
         }
-        return bestGeneColumnIndex;
+        return bestColumn;
     }
 
     /**
@@ -0,0 +1,196 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.prioritisers.util;
+
+import com.google.common.collect.ImmutableMap;
+import org.jblas.FloatMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Read-only, memory-mapped {@code DataMatrix} implementation, as written by
+ * {@link DataMatrixIO#writeMappedDataMatrix(DataMatrix, Path)}. The float values are read directly from the OS page
+ * cache, so there is no start-up cost, no heap is used for the matrix and several JVMs on the same host share a
+ * single copy of the data.
+ * <p>
+ * The file layout is:
+ * <pre>
+ * header:  magic (int), version (int), number of rows (int), number of columns (int)
+ * index:   for each gene, entrez gene id (int), row index (int)
+ * data:    for each row index, the numRows float values of the matrix column for that gene
+ * </pre>
+ * i.e. the data is the row-major transpose of the matrix so that {@link #getColumnMatrixForGene(int)} is a single
+ * contiguous read.
+ *
+ * @since 14.0.0
+ */
+public final class MappedDataMatrix implements DataMatrix {
+
+    static final int MAGIC = 0x45585257; // 'EXRW'
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int INDEX_ENTRY_SIZE = 8;
+
+    private final Path source;
+    private final int numRows;
+    private final Map<Integer, Integer> entrezIdToRowIndex;
+    private final int columnsPerChunk;
+    private final FloatBuffer[] chunks;
+
+    private FloatMatrix floatMatrix = null;
+
+    private MappedDataMatrix(Path source, int numRows, Map<Integer, Integer> entrezIdToRowIndex, int columnsPerChunk, FloatBuffer[] chunks) {
+        this.source = source;
+        this.numRows = numRows;
+        this.entrezIdToRowIndex = entrezIdToRowIndex;
+        this.columnsPerChunk = columnsPerChunk;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Maps the matrix file into memory. The file channel is closed once the data has been mapped - the mapped
+     * buffers remain valid until they are garbage collected.
+     *
+     * @param path path to a file written by {@link DataMatrixIO#writeMappedDataMatrix(DataMatrix, Path)}
+     * @return a {@link MappedDataMatrix} for the given path
+     * @throws IOException if the file cannot be read or is not in the expected format
+     */
+    public static MappedDataMatrix open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(path + " is not a mapped data matrix file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported mapped data matrix file version " + version + " in " + path);
+            }
+            int numRows = header.getInt();
+            int numColumns = header.getInt();
+            if (numRows != numColumns) {
+                throw new IOException("Mapped data matrix " + path + " must be square");
+            }
+
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) numColumns * INDEX_ENTRY_SIZE);
+            ImmutableMap.Builder<Integer, Integer> entrezIdToRowIndex = ImmutableMap.builderWithExpectedSize(numColumns);
+            for (int i = 0; i < numColumns; i++) {
+                int entrezGeneId = index.getInt();
+                int rowIndex = index.getInt();
+                if (rowIndex < 0 || rowIndex >= numRows) {
+                    throw new IOException("Row index " + rowIndex + " for gene " + entrezGeneId + " is out of bounds in " + path);
+                }
+                entrezIdToRowIndex.put(entrezGeneId, rowIndex);
+            }
+
+            long dataOffset = dataOffset(numColumns);
+            long columnSize = (long) numRows * Float.BYTES;
+            if (dataOffset + numColumns * columnSize > channel.size()) {
+                throw new IOException("Mapped data matrix " + path + " is truncated");
+            }
+            // a single mapping is limited to 2GB so the columns are mapped in chunks of whole columns
+            int columnsPerChunk = numRows == 0 ? 1 : (int) Math.max(1, Integer.MAX_VALUE / columnSize);
+            FloatBuffer[] chunks = new FloatBuffer[(numColumns + columnsPerChunk - 1) / columnsPerChunk];
+            for (int i = 0; i < chunks.length; i++) {
+                int chunkColumns = Math.min(columnsPerChunk, numColumns - i * columnsPerChunk);
+                long chunkOffset = dataOffset + i * columnsPerChunk * columnSize;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, chunkOffset, chunkColumns * columnSize).asFloatBuffer();
+            }
+            return new MappedDataMatrix(path, numRows, entrezIdToRowIndex.build(), columnsPerChunk, chunks);
+        }
+    }
+
+    static long dataOffset(int numColumns) {
+        return HEADER_SIZE + (long) numColumns * INDEX_ENTRY_SIZE;
+    }
+
+    public Path getSource() {
+        return source;
+    }
+
+    @Override
+    public Map<Integer, Integer> getEntrezIdToRowIndex() {
+        return entrezIdToRowIndex;
+    }
+
+    @Override
+    public FloatMatrix getMatrix() {
+        if (floatMatrix == null) {
+            //this copies the whole matrix onto the heap - prefer getColumnMatrixForGene
+            FloatMatrix matrix = new FloatMatrix(numRows, numRows);
+            float[] values = new float[numRows];
+            for (int column = 0; column < numRows; column++) {
+                readColumn(column, values);
+                matrix.putColumn(column, new FloatMatrix(values));
+            }
+            floatMatrix = matrix;
+        }
+        return floatMatrix;
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numColumns() {
+        return numRows;
+    }
+
+    @Override
+    public boolean containsGene(Integer entrezGeneId) {
+        return entrezIdToRowIndex.containsKey(entrezGeneId);
+    }
+
+    @Override
+    public Integer getRowIndexForGene(int entrezGeneId) {
+        return entrezIdToRowIndex.get(entrezGeneId);
+    }
+
+    @Override
+    public FloatMatrix getColumnMatrixForGene(int entrezGeneId) {
+        Integer rowIndex = entrezIdToRowIndex.get(entrezGeneId);
+        if (rowIndex == null) {
+            return null;
+        }
+        float[] values = new float[numRows];
+        readColumn(rowIndex, values);
+        return new FloatMatrix(values);
+    }
+
+    private void readColumn(int column, float[] values) {
+        // absolute bulk get - this does not change the buffer position so is safe to use from multiple threads
+        chunks[column / columnsPerChunk].get((column % columnsPerChunk) * numRows, values);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedDataMatrix{" +
+                "source=" + source +
+                ", numRows=" + numRows +
+                '}';
+    }
+}
@@ -28,9 +28,7 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
-import java.util.EnumSet;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Facade for handling writing out {@link org.monarchinitiative.exomiser.core.analysis.AnalysisResults}
@@ -48,14 +46,20 @@ private AnalysisResultsWriter() {
     /**
      * @param analysisResults
      * @param outputOptions
+     * @return the paths of the files written
      * @since 13.0.0
      */
-    public static void writeToFile(AnalysisResults analysisResults, OutputProto.OutputOptions outputOptions) {
+    public static List<Path> writeToFile(AnalysisResults analysisResults, OutputProto.OutputOptions outputOptions) {
         OutputSettings outputSettings = new OutputSettingsProtoConverter().toDomain(outputOptions);
-        writeToFile(analysisResults, outputSettings);
+        return writeToFile(analysisResults, outputSettings);
     }
 
-    public static void writeToFile(AnalysisResults analysisResults, OutputSettings outputSettings) {
+    /**
+     * @param analysisResults
+     * @param outputSettings
+     * @return the paths of the files written
+     */
+    public static List<Path> writeToFile(AnalysisResults analysisResults, OutputSettings outputSettings) {
         Path outputDir = createOutputDirectoriesIfNotExists(outputSettings);
         logger.debug("Writing results to directory {}", outputDir);
 
@@ -63,11 +67,24 @@ public static void writeToFile(AnalysisResults analysisResults, OutputSettings o
                 ? DEFAULT_OUTPUT_FORMATS
                 : outputSettings.getOutputFormats();
 
+        List<Path> outputFiles = new ArrayList<>(outputFormats.size());
         for (OutputFormat outputFormat : outputFormats) {
             var resultsWriter = ResultsWriterFactory.getResultsWriter(outputFormat);
             logger.debug("Writing {} results", outputFormat);
             resultsWriter.writeFile(analysisResults, outputSettings);
+            Path outputFile = outputFilePath(analysisResults, outputSettings, outputFormat);
+            // the VCF output is skipped for samples without a VCF
+            if (Files.exists(outputFile)) {
+                outputFiles.add(outputFile);
+            }
         }
+        return outputFiles;
+    }
+
+    private static Path outputFilePath(AnalysisResults analysisResults, OutputSettings outputSettings, OutputFormat outputFormat) {
+        Path outputFile = outputSettings.makeOutputFilePath(analysisResults.getSample().getVcfPath(), outputFormat);
+        // VCF results are written compressed
+        return outputFormat == OutputFormat.VCF ? Path.of(outputFile + ".gz") : outputFile;
     }
 
     private static Path createOutputDirectoriesIfNotExists(OutputSettings outputSettings) {
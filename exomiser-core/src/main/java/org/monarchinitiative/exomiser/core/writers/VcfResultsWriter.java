@@ -36,6 +36,7 @@
 import org.monarchinitiative.exomiser.core.analysis.util.acmg.AcmgClassification;
 import org.monarchinitiative.exomiser.core.analysis.util.acmg.AcmgCriterion;
 import org.monarchinitiative.exomiser.core.analysis.util.acmg.AcmgEvidence;
+import org.monarchinitiative.exomiser.core.genome.CompactVariantContexts;
 import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
 import org.monarchinitiative.exomiser.core.genome.VcfFiles;
 import org.monarchinitiative.exomiser.core.model.*;
@@ -168,8 +169,12 @@ private void writeData(AnalysisResults analysisResults, OutputSettings outputSet
             return;
         }
 
+        // compact variants only hold the site information, so the full records need reading from the VCF again
+        Map<VariantContext, VariantContext> fullRecords = analysisResults.getAnalysis().isCompactVariants()
+                ? CompactVariantContexts.reloadRecords(vcfPath, variantContextAlleleInfoMap.keySet())
+                : Map.of();
         variantContextAlleleInfoMap.entrySet().stream()
-                .map(entry -> new VariantContextBuilder(entry.getKey())
+                .map(entry -> new VariantContextBuilder(fullRecords.getOrDefault(entry.getKey(), entry.getKey()))
                         .attribute(EXOMISER_INFO_KEY, String.join(",", entry.getValue()))
                         .make())
                 .sorted(new VariantContextComparator(samSequenceDictionary))
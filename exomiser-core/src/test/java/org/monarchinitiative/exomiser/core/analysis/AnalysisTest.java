@@ -37,6 +37,7 @@
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  *
@@ -108,6 +109,37 @@ public void analysisCanSpecifyAlternativeAnalysisMode() {
         assertThat(instance.getAnalysisMode(), equalTo(AnalysisMode.FULL));
     }
 
+    @Test
+    public void threadsDefaultsToOne() {
+        assertThat(DEFAULT_ANALYSIS.getThreads(), equalTo(1));
+    }
+
+    @Test
+    public void analysisCanSpecifyThreads() {
+        Analysis instance = newBuilder()
+                .threads(4)
+                .build();
+        assertThat(instance.getThreads(), equalTo(4));
+    }
+
+    @Test
+    public void analysisThreadsMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> newBuilder().threads(0));
+    }
+
+    @Test
+    public void compactVariantsDefaultsToFalse() {
+        assertThat(DEFAULT_ANALYSIS.isCompactVariants(), is(false));
+    }
+
+    @Test
+    public void analysisCanSpecifyCompactVariants() {
+        Analysis instance = newBuilder()
+                .compactVariants(true)
+                .build();
+        assertThat(instance.isCompactVariants(), is(true));
+    }
+
     @Test
     public void testFrequencySourcesAreEmptyByDefault() {
         assertThat(DEFAULT_ANALYSIS.getFrequencySources().isEmpty(), is(true));
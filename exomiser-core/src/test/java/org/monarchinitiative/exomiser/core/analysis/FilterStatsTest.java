@@ -129,6 +129,28 @@ void getFilterCountsReturnedInOrder() {
         }
     }
 
+    @Test
+    void mergeAddsCountsAndKeepsFilterOrder() {
+        FilterStats instance = new FilterStats();
+        new FilterRunner(FilterType.QUALITY_FILTER, 1, 2, instance).run();
+        new FilterRunner(FilterType.FREQUENCY_FILTER, 3, 4, instance).run();
+
+        FilterStats other = new FilterStats();
+        new FilterRunner(FilterType.QUALITY_FILTER, 10, 20, other).run();
+        new FilterRunner(FilterType.FREQUENCY_FILTER, 30, 40, other).run();
+        new FilterRunner(FilterType.PATHOGENICITY_FILTER, 5, 6, other).run();
+
+        instance.merge(other);
+
+        assertThat(instance.getPassCountForFilter(FilterType.QUALITY_FILTER), equalTo(11));
+        assertThat(instance.getFailCountForFilter(FilterType.QUALITY_FILTER), equalTo(22));
+        assertThat(instance.getPassCountForFilter(FilterType.FREQUENCY_FILTER), equalTo(33));
+        assertThat(instance.getFailCountForFilter(FilterType.FREQUENCY_FILTER), equalTo(44));
+        assertThat(instance.getPassCountForFilter(FilterType.PATHOGENICITY_FILTER), equalTo(5));
+        assertThat(instance.getFailCountForFilter(FilterType.PATHOGENICITY_FILTER), equalTo(6));
+        assertThat(instance.getFilters(), equalTo(List.of(FilterType.QUALITY_FILTER, FilterType.FREQUENCY_FILTER, FilterType.PATHOGENICITY_FILTER)));
+    }
+
     @Test
     void isEmpty() {
         FilterStats instance = new FilterStats();
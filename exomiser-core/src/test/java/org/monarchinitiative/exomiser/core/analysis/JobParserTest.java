@@ -304,6 +304,35 @@ void testAnalysisModeFull() {
         assertThat(analysis.getAnalysisMode(), equalTo(AnalysisMode.FULL));
     }
 
+    @Test
+    void testThreadsDefault() {
+        AnalysisProto.Analysis protoAnalysis = AnalysisProto.Analysis.newBuilder()
+                .build();
+
+        Analysis analysis = instance.parseAnalysis(jobWith(protoAnalysis));
+        assertThat(analysis.getThreads(), equalTo(1));
+    }
+
+    @Test
+    void testThreads() {
+        AnalysisProto.Analysis protoAnalysis = AnalysisProto.Analysis.newBuilder()
+                .setThreads(4)
+                .build();
+
+        Analysis analysis = instance.parseAnalysis(jobWith(protoAnalysis));
+        assertThat(analysis.getThreads(), equalTo(4));
+    }
+
+    @Test
+    void testCompactVariants() {
+        AnalysisProto.Analysis protoAnalysis = AnalysisProto.Analysis.newBuilder()
+                .setCompactVariants(true)
+                .build();
+
+        Analysis analysis = instance.parseAnalysis(jobWith(protoAnalysis));
+        assertThat(analysis.isCompactVariants(), equalTo(true));
+    }
+
     @Test
     void testFrequencySourceEmpty() {
         AnalysisProto.Analysis protoAnalysis = AnalysisProto.Analysis.newBuilder()
@@ -23,6 +23,9 @@
 import de.charite.compbio.jannovar.annotation.VariantEffect;
 import de.charite.compbio.jannovar.mendel.ModeOfInheritance;
 import org.junit.jupiter.api.Test;
+import java.nio.file.Path;
+import org.monarchinitiative.exomiser.core.genome.TestVcfFiles;
+import org.junit.jupiter.api.io.TempDir;
 import org.monarchinitiative.exomiser.core.analysis.sample.Sample;
 import org.monarchinitiative.exomiser.core.analysis.util.InheritanceModeAnalyser;
 import org.monarchinitiative.exomiser.core.analysis.util.InheritanceModeAnnotator;
@@ -489,4 +492,40 @@ void testMergedCanvasCnvCalls() {
         System.out.println(rbm8a.getCompatibleInheritanceModes());
         rbm8a.getPassedVariantEvaluations().forEach(System.out::println);
     }
+
+    @Test
+    public void runAnalysisWithThreadsProducesSameResultsAsSequentialRun() {
+        Analysis sequential = Analysis.builder()
+                .addStep(new QualityFilter(120))
+                .build();
+        Analysis parallel = sequential.copy().threads(4).build();
+
+        AnalysisResults sequentialResults = instance.run(vcfOnlySample, sequential);
+        AnalysisResults parallelResults = instance.run(vcfOnlySample, parallel);
+
+        assertThat(parallelResults.getVariantEvaluations(), equalTo(sequentialResults.getVariantEvaluations()));
+        assertThat(parallelResults.getGenes().stream().map(Gene::getGeneSymbol).toList(), equalTo(sequentialResults.getGenes().stream().map(Gene::getGeneSymbol).toList()));
+        for (int i = 0; i < sequentialResults.getVariantEvaluations().size(); i++) {
+            VariantEvaluation expected = sequentialResults.getVariantEvaluations().get(i);
+            VariantEvaluation actual = parallelResults.getVariantEvaluations().get(i);
+            assertThat(actual.getFilterStatus(), equalTo(expected.getFilterStatus()));
+            assertThat(actual.passedFilters(), equalTo(expected.passedFilters()));
+        }
+    }
+
+    @Test
+    public void runAnalysisShardedByContigProducesSameResultsAsSequentialRun(@TempDir Path tempDir) {
+        Path indexedVcf = TestVcfFiles.bgzipAndIndex(Path.of("src/test/resources/exomiser-test.vcf"), tempDir);
+        Sample sample = Sample.builder().vcfPath(indexedVcf).build();
+        Analysis sequential = Analysis.builder()
+                .addStep(new QualityFilter(120))
+                .build();
+        Analysis sharded = sequential.copy().threads(2).build();
+
+        AnalysisResults sequentialResults = instance.run(sample, sequential);
+        AnalysisResults shardedResults = instance.run(sample, sharded);
+
+        assertThat(shardedResults.getVariantEvaluations(), equalTo(sequentialResults.getVariantEvaluations()));
+        assertThat(shardedResults.getGenes().stream().map(Gene::getGeneSymbol).toList(), equalTo(sequentialResults.getGenes().stream().map(Gene::getGeneSymbol).toList()));
+    }
 }
@@ -22,18 +22,33 @@
 
 import de.charite.compbio.jannovar.mendel.ModeOfInheritance;
 import org.junit.jupiter.api.Test;
+import java.nio.file.Path;
+import org.mockito.Mockito;
+import org.monarchinitiative.exomiser.core.genome.TestVcfFiles;
+import org.junit.jupiter.api.io.TempDir;
 import org.monarchinitiative.exomiser.core.analysis.sample.Sample;
 import org.monarchinitiative.exomiser.core.analysis.util.InheritanceModeOptions;
 import org.monarchinitiative.exomiser.core.filters.*;
+import org.monarchinitiative.exomiser.core.genome.GenomeAnalysisService;
+import org.monarchinitiative.exomiser.core.genome.TestFactory;
+import org.monarchinitiative.exomiser.core.genome.dao.AlleleDataDao.AlleleData;
 import org.monarchinitiative.exomiser.core.model.Gene;
 import org.monarchinitiative.exomiser.core.model.GeneticInterval;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
+import org.monarchinitiative.exomiser.core.model.frequency.Frequency;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencySource;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicitySource;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PolyPhenScore;
 import org.monarchinitiative.exomiser.core.prioritisers.MockPrioritiser;
 import org.monarchinitiative.exomiser.core.prioritisers.Prioritiser;
 import org.monarchinitiative.exomiser.core.prioritisers.PriorityType;
 
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -251,6 +266,17 @@ public void runAnalysisPrioritiserAndPriorityScoreFilterOnly() {
         assertThat(shh.hasVariants(), equalTo(false));
     }
 
+    @Test
+    public void runAnalysisOnlyRunsMainPrioritiserOnce() {
+        Prioritiser<?> prioritiser = Mockito.spy(new MockPrioritiser(PriorityType.HIPHIVE_PRIORITY, Map.of("RBM8A", 0.9)));
+
+        Analysis analysis = makeAnalysis(prioritiser);
+        instance.run(phenotypesOnlySample, analysis);
+
+        // the p-value background is built from the scores of the main run rather than prioritising the known genes again
+        Mockito.verify(prioritiser, Mockito.times(1)).prioritizeGenes(Mockito.anyList(), Mockito.anyList());
+    }
+
     @Test
     public void runAnalysisPrioritiserPriorityScoreFilterVariantFilter() {
         double desiredPrioritiserScore = 0.9f;
@@ -349,4 +375,85 @@ public void runAnalysisVariantFilterPrioritiserPriorityScoreFilterVariantFilter(
         assertThat(rbm8Variant2.passedFilter(FilterType.INHERITANCE_FILTER), is(true));
     }
 
+
+    @Test
+    public void runAnalysisWithThreadsProducesSameResultsAsSequentialRun() {
+        Analysis sequential = Analysis.builder()
+                .addStep(new QualityFilter(120))
+                .build();
+        Analysis parallel = sequential.copy().threads(4).build();
+
+        AnalysisResults sequentialResults = instance.run(vcfOnlySample, sequential);
+        AnalysisResults parallelResults = instance.run(vcfOnlySample, parallel);
+
+        assertThat(parallelResults.getVariantEvaluations(), equalTo(sequentialResults.getVariantEvaluations()));
+        assertThat(parallelResults.getGenes().stream().map(Gene::getGeneSymbol).toList(), equalTo(sequentialResults.getGenes().stream().map(Gene::getGeneSymbol).toList()));
+        for (int i = 0; i < sequentialResults.getVariantEvaluations().size(); i++) {
+            VariantEvaluation expected = sequentialResults.getVariantEvaluations().get(i);
+            VariantEvaluation actual = parallelResults.getVariantEvaluations().get(i);
+            assertThat(actual.getFilterStatus(), equalTo(expected.getFilterStatus()));
+            assertThat(actual.passedFilters(), equalTo(expected.passedFilters()));
+        }
+    }
+
+    @Test
+    public void runAnalysisShardedByContigProducesSameResultsAsSequentialRun(@TempDir Path tempDir) {
+        Path indexedVcf = TestVcfFiles.bgzipAndIndex(Path.of("src/test/resources/exomiser-test.vcf"), tempDir);
+        Sample sample = Sample.builder().vcfPath(indexedVcf).build();
+        Analysis sequential = Analysis.builder()
+                .addStep(new QualityFilter(120))
+                .build();
+        Analysis sharded = sequential.copy().threads(2).build();
+
+        AnalysisResults sequentialResults = instance.run(sample, sequential);
+        AnalysisResults shardedResults = instance.run(sample, sharded);
+
+        assertThat(shardedResults.getVariantEvaluations(), equalTo(sequentialResults.getVariantEvaluations()));
+        assertThat(shardedResults.getGenes().stream().map(Gene::getGeneSymbol).toList(), equalTo(sequentialResults.getGenes().stream().map(Gene::getGeneSymbol).toList()));
+    }
+
+    @Test
+    public void provideAlleleDataReadsFrequencyAndPathogenicityDataInOneCall() {
+        GenomeAnalysisService mockGenomeAnalysisService = Mockito.mock(GenomeAnalysisService.class);
+        SimpleAnalysisRunner runner = new SimpleAnalysisRunner(mockGenomeAnalysisService);
+
+        Set<FrequencySource> frequencySources = EnumSet.of(FrequencySource.GNOMAD_E_NFE);
+        Set<PathogenicitySource> pathogenicitySources = EnumSet.of(PathogenicitySource.POLYPHEN);
+        VariantFilter frequencyFilter = new FrequencyFilter(0.1f);
+        VariantFilter qualityFilter = new QualityFilter(1);
+        VariantFilter pathogenicityFilter = new PathogenicityFilter(true);
+        List<VariantFilter> variantFilters = List.of(
+                new FrequencyDataProvider(mockGenomeAnalysisService, frequencySources, frequencyFilter),
+                qualityFilter,
+                new PathogenicityDataProvider(mockGenomeAnalysisService, pathogenicitySources, pathogenicityFilter)
+        );
+
+        VariantEvaluation variant = TestFactory.variantBuilder(1, 12345, "A", "T").build();
+        AlleleData alleleData = new AlleleData(FrequencyData.of(Frequency.of(FrequencySource.GNOMAD_E_NFE, 0.01f)), PathogenicityData.of(PolyPhenScore.of(0.9f)));
+        Mockito.when(mockGenomeAnalysisService.getVariantAlleleData(List.of(variant), frequencySources, pathogenicitySources))
+                .thenReturn(List.of(alleleData));
+
+        List<VariantFilter> filters = runner.provideAlleleData(variantFilters, List.of(variant));
+
+        assertThat(filters, equalTo(List.of(frequencyFilter, qualityFilter, pathogenicityFilter)));
+        assertThat(variant.getFrequencyData(), equalTo(alleleData.frequencyData()));
+        assertThat(variant.getPathogenicityData(), equalTo(alleleData.pathogenicityData()));
+        Mockito.verify(mockGenomeAnalysisService, Mockito.never()).getVariantFrequencyData(Mockito.anyList(), Mockito.any());
+        Mockito.verify(mockGenomeAnalysisService, Mockito.never()).getVariantPathogenicityData(Mockito.anyList(), Mockito.any());
+    }
+
+    @Test
+    public void provideAlleleDataReturnsInputFiltersWhenNotBothRequired() {
+        GenomeAnalysisService mockGenomeAnalysisService = Mockito.mock(GenomeAnalysisService.class);
+        SimpleAnalysisRunner runner = new SimpleAnalysisRunner(mockGenomeAnalysisService);
+        List<VariantFilter> variantFilters = List.of(
+                new FrequencyDataProvider(mockGenomeAnalysisService, EnumSet.of(FrequencySource.GNOMAD_E_NFE), new FrequencyFilter(0.1f)),
+                new QualityFilter(1)
+        );
+
+        VariantEvaluation variant = TestFactory.variantBuilder(1, 12345, "A", "T").build();
+
+        assertThat(runner.provideAlleleData(variantFilters, List.of(variant)), sameInstance(variantFilters));
+        Mockito.verifyNoInteractions(mockGenomeAnalysisService);
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.analysis.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.prioritisers.MockPrioritiser;
+import org.monarchinitiative.exomiser.core.prioritisers.Prioritiser;
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityType;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class BootstrapPopulationCacheTest {
+
+    private static final GenomeAssembly HG19 = GenomeAssembly.HG19;
+    private static final List<String> KNOWN_GENES = List.of("FGFR2", "GNRHR2", "RBM8A");
+
+    private final Prioritiser<?> hiPhivePrioritiser = new MockPrioritiser(PriorityType.HIPHIVE_PRIORITY, Map.of());
+    private final Prioritiser<?> phivePrioritiser = new MockPrioritiser(PriorityType.PHIVE_PRIORITY, Map.of());
+
+    private static Supplier<double[]> countingSupplier(AtomicInteger count) {
+        return () -> {
+            count.incrementAndGet();
+            return new double[]{0.1, 0.2, 0.3};
+        };
+    }
+
+    @Test
+    void returnsCachedPopulationForSameHpoIdsInAnyOrder() {
+        BootstrapPopulationCache instance = BootstrapPopulationCache.inMemory("2302", 2);
+        AtomicInteger count = new AtomicInteger();
+
+        double[] population = instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001", "HP:0000002"), countingSupplier(count));
+        assertThat(instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000002", "HP:0000001", "HP:0000002"), countingSupplier(count)), sameInstance(population));
+
+        assertThat(count.get(), equalTo(1));
+        assertThat(instance.getStats(), equalTo(new BootstrapPopulationCache.Stats(1, 0, 0, 1)));
+        assertThat(instance.getStats().hitRate(), equalTo(0.5));
+    }
+
+    @Test
+    void populationIsKeyedOnPrioritiser() {
+        BootstrapPopulationCache instance = BootstrapPopulationCache.inMemory("2302", 2);
+        AtomicInteger count = new AtomicInteger();
+
+        instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+        instance.get(phivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+
+        assertThat(count.get(), equalTo(2));
+    }
+
+    @Test
+    void leastRecentlyUsedPopulationIsEvicted() {
+        BootstrapPopulationCache instance = BootstrapPopulationCache.inMemory("2302", 1);
+        AtomicInteger count = new AtomicInteger();
+
+        instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+        instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000002"), countingSupplier(count));
+        instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+
+        assertThat(count.get(), equalTo(3));
+        assertThat(instance.getStats().hitCount(), equalTo(0L));
+    }
+
+    @Test
+    void disabledCacheAlwaysCreatesPopulation() {
+        BootstrapPopulationCache instance = new BootstrapPopulationCache("2302", 0, null);
+        AtomicInteger count = new AtomicInteger();
+
+        instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+        instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+
+        assertThat(count.get(), equalTo(2));
+        assertThat(instance.getStats().missCount(), equalTo(2L));
+    }
+
+    @Test
+    void populationIsReadFromDiskByNewCache(@TempDir Path tempDir) {
+        AtomicInteger count = new AtomicInteger();
+        double[] population = new BootstrapPopulationCache("2302", 1, tempDir)
+                .get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+
+        BootstrapPopulationCache instance = new BootstrapPopulationCache("2302", 1, tempDir);
+        assertThat(instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count)), equalTo(population));
+        assertThat(count.get(), equalTo(1));
+        assertThat(instance.getStats(), equalTo(new BootstrapPopulationCache.Stats(0, 1, 0, 0)));
+
+        // a different data version will not use the stored population
+        new BootstrapPopulationCache("2309", 1, tempDir).get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+        assertThat(count.get(), equalTo(2));
+    }
+
+    @Test
+    void populationIsKeyedOnGenomeAssemblyAndKnownGenes() {
+        BootstrapPopulationCache instance = BootstrapPopulationCache.inMemory("2302", 4);
+        AtomicInteger count = new AtomicInteger();
+
+        instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+        instance.get(hiPhivePrioritiser, HG19, List.of("RBM8A", "FGFR2", "GNRHR2"), List.of("HP:0000001"), countingSupplier(count));
+        assertThat(count.get(), equalTo(1));
+
+        instance.get(hiPhivePrioritiser, GenomeAssembly.HG38, KNOWN_GENES, List.of("HP:0000001"), countingSupplier(count));
+        instance.get(hiPhivePrioritiser, HG19, List.of("FGFR2", "GNRHR2"), List.of("HP:0000001"), countingSupplier(count));
+        assertThat(count.get(), equalTo(3));
+    }
+
+    @Test
+    void concurrentRequestsCreatePopulationOnce() throws Exception {
+        BootstrapPopulationCache instance = BootstrapPopulationCache.inMemory("2302", 2);
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<double[]> slowSupplier = () -> {
+            count.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new double[]{0.1, 0.2, 0.3};
+        };
+
+        int numThreads = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>();
+            futures.add(executorService.submit(() -> instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), slowSupplier)));
+            started.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < numThreads; i++) {
+                futures.add(executorService.submit(() -> instance.get(hiPhivePrioritiser, HG19, KNOWN_GENES, List.of("HP:0000001"), slowSupplier)));
+            }
+            release.countDown();
+            double[] population = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<double[]> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS), sameInstance(population));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(count.get(), equalTo(1));
+        // the other threads either joined the in-flight load or found the finished population, never both
+        BootstrapPopulationCache.Stats stats = instance.getStats();
+        assertThat(stats.joinCount() + stats.hitCount(), equalTo((long) numThreads - 1));
+        assertThat(stats.missCount(), equalTo(1L));
+        assertThat(stats.requestCount(), equalTo((long) numThreads));
+        assertThat(instance.size(), equalTo(1));
+    }
+}
@@ -1,5 +1,6 @@
 package org.monarchinitiative.exomiser.core.analysis.util;
 
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.monarchinitiative.exomiser.core.genome.TestFactory;
 import org.monarchinitiative.exomiser.core.model.Gene;
@@ -7,11 +8,15 @@
 import org.monarchinitiative.exomiser.core.prioritisers.HiPhiveOptions;
 import org.monarchinitiative.exomiser.core.prioritisers.HiPhivePriority;
 import org.monarchinitiative.exomiser.core.prioritisers.Prioritiser;
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityResult;
 import org.monarchinitiative.exomiser.core.prioritisers.PriorityType;
 import org.monarchinitiative.exomiser.core.prioritisers.service.TestPriorityServiceFactory;
 import org.monarchinitiative.exomiser.core.prioritisers.util.DataMatrix;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -51,10 +56,104 @@ public void testStaticConstructor() {
         assertThat(instance.calculatePvalueFromCombinedScore(0.89), greaterThan(0.0));
     }
 
+    @Test
+    public void testPhenoScoresBootstrappedPopulation() {
+        Prioritiser<?> prioritiser = new HiPhivePriority(HiPhiveOptions.defaults(), DataMatrix.empty(), TestPriorityServiceFactory.testPriorityService());
+        List<String> phenotypicFeatures = TestPriorityServiceFactory.pfeifferSyndromePhenotypes().stream().map(PhenotypeTerm::getId).collect(Collectors.toList());
+        List<Gene> genes = TestFactory.buildGenes();
+        prioritiser.prioritizeGenes(phenotypicFeatures, genes);
+
+        double[] phenoScores = CombinedScorePvalueCalculator.phenoScores(PriorityType.HIPHIVE_PRIORITY, genes);
+        assertThat(phenoScores.length, equalTo(genes.size()));
+        for (int i = 0; i < genes.size(); i++) {
+            PriorityResult priorityResult = genes.get(i).getPriorityResult(PriorityType.HIPHIVE_PRIORITY);
+            assertThat(phenoScores[i], equalTo(priorityResult == null ? 0.0 : priorityResult.getScore()));
+        }
+        double[] population = CombinedScorePvalueCalculator.bootstrapPopulation(PriorityType.HIPHIVE_PRIORITY, phenoScores);
+        var instance = CombinedScorePvalueCalculator.withBootstrappedPopulation(population);
+        assertThat(instance.calculatePvalueFromCombinedScore(0.89), greaterThan(0.0));
+    }
+
+    @Test
+    void testPhenoScoresAreZeroForGenesWithoutPriorityResult() {
+        List<Gene> genes = TestFactory.buildGenes();
+        double[] phenoScores = CombinedScorePvalueCalculator.phenoScores(PriorityType.HIPHIVE_PRIORITY, genes);
+        assertThat(phenoScores, equalTo(new double[genes.size()]));
+    }
+
+    @Test
+    void testWithBootstrappedPopulation() {
+        double[] population = CombinedScorePvalueCalculator.bootstrapPopulation(PriorityType.HIPHIVE_PRIORITY, ThreadLocalRandom.current().doubles(25_000).toArray());
+        assertThat(population.length, equalTo(500_000));
+        for (int i = 1; i < population.length; i++) {
+            assertThat(population[i], greaterThanOrEqualTo(population[i - 1]));
+        }
+        var instance = CombinedScorePvalueCalculator.withBootstrappedPopulation(population);
+        assertThat(instance.calculatePvalueFromCombinedScore(2.0), equalTo(1.0 / 500_000));
+    }
+
     @Test
     void testZeroValueCombinedScoreHasPvalueOfOne() {
         var instance = CombinedScorePvalueCalculator.withRandomScores(10_000, 25_000, 200);
         assertThat(instance.calculatePvalueFromCombinedScore(0), closeTo(instance.calculatePvalueFromCombinedScore(0.0), 0.001));
         assertThat(instance.calculatePvalueFromCombinedScore(1d), closeTo(instance.calculatePvalueFromCombinedScore(1.0), 0.001));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPvalueDecreasesWithIncreasingCombinedScore() {
+        var instance = CombinedScorePvalueCalculator.withRandomScores(10_000, 25_000, 200);
+        double previous = 1d;
+        for (int i = 1; i <= 100; i++) {
+            double pValue = instance.calculatePvalueFromCombinedScore(i / 100d);
+            assertThat(pValue, lessThanOrEqualTo(previous));
+            previous = pValue;
+        }
+    }
+
+    @Test
+    void testPvalueOfScoreAboveEntirePopulationIsOneOverPopulationSize() {
+        var instance = CombinedScorePvalueCalculator.withRandomScores(10_000, 25_000, 200);
+        assertThat(instance.calculatePvalueFromCombinedScore(2.0), equalTo(1.0 / 500_000));
+    }
+
+    @Test
+    void testPvalueOfScoreBelowEntirePopulationIsGreaterThanOne() {
+        var instance = CombinedScorePvalueCalculator.withRandomScores(10_000, 25_000, 200);
+        assertThat(instance.calculatePvalueFromCombinedScore(-1.0), equalTo(500_001.0 / 500_000));
+    }
+
+    /**
+     * Comparative performance test for the p-value lookup against the original linear scan of the bootstrapped
+     * population for a genome-sized number of genes and modes of inheritance.
+     */
+    @Disabled("Performance test - won't run on CI server")
+    @Test
+    void pvalueLookupPerformance() {
+        var instance = CombinedScorePvalueCalculator.withRandomScores(10_000, 25_000, 200);
+        double[] population = ThreadLocalRandom.current().doubles(500_000).toArray();
+        // ~20K genes * 5 MOI
+        double[] combinedScores = ThreadLocalRandom.current().doubles(100_000).toArray();
+
+        Instant linearStart = Instant.now();
+        double linearSum = 0;
+        for (double combinedScore : combinedScores) {
+            int numHigherScores = 1;
+            for (double randomCombined : population) {
+                if (randomCombined >= combinedScore) {
+                    ++numHigherScores;
+                }
+            }
+            linearSum += (double) numHigherScores / population.length;
+        }
+        Duration linearDuration = Duration.between(linearStart, Instant.now());
+        System.out.printf("Linear scan of %d scores took %dms (%f)%n", combinedScores.length, linearDuration.toMillis(), linearSum);
+
+        Instant binaryStart = Instant.now();
+        double binarySum = 0;
+        for (double combinedScore : combinedScores) {
+            binarySum += instance.calculatePvalueFromCombinedScore(combinedScore);
+        }
+        Duration binaryDuration = Duration.between(binaryStart, Instant.now());
+        System.out.printf("Binary search of %d scores took %dms (%f)%n", combinedScores.length, binaryDuration.toMillis(), binarySum);
+    }
+}
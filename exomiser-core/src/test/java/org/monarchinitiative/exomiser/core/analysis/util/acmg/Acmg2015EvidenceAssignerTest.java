@@ -25,6 +25,7 @@
 import org.checkerframework.checker.units.qual.A;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -43,12 +44,20 @@
 import org.monarchinitiative.exomiser.core.prioritisers.model.InheritanceMode;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.monarchinitiative.exomiser.core.analysis.util.acmg.AcmgCriterion.*;
 import static org.monarchinitiative.exomiser.core.model.Pedigree.Individual.Sex.FEMALE;
 import static org.monarchinitiative.exomiser.core.model.Pedigree.Individual.Sex.MALE;
@@ -864,6 +873,110 @@ void testAssignsBS4() {
         assertThat(acmgEvidence, equalTo(AcmgEvidence.builder().add(BS4).build()));
     }
 
+    private static final List<ModeOfInheritance> TESTED_MODES = List.of(ModeOfInheritance.AUTOSOMAL_DOMINANT, ModeOfInheritance.AUTOSOMAL_RECESSIVE, ModeOfInheritance.X_DOMINANT, ModeOfInheritance.X_RECESSIVE, ModeOfInheritance.MITOCHONDRIAL);
+
+    @Test
+    void testMoiIndependentEvidenceIsOnlyAssignedOncePerVariant() {
+        // https://www.ncbi.nlm.nih.gov/clinvar/variation/13267/ - will trigger PM5
+        VariantDataService variantDataService = spy(initializeCustomVariantDataservice(clinVarPathogenicStarRating2, parseAlleleKey("10-123276893-A-T")));
+        Acmg2015EvidenceAssigner instance = new Acmg2015EvidenceAssigner("proband", justProband("proband", MALE), jannovarAnnotator, variantDataService);
+        VariantEvaluation variantEvaluation = buildVariantEvaluation(10, 123276892, "C", "T",
+                "p.(Cys342Tyr)", "c.1025G>A", "FGFR2", VariantEffect.MISSENSE_VARIANT);
+        Disease disease = Disease.builder().diseaseId("OMIM:101600").inheritanceMode(InheritanceMode.AUTOSOMAL_DOMINANT).diseaseType(Disease.DiseaseType.DISEASE).build();
+
+        for (ModeOfInheritance modeOfInheritance : TESTED_MODES) {
+            AcmgEvidence acmgEvidence = instance.assignVariantAcmgEvidence(variantEvaluation, modeOfInheritance, List.of(variantEvaluation), List.of(disease), List.of());
+            assertThat(acmgEvidence, equalTo(AcmgEvidence.builder().add(PM2).add(PM5).build()));
+        }
+        verify(variantDataService, times(1)).findClinVarDataOverlappingGenomicInterval(any());
+    }
+
+    @Test
+    void testMoiIndependentEvidenceIsAssignedForEachVariantEvaluationInstance() {
+        VariantDataService variantDataService = spy(initializeCustomVariantDataservice(clinVarPathogenicStarRating2, parseAlleleKey("10-123276893-A-T")));
+        Acmg2015EvidenceAssigner instance = new Acmg2015EvidenceAssigner("proband", justProband("proband", MALE), jannovarAnnotator, variantDataService);
+        // same position, but annotated against different genes so these need to be considered separately
+        VariantEvaluation fgfr2Variant = buildVariantEvaluation(10, 123276892, "C", "T",
+                "p.(Cys342Tyr)", "c.1025G>A", "FGFR2", VariantEffect.MISSENSE_VARIANT);
+        VariantEvaluation otherGeneVariant = buildVariantEvaluation(10, 123276892, "C", "T",
+                "p.(=)", "c.100+12G>A", "OTHER", VariantEffect.INTRON_VARIANT);
+        Disease disease = Disease.builder().diseaseId("OMIM:101600").inheritanceMode(InheritanceMode.AUTOSOMAL_DOMINANT).diseaseType(Disease.DiseaseType.DISEASE).build();
+
+        AcmgEvidence fgfr2Evidence = instance.assignVariantAcmgEvidence(fgfr2Variant, ModeOfInheritance.AUTOSOMAL_DOMINANT, List.of(fgfr2Variant), List.of(disease), List.of());
+        AcmgEvidence otherGeneEvidence = instance.assignVariantAcmgEvidence(otherGeneVariant, ModeOfInheritance.AUTOSOMAL_DOMINANT, List.of(otherGeneVariant), List.of(disease), List.of());
+
+        assertThat(fgfr2Evidence, equalTo(AcmgEvidence.builder().add(PM2).add(PM5).build()));
+        assertThat(otherGeneEvidence, equalTo(AcmgEvidence.builder().add(PM2).build()));
+    }
+
+    @Disabled("Performance test - won't run on CI server")
+    @Test
+    void acmgAssignmentPerformance() {
+        Individual proband = Individual.builder().id("proband").motherId("mother").fatherId("father").sex(FEMALE).status(Individual.Status.AFFECTED).build();
+        Individual mother = Individual.builder().id("mother").sex(FEMALE).status(Individual.Status.UNAFFECTED).build();
+        Individual father = Individual.builder().id("father").sex(MALE).status(Individual.Status.UNAFFECTED).build();
+        Pedigree trio = Pedigree.of(proband, mother, father);
+        Disease disease = Disease.builder().diseaseId("OMIM:101600").inheritanceMode(InheritanceMode.AUTOSOMAL_DOMINANT_AND_RECESSIVE).diseaseType(Disease.DiseaseType.DISEASE).build();
+        List<Disease> knownDiseases = List.of(disease);
+        List<ModelPhenotypeMatch<Disease>> compatibleDiseaseMatches = List.of(ModelPhenotypeMatch.of(0.8, disease, List.of()));
+
+        // random SNVs across FGFR2 with a pathogenic ClinVar variant next to every tenth one
+        Random random = new Random(42);
+        String[] bases = {"A", "C", "G", "T"};
+        TestVariantDataService.Builder variantDataServiceBuilder = TestVariantDataService.builder().setGenomeAssembly(GenomeAssembly.HG19);
+        List<VariantEvaluation> variants = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int position = 123_239_000 + random.nextInt(118_000);
+            String ref = bases[random.nextInt(4)];
+            String alt = bases[(List.of(bases).indexOf(ref) + 1 + random.nextInt(3)) % 4];
+            VariantAnnotation variantAnnotation = jannovarAnnotator.annotate(TestFactory.variantBuilder(10, position, ref, alt).build()).get(0);
+            variants.add(TestFactory.variantBuilder(10, position, ref, alt)
+                    .geneSymbol("FGFR2")
+                    .variantEffect(variantAnnotation.getVariantEffect())
+                    .annotations(variantAnnotation.getTranscriptAnnotations())
+                    .sampleGenotypes(SampleGenotypes.of(
+                            SampleData.of("proband", SampleGenotype.phased(AlleleCall.REF, AlleleCall.ALT)),
+                            SampleData.of("mother", SampleGenotype.phased(AlleleCall.REF, AlleleCall.ALT)),
+                            SampleData.of("father", SampleGenotype.homRef())))
+                    .build());
+            if (i % 10 == 0) {
+                variantDataServiceBuilder.put(parseAlleleKey("10-" + (position + 1) + "-" + ref + "-" + alt), clinVarPathogenicStarRating2);
+            }
+        }
+        VariantDataService variantDataService = variantDataServiceBuilder.build();
+
+        // warm-up
+        runAllModes(new Acmg2015EvidenceAssigner("proband", trio, jannovarAnnotator, variantDataService), variants, knownDiseases, compatibleDiseaseMatches);
+
+        // a new assigner for each MOI, as if the MOI-independent evidence were not memoised
+        Instant perMoiStart = Instant.now();
+        int perMoiCount = 0;
+        for (ModeOfInheritance modeOfInheritance : TESTED_MODES) {
+            Acmg2015EvidenceAssigner instance = new Acmg2015EvidenceAssigner("proband", trio, jannovarAnnotator, variantDataService);
+            for (VariantEvaluation variantEvaluation : variants) {
+                perMoiCount += instance.assignVariantAcmgEvidence(variantEvaluation, modeOfInheritance, List.of(variantEvaluation), knownDiseases, compatibleDiseaseMatches).size();
+            }
+        }
+        Duration perMoiDuration = Duration.between(perMoiStart, Instant.now());
+        System.out.printf("Assigning ACMG evidence for %d variants x %d MOI without memoisation took %dms (%d criteria)%n", variants.size(), TESTED_MODES.size(), perMoiDuration.toMillis(), perMoiCount);
+
+        Instant memoisedStart = Instant.now();
+        int memoisedCount = runAllModes(new Acmg2015EvidenceAssigner("proband", trio, jannovarAnnotator, variantDataService), variants, knownDiseases, compatibleDiseaseMatches);
+        Duration memoisedDuration = Duration.between(memoisedStart, Instant.now());
+        System.out.printf("Assigning ACMG evidence for %d variants x %d MOI with memoisation took %dms (%d criteria)%n", variants.size(), TESTED_MODES.size(), memoisedDuration.toMillis(), memoisedCount);
+        assertThat(memoisedCount, equalTo(perMoiCount));
+    }
+
+    private int runAllModes(Acmg2015EvidenceAssigner instance, List<VariantEvaluation> variants, List<Disease> knownDiseases, List<ModelPhenotypeMatch<Disease>> compatibleDiseaseMatches) {
+        int count = 0;
+        for (ModeOfInheritance modeOfInheritance : TESTED_MODES) {
+            for (VariantEvaluation variantEvaluation : variants) {
+                count += instance.assignVariantAcmgEvidence(variantEvaluation, modeOfInheritance, List.of(variantEvaluation), knownDiseases, compatibleDiseaseMatches).size();
+            }
+        }
+        return count;
+    }
+
 //    @Test
 //    void testRatio() {
 ////        VariantDataService variantDataService = initializeCustomVariantDataservice(clinVarPathogenicStarRating2, variant);
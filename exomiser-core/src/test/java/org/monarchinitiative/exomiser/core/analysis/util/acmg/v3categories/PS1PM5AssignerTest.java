@@ -13,6 +13,7 @@
 import org.monarchinitiative.exomiser.core.model.TranscriptAnnotation;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarGeneStats;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 
 import java.util.List;
@@ -258,4 +259,63 @@ void testAssignPS1orPM5againstChr10Pos123276892CT(String variantStr, boolean exp
         assertThat(builder.contains(AcmgCriterion.PS1), is(expectedPs1));
         assertThat(builder.contains(AcmgCriterion.PM5), is(expectedPm5));
     }
-}
\ No newline at end of file
+
+    private VariantEvaluation buildTranscriptVariantEvaluation(int chr, int pos, String ref, String alt, String accession, String hgvs, String cdna, VariantEffect variantEffect) {
+        TranscriptAnnotation transcriptAnnotation = TranscriptAnnotation.builder()
+                .variantEffect(variantEffect)
+                .accession(accession)
+                .hgvsProtein(hgvs)
+                .hgvsCdna(cdna)
+                .build();
+
+        return TestFactory.variantBuilder(chr, pos, ref, alt)
+                .geneSymbol("FGFR2")
+                .variantEffect(variantEffect)
+                .annotations(List.of(transcriptAnnotation))
+                .build();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "ENST00000358487.5, c.1025G>C, p.(Cys342Ser), true, false",  // diff cdna, same AAchange
+            "ENST00000358487.5, c.1024T>A, p.(Cys342Ser), false, false",  // same cdna + same AAchange (same variant)
+            "ENST00000358487.5, c.1025G>A, p.(Cys342Tyr), false, true",  // same residue, different AAchange
+            "ENST00000457416.2, c.1025G>A, p.(Cys342Tyr), false, false",  // different transcript
+    })
+    void testAssignPS1orPM5UsingProteinChangeIndex(String accession, String clinVarCdna, String clinVarProtein, boolean expectedPs1, boolean expectedPm5) {
+        VariantDataService variantDataService = TestVariantDataService.builder()
+                .setGenomeAssembly(GenomeAssembly.HG19)
+                .putProteinChanges(accession, 342, new ClinVarProteinChange(clinVarCdna, clinVarProtein))
+                .build();
+        // the index is a keyed lookup, so there should be no need to annotate any ClinVar variants
+        PS1PM5Assigner ps1PM5Assigner = new PS1PM5Assigner(variantDataService, null);
+
+        VariantEvaluation variantEvaluation = buildTranscriptVariantEvaluation(10, 123276893, "A", "T",
+                "ENST00000358487.5", "p.(Cys342Ser)", "c.1024T>A", VariantEffect.MISSENSE_VARIANT);
+
+        AcmgEvidence.Builder builder = AcmgEvidence.builder();
+        ps1PM5Assigner.assignPS1orPM5(builder, variantEvaluation);
+        assertThat(builder.contains(AcmgCriterion.PS1), is(expectedPs1));
+        assertThat(builder.contains(AcmgCriterion.PM5), is(expectedPm5));
+    }
+
+    @Test
+    void testAssignPS1andPM5UsingProteinChangeIndex() {
+        VariantDataService variantDataService = TestVariantDataService.builder()
+                .setGenomeAssembly(GenomeAssembly.HG19)
+                .putProteinChanges("ENST00000358487.5", 342,
+                        new ClinVarProteinChange("c.1024T>A", "p.(Cys342Ser)"),
+                        new ClinVarProteinChange("c.1025G>C", "p.(Cys342Ser)"),
+                        new ClinVarProteinChange("c.1025G>A", "p.(Cys342Tyr)"))
+                .build();
+        PS1PM5Assigner ps1PM5Assigner = new PS1PM5Assigner(variantDataService, null);
+
+        VariantEvaluation variantEvaluation = buildTranscriptVariantEvaluation(10, 123276893, "A", "T",
+                "ENST00000358487.5", "p.(Cys342Ser)", "c.1024T>A", VariantEffect.MISSENSE_VARIANT);
+
+        AcmgEvidence.Builder builder = AcmgEvidence.builder();
+        ps1PM5Assigner.assignPS1orPM5(builder, variantEvaluation);
+        assertThat(builder.contains(AcmgCriterion.PS1), is(true));
+        assertThat(builder.contains(AcmgCriterion.PM5), is(true));
+    }
+}
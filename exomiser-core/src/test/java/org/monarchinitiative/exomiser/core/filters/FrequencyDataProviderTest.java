@@ -34,6 +34,7 @@
 
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -115,6 +116,25 @@ public void testFrequencyDataOnlyContainsSpecifiedSourcesNoDataInDatabase() {
         assertThat(variant.getFrequencyData(), equalTo(FrequencyData.empty()));
     }
 
+    @Test
+    public void testProvideVariantDataForBatch() {
+        Frequency espAll = Frequency.of(ESP_ALL, 0.01f);
+        VariantEvaluation otherVariant = TestFactory.variantBuilder(1, 2, "A", "T").frequencyData(defaultFrequencyData).build();
+        FrequencyData existingFrequencyData = FrequencyData.of(RS_ID, Frequency.of(EXAC_FINNISH, 0.02f));
+        VariantEvaluation variantWithData = TestFactory.variantBuilder(1, 3, "A", "T").frequencyData(existingFrequencyData).build();
+
+        VariantDataService variantDataService = TestVariantDataService.builder()
+                .put(variant, FrequencyData.of(RS_ID, espAll, Frequency.of(EXAC_FINNISH, 0.02f)))
+                .put(variantWithData, FrequencyData.of(RS_ID, espAll))
+                .build();
+        instance = new FrequencyDataProvider(variantDataService, EnumSet.of(ESP_ALL), new KnownVariantFilter());
+
+        instance.provideVariantData(List.of(variant, otherVariant, variantWithData));
+        assertThat(variant.getFrequencyData(), equalTo(FrequencyData.of(RS_ID, espAll)));
+        assertThat(otherVariant.getFrequencyData(), equalTo(FrequencyData.empty()));
+        assertThat(variantWithData.getFrequencyData(), equalTo(existingFrequencyData));
+    }
+
     @Test
     public void testFrequencyDataOnlyContainsSpecifiedSourcesOneSourceSpecifiedAllDataSourcesInDatabase() {
 
@@ -37,6 +37,7 @@
 
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -76,6 +77,19 @@ public void testProvideVariantData() {
         assertThat(variant.getPathogenicityData(), equalTo(EXPECTED_PATH_DATA));
     }
     
+    @Test
+    public void testProvideVariantDataForBatch() {
+        VariantEvaluation otherVariant = TestFactory.variantBuilder(1, 2, "A", "T").pathogenicityData(EMPTY_PATH_DATA).build();
+        PathogenicityData existingPathData = PathogenicityData.of(PolyPhenScore.of(0.5f));
+        VariantEvaluation variantWithData = TestFactory.variantBuilder(1, 3, "A", "T").pathogenicityData(existingPathData).build();
+        instance = new PathogenicityDataProvider(variantDataService, EnumSet.of(POLYPHEN, SIFT, MUTATION_TASTER), new StubPassAllVariantFilter(FilterType.PATHOGENICITY_FILTER));
+
+        instance.provideVariantData(List.of(variant, otherVariant, variantWithData));
+        assertThat(variant.getPathogenicityData(), equalTo(EXPECTED_PATH_DATA));
+        assertThat(otherVariant.getPathogenicityData(), equalTo(EMPTY_PATH_DATA));
+        assertThat(variantWithData.getPathogenicityData(), equalTo(existingPathData));
+    }
+
     @Test
     public void testRunFilter() {
         FilterType variantFilterType = FilterType.PATHOGENICITY_FILTER;
@@ -151,6 +151,16 @@ public ClinVarGeneStats getClinVarGeneStats(String geneSymbol) {
         return clinVarDao.getClinVarGeneStats(geneSymbol);
     }
 
+    @Override
+    public boolean hasClinVarProteinChangeIndex() {
+        return clinVarDao.hasProteinChangeIndex();
+    }
+
+    @Override
+    public List<ClinVarProteinChange> findClinVarProteinChanges(String transcriptAccession, int proteinPosition) {
+        return clinVarDao.findClinVarProteinChanges(transcriptAccession, proteinPosition);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -190,6 +200,18 @@ public Builder put(String geneSymbol, ClinVarGeneStats clinVarGeneStats) {
             return this;
         }
 
+        public Builder putProteinChanges(String transcriptAccession, int proteinPosition, ClinVarProteinChange... clinVarProteinChanges) {
+            AlleleProto.ClinVarProteinChanges.Builder proteinChanges = AlleleProto.ClinVarProteinChanges.newBuilder();
+            for (ClinVarProteinChange clinVarProteinChange : clinVarProteinChanges) {
+                proteinChanges.addChangesBuilder()
+                        .setHgvsCdna(clinVarProteinChange.hgvsCdna())
+                        .setHgvsProtein(clinVarProteinChange.hgvsProtein());
+            }
+            MvStoreUtil.openClinVarProteinMVMap(mvStore)
+                    .put(MvStoreUtil.clinVarProteinKey(transcriptAccession, proteinPosition), proteinChanges.build().toByteArray());
+            return this;
+        }
+
         public Builder addToWhitelist(Variant... variants) {
             this.expectedWhiteList.addAll(Arrays.asList(variants));
             return this;
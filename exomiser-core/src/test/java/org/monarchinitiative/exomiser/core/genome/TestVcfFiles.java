@@ -0,0 +1,68 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome;
+
+import htsjdk.samtools.util.BlockCompressedOutputStream;
+import htsjdk.tribble.index.IndexFactory;
+import htsjdk.tribble.index.tabix.TabixFormat;
+import htsjdk.tribble.index.tabix.TabixIndex;
+import htsjdk.variant.vcf.VCFCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Utility class for creating tabix-indexed copies of the plain text test VCF files.
+ */
+public class TestVcfFiles {
+
+    private TestVcfFiles() {
+    }
+
+    /**
+     * Writes a bgzipped copy of the sorted, plain text VCF file to the output directory along with its tabix index.
+     *
+     * @return the path to the bgzipped VCF file
+     */
+    public static Path bgzipAndIndex(Path vcfPath, Path outDir) {
+        Path bgzipPath = outDir.resolve(vcfPath.getFileName() + ".gz");
+        try (OutputStream outputStream = new BlockCompressedOutputStream(bgzipPath.toFile())) {
+            // end the BGZF block after each line so that every record starts on a block boundary
+            for (String line : Files.readAllLines(vcfPath)) {
+                outputStream.write((line + '\n').getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TabixIndex tabixIndex = IndexFactory.createTabixIndex(bgzipPath.toFile(), new VCFCodec(), TabixFormat.VCF, null);
+        try {
+            tabixIndex.writeBasedOnFeaturePath(bgzipPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bgzipPath;
+    }
+}
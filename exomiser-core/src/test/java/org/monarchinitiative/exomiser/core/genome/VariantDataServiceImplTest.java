@@ -21,6 +21,7 @@
 package org.monarchinitiative.exomiser.core.genome;
 
 import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.h2.mvstore.MVStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,9 +38,12 @@
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencySource;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.*;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -193,6 +197,81 @@ public void serviceReturnsCaddAndNonCodingScoreForKnownNonCodingVariant() {
         assertThat(result, equalTo(expectedNcdsData));
     }
 
+    @Test
+    public void serviceReturnsBatchOfCaddAndRemmDataInInputOrder() {
+        VariantEvaluation regulatoryVariant = TestFactory.variantBuilder(1, 10, "A", "T").variantEffect(REGULATORY_REGION).build();
+        Mockito.when(clinVarDao.getClinVarData(regulatoryVariant)).thenReturn(ClinVarData.empty());
+        Mockito.when(defaultPathogenicityDao.getPathogenicityData(regulatoryVariant)).thenReturn(PathogenicityData.empty());
+        Mockito.when(mockCaddDao.getPathogenicityData(List.of(variant, regulatoryVariant))).thenReturn(List.of(CADD_DATA, PathogenicityData.of(CaddScore.of(5f))));
+        Mockito.when(mockRemmDao.getPathogenicityData(List.of(regulatoryVariant))).thenReturn(List.of(PathogenicityData.of(RemmScore.of(1f))));
+
+        List<PathogenicityData> results = instance.getVariantPathogenicityData(List.of(variant, regulatoryVariant), EnumSet.of(PathogenicitySource.CADD, PathogenicitySource.REMM));
+        assertThat(results, equalTo(List.of(
+                PathogenicityData.of(PATH_CLINVAR_DATA, CaddScore.of(15f)),
+                PathogenicityData.of(RemmScore.of(1f), CaddScore.of(5f))
+        )));
+        // check the batch results are the same as the single variant lookups
+        Mockito.when(mockCaddDao.getPathogenicityData(regulatoryVariant)).thenReturn(PathogenicityData.of(CaddScore.of(5f)));
+        Mockito.when(mockRemmDao.getPathogenicityData(regulatoryVariant)).thenReturn(PathogenicityData.of(RemmScore.of(1f)));
+        assertThat(results.get(0), equalTo(instance.getVariantPathogenicityData(variant, EnumSet.of(PathogenicitySource.CADD, PathogenicitySource.REMM))));
+        assertThat(results.get(1), equalTo(instance.getVariantPathogenicityData(regulatoryVariant, EnumSet.of(PathogenicitySource.CADD, PathogenicitySource.REMM))));
+    }
+
+    @Test
+    public void serviceReadsBatchFrequencyAndPathogenicityDataFromAlleleStoreOnce() {
+        VariantEvaluation otherVariant = TestFactory.variantBuilder(1, 10, "A", "T").variantEffect(VariantEffect.MISSENSE_VARIANT).build();
+        VariantEvaluation unknownVariant = TestFactory.variantBuilder(1, 5, "A", "T").variantEffect(VariantEffect.MISSENSE_VARIANT).build();
+        Mockito.when(clinVarDao.getClinVarData(otherVariant)).thenReturn(ClinVarData.empty());
+        Mockito.when(clinVarDao.getClinVarData(unknownVariant)).thenReturn(ClinVarData.empty());
+        MVStore mvStore = MvAlleleStoreTestUtil.newMvStoreWithData(Map.of(
+                AlleleProtoAdaptor.toAlleleKey(variant), AlleleProto.AlleleProperties.newBuilder()
+                        .setRsId("rs1234567")
+                        .putProperties("ESP_AA", 0.1f)
+                        .putProperties("SIFT", 0.0f)
+                        .build(),
+                AlleleProtoAdaptor.toAlleleKey(otherVariant), AlleleProto.AlleleProperties.newBuilder()
+                        .putProperties("GNOMAD_E_NFE", 0.01f)
+                        .putProperties("POLYPHEN", 0.9f)
+                        .build()
+        ));
+        AllelePropertiesDao allelePropertiesDao = Mockito.spy(new AllelePropertiesDaoMvStore(mvStore));
+        AllelePropertiesDaoAdapter allelePropertiesDaoAdapter = new AllelePropertiesDaoAdapter(allelePropertiesDao);
+        VariantDataServiceImpl alleleStoreInstance = VariantDataServiceImpl.builder()
+                .clinVarDao(clinVarDao)
+                .defaultFrequencyDao(allelePropertiesDaoAdapter)
+                .defaultPathogenicityDao(allelePropertiesDaoAdapter)
+                .build();
+
+        List<VariantEvaluation> variants = List.of(otherVariant, unknownVariant, variant);
+        Set<FrequencySource> frequencySources = EnumSet.of(ESP_AFRICAN_AMERICAN, GNOMAD_E_NFE);
+        Set<PathogenicitySource> pathogenicitySources = EnumSet.of(PathogenicitySource.SIFT, PathogenicitySource.POLYPHEN);
+        List<AlleleDataDao.AlleleData> alleleData = alleleStoreInstance.getVariantAlleleData(variants, frequencySources, pathogenicitySources);
+        List<FrequencyData> frequencyData = alleleData.stream().map(AlleleDataDao.AlleleData::frequencyData).toList();
+        List<PathogenicityData> pathogenicityData = alleleData.stream().map(AlleleDataDao.AlleleData::pathogenicityData).toList();
+
+        Mockito.verify(allelePropertiesDao, Mockito.times(1)).getAlleleProperties(variants);
+        Mockito.verify(allelePropertiesDao, Mockito.never()).getAlleleProperties(Mockito.any(Variant.class));
+
+        assertThat(frequencyData, equalTo(List.of(
+                FrequencyData.of(Frequency.of(GNOMAD_E_NFE, 0.01f)),
+                FrequencyData.empty(),
+                FrequencyData.of("rs1234567", Frequency.of(ESP_AFRICAN_AMERICAN, 0.1f))
+        )));
+        assertThat(pathogenicityData, equalTo(List.of(
+                PathogenicityData.of(PolyPhenScore.of(0.9f)),
+                PathogenicityData.empty(),
+                PathogenicityData.of(PATH_CLINVAR_DATA, SiftScore.of(0.0f))
+        )));
+        // check the batch results are the same as the single variant lookups
+        for (int i = 0; i < variants.size(); i++) {
+            assertThat(frequencyData.get(i), equalTo(alleleStoreInstance.getVariantFrequencyData(variants.get(i), frequencySources)));
+            assertThat(pathogenicityData.get(i), equalTo(alleleStoreInstance.getVariantPathogenicityData(variants.get(i), pathogenicitySources)));
+        }
+        // and the same as the separate batch lookups
+        assertThat(alleleStoreInstance.getVariantFrequencyData(variants, frequencySources), equalTo(frequencyData));
+        assertThat(alleleStoreInstance.getVariantPathogenicityData(variants, pathogenicitySources), equalTo(pathogenicityData));
+    }
+
     @Test
     public void serviceQueryForSynonymousVariantReturnsEmptyPathogenicityData() {
         variant = buildVariantOfType(VariantEffect.SYNONYMOUS_VARIANT);
@@ -31,6 +31,7 @@
 import htsjdk.variant.variantcontext.Genotype;
 import htsjdk.variant.variantcontext.GenotypeType;
 import htsjdk.variant.variantcontext.GenotypesContext;
+import htsjdk.variant.variantcontext.VariantContext;
 import org.junit.jupiter.api.Test;
 import org.monarchinitiative.exomiser.core.model.*;
 import org.monarchinitiative.svart.ConfidenceInterval;
@@ -41,6 +42,7 @@
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -48,6 +50,7 @@
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -324,6 +327,36 @@ public void testMultiSampleMultiPositionOnlyOneAltAlleleIsPresentInSamplesProduc
         );
     }
 
+    @Test
+    void testCompactVariantsRetainOnlySiteInformation() {
+        VcfReader vcfReader = TestVcfReader.builder().samples(sample, sample1)
+                .vcfLines("1\t120612040\trs123\tT\tTCCGCCG,TCCTCCGCCG\t258.62\tLowQual\tDP=20\tGT\t0/1\t0/2")
+                .build();
+        VariantAnnotator variantAnnotator = TestFactory.buildDefaultVariantAnnotator();
+        List<VariantEvaluation> variants = new VariantFactoryImpl(variantAnnotator, vcfReader, true).createVariantEvaluations()
+                .collect(toList());
+        assertThat(variants.size(), equalTo(2));
+
+        VariantEvaluation firstAllele = variants.get(0);
+        // sample genotypes and quality are read before the record is compacted
+        assertThat(firstAllele.getSampleGenotypes(), equalTo(
+                SampleGenotypes.of(
+                        sample, SampleGenotype.of(AlleleCall.REF, AlleleCall.ALT),
+                        sample1, SampleGenotype.of(AlleleCall.REF, AlleleCall.OTHER_ALT)
+                ))
+        );
+        assertThat(firstAllele.getPhredScore(), equalTo(258.62));
+        assertThat(firstAllele.id(), equalTo("rs123"));
+
+        VariantContext variantContext = firstAllele.getVariantContext();
+        assertThat(variantContext.hasGenotypes(), is(false));
+        assertThat(variantContext.getAttributes().isEmpty(), is(true));
+        assertThat(variantContext.getFilters(), equalTo(Set.of("LowQual")));
+        assertThat(variantContext.getAlternateAlleles().size(), equalTo(2));
+        // all alleles from a record share the same instance
+        assertThat(variants.get(1).getVariantContext(), sameInstance(variantContext));
+    }
+
     @Test
     void testTranscriptsOverlappingTwoGenes() {
         VcfReader vcfReader = TestVcfReader.builder().samples("Sample1")
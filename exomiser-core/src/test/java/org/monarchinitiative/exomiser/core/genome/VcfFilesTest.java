@@ -24,6 +24,7 @@
 import htsjdk.variant.variantcontext.VariantContext;
 import htsjdk.variant.vcf.VCFHeader;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -73,6 +74,31 @@ public void testStreamVariantContextsSingleAlleles() {
         assertThat(variants.size(), equalTo(3));
     }
 
+    @Test
+    public void testReadIndexedContigsNotIndexed() {
+        assertThat(VcfFiles.readIndexedContigs(Path.of("src/test/resources/exomiser-test.vcf")), equalTo(List.of()));
+    }
+
+    @Test
+    public void testReadIndexedContigs(@TempDir Path tempDir) {
+        Path vcfPath = TestVcfFiles.bgzipAndIndex(Path.of("src/test/resources/exomiser-test.vcf"), tempDir);
+        assertThat(VcfFiles.readIndexedContigs(vcfPath), equalTo(List.of("1", "10")));
+    }
+
+    @Test
+    public void testReadVariantContextsForContig(@TempDir Path tempDir) {
+        Path vcfPath = TestVcfFiles.bgzipAndIndex(Path.of("src/test/resources/exomiser-test.vcf"), tempDir);
+        try (Stream<VariantContext> variantStream = VcfFiles.readVariantContexts(vcfPath, "1")) {
+            assertThat(variantStream.map(VariantContext::getStart).collect(toList()), equalTo(List.of(123256213, 145508800, 145510000)));
+        }
+        try (Stream<VariantContext> variantStream = VcfFiles.readVariantContexts(vcfPath, "10")) {
+            assertThat(variantStream.map(VariantContext::getStart).collect(toList()), equalTo(List.of(123256215)));
+        }
+        try (Stream<VariantContext> variantStream = VcfFiles.readVariantContexts(vcfPath, "2")) {
+            assertThat(variantStream.count(), equalTo(0L));
+        }
+    }
+
     @Test
     public void testCreateVariantContextsMultipleAlleles() {
         Path vcfPath = Paths.get("src/test/resources/altAllele.vcf");
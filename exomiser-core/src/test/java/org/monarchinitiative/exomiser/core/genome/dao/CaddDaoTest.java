@@ -33,9 +33,14 @@
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.monarchinitiative.exomiser.core.genome.TestFactory;
+import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.CaddScore;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -195,4 +200,74 @@ public void testGetPathogenicityDataSnvMultipleVariantsAtPositionOneMatch() {
         PathogenicityData result = instance.getPathogenicityData(variant(1, 2, "A", "T"));
         assertPathDataContainsCaddScore(result, 3.45f);
     }
+
+    @Test
+    public void testGetPathogenicityDataBatchReadsNearbyVariantsInSingleQuery() {
+        Mockito.when(snvTabixReader.query(0, 1, 10)).thenReturn(MockTabixIterator.of(
+                "1\t2\tA\tC\t-0.234\t4.45",
+                "1\t2\tA\tT\t-0.234\t3.45",
+                "1\t3\tG\tA\t-0.234\t5.45",
+                "1\t10\tT\tC\t-0.234\t6.45"));
+        Mockito.when(indelTabixReader.query(0, 1, 2)).thenReturn(MockTabixIterator.of("1\t2\tA\tAA\t-0.234\t7.45"));
+
+        // n.b. these are deliberately out of order
+        List<PathogenicityData> results = instance.getPathogenicityData(List.of(
+                variant(1, 10, "T", "C"),
+                variant(1, 2, "A", "AA"),
+                variant(1, 2, "A", "T"),
+                variant(1, 5, "C", "G"),
+                variant(1, 2, "A", "C"),
+                variant(1, 3, "G", "A")
+        ));
+
+        assertThat(results, equalTo(List.of(
+                PathogenicityData.of(CaddScore.of(6.45f)),
+                PathogenicityData.of(CaddScore.of(7.45f)),
+                PathogenicityData.of(CaddScore.of(3.45f)),
+                PathogenicityData.empty(),
+                PathogenicityData.of(CaddScore.of(4.45f)),
+                PathogenicityData.of(CaddScore.of(5.45f))
+        )));
+        Mockito.verify(snvTabixReader, Mockito.times(1)).query(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testGetPathogenicityDataBatchSplitsDistantVariantsIntoSeparateQueries() {
+        int distantPosition = 2 + TabixBatchReader.MAX_REGION_GAP + 1;
+        Mockito.when(snvTabixReader.query(0, 1, 2)).thenReturn(MockTabixIterator.of("1\t2\tA\tT\t-0.234\t3.45"));
+        Mockito.when(snvTabixReader.query(0, distantPosition - 1, distantPosition)).thenReturn(MockTabixIterator.of("1\t" + distantPosition + "\tA\tT\t-0.234\t4.45"));
+
+        List<PathogenicityData> results = instance.getPathogenicityData(List.of(
+                variant(1, 2, "A", "T"),
+                variant(1, distantPosition, "A", "T")
+        ));
+
+        assertThat(results, equalTo(List.of(
+                PathogenicityData.of(CaddScore.of(3.45f)),
+                PathogenicityData.of(CaddScore.of(4.45f))
+        )));
+    }
+
+    @Test
+    public void testGetPathogenicityDataBatchUsesAndPopulatesVariantCache() {
+        Cache variantCache = new ConcurrentMapCache("hg19.cadd");
+        VariantEvaluation cached = variant(1, 2, "A", "T");
+        VariantEvaluation uncached = variant(1, 3, "G", "A");
+        variantCache.put(AlleleProtoAdaptor.toAlleleKey(cached), PathogenicityData.of(CaddScore.of(1.0f)));
+        Mockito.when(snvTabixReader.query(0, 2, 3)).thenReturn(MockTabixIterator.of("1\t3\tG\tA\t-0.234\t5.45"));
+
+        CaddDao cachingInstance = new CaddDao(new TabixReaderAdaptor(indelTabixReader), new TabixReaderAdaptor(snvTabixReader), variantCache);
+        List<PathogenicityData> expected = List.of(PathogenicityData.of(CaddScore.of(1.0f)), PathogenicityData.of(CaddScore.of(5.45f)));
+        assertThat(cachingInstance.getPathogenicityData(List.of(cached, uncached)), equalTo(expected));
+        // the second batch is read entirely from the cache
+        assertThat(cachingInstance.getPathogenicityData(List.of(cached, uncached)), equalTo(expected));
+
+        assertThat(variantCache.get(AlleleProtoAdaptor.toAlleleKey(uncached), PathogenicityData.class), equalTo(PathogenicityData.of(CaddScore.of(5.45f))));
+        Mockito.verify(snvTabixReader, Mockito.times(1)).query(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testGetPathogenicityDataBatchEmpty() {
+        assertThat(instance.getPathogenicityData(List.of()), equalTo(List.of()));
+    }
 }
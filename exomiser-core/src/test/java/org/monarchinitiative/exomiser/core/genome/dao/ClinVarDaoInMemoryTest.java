@@ -0,0 +1,161 @@
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
+import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarGeneStats;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto;
+import org.monarchinitiative.svart.CoordinateSystem;
+import org.monarchinitiative.svart.Coordinates;
+import org.monarchinitiative.svart.GenomicVariant;
+import org.monarchinitiative.svart.Strand;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class ClinVarDaoInMemoryTest {
+
+    private static final GenomeAssembly genomeAssembly = GenomeAssembly.HG19;
+
+    private static final AlleleProto.ClinVar PATHOGENIC = clinVar(AlleleProto.ClinVar.ClinSig.PATHOGENIC);
+    private static final AlleleProto.ClinVar LIKELY_PATHOGENIC = clinVar(AlleleProto.ClinVar.ClinSig.LIKELY_PATHOGENIC);
+    private static final AlleleProto.ClinVar BENIGN = clinVar(AlleleProto.ClinVar.ClinSig.BENIGN);
+
+    private MVStore mvStore;
+
+    private static AlleleProto.ClinVar clinVar(AlleleProto.ClinVar.ClinSig clinSig) {
+        return AlleleProto.ClinVar.newBuilder()
+                .setAlleleId("12345")
+                .setPrimaryInterpretation(clinSig)
+                .setReviewStatus("criteria_provided,_multiple_submitters,_no_conflicts")
+                .build();
+    }
+
+    private static AlleleProto.AlleleKey alleleKey(int chr, int position, String ref, String alt) {
+        return AlleleProto.AlleleKey.newBuilder().setChr(chr).setPosition(position).setRef(ref).setAlt(alt).build();
+    }
+
+    private static VariantEvaluation variant(int chr, int position, String ref, String alt) {
+        return VariantEvaluation.builder()
+                .variant(genomeAssembly.getContigById(chr), Strand.POSITIVE, Coordinates.ofAllele(CoordinateSystem.oneBased(), position, ref), ref, alt)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mvStore = new MVStore.Builder().open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mvStore.close();
+    }
+
+    @Test
+    void emptyStore() {
+        ClinVarDaoInMemory instance = new ClinVarDaoInMemory(mvStore, genomeAssembly);
+        assertThat(instance.getClinVarData(variant(1, 1230, "G", "A")), equalTo(ClinVarData.empty()));
+        assertThat(instance.findClinVarDataOverlappingGenomicInterval(variant(1, 1230, "G", "A").withPadding(2, 2)), equalTo(Map.of()));
+    }
+
+    @Test
+    void getClinVarData() {
+        var clinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+        clinVarMap.put(alleleKey(1, 200, "A", "T"), PATHOGENIC);
+        clinVarMap.put(alleleKey(1, 200, "A", "G"), BENIGN);
+
+        ClinVarDao instance = new ClinVarDaoInMemory(mvStore, genomeAssembly);
+        assertThat(instance.getClinVarData(variant(1, 200, "A", "T")), equalTo(AlleleProtoAdaptor.toClinVarData(PATHOGENIC)));
+        assertThat(instance.getClinVarData(variant(1, 200, "A", "G")), equalTo(AlleleProtoAdaptor.toClinVarData(BENIGN)));
+        assertThat(instance.getClinVarData(variant(1, 200, "A", "C")), equalTo(ClinVarData.empty()));
+        assertThat(instance.getClinVarData(variant(2, 200, "A", "T")), equalTo(ClinVarData.empty()));
+    }
+
+    @Test
+    void findClinVarDataOverlappingGenomicIntervalIncludesBoundaries() {
+        var clinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+        clinVarMap.put(alleleKey(1, 1227, "G", "A"), BENIGN);
+        clinVarMap.put(alleleKey(1, 1228, "G", "A"), PATHOGENIC);
+        clinVarMap.put(alleleKey(1, 1230, "G", "T"), PATHOGENIC);
+        clinVarMap.put(alleleKey(1, 1230, "G", "A"), LIKELY_PATHOGENIC);
+        clinVarMap.put(alleleKey(1, 1232, "A", "T"), BENIGN);
+        clinVarMap.put(alleleKey(1, 1233, "T", "C"), BENIGN);
+        clinVarMap.put(alleleKey(2, 1230, "G", "A"), PATHOGENIC);
+
+        ClinVarDao instance = new ClinVarDaoInMemory(mvStore, genomeAssembly);
+        var result = instance.findClinVarDataOverlappingGenomicInterval(variant(1, 1230, "T", "A").withPadding(2, 2));
+        assertThat(result.size(), is(4));
+        assertThat(result.keySet().stream().map(GenomicVariant::start).toList(), equalTo(List.of(1228, 1230, 1230, 1232)));
+    }
+
+    @Test
+    void findClinVarDataOverlappingGenomicIntervalNoOverlap() {
+        var clinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+        clinVarMap.put(alleleKey(1, 1, "G", "A"), PATHOGENIC);
+        clinVarMap.put(alleleKey(1, 7700, "G", "A"), PATHOGENIC);
+
+        ClinVarDao instance = new ClinVarDaoInMemory(mvStore, genomeAssembly);
+        var result = instance.findClinVarDataOverlappingGenomicInterval(variant(1, 1230, "T", "A").withPadding(2, 2));
+        assertThat(result.isEmpty(), is(true));
+    }
+
+    @Test
+    void packedAndOverflowClinVarAreMergedInPositionOrder() {
+        var packedClinVarMap = MvStoreUtil.openPackedClinVarMVMap(mvStore);
+        var overflowClinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+        packedClinVarMap.put(PackedAlleleKey.pack(1, 1229, "G", "A"), PATHOGENIC);
+        packedClinVarMap.put(PackedAlleleKey.pack(1, 1233, "T", "C"), BENIGN);
+        // too long to be packed
+        overflowClinVarMap.put(alleleKey(1, 1231, "G", "GATTACAGATTACA"), LIKELY_PATHOGENIC);
+
+        ClinVarDao instance = new ClinVarDaoInMemory(mvStore, genomeAssembly);
+        assertThat(instance.getClinVarData(variant(1, 1229, "G", "A")), equalTo(AlleleProtoAdaptor.toClinVarData(PATHOGENIC)));
+        assertThat(instance.getClinVarData(variant(1, 1231, "G", "GATTACAGATTACA")), equalTo(AlleleProtoAdaptor.toClinVarData(LIKELY_PATHOGENIC)));
+
+        var result = instance.findClinVarDataOverlappingGenomicInterval(variant(1, 1230, "T", "A").withPadding(2, 2));
+        assertThat(result.values().stream().map(ClinVarData::getPrimaryInterpretation).toList(),
+                equalTo(List.of(ClinVarData.ClinSig.PATHOGENIC, ClinVarData.ClinSig.LIKELY_PATHOGENIC)));
+    }
+
+    @Test
+    void matchesMvStoreDao() {
+        var clinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+        clinVarMap.put(alleleKey(1, 1228, "G", "A"), PATHOGENIC);
+        clinVarMap.put(alleleKey(1, 1229, "G", "GA"), BENIGN);
+        clinVarMap.put(alleleKey(1, 1231, "GG", "A"), LIKELY_PATHOGENIC);
+
+        Variant variant = variant(1, 1230, "T", "A");
+        var expected = new ClinVarDaoMvStore(mvStore, genomeAssembly).findClinVarDataOverlappingGenomicInterval(variant.withPadding(2, 2));
+        var actual = new ClinVarDaoInMemory(mvStore, genomeAssembly).findClinVarDataOverlappingGenomicInterval(variant.withPadding(2, 2));
+        assertThat(actual, equalTo(expected));
+    }
+
+    @Test
+    void geneStatsAndProteinChangesAreReadFromStore() {
+        ClinVarGeneStats geneStats = new ClinVarGeneStats("BRCA1", Map.of(VariantEffect.MISSENSE_VARIANT, Map.of(ClinVarData.ClinSig.PATHOGENIC, 9)));
+        MvStoreUtil.openGeneStatsMVMap(mvStore).put("BRCA1", geneStats);
+        AlleleProto.ClinVarProteinChanges proteinChanges = AlleleProto.ClinVarProteinChanges.newBuilder()
+                .addChanges(AlleleProto.ClinVarProteinChanges.ProteinChange.newBuilder().setHgvsCdna("c.1024T>A").setHgvsProtein("p.(Cys342Ser)"))
+                .build();
+        MvStoreUtil.openClinVarProteinMVMap(mvStore).put(MvStoreUtil.clinVarProteinKey("ENST00000358487.5", 342), proteinChanges.toByteArray());
+
+        ClinVarDao instance = new ClinVarDaoInMemory(mvStore, genomeAssembly);
+        assertThat(instance.getClinVarGeneStats("BRCA1"), equalTo(geneStats));
+        assertThat(instance.hasProteinChangeIndex(), is(true));
+        assertThat(instance.findClinVarProteinChanges("ENST00000358487.5", 342), equalTo(List.of(new ClinVarProteinChange("c.1024T>A", "p.(Cys342Ser)"))));
+    }
+}
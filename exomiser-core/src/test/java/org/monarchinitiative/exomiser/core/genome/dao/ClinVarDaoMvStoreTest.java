@@ -8,17 +8,20 @@
 import org.junit.jupiter.api.io.TempDir;
 import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
 import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
 import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
 import org.monarchinitiative.exomiser.core.model.Variant;
 import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarGeneStats;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 import org.monarchinitiative.svart.Coordinates;
 import org.monarchinitiative.svart.Strand;
 import org.springframework.aot.generate.FileSystemGeneratedFiles;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -372,6 +375,73 @@ void getClinVarData() {
         }
     }
 
+    @Test
+    void packedClinVarStore() {
+        try (MVStore mvStore = new MVStore.Builder().open()) {
+            var packedClinVarMap = MvStoreUtil.openPackedClinVarMVMap(mvStore);
+            var overflowClinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+            AlleleProto.ClinVar pathogenic = AlleleProto.ClinVar.newBuilder()
+                    .setPrimaryInterpretation(AlleleProto.ClinVar.ClinSig.PATHOGENIC)
+                    .build();
+            AlleleProto.ClinVar benign = AlleleProto.ClinVar.newBuilder()
+                    .setPrimaryInterpretation(AlleleProto.ClinVar.ClinSig.BENIGN)
+                    .build();
+            AlleleProto.ClinVar likelyPathogenic = AlleleProto.ClinVar.newBuilder()
+                    .setPrimaryInterpretation(AlleleProto.ClinVar.ClinSig.LIKELY_PATHOGENIC)
+                    .build();
+            packedClinVarMap.put(PackedAlleleKey.pack(1, 1229, "G", "A"), pathogenic);
+            packedClinVarMap.put(PackedAlleleKey.pack(1, 1233, "T", "C"), benign);
+            // too long to be packed
+            AlleleProto.AlleleKey overflowKey = AlleleProto.AlleleKey.newBuilder().setChr(1).setPosition(1231).setRef("G").setAlt("GATTACAGATTACA").build();
+            overflowClinVarMap.put(overflowKey, likelyPathogenic);
+
+            ClinVarDaoMvStore instance = new ClinVarDaoMvStore(mvStore, genomeAssembly);
+
+            Variant packedVariant = VariantEvaluation.builder()
+                    .variant(genomeAssembly.getContigById(1), Strand.POSITIVE, Coordinates.oneBased(1229, 1229), "G", "A")
+                    .build();
+            assertThat(instance.getClinVarData(packedVariant), equalTo(AlleleProtoAdaptor.toClinVarData(pathogenic)));
+
+            Variant overflowVariant = VariantEvaluation.builder()
+                    .variant(genomeAssembly.getContigById(1), Strand.POSITIVE, Coordinates.oneBased(1231, 1231), "G", "GATTACAGATTACA")
+                    .build();
+            assertThat(instance.getClinVarData(overflowVariant), equalTo(AlleleProtoAdaptor.toClinVarData(likelyPathogenic)));
+
+            VariantEvaluation variantEvaluation = VariantEvaluation.builder()
+                    .variant(genomeAssembly.getContigById(1), Strand.POSITIVE, Coordinates.oneBased(1230, 1230), "T", "A")
+                    .build();
+            var result = instance.findClinVarDataOverlappingGenomicInterval(variantEvaluation.withPadding(2, 2));
+            assertThat(result.size(), is(2));
+            assertThat(result.values().stream().map(ClinVarData::getPrimaryInterpretation).toList(),
+                    equalTo(List.of(ClinVarData.ClinSig.PATHOGENIC, ClinVarData.ClinSig.LIKELY_PATHOGENIC)));
+        }
+    }
+
+    @Test
+    void noClinVarProteinIndex() {
+        ClinVarDaoMvStore instance = new ClinVarDaoMvStore(mvStore, genomeAssembly);
+        assertThat(instance.hasProteinChangeIndex(), is(false));
+        assertThat(instance.findClinVarProteinChanges("ENST00000358487.5", 342), equalTo(List.of()));
+    }
+
+    @Test
+    void findClinVarProteinChanges() {
+        AlleleProto.ClinVarProteinChanges proteinChanges = AlleleProto.ClinVarProteinChanges.newBuilder()
+                .addChanges(AlleleProto.ClinVarProteinChanges.ProteinChange.newBuilder().setHgvsCdna("c.1024T>A").setHgvsProtein("p.(Cys342Ser)"))
+                .addChanges(AlleleProto.ClinVarProteinChanges.ProteinChange.newBuilder().setHgvsCdna("c.1025G>A").setHgvsProtein("p.(Cys342Tyr)"))
+                .build();
+        MvStoreUtil.openClinVarProteinMVMap(mvStore).put(MvStoreUtil.clinVarProteinKey("ENST00000358487.5", 342), proteinChanges.toByteArray());
+
+        ClinVarDaoMvStore instance = new ClinVarDaoMvStore(mvStore, genomeAssembly);
+        assertThat(instance.hasProteinChangeIndex(), is(true));
+        assertThat(instance.findClinVarProteinChanges("ENST00000358487.5", 342), equalTo(List.of(
+                new ClinVarProteinChange("c.1024T>A", "p.(Cys342Ser)"),
+                new ClinVarProteinChange("c.1025G>A", "p.(Cys342Tyr)")
+        )));
+        assertThat(instance.findClinVarProteinChanges("ENST00000358487.5", 343), equalTo(List.of()));
+        assertThat(instance.findClinVarProteinChanges("ENST00000457416.2", 342), equalTo(List.of()));
+    }
+
     @Test
     public void testGetClinVarGeneStats() {
 //        clinVarMap.put(positionStartMinus1, AlleleProto.ClinVar.newBuilder()
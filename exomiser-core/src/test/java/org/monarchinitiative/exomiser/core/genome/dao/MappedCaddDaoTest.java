@@ -0,0 +1,101 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.monarchinitiative.exomiser.core.genome.TestFactory;
+import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.CaddScore;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MappedCaddDaoTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PathogenicityDao caddInDelDao;
+    private MappedCaddDao instance;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path scoresFile = tempDir.resolve("cadd_snv.scores.bin");
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(scoresFile, MappedScoreFile.SNV_SLOTS, 100f)) {
+            // 1   12345   A   C   ... 1.23
+            writer.write(1, 12345, 'A', MappedScoreFile.snvSlot("A", "C"), 1.23f);
+            // 1   12345   A   T   ... 23.4
+            writer.write(1, 12345, 'A', MappedScoreFile.snvSlot("A", "T"), 23.4f);
+        }
+        caddInDelDao = Mockito.mock(PathogenicityDao.class);
+        instance = new MappedCaddDao(MappedScoreFile.open(scoresFile), caddInDelDao);
+    }
+
+    @Test
+    void getPathogenicityDataSnv() {
+        assertThat(instance.getPathogenicityData(TestFactory.variantBuilder(1, 12345, "A", "C").build()), equalTo(PathogenicityData.of(CaddScore.of(1.23f))));
+        assertThat(instance.getPathogenicityData(TestFactory.variantBuilder(1, 12345, "A", "T").build()), equalTo(PathogenicityData.of(CaddScore.of(23.4f))));
+    }
+
+    @Test
+    void getPathogenicityDataSnvNoData() {
+        assertThat(instance.getPathogenicityData(TestFactory.variantBuilder(1, 12345, "A", "G").build()), equalTo(PathogenicityData.empty()));
+        assertThat(instance.getPathogenicityData(TestFactory.variantBuilder(1, 12346, "A", "G").build()), equalTo(PathogenicityData.empty()));
+        assertThat(instance.getPathogenicityData(TestFactory.variantBuilder(2, 12345, "A", "C").build()), equalTo(PathogenicityData.empty()));
+    }
+
+    @Test
+    void getPathogenicityDataSnvMismatchedRef() {
+        // G>C uses the same slot as A>C, but the reference base at this position is A
+        assertThat(instance.getPathogenicityData(TestFactory.variantBuilder(1, 12345, "G", "C").build()), equalTo(PathogenicityData.empty()));
+        assertThat(instance.getPathogenicityData(List.of(TestFactory.variantBuilder(1, 12345, "G", "C").build())), equalTo(List.of(PathogenicityData.empty())));
+    }
+
+    @Test
+    void getPathogenicityDataInDelUsesInDelDao() {
+        VariantEvaluation insertion = TestFactory.variantBuilder(1, 12345, "A", "AT").build();
+        Mockito.when(caddInDelDao.getPathogenicityData(insertion)).thenReturn(PathogenicityData.of(CaddScore.of(4.6f)));
+        assertThat(instance.getPathogenicityData(insertion), equalTo(PathogenicityData.of(CaddScore.of(4.6f))));
+    }
+
+    @Test
+    void getPathogenicityDataBatch() {
+        VariantEvaluation snv = TestFactory.variantBuilder(1, 12345, "A", "T").build();
+        VariantEvaluation insertion = TestFactory.variantBuilder(1, 12345, "A", "AT").build();
+        VariantEvaluation noData = TestFactory.variantBuilder(1, 20000, "C", "T").build();
+        Mockito.when(caddInDelDao.getPathogenicityData(List.of(insertion))).thenReturn(List.of(PathogenicityData.of(CaddScore.of(4.6f))));
+
+        List<PathogenicityData> results = instance.getPathogenicityData(List.of(snv, insertion, noData));
+        assertThat(results, equalTo(List.of(
+                PathogenicityData.of(CaddScore.of(23.4f)),
+                PathogenicityData.of(CaddScore.of(4.6f)),
+                PathogenicityData.empty()
+        )));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.core.genome.TestFactory;
+import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.RemmScore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MappedRemmDaoTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MappedRemmDao instance;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path scoresFile = tempDir.resolve("remm.scores.bin");
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(scoresFile, MappedScoreFile.POSITION_SLOTS, 1000f)) {
+            writer.write(1, 1, 0, 0.6f);
+            writer.write(1, 2, 0, 0.1f);
+            writer.write(1, 3, 0, 0.2f);
+            writer.write(1, 4, 0, 0.9f);
+        }
+        instance = new MappedRemmDao(MappedScoreFile.open(scoresFile));
+    }
+
+    private static VariantEvaluation variant(int chr, int pos, String ref, String alt) {
+        return TestFactory.variantBuilder(chr, pos, ref, alt)
+                .variantEffect(VariantEffect.REGULATORY_REGION_VARIANT)
+                .build();
+    }
+
+    @Test
+    void getPathogenicityDataMissenseVariant() {
+        VariantEvaluation missenseVariant = TestFactory.variantBuilder(1, 1, "A", "T")
+                .variantEffect(VariantEffect.MISSENSE_VARIANT)
+                .build();
+        assertThat(instance.getPathogenicityData(missenseVariant), equalTo(PathogenicityData.empty()));
+    }
+
+    @Test
+    void getPathogenicityDataSnv() {
+        assertThat(instance.getPathogenicityData(variant(1, 2, "A", "T")), equalTo(PathogenicityData.of(RemmScore.of(0.1f))));
+    }
+
+    @Test
+    void getPathogenicityDataNoData() {
+        assertThat(instance.getPathogenicityData(variant(1, 5, "A", "T")), equalTo(PathogenicityData.empty()));
+        assertThat(instance.getPathogenicityData(variant(2, 1, "A", "T")), equalTo(PathogenicityData.empty()));
+    }
+
+    @Test
+    void getPathogenicityDataInsertionUsesFlankingBases() {
+        assertThat(instance.getPathogenicityData(variant(1, 2, "A", "AT")), equalTo(PathogenicityData.of(RemmScore.of(0.2f))));
+    }
+
+    @Test
+    void getPathogenicityDataDeletionUsesMaxOfDeletedBases() {
+        assertThat(instance.getPathogenicityData(variant(1, 2, "ATG", "A")), equalTo(PathogenicityData.of(RemmScore.of(0.9f))));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedScoreFileTest {
+
+    @Test
+    void snvSlot() {
+        assertThat(MappedScoreFile.snvSlot("A", "C"), equalTo(0));
+        assertThat(MappedScoreFile.snvSlot("A", "G"), equalTo(1));
+        assertThat(MappedScoreFile.snvSlot("A", "T"), equalTo(2));
+        assertThat(MappedScoreFile.snvSlot("C", "A"), equalTo(0));
+        assertThat(MappedScoreFile.snvSlot("C", "G"), equalTo(1));
+        assertThat(MappedScoreFile.snvSlot("T", "G"), equalTo(2));
+    }
+
+    @Test
+    void snvSlotNotAnSnv() {
+        assertThat(MappedScoreFile.snvSlot("A", "A"), equalTo(-1));
+        assertThat(MappedScoreFile.snvSlot("A", "N"), equalTo(-1));
+        assertThat(MappedScoreFile.snvSlot("A", "AT"), equalTo(-1));
+    }
+
+    @Test
+    void writeAndReadSnvScores(@TempDir Path tempDir) throws IOException {
+        Path scoresFile = tempDir.resolve("cadd_snv.scores.bin");
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(scoresFile, MappedScoreFile.SNV_SLOTS, 100f)) {
+            writer.write(1, 100, 'G', 0, 1.23f);
+            writer.write(1, 100, 'G', 2, 23.4f);
+            // gap
+            writer.write(1, 105, 'A', 1, 0f);
+            writer.write(2, 10, 'T', 0, 99.99f);
+        }
+        MappedScoreFile instance = MappedScoreFile.open(scoresFile);
+
+        assertThat(instance.getSlots(), equalTo(MappedScoreFile.SNV_SLOTS));
+        assertThat(instance.getScore(1, 100, 0), equalTo(1.23f));
+        assertThat(instance.getScore(1, 100, 1), equalTo(Float.NaN));
+        assertThat(instance.getScore(1, 100, 2), equalTo(23.4f));
+        assertThat(instance.getScore(1, 102, 0), equalTo(Float.NaN));
+        assertThat(instance.getScore(1, 105, 1), equalTo(0f));
+        assertThat(instance.getScore(2, 10, 0), equalTo(99.99f));
+        // out of range positions, contigs and slots
+        assertThat(instance.getScore(1, 99, 0), equalTo(Float.NaN));
+        assertThat(instance.getScore(1, 106, 0), equalTo(Float.NaN));
+        assertThat(instance.getScore(3, 100, 0), equalTo(Float.NaN));
+        assertThat(instance.getScore(1, 100, -1), equalTo(Float.NaN));
+        assertThat(instance.getScore(1, 100, 3), equalTo(Float.NaN));
+        // the temporary reference base file is removed on close
+        assertThat(Files.exists(tempDir.resolve("cadd_snv.scores.bin.refs.tmp")), equalTo(false));
+    }
+
+    @Test
+    void getSnvScoreChecksReferenceBase(@TempDir Path tempDir) throws IOException {
+        Path scoresFile = tempDir.resolve("cadd_snv.scores.bin");
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(scoresFile, MappedScoreFile.SNV_SLOTS, 100f)) {
+            writer.write(1, 100, 'G', MappedScoreFile.snvSlot("G", "A"), 1.23f);
+            writer.write(1, 100, 'G', MappedScoreFile.snvSlot("G", "T"), 23.4f);
+            writer.write(1, 102, 'C', MappedScoreFile.snvSlot("C", "A"), 4.5f);
+        }
+        MappedScoreFile instance = MappedScoreFile.open(scoresFile);
+
+        assertThat(instance.getSnvScore(1, 100, "G", "A"), equalTo(1.23f));
+        assertThat(instance.getSnvScore(1, 100, "G", "T"), equalTo(23.4f));
+        assertThat(instance.getSnvScore(1, 102, "C", "A"), equalTo(4.5f));
+        // C>A uses the same slot as G>A, but the reference base at this position is G
+        assertThat(instance.getSnvScore(1, 100, "C", "A"), equalTo(Float.NaN));
+        // missing position in the gap
+        assertThat(instance.getSnvScore(1, 101, "A", "C"), equalTo(Float.NaN));
+        assertThat(instance.getSnvScore(1, 100, "G", "AT"), equalTo(Float.NaN));
+    }
+
+    @Test
+    void snvScoresRequireConsistentReferenceBase(@TempDir Path tempDir) throws IOException {
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(tempDir.resolve("refs.bin"), MappedScoreFile.SNV_SLOTS, 100f)) {
+            writer.write(1, 100, 'G', 0, 1.23f);
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1, 100, 'C', 1, 1.23f));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1, 101, 'N', 1, 1.23f));
+            assertThrows(IllegalStateException.class, () -> writer.write(1, 101, 1, 1.23f));
+        }
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(tempDir.resolve("position.bin"), MappedScoreFile.POSITION_SLOTS, 1000f)) {
+            assertThrows(IllegalStateException.class, () -> writer.write(1, 100, 'G', 0, 0.5f));
+        }
+    }
+
+    @Test
+    void getMaxScore(@TempDir Path tempDir) throws IOException {
+        Path scoresFile = tempDir.resolve("remm.scores.bin");
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(scoresFile, MappedScoreFile.POSITION_SLOTS, 1000f)) {
+            writer.write(1, 10, 0, 0.5f);
+            writer.write(1, 11, 0, 0.912f);
+            writer.write(1, 13, 0, 0.1f);
+        }
+        MappedScoreFile instance = MappedScoreFile.open(scoresFile);
+
+        assertThat(instance.getMaxScore(1, 10, 10), equalTo(0.5f));
+        assertThat(instance.getMaxScore(1, 1, 10), equalTo(0.5f));
+        assertThat(instance.getMaxScore(1, 10, 13), equalTo(0.912f));
+        assertThat(instance.getMaxScore(1, 12, 12), equalTo(Float.NaN));
+        assertThat(instance.getMaxScore(1, 13, 20), equalTo(0.1f));
+        assertThat(instance.getMaxScore(1, 14, 20), equalTo(Float.NaN));
+        assertThat(instance.getMaxScore(2, 10, 13), equalTo(Float.NaN));
+    }
+
+    @Test
+    void contigsAreIndexedByContigIdInFile(@TempDir Path tempDir) throws IOException {
+        Path scoresFile = tempDir.resolve("contigs.scores.bin");
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(scoresFile, MappedScoreFile.POSITION_SLOTS, 1000f)) {
+            writer.write(25, 10, 0, 0.5f);
+            writer.write(30, 10, 0, 0.25f);
+        }
+        MappedScoreFile instance = MappedScoreFile.open(scoresFile);
+
+        assertThat(instance.getScore(25, 10, 0), equalTo(0.5f));
+        assertThat(instance.getScore(30, 10, 0), equalTo(0.25f));
+        assertThat(instance.getScore(1, 10, 0), equalTo(Float.NaN));
+        assertThat(instance.getScore(31, 10, 0), equalTo(Float.NaN));
+    }
+
+    @Test
+    void writerRejectsUnsortedPositions(@TempDir Path tempDir) throws IOException {
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(tempDir.resolve("unsorted.bin"), MappedScoreFile.POSITION_SLOTS, 1000f)) {
+            writer.write(1, 10, 0, 0.5f);
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1, 9, 0, 0.5f));
+            writer.write(2, 10, 0, 0.5f);
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1, 20, 0, 0.5f));
+        }
+    }
+
+    @Test
+    void writerRejectsScoresOutOfRange(@TempDir Path tempDir) throws IOException {
+        try (MappedScoreFileWriter writer = new MappedScoreFileWriter(tempDir.resolve("range.bin"), MappedScoreFile.POSITION_SLOTS, 1000f)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1, 10, 0, -1f));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1, 10, 0, 100f));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1, 10, 1, 0.1f));
+        }
+    }
+
+    @Test
+    void openThrowsExceptionForWrongFileType(@TempDir Path tempDir) throws IOException {
+        Path notScores = Files.writeString(tempDir.resolve("not_scores.tsv"), "1\t12345\t0.5\t0.3\t0.1\t0.5\t0.3\n");
+        assertThrows(IOException.class, () -> MappedScoreFile.open(notScores));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.core.genome.TestFactory;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
+import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleProperties;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class PackedAllelePropertiesDaoMvStoreTest {
+
+    private final AlleleProperties snvProperties = AlleleProperties.newBuilder()
+            .setRsId("rs12345")
+            .putProperties("KG", 0.04f)
+            .putProperties("SIFT", 0.0f)
+            .putProperties("REVEL", 0.8f)
+            .setClinVar(ClinVar.newBuilder().setPrimaryInterpretation(ClinVar.ClinSig.PATHOGENIC).build())
+            .build();
+
+    private final AlleleProperties insertionProperties = AlleleProperties.newBuilder()
+            .setRsId("rs54321")
+            .putProperties("GNOMAD_G_AFR", 0.2f)
+            .putProperties("CADD", 25.0f)
+            .build();
+
+    private final Variant snv = TestFactory.variantBuilder(1, 12345, "A", "T").build();
+    private final Variant longInsertion = TestFactory.variantBuilder(1, 23456, "A", "ATTTTTTTTTTTTT").build();
+
+    private MVStore mvStore;
+    private PackedAllelePropertiesDaoMvStore instance;
+
+    @BeforeEach
+    void setUp() {
+        mvStore = new MVStore.Builder().open();
+        MvStoreUtil.openPackedAlleleMVMap(mvStore).put(PackedAlleleKey.pack(1, 12345, "A", "T"), snvProperties.toByteArray());
+        MvStoreUtil.openAlleleMVMap(mvStore).put(AlleleProtoAdaptor.toAlleleKey(longInsertion), insertionProperties);
+        instance = new PackedAllelePropertiesDaoMvStore(mvStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mvStore.close();
+    }
+
+    @Test
+    void getFrequencyDataPacked() {
+        assertThat(instance.getFrequencyData(snv), equalTo(AlleleProtoAdaptor.toFrequencyData(snvProperties)));
+    }
+
+    @Test
+    void getPathogenicityDataPacked() {
+        assertThat(instance.getPathogenicityData(snv), equalTo(AlleleProtoAdaptor.toPathogenicityData(snvProperties)));
+    }
+
+    @Test
+    void getFrequencyDataOverflow() {
+        assertThat(instance.getFrequencyData(longInsertion), equalTo(AlleleProtoAdaptor.toFrequencyData(insertionProperties)));
+    }
+
+    @Test
+    void getPathogenicityDataOverflow() {
+        assertThat(instance.getPathogenicityData(longInsertion), equalTo(AlleleProtoAdaptor.toPathogenicityData(insertionProperties)));
+    }
+
+    @Test
+    void noData() {
+        Variant variant = TestFactory.variantBuilder(1, 12345, "A", "C").build();
+        assertThat(instance.getFrequencyData(variant), equalTo(FrequencyData.empty()));
+        assertThat(instance.getPathogenicityData(variant), equalTo(PathogenicityData.empty()));
+
+        Variant unknownOverflow = TestFactory.variantBuilder(1, 23456, "A", "ACCCCCCCCCCCCC").build();
+        assertThat(instance.getFrequencyData(unknownOverflow), equalTo(FrequencyData.empty()));
+        assertThat(instance.getPathogenicityData(unknownOverflow), equalTo(PathogenicityData.empty()));
+    }
+}
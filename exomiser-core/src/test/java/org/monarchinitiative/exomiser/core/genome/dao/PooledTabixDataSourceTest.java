@@ -0,0 +1,211 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.genome.dao;
+
+import htsjdk.tribble.readers.TabixReader;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.monarchinitiative.exomiser.core.genome.TestFactory;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PooledTabixDataSourceTest {
+
+    private final List<TabixReader> openedReaders = new CopyOnWriteArrayList<>();
+
+    private Supplier<TabixReader> mockTabixReaderSupplier() {
+        return () -> {
+            TabixReader tabixReader = Mockito.mock(TabixReader.class);
+            Mockito.when(tabixReader.getChromosomes()).thenReturn(Set.of("1"));
+            Mockito.when(tabixReader.chr2tid("1")).thenReturn(0);
+            Mockito.when(tabixReader.query(0, 99, 100)).thenAnswer(invocation -> MockTabixIterator.of("1\t100\tA\tT\t0.1\t23.4"));
+            openedReaders.add(tabixReader);
+            return tabixReader;
+        };
+    }
+
+    @Test
+    void throwsExceptionWithNoReaders() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledTabixDataSource("TEST", mockTabixReaderSupplier(), 0));
+    }
+
+    @Test
+    void getSource() {
+        var instance = new PooledTabixDataSource("TEST", mockTabixReaderSupplier(), 1);
+        assertThat(instance.getSource(), equalTo("TEST"));
+    }
+
+    @Test
+    void readersAreOpenedLazily() {
+        var instance = new PooledTabixDataSource("TEST", mockTabixReaderSupplier(), 4);
+        assertThat(instance.numOpenReaders(), equalTo(0));
+    }
+
+    @Test
+    void queryReusesIdleReader() throws IOException {
+        var instance = new PooledTabixDataSource("TEST", mockTabixReaderSupplier(), 4);
+        assertThat(instance.query("1", 100, 100).next(), equalTo("1\t100\tA\tT\t0.1\t23.4"));
+        assertThat(instance.query("1", 100, 100, TabixReader.Iterator::next), equalTo("1\t100\tA\tT\t0.1\t23.4"));
+        assertThat(instance.numOpenReaders(), equalTo(1));
+    }
+
+    @Test
+    void concurrentQueriesAreLimitedToMaxReaders() throws Exception {
+        int maxReaders = 2;
+        var instance = new PooledTabixDataSource("TEST", mockTabixReaderSupplier(), maxReaders);
+        int numThreads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        AtomicInteger numRunning = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < numThreads * 4; i++) {
+            results.add(executorService.submit(() -> instance.query("1", 100, 100, iterator -> {
+                maxRunning.accumulateAndGet(numRunning.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                numRunning.decrementAndGet();
+                return iterator.next();
+            })));
+        }
+        for (Future<String> result : results) {
+            assertThat(result.get(), equalTo("1\t100\tA\tT\t0.1\t23.4"));
+        }
+        executorService.shutdown();
+        assertThat(maxRunning.get(), lessThanOrEqualTo(maxReaders));
+        assertThat(instance.numOpenReaders(), lessThanOrEqualTo(maxReaders));
+        assertThat(openedReaders.size(), lessThanOrEqualTo(maxReaders));
+    }
+
+    @Test
+    void readerIsReturnedWhenResultsFunctionThrowsException() throws IOException {
+        var instance = new PooledTabixDataSource("TEST", mockTabixReaderSupplier(), 1);
+        assertThrows(IOException.class, () -> instance.query("1", 100, 100, iterator -> {
+            throw new IOException("wibble");
+        }));
+        // would block forever if the only reader had not been returned to the pool
+        assertThat(instance.query("1", 100, 100, TabixReader.Iterator::next), equalTo("1\t100\tA\tT\t0.1\t23.4"));
+        assertThat(instance.numOpenReaders(), equalTo(1));
+    }
+
+    @Test
+    void closeClosesAllReaders() throws Exception {
+        var instance = new PooledTabixDataSource("TEST", mockTabixReaderSupplier(), 2);
+        CountDownLatch bothReadersBorrowed = new CountDownLatch(2);
+        Runnable query = () -> {
+            try {
+                instance.query("1", 100, 100, iterator -> {
+                    bothReadersBorrowed.countDown();
+                    try {
+                        bothReadersBorrowed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return iterator.next();
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Thread thread = new Thread(query);
+        thread.start();
+        query.run();
+        thread.join();
+        assertThat(instance.numOpenReaders(), equalTo(2));
+
+        instance.close();
+        assertThat(instance.numOpenReaders(), equalTo(0));
+        for (TabixReader tabixReader : openedReaders) {
+            Mockito.verify(tabixReader).close();
+        }
+    }
+
+    @Test
+    void throwsExceptionWhenFileNotFound() {
+        IOException exception = assertThrows(IOException.class, () -> new PooledTabixDataSource(Path.of("wibble.tsv.gz"), 1));
+        assertThat(exception.getMessage(), containsString("wibble.tsv.gz"));
+    }
+
+    /**
+     * Comparative performance test for CADD lookups per second against the number of threads for a shared,
+     * synchronised TabixReader and a pool of readers. Skipped unless the {@code exomiser.test.cadd-snv-path} system
+     * property points to a full CADD SNV file.
+     */
+    @Test
+    void caddLookupsPerSecondByThreadCount() throws Exception {
+        String caddSnvPathProperty = System.getProperty("exomiser.test.cadd-snv-path", "");
+        assumeTrue(!caddSnvPathProperty.isEmpty() && Files.exists(Path.of(caddSnvPathProperty)), "Performance test - requires local CADD data");
+        Path caddSnvPath = Path.of(caddSnvPathProperty);
+        int numLookups = 200_000;
+        List<Variant> variants = new ArrayList<>(numLookups);
+        for (int i = 0; i < numLookups; i++) {
+            int pos = ThreadLocalRandom.current().nextInt(1_000_000, 200_000_000);
+            variants.add(TestFactory.variantBuilder(1, pos, "A", "T").build());
+        }
+        for (int numThreads : new int[]{1, 2, 4, 8, 16}) {
+            var sharedReader = new TabixReaderAdaptor(new TabixReader(caddSnvPath.toString()));
+            // emulates the previous synchronized access to a single shared reader
+            PathogenicityDao sharedDao = new CaddDao(sharedReader, sharedReader) {
+                @Override
+                public synchronized PathogenicityData getPathogenicityData(Variant variant) {
+                    return super.getPathogenicityData(variant);
+                }
+            };
+            runLookups("shared", numThreads, sharedDao, variants);
+            sharedReader.close();
+
+            var pooledReader = new PooledTabixDataSource(caddSnvPath, numThreads);
+            runLookups("pooled", numThreads, new CaddDao(pooledReader, pooledReader), variants);
+            pooledReader.close();
+        }
+    }
+
+    private void runLookups(String type, int numThreads, PathogenicityDao pathogenicityDao, List<Variant> variants) throws Exception {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(numThreads);
+        AtomicInteger count = new AtomicInteger();
+        Instant start = Instant.now();
+        forkJoinPool.submit(() -> variants.parallelStream().forEach(variant -> {
+            pathogenicityDao.getPathogenicityData(variant);
+            count.incrementAndGet();
+        })).get();
+        Duration duration = Duration.between(start, Instant.now());
+        forkJoinPool.shutdown();
+        System.out.printf("%s reader %d threads: %d lookups in %dms (%.0f lookups/s)%n", type, numThreads, count.get(), duration.toMillis(), count.get() / (duration.toMillis() / 1000.0));
+    }
+}
@@ -39,6 +39,8 @@
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.RemmScore;
 
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -117,4 +119,28 @@ public void testWithNoOpTabixDataSource() {
         RemmDao instance = new RemmDao(noOpTabixDataSource);
         assertThat(instance.getPathogenicityData(variant(1, 1, "ATTT", "A")), equalTo(PathogenicityData.of()));
     }
+
+    @Test
+    public void testGetPathogenicityDataBatch() {
+        Mockito.when(remmTabixReader.query(0, 0, 6)).thenReturn(MockTabixIterator.of("1\t1\t0.0", "1\t2\t0.5", "1\t3\t1.0", "1\t4\t0.0", "1\t5\t0.25", "1\t6\t0.75"));
+
+        VariantEvaluation missenseVariant = TestFactory.variantBuilder(1, 5, "A", "T")
+                .variantEffect(VariantEffect.MISSENSE_VARIANT)
+                .build();
+        List<PathogenicityData> results = instance.getPathogenicityData(List.of(
+                variant(1, 6, "A", "T"),
+                missenseVariant,
+                variant(1, 1, "ATTT", "A"),
+                variant(1, 2, "A", "T"),
+                variant(1, 5, "A", "T")
+        ));
+
+        assertThat(results, equalTo(List.of(
+                PathogenicityData.of(RemmScore.of(0.75f)),
+                PathogenicityData.empty(),
+                PathogenicityData.of(RemmScore.of(1f)),
+                PathogenicityData.of(RemmScore.of(0.5f)),
+                PathogenicityData.of(RemmScore.of(0.25f))
+        )));
+    }
 }
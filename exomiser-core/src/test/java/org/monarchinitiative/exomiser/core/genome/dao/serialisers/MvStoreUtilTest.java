@@ -33,6 +33,7 @@
 import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleProperties;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -51,6 +52,30 @@ public void openAlleleMVMap() {
         assertThat(mvStore.hasMap("alleles"), is(true));
     }
 
+    @Test
+    public void getAllReturnsValuesInInputOrder() {
+        MVStore mvStore = new MVStore.Builder().open();
+        MVMap<Long, byte[]> map = MvStoreUtil.openPackedAlleleMVMap(mvStore);
+        // keys far enough apart that the cursor will need to be re-positioned
+        for (long i = 0; i < 1000; i += 2) {
+            map.put(i, new byte[]{(byte) i});
+        }
+        List<Long> keys = List.of(998L, 3L, 0L, 500L, 2L, 1001L, 2L, 10L);
+        List<byte[]> values = MvStoreUtil.getAll(map, keys, null);
+        assertThat(values.size(), equalTo(keys.size()));
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] expected = map.get(keys.get(i));
+            assertThat(values.get(i), equalTo(expected));
+        }
+    }
+
+    @Test
+    public void getAllNoKeys() {
+        MVStore mvStore = new MVStore.Builder().open();
+        MVMap<AlleleKey, AlleleProperties> map = MvStoreUtil.openAlleleMVMap(mvStore);
+        assertThat(MvStoreUtil.getAll(map, List.of(), AlleleProperties.getDefaultInstance()), equalTo(List.of()));
+    }
+
     @Test
     public void alleleMapBuilder() {
         MVMap.Builder<AlleleKey, AlleleProperties> alleleMapBuilder = MvStoreUtil.alleleMapBuilder();
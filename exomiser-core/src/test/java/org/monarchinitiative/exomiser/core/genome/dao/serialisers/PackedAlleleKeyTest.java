@@ -0,0 +1,91 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.genome.dao.serialisers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class PackedAlleleKeyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 1, A, T",
+            "1, 12345, A, T",
+            "23, 155270560, G, C",
+            "25, 16569, T, A",
+            "31, 268435455, C, G",
+            "2, 1000, AT, A",
+            "2, 1000, A, ACGTACG",
+            "2, 1000, ACGTAC, TGCATG",
+    })
+    void roundTrip(int chr, int position, String ref, String alt) {
+        long key = PackedAlleleKey.pack(chr, position, ref, alt);
+        assertThat(key, greaterThan(0L));
+        assertThat(PackedAlleleKey.chr(key), equalTo(chr));
+        assertThat(PackedAlleleKey.position(key), equalTo(position));
+        assertThat(PackedAlleleKey.ref(key), equalTo(ref));
+        assertThat(PackedAlleleKey.alt(key), equalTo(alt));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 12345, A, T",
+            "32, 12345, A, T",
+            "1, 0, A, T",
+            "1, 268435456, A, T",
+            "1, 12345, N, T",
+            "1, 12345, A, <DEL>",
+            "1, 12345, A, ACGTACGT",
+            "1, 12345, ACGTACG, ACGTAC",
+    })
+    void notPackable(int chr, int position, String ref, String alt) {
+        assertThat(PackedAlleleKey.pack(chr, position, ref, alt), equalTo(PackedAlleleKey.NOT_PACKABLE));
+    }
+
+    @Test
+    void notPackableEmptyAllele() {
+        assertThat(PackedAlleleKey.pack(1, 12345, "", "A"), equalTo(PackedAlleleKey.NOT_PACKABLE));
+        assertThat(PackedAlleleKey.pack(1, 12345, "A", ""), equalTo(PackedAlleleKey.NOT_PACKABLE));
+    }
+
+    @Test
+    void keysAreOrderedByChromosomeThenPosition() {
+        assertThat(PackedAlleleKey.pack(1, 12345, "T", "A"), lessThan(PackedAlleleKey.pack(1, 12346, "A", "C")));
+        assertThat(PackedAlleleKey.pack(1, 268435455, "T", "A"), lessThan(PackedAlleleKey.pack(2, 1, "A", "C")));
+        assertThat(PackedAlleleKey.pack(22, 12345, "A", "C"), lessThan(PackedAlleleKey.pack(23, 1, "A", "C")));
+    }
+
+    @Test
+    void boundsContainAllAllelesAtPosition() {
+        long lower = PackedAlleleKey.lowerBound(1, 12345);
+        long upper = PackedAlleleKey.upperBound(1, 12345);
+        for (String alt : new String[]{"A", "C", "G", "T", "TTTTTTT"}) {
+            long key = PackedAlleleKey.pack(1, 12345, "TTTTT", alt);
+            assertThat(key, allOf(greaterThanOrEqualTo(lower), lessThanOrEqualTo(upper)));
+        }
+        assertThat(PackedAlleleKey.pack(1, 12344, "T", "A"), lessThan(lower));
+        assertThat(PackedAlleleKey.pack(1, 12346, "A", "C"), greaterThan(upper));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.core.model;
+
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleProperties;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class AllelePropertiesReaderTest {
+
+    private final AlleleProperties alleleProperties = AlleleProperties.newBuilder()
+            .setRsId("rs12345")
+            .putProperties("KG", 0.04f)
+            .putProperties("GNOMAD_E_NFE", 0.1f)
+            .putProperties("SIFT", 0.0f)
+            .putProperties("POLYPHEN", 0.99f)
+            .putProperties("REVEL", 0.8f)
+            .putProperties("UNRECOGNISED", 1.0f)
+            .setClinVar(ClinVar.newBuilder()
+                    .setAlleleId("12345")
+                    .setPrimaryInterpretation(ClinVar.ClinSig.PATHOGENIC)
+                    .setReviewStatus("criteria provided, multiple submitters, no conflicts")
+                    .build())
+            .build();
+
+    @Test
+    void readEmpty() {
+        assertThat(AllelePropertiesReader.readFrequencyData(new byte[0]), equalTo(FrequencyData.empty()));
+        assertThat(AllelePropertiesReader.readPathogenicityData(new byte[0]), equalTo(PathogenicityData.empty()));
+    }
+
+    @Test
+    void readFrequencyDataMatchesAdaptor() {
+        FrequencyData expected = AlleleProtoAdaptor.toFrequencyData(alleleProperties);
+        assertThat(AllelePropertiesReader.readFrequencyData(alleleProperties.toByteArray()), equalTo(expected));
+    }
+
+    @Test
+    void readPathogenicityDataMatchesAdaptor() {
+        PathogenicityData expected = AlleleProtoAdaptor.toPathogenicityData(alleleProperties);
+        assertThat(AllelePropertiesReader.readPathogenicityData(alleleProperties.toByteArray()), equalTo(expected));
+    }
+
+    @Test
+    void readPathogenicityDataNoClinVar() {
+        AlleleProperties noClinVar = alleleProperties.toBuilder().clearClinVar().build();
+        PathogenicityData expected = AlleleProtoAdaptor.toPathogenicityData(noClinVar);
+        assertThat(AllelePropertiesReader.readPathogenicityData(noClinVar.toByteArray()), equalTo(expected));
+    }
+}
@@ -189,6 +189,27 @@ public void testConstructorSetsInstanceVariablesNoVariant() {
         assertThat(instance.getGeneScores().isEmpty(), is(true));
     }
 
+    @Test
+    public void unscoredGeneHasEmptyTopGeneScore() {
+        Gene emptyGene = new Gene(GENE1_GENE_IDENTIFIER);
+        assertThat(emptyGene.getTopGeneScore(), equalTo(GeneScore.builder().geneIdentifier(GENE1_GENE_IDENTIFIER).build()));
+        assertThat(emptyGene.getCombinedScore(), equalTo(0d));
+        assertThat(emptyGene.getCompatibleInheritanceModes().isEmpty(), is(true));
+        assertThat(emptyGene.getCompatibleGeneScores().isEmpty(), is(true));
+    }
+
+    @Test
+    public void unscoredGeneReusesEmptyTopGeneScore() {
+        Gene emptyGene = new Gene(GENE1_GENE_IDENTIFIER);
+        assertThat(emptyGene.getTopGeneScore(), sameInstance(emptyGene.getTopGeneScore()));
+    }
+
+    @Test
+    public void canRemoveVariantsFromGeneWithoutVariants() {
+        Gene emptyGene = new Gene(GENE1_GENE_IDENTIFIER);
+        assertThat(emptyGene.getVariantEvaluations().removeIf(VariantEvaluation::passedFilters), is(false));
+    }
+
     @Test
     public void testGenesWithDifferentGeneSymbolsAreComparedByGeneSymbolWhenScoresAreEqual() {
         Gene gene1 = newGeneOne();
@@ -0,0 +1,42 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.model.pathogenicity;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class ClinVarProteinChangeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "p.(Cys342Ser), 342",
+            "p.Cys342Ser, 342",
+            "p.(Glu565Ala), 565",
+            "p.(M1?), 1",
+            "p.(=), -1",
+            "'', -1",
+    })
+    void proteinPosition(String hgvsProtein, int expected) {
+        assertThat(ClinVarProteinChange.proteinPosition(hgvsProtein), equalTo(expected));
+    }
+}
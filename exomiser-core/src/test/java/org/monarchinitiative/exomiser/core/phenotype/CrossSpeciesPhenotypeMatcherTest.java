@@ -149,4 +149,17 @@ void testGetPhenodigmRawScoreMissingTermMatch() {
         PhenodigmMatchRawScore expected = new PhenodigmMatchRawScore(4.0, 8.0, ImmutableList.of(bigNose.getId()), bestPhenotypeMatches);
         assertThat(result, equalTo(expected));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetPhenodigmRawScoreReverseMatchesAreScoredForEachModelPhenotype() {
+        List<String> modelPhenotypes = ImmutableList.of(crookedToe.getId(), longToe.getId());
+
+        List<PhenotypeMatch> expectedForwardReverse = ImmutableList.of(bigToeLogToeMatch, bigToeCrookedToeMatch, bigToeLogToeMatch);
+        assertThat(instance.findBestForwardAndReverseMatches(modelPhenotypes), equalTo(expectedForwardReverse));
+
+        PhenodigmMatchRawScore result = instance.matchPhenotypeIds(modelPhenotypes);
+
+        PhenodigmMatchRawScore expected = new PhenodigmMatchRawScore(2.0, 5.5, modelPhenotypes, ImmutableList.of(bigToeLogToeMatch));
+        assertThat(result, equalTo(expected));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.phenotype.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeMatch;
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeTerm;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PhenotypeMappingFileTest {
+
+    private final PhenotypeTerm multicysticKidneyDysplasia = PhenotypeTerm.of("HP:0000003", "Multicystic kidney dysplasia");
+    private final PhenotypeTerm renalDiverticulum = PhenotypeTerm.of("HP:0100877", "Renal diverticulum");
+    private final PhenotypeTerm renalCyst = PhenotypeTerm.of("HP:0000107", "Renal cyst");
+    private final PhenotypeTerm mesoblasticNephroma = PhenotypeTerm.of("HP:0100881", "Congenital mesoblastic nephroma");
+    private final PhenotypeTerm kidneyAbnormality = PhenotypeTerm.of("HP:0000077", "Abnormality of the kidney");
+    private final PhenotypeTerm renalAmyloidosis = PhenotypeTerm.of("HP:0001917", "Renal amyloidosis");
+
+    private final PhenotypeMatch diverticulumMatch = PhenotypeMatch.builder()
+            .query(multicysticKidneyDysplasia)
+            .match(renalDiverticulum)
+            .lcs(renalCyst)
+            .simj(0.769231)
+            .ic(5.347805)
+            .score(2.028225214383722)
+            .build();
+
+    private final PhenotypeMatch mesoblasticMatch = PhenotypeMatch.builder()
+            .query(multicysticKidneyDysplasia)
+            .match(mesoblasticNephroma)
+            .lcs(kidneyAbnormality)
+            .simj(0.380952)
+            .ic(3.020727)
+            .score(1.0727310768221452)
+            .build();
+
+    private final PhenotypeMatch amyloidosisSelfMatch = PhenotypeMatch.builder()
+            .query(renalAmyloidosis)
+            .match(renalAmyloidosis)
+            .lcs(renalAmyloidosis)
+            .simj(1.0)
+            .ic(8.829843768215113)
+            .score(2.9715053034135934)
+            .build();
+
+    private static void write(PhenotypeMappingFileWriter writer, PhenotypeMatch match) throws IOException {
+        writer.write(match.getQueryPhenotypeId(), match.getQueryPhenotype().getLabel(),
+                match.getMatchPhenotypeId(), match.getMatchPhenotype().getLabel(),
+                match.getSimJ(), match.getIc(), match.getScore(),
+                match.getLcs().getId(), match.getLcs().getLabel());
+    }
+
+    private PhenotypeMappingFile writeMatches(Path path, PhenotypeMatch... matches) throws IOException {
+        try (PhenotypeMappingFileWriter writer = new PhenotypeMappingFileWriter(path)) {
+            for (PhenotypeMatch match : matches) {
+                write(writer, match);
+            }
+            writer.finish();
+        }
+        return PhenotypeMappingFile.open(path);
+    }
+
+    @Test
+    void writerClosedWithoutFinishingLeavesExistingFile(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("hp_hp_mappings.bin");
+        writeMatches(path, amyloidosisSelfMatch);
+        byte[] original = Files.readAllBytes(path);
+
+        try (PhenotypeMappingFileWriter writer = new PhenotypeMappingFileWriter(path)) {
+            write(writer, diverticulumMatch);
+        }
+
+        assertThat(Files.readAllBytes(path), equalTo(original));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.toList(), equalTo(List.of(path)));
+        }
+    }
+
+    @Test
+    void getPhenotypeMatches(@TempDir Path tempDir) throws IOException {
+        // matches for different query terms are interleaved
+        PhenotypeMappingFile instance = writeMatches(tempDir.resolve("hp_hp_mappings.bin"), diverticulumMatch, amyloidosisSelfMatch, mesoblasticMatch);
+
+        assertThat(List.copyOf(instance.getPhenotypeMatches(multicysticKidneyDysplasia)), equalTo(List.of(diverticulumMatch, mesoblasticMatch)));
+        assertThat(instance.getPhenotypeMatches(renalAmyloidosis), equalTo(Set.of(amyloidosisSelfMatch)));
+    }
+
+    @Test
+    void getPhenotypeMatchesUsesQueryTerm(@TempDir Path tempDir) throws IOException {
+        PhenotypeMappingFile instance = writeMatches(tempDir.resolve("hp_hp_mappings.bin"), diverticulumMatch);
+
+        PhenotypeTerm queryTerm = PhenotypeTerm.of("HP:0000003", "Multicystic kidney dysplasia");
+        PhenotypeMatch match = instance.getPhenotypeMatches(queryTerm).iterator().next();
+        assertThat(match.getQueryPhenotype() == queryTerm, is(true));
+    }
+
+    @Test
+    void getPhenotypeMatchesForUnknownTermReturnsEmptySet(@TempDir Path tempDir) throws IOException {
+        PhenotypeMappingFile instance = writeMatches(tempDir.resolve("hp_hp_mappings.bin"), diverticulumMatch);
+
+        assertThat(instance.getPhenotypeMatches(PhenotypeTerm.of("", "")), equalTo(Set.of()));
+        assertThat(instance.getPhenotypeMatches(renalDiverticulum), equalTo(Set.of()));
+    }
+
+    @Test
+    void emptyFile(@TempDir Path tempDir) throws IOException {
+        PhenotypeMappingFile instance = writeMatches(tempDir.resolve("hp_hp_mappings.bin"));
+
+        assertThat(instance.getPhenotypeMatches(multicysticKidneyDysplasia), equalTo(Set.of()));
+    }
+
+    @Test
+    void tempFileIsDeleted(@TempDir Path tempDir) throws IOException {
+        writeMatches(tempDir.resolve("hp_hp_mappings.bin"), diverticulumMatch);
+
+        try (var files = Files.list(tempDir)) {
+            assertThat(files.toList(), equalTo(List.of(tempDir.resolve("hp_hp_mappings.bin"))));
+        }
+    }
+
+    @Test
+    void openNonMappingFileThrowsException(@TempDir Path tempDir) throws IOException {
+        Path path = Files.write(tempDir.resolve("hp_hp_mappings.bin"), new byte[64]);
+        assertThrows(IOException.class, () -> PhenotypeMappingFile.open(path));
+    }
+
+    @Test
+    void mappedOntologyDao(@TempDir Path tempDir) throws IOException {
+        PhenotypeMappingFile phenotypeMappingFile = writeMatches(tempDir.resolve("hp_hp_mappings.bin"), diverticulumMatch, mesoblasticMatch);
+        Set<PhenotypeTerm> allTerms = Set.of(multicysticKidneyDysplasia, renalDiverticulum);
+        OntologyDao termDao = new OntologyDao() {
+            @Override
+            public Set<PhenotypeTerm> getAllTerms() {
+                return allTerms;
+            }
+
+            @Override
+            public Set<PhenotypeMatch> getPhenotypeMatchesForHpoTerm(PhenotypeTerm hpoTerm) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        OntologyDao instance = new MappedOntologyDao(termDao, phenotypeMappingFile);
+        assertThat(instance.getAllTerms(), equalTo(allTerms));
+        assertThat(instance.getPhenotypeMatchesForHpoTerm(multicysticKidneyDysplasia), equalTo(Set.of(diverticulumMatch, mesoblasticMatch)));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.core.prioritisers.service;
+
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.core.phenotype.Organism;
+import org.monarchinitiative.exomiser.core.prioritisers.model.GeneDiseaseModel;
+import org.monarchinitiative.exomiser.core.prioritisers.model.GeneModel;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class PhenotypeModelIndexTest {
+
+    private final GeneModel model1 = new GeneDiseaseModel("OMIM:1", Organism.HUMAN, 1, "GENE1", "OMIM:1", "disease 1", List.of("HP:0000001", "HP:0000002"));
+    private final GeneModel model2 = new GeneDiseaseModel("OMIM:2", Organism.HUMAN, 2, "GENE2", "OMIM:2", "disease 2", List.of("HP:0000002", "HP:0000003", "HP:0000003"));
+    private final GeneModel model3 = new GeneDiseaseModel("OMIM:3", Organism.HUMAN, 3, "GENE3", "OMIM:3", "disease 3", List.of("HP:0000004"));
+
+    private final PhenotypeModelIndex instance = new PhenotypeModelIndex(List.of(model1, model2, model3));
+
+    @Test
+    void size() {
+        assertThat(instance.size(), equalTo(3));
+        assertThat(instance.getModels(), equalTo(List.of(model1, model2, model3)));
+    }
+
+    @Test
+    void noPhenotypes() {
+        assertThat(instance.getModelsWithAnyPhenotype(Set.of()), equalTo(List.of()));
+    }
+
+    @Test
+    void unknownPhenotype() {
+        assertThat(instance.getModelsWithAnyPhenotype(Set.of("HP:0000005")), equalTo(List.of()));
+    }
+
+    @Test
+    void singlePhenotype() {
+        assertThat(instance.getModelsWithAnyPhenotype(Set.of("HP:0000003")), equalTo(List.of(model2)));
+    }
+
+    @Test
+    void modelsAreReturnedOnceInIndexOrder() {
+        assertThat(instance.getModelsWithAnyPhenotype(List.of("HP:0000004", "HP:0000002", "HP:0000001", "HP:0000003")), equalTo(List.of(model1, model2, model3)));
+    }
+}
@@ -22,6 +22,7 @@
 
 import org.jblas.FloatMatrix;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -33,6 +34,7 @@
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Jules Jacobsen <jules.jacobsen@sanger.ac.uk>
@@ -123,6 +125,41 @@ public void loadDataMatrixFromMap() {
         assertThat(dataMatrix.numColumns(), equalTo(10));
     }
 
+    @Test
+    public void writeAndLoadMappedDataMatrix(@TempDir Path tempDir) {
+        Path mappedFile = tempDir.resolve("test_matrix.bin");
+        DataMatrixIO.writeMappedDataMatrix(dataMatrix, mappedFile);
+
+        DataMatrix mappedMatrix = DataMatrixIO.loadMappedDataMatrix(mappedFile);
+        assertThat(mappedMatrix.numRows(), equalTo(4));
+        assertThat(mappedMatrix.numColumns(), equalTo(4));
+        assertThat(mappedMatrix.getEntrezIdToRowIndex(), equalTo(dataMatrix.getEntrezIdToRowIndex()));
+        assertThat(mappedMatrix.containsGene(2222), is(true));
+        assertThat(mappedMatrix.containsGene(4444), is(false));
+        assertThat(mappedMatrix.getRowIndexForGene(2222), equalTo(2));
+        assertThat(mappedMatrix.getColumnMatrixForGene(2222), equalTo(dataMatrix.getColumnMatrixForGene(2222)));
+        assertThat(mappedMatrix.getColumnMatrixForGene(4444), equalTo(null));
+        testMatrixEquality(mappedMatrix.getMatrix(), dataMatrix.getMatrix());
+    }
+
+    @Test
+    public void convertMapToMappedDataMatrix(@TempDir Path tempDir) {
+        Path mapPath = Paths.get("src/test/resources/prioritisers/test_ppi_matrix.mv");
+        Path mappedFile = tempDir.resolve("test_ppi_matrix.bin");
+        DataMatrixIO.convertToMappedDataMatrix(mapPath, mappedFile);
+
+        DataMatrix mappedMatrix = DataMatrixIO.loadMappedDataMatrix(mappedFile);
+        DataMatrix inMemoryMapMatrix = DataMatrixIO.loadInMemoryDataMatrix(mapPath);
+        assertThat(mappedMatrix.getEntrezIdToRowIndex(), equalTo(inMemoryMapMatrix.getEntrezIdToRowIndex()));
+        testMatrixEquality(mappedMatrix.getMatrix(), inMemoryMapMatrix.getMatrix());
+    }
+
+    @Test
+    public void loadMappedDataMatrixThrowsExceptionForWrongFormat() {
+        Path mapPath = Paths.get("src/test/resources/prioritisers/test_ppi_matrix.mv");
+        assertThrows(DataMatrixIO.DataMatrixIoException.class, () -> DataMatrixIO.loadMappedDataMatrix(mapPath));
+    }
+
     @Test
     public void testWriteMatrix() throws Exception {
         Path matrixFile = Paths.get("target/testMatrix");
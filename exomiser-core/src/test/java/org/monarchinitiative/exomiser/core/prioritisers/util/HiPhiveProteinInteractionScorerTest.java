@@ -23,15 +23,16 @@
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import org.jblas.FloatMatrix;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.monarchinitiative.exomiser.core.phenotype.Organism;
 import org.monarchinitiative.exomiser.core.prioritisers.model.GeneDiseaseModel;
 import org.monarchinitiative.exomiser.core.prioritisers.model.GeneMatch;
 import org.monarchinitiative.exomiser.core.prioritisers.model.GeneModelPhenotypeMatch;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -165,4 +166,62 @@ public void geneInNetworkClosestHitTwoNetworks() {
         assertThat(closestPhenoMatchInNetwork.getBestMatchModels(), equalTo(ImmutableList.of(model3)));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getClosestPhenoMatchesInNetwork() {
+        GeneModelPhenotypeMatch model5 = geneModelMatch(5, 0.7, "MONDO:5");
+        GeneModelPhenotypeMatch model2 = geneModelMatch(2, 0.62, "MONDO:2");
+        GeneModelPhenotypeMatch model3 = geneModelMatch(3, 0.63, "MONDO:3");
+
+        ArrayListMultimap<Integer, GeneModelPhenotypeMatch> bestGeneModels = ArrayListMultimap.create();
+        bestGeneModels.put(model5.getEntrezGeneId(), model5);
+        bestGeneModels.put(model2.getEntrezGeneId(), model2);
+        bestGeneModels.put(model3.getEntrezGeneId(), model3);
+
+        HiPhiveProteinInteractionScorer instance = new HiPhiveProteinInteractionScorer(dataMatrix, bestGeneModels, HIGH_QUALITY_PHENO_SCORE_CUT_OFF);
+
+        List<Integer> queryGeneIds = List.of(1, 2, 3, 4, 5, 6, 7, 4);
+        Map<Integer, GeneMatch> closestPhenoMatches = instance.getClosestPhenoMatchesInNetwork(queryGeneIds);
+
+        assertThat(closestPhenoMatches.size(), equalTo(7));
+        for (Integer queryGeneId : queryGeneIds) {
+            assertThat(closestPhenoMatches.get(queryGeneId), equalTo(instance.getClosestPhenoMatchInNetwork(queryGeneId)));
+        }
+        assertThat(closestPhenoMatches.get(4).getMatchGeneId(), equalTo(3));
+        assertThat(closestPhenoMatches.get(6).getMatchGeneId(), equalTo(5));
+        assertThat(closestPhenoMatches.get(5), equalTo(GeneMatch.NO_HIT));
+        assertThat(closestPhenoMatches.get(7), equalTo(GeneMatch.NO_HIT));
+    }
+
+    @Disabled("Performance test - won't run on CI server")
+    @Test
+    public void closestPhenoMatchesInNetworkPerformance() {
+        int numGenes = 5_000;
+        Random random = new Random(42);
+        FloatMatrix floatMatrix = FloatMatrix.rand(numGenes, numGenes);
+        Map<Integer, Integer> geneIdToRowIndex = new HashMap<>();
+        List<Integer> geneIds = new ArrayList<>();
+        for (int i = 0; i < numGenes; i++) {
+            geneIdToRowIndex.put(i + 1, i);
+            geneIds.add(i + 1);
+        }
+        DataMatrix randomWalkMatrix = new InMemoryDataMatrix(floatMatrix, geneIdToRowIndex);
+
+        for (int numHighQualityGenes : List.of(100, 1_000, 5_000)) {
+            ArrayListMultimap<Integer, GeneModelPhenotypeMatch> bestGeneModels = ArrayListMultimap.create();
+            for (int i = 0; i < numHighQualityGenes; i++) {
+                int geneId = i + 1;
+                bestGeneModels.put(geneId, geneModelMatch(geneId, 0.61 + random.nextDouble() * 0.39, "MONDO:" + geneId));
+            }
+            for (int run = 0; run < 5; run++) {
+                Instant start = Instant.now();
+                HiPhiveProteinInteractionScorer instance = new HiPhiveProteinInteractionScorer(randomWalkMatrix, bestGeneModels, HIGH_QUALITY_PHENO_SCORE_CUT_OFF);
+                Instant built = Instant.now();
+                Map<Integer, GeneMatch> closestPhenoMatches = instance.getClosestPhenoMatchesInNetwork(geneIds);
+                Instant end = Instant.now();
+                System.out.printf("%d high quality genes: built in %d ms, scored %d genes in %d ms%n", numHighQualityGenes, Duration
+                        .between(start, built).toMillis(), closestPhenoMatches.size(), Duration.between(built, end).toMillis());
+            }
+        }
+    }
+
+}
@@ -147,10 +147,12 @@ void testWriteToFileOutputsSingleJsonOrHtmlFileIfPresentInSettings() {
 
         Sample sample = Sample.builder().build();
         Analysis analysis = Analysis.builder().build();
-        AnalysisResultsWriter.writeToFile(newAnalysisResults(sample, analysis), settings);
+        List<Path> outputFiles = AnalysisResultsWriter.writeToFile(newAnalysisResults(sample, analysis), settings);
 
+        assertThat(outputFiles.size(), is(singleFileFormats.size()));
         for (OutputFormat outputFormat : singleFileFormats) {
             Path outputPath = Paths.get(String.format("%s.%s", outputPrefix, outputFormat.getFileExtension()));
+            assertThat(outputFiles.contains(outputPath), is(true));
             assertThat(outputPath.toFile().exists(), is(true));
             assertThat(outputPath.toFile().delete(), is(true));
         }
@@ -36,6 +36,8 @@
 import org.monarchinitiative.exomiser.core.genome.TestFactory;
 import org.monarchinitiative.exomiser.core.genome.TestVariantFactory;
 import org.monarchinitiative.exomiser.core.genome.VariantFactory;
+import org.monarchinitiative.exomiser.core.genome.VariantFactoryImpl;
+import org.monarchinitiative.exomiser.core.genome.VcfFileReader;
 import org.monarchinitiative.exomiser.core.model.*;
 import org.monarchinitiative.exomiser.core.model.frequency.Frequency;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
@@ -56,7 +58,9 @@
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -355,4 +359,49 @@ public void testHomozygousAltAlleleOutputVcfContainsConcatenatedVariantScoresOnO
                 "GENE=FGFR2;INHERITANCE=AD;MIM=101600\tGT\t1/2\n";
         assertThat(output, equalTo(expected));
     }
+
+    @Test
+    public void testCompactVariantsAreWrittenWithOriginalInfoAndGenotypes() {
+        Path vcfPath = Paths.get("src/test/resources/multiAlleleGenotypes.vcf");
+        VariantFactory variantFactory = new VariantFactoryImpl(TestFactory.buildDefaultVariantAnnotator(), new VcfFileReader(vcfPath), true);
+        List<VariantEvaluation> variants = variantFactory.createVariantEvaluations().collect(Collectors.toUnmodifiableList());
+        // 1/2 HETEROZYGOUS_ALT
+        VariantEvaluation altAlleleOne = variants.get(3);
+        VariantEvaluation altAlleleTwo = variants.get(4);
+        assertThat(altAlleleOne.getVariantContext().hasGenotypes(), is(false));
+        for (VariantEvaluation altAllele : List.of(altAlleleOne, altAlleleTwo)) {
+            altAllele.addFilterResult(FilterResult.pass(FilterType.FREQUENCY_FILTER));
+            altAllele.setContributesToGeneScoreUnderMode(ModeOfInheritance.AUTOSOMAL_DOMINANT);
+            altAllele.setCompatibleInheritanceModes(EnumSet.of(ModeOfInheritance.AUTOSOMAL_DOMINANT));
+        }
+
+        Gene gene = new Gene(GeneIdentifier.builder()
+                .geneSymbol(altAlleleOne.getGeneSymbol())
+                .geneId(altAlleleOne.getGeneId())
+                .build());
+        gene.addVariant(altAlleleOne);
+        gene.addVariant(altAlleleTwo);
+        gene.setCompatibleInheritanceModes(EnumSet.of(ModeOfInheritance.AUTOSOMAL_DOMINANT));
+        gene.addGeneScore(GeneScore.builder()
+                .combinedScore(1d)
+                .modeOfInheritance(ModeOfInheritance.AUTOSOMAL_DOMINANT)
+                .geneIdentifier(gene.getGeneIdentifier())
+                .contributingVariants(List.of(altAlleleOne, altAlleleTwo))
+                .build());
+
+        Sample compactSample = Sample.builder()
+                .vcfPath(vcfPath)
+                .build();
+        Analysis compactAnalysis = analysis.copy()
+                .compactVariants(true)
+                .build();
+        AnalysisResults analysisResults = buildAnalysisResults(compactSample, compactAnalysis, gene);
+
+        String output = instance.writeString(analysisResults, settings);
+        String expected = "10\t123256215\t.\tT\tG,A\t100\tPASS\tExomiser=" +
+                "{1|10-123256215-T-A_AD|FGFR2||AD|1.0000|1.0000|0.0000|0.0000|0.6000|1|0|missense_variant|FGFR2:uc021pzz.1:c.1694A>T:p.(Glu565Val)|NOT_AVAILABLE|||\"\"}," +
+                "{1|10-123256215-T-G_AD|FGFR2||AD|1.0000|1.0000|0.0000|0.0000|0.6000|1|0|missense_variant|FGFR2:uc021pzz.1:c.1694A>C:p.(Glu565Ala)|NOT_AVAILABLE|||\"\"};" +
+                "GENE=FGFR2;INHERITANCE=AD;MIM=101600\tGT\t1/2\n";
+        assertThat(output, endsWith(expected));
+    }
 }
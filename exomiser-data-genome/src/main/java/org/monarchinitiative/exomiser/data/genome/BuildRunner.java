@@ -20,9 +20,14 @@
 
 package org.monarchinitiative.exomiser.data.genome;
 
+import de.charite.compbio.jannovar.data.JannovarData;
 import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.JannovarVariantAnnotator;
+import org.monarchinitiative.exomiser.core.genome.VariantAnnotator;
 import org.monarchinitiative.exomiser.core.genome.jannovar.JannovarDataFactory;
+import org.monarchinitiative.exomiser.core.genome.jannovar.JannovarDataSourceLoader;
 import org.monarchinitiative.exomiser.core.genome.jannovar.TranscriptSource;
+import org.monarchinitiative.exomiser.core.model.ChromosomalRegionIndex;
 import org.monarchinitiative.exomiser.data.genome.config.AssemblyResources;
 import org.monarchinitiative.exomiser.data.genome.model.AlleleResource;
 import org.monarchinitiative.exomiser.data.genome.model.BuildInfo;
@@ -53,6 +58,10 @@ public class BuildRunner implements ApplicationRunner {
     public static final String BUILD_CLINVAR = "clinvar";
     public static final String BUILD_VARIANT_DB = "variants";
     public static final String BUILD_GENOME_DB = "genome";
+    public static final String BUILD_CADD_SNV_SCORES = "cadd-snv-scores";
+    public static final String BUILD_REMM_SCORES = "remm-scores";
+    public static final String PACK_ALLELES = "pack-alleles";
+    public static final String BUILD_CLINVAR_PROTEIN_INDEX = "clinvar-protein-index";
 
     private final Path buildDir;
     private final AssemblyResources hg19Resources;
@@ -83,6 +92,10 @@ public void run(ApplicationArguments args) throws Exception {
         // --transcripts
         // OR
         // --transcripts=ensembl,ucsc
+        // --cadd-snv-scores=/path/to/whole_genome_SNVs.tsv.gz
+        // --remm-scores=/path/to/ReMM.v0.4.hg19.tsv.gz
+        // --pack-alleles
+        // --clinvar-protein-index
 
         if (!args.containsOption("assembly")) {
             throw new IllegalArgumentException("Missing assembly argument");
@@ -108,11 +121,12 @@ public void run(ApplicationArguments args) throws Exception {
         AssemblyResources assemblyResources = getAssemblyResourcesForAssembly(assembly);
         Map<String, AlleleResource> alleleResources = assemblyResources.getAlleleResources();
 
-        Set<String> optionalArgs = Set.of(BUILD_TRANSCRIPT, BUILD_CLINVAR, BUILD_VARIANT_DB, BUILD_GENOME_DB);
+        Set<String> optionalArgs = Set.of(BUILD_TRANSCRIPT, BUILD_CLINVAR, BUILD_VARIANT_DB, BUILD_GENOME_DB, BUILD_CADD_SNV_SCORES, BUILD_REMM_SCORES, PACK_ALLELES, BUILD_CLINVAR_PROTEIN_INDEX);
         if (shouldBuildAllData(args, optionalArgs)) {
             logger.info("BUILDING ALLL THIe THINGS!");
             buildTranscriptData(buildInfo, outPath, List.of(TranscriptSource.values()));
             buildClinVarData(buildInfo, outPath, assemblyResources.getClinVarResource());
+            buildClinVarProteinIndex(buildInfo, outPath);
             buildVariantData(buildInfo, outPath, new ArrayList<>(alleleResources.values()));
             buildGenomeData(buildInfo, outPath, assemblyResources);
         }
@@ -138,6 +152,26 @@ public void run(ApplicationArguments args) throws Exception {
             buildGenomeData(buildInfo, outPath, assemblyResources);
         }
 
+        if (args.containsOption(BUILD_CADD_SNV_SCORES)) {
+            Path caddSnvPath = Path.of(args.getOptionValues(BUILD_CADD_SNV_SCORES).get(0));
+            buildPathogenicityScores(buildInfo, outPath, caddSnvPath, PathogenicityScoreBuildRunner.ScoreFormat.CADD_SNV);
+        }
+
+        if (args.containsOption(BUILD_REMM_SCORES)) {
+            Path remmPath = Path.of(args.getOptionValues(BUILD_REMM_SCORES).get(0));
+            buildPathogenicityScores(buildInfo, outPath, remmPath, PathogenicityScoreBuildRunner.ScoreFormat.REMM);
+        }
+
+        // run last so that any stores built above are packed
+        if (args.containsOption(PACK_ALLELES)) {
+            packAlleles(buildInfo, outPath);
+        }
+
+        // requires the transcript data and ClinVar store from this, or a previous, build
+        if (args.containsOption(BUILD_CLINVAR_PROTEIN_INDEX)) {
+            buildClinVarProteinIndex(buildInfo, outPath);
+        }
+
         logger.info("Finished build {}", buildInfo.getBuildString());
     }
 
@@ -183,6 +217,34 @@ private void buildGenomeData(BuildInfo buildInfo, Path outPath, AssemblyResource
         genomeDatabaseBuildRunner.run();
     }
 
+    private void buildPathogenicityScores(BuildInfo buildInfo, Path outPath, Path scoresPath, PathogenicityScoreBuildRunner.ScoreFormat scoreFormat) {
+        logger.info("Building {} scores file...", scoreFormat);
+        PathogenicityScoreBuildRunner pathogenicityScoreBuildRunner = new PathogenicityScoreBuildRunner(buildInfo, outPath, scoresPath, scoreFormat);
+        pathogenicityScoreBuildRunner.run();
+    }
+
+    private void packAlleles(BuildInfo buildInfo, Path outPath) {
+        logger.info("Packing allele stores...");
+        PackedAlleleStoreBuildRunner packedAlleleStoreBuildRunner = new PackedAlleleStoreBuildRunner(buildInfo, outPath);
+        packedAlleleStoreBuildRunner.run();
+    }
+
+    private void buildClinVarProteinIndex(BuildInfo buildInfo, Path outPath) {
+        logger.info("Building ClinVar protein index...");
+        List<VariantAnnotator> variantAnnotators = new ArrayList<>();
+        for (TranscriptSource transcriptSource : TranscriptSource.values()) {
+            Path transcriptsPath = outPath.resolve(String.format("%s_transcripts_%s.ser", buildInfo.getBuildString(), transcriptSource));
+            if (Files.exists(transcriptsPath)) {
+                JannovarData jannovarData = JannovarDataSourceLoader.loadJannovarData(transcriptsPath);
+                variantAnnotators.add(new JannovarVariantAnnotator(buildInfo.getAssembly(), jannovarData, ChromosomalRegionIndex.empty()));
+            } else {
+                logger.info("Skipping {} transcripts - {} not found", transcriptSource, transcriptsPath);
+            }
+        }
+        ClinVarProteinIndexBuildRunner clinVarProteinIndexBuildRunner = new ClinVarProteinIndexBuildRunner(buildInfo, outPath, variantAnnotators);
+        clinVarProteinIndexBuildRunner.run();
+    }
+
     private List<String> parseOptionValues(List<String> optionValues) {
         Set<String> cleanedOptions = new LinkedHashSet<>();
         for (String optionValue : optionValues) {
@@ -0,0 +1,147 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.monarchinitiative.exomiser.data.genome;
+
+import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.VariantAnnotator;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
+import org.monarchinitiative.exomiser.core.model.AlleleProtoAdaptor;
+import org.monarchinitiative.exomiser.core.model.TranscriptAnnotation;
+import org.monarchinitiative.exomiser.core.model.VariantAnnotation;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleKey;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVarProteinChanges;
+import org.monarchinitiative.exomiser.data.genome.model.BuildInfo;
+import org.monarchinitiative.svart.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Pre-annotates the pathogenic and likely pathogenic (2 stars or above) ClinVar SNV/MNV missense variants in the
+ * clinvar.mv.db store against each of the transcript sources and writes their cDNA and protein changes to the
+ * 'clinvar.protein' map of the same store, keyed by transcript accession and amino acid position. This allows the
+ * PS1/PM5 ACMG criteria to be assigned with a single keyed lookup rather than annotating the surrounding ClinVar
+ * variants for every missense variant in a sample.
+ * <p>
+ * Both the original and packed ClinVar maps are read, so this can be run before or after the
+ * {@link PackedAlleleStoreBuildRunner}.
+ *
+ * @since 14.0.0
+ */
+public class ClinVarProteinIndexBuildRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClinVarProteinIndexBuildRunner.class);
+
+    private final GenomeAssembly genomeAssembly;
+    private final Path clinVarStore;
+    private final List<VariantAnnotator> variantAnnotators;
+
+    public ClinVarProteinIndexBuildRunner(BuildInfo buildInfo, Path outDir, List<VariantAnnotator> variantAnnotators) {
+        this.genomeAssembly = buildInfo.getAssembly();
+        this.clinVarStore = outDir.toAbsolutePath().resolve(buildInfo.getBuildString() + "_clinvar.mv.db");
+        this.variantAnnotators = List.copyOf(variantAnnotators);
+    }
+
+    public Path getClinVarStore() {
+        return clinVarStore;
+    }
+
+    public void run() {
+        if (!Files.exists(clinVarStore)) {
+            logger.info("Skipping ClinVar protein index - {} not found", clinVarStore);
+            return;
+        }
+        logger.info("Building ClinVar protein index in {}", clinVarStore);
+        try (MVStore mvStore = MVStore.open(clinVarStore.toString())) {
+            Map<String, Set<ClinVarProteinChange>> proteinChanges = new TreeMap<>();
+            int numVariants = 0;
+            if (MvStoreUtil.hasPackedClinVarMap(mvStore)) {
+                for (Map.Entry<Long, ClinVar> entry : MvStoreUtil.openPackedClinVarMVMap(mvStore).entrySet()) {
+                    long key = entry.getKey();
+                    numVariants += addProteinChanges(proteinChanges, PackedAlleleKey.chr(key), PackedAlleleKey.position(key), PackedAlleleKey.ref(key), PackedAlleleKey.alt(key), entry.getValue());
+                }
+            }
+            for (Map.Entry<AlleleKey, ClinVar> entry : MvStoreUtil.openClinVarMVMap(mvStore).entrySet()) {
+                AlleleKey key = entry.getKey();
+                numVariants += addProteinChanges(proteinChanges, key.getChr(), key.getPosition(), key.getRef(), key.getAlt(), entry.getValue());
+            }
+
+            MVMap<String, byte[]> proteinMap = MvStoreUtil.openClinVarProteinMVMap(mvStore);
+            proteinMap.clear();
+            for (Map.Entry<String, Set<ClinVarProteinChange>> entry : proteinChanges.entrySet()) {
+                proteinMap.put(entry.getKey(), toProto(entry.getValue()).toByteArray());
+            }
+            mvStore.commit();
+            logger.info("Indexed {} ClinVar missense variants at {} transcript amino acid positions", numVariants, proteinMap.size());
+        }
+    }
+
+    private int addProteinChanges(Map<String, Set<ClinVarProteinChange>> proteinChanges, int chr, int position, String ref, String alt, ClinVar clinVar) {
+        if (ref.length() != alt.length()) {
+            // only SNV and MNV can be missense
+            return 0;
+        }
+        ClinVarData clinVarData = AlleleProtoAdaptor.toClinVarData(clinVar);
+        if (!clinVarData.isPathOrLikelyPath() || clinVarData.starRating() < 2) {
+            return 0;
+        }
+        Contig contig = genomeAssembly.getContigById(chr);
+        if (!genomeAssembly.containsContig(contig)) {
+            return 0;
+        }
+        GenomicVariant variant = GenomicVariant.builder()
+                .variant(contig, Strand.POSITIVE, Coordinates.ofAllele(CoordinateSystem.oneBased(), position, ref), ref, alt)
+                .build();
+        boolean isMissense = false;
+        for (VariantAnnotator variantAnnotator : variantAnnotators) {
+            for (VariantAnnotation variantAnnotation : variantAnnotator.annotate(variant)) {
+                for (TranscriptAnnotation transcriptAnnotation : variantAnnotation.getTranscriptAnnotations()) {
+                    int proteinPosition = ClinVarProteinChange.proteinPosition(transcriptAnnotation.getHgvsProtein());
+                    if (transcriptAnnotation.getVariantEffect() == VariantEffect.MISSENSE_VARIANT && proteinPosition != -1) {
+                        String key = MvStoreUtil.clinVarProteinKey(transcriptAnnotation.getAccession(), proteinPosition);
+                        proteinChanges.computeIfAbsent(key, k -> new LinkedHashSet<>())
+                                .add(new ClinVarProteinChange(transcriptAnnotation.getHgvsCdna(), transcriptAnnotation.getHgvsProtein()));
+                        isMissense = true;
+                    }
+                }
+            }
+        }
+        return isMissense ? 1 : 0;
+    }
+
+    private static ClinVarProteinChanges toProto(Set<ClinVarProteinChange> clinVarProteinChanges) {
+        ClinVarProteinChanges.Builder builder = ClinVarProteinChanges.newBuilder();
+        for (ClinVarProteinChange clinVarProteinChange : clinVarProteinChanges) {
+            builder.addChangesBuilder()
+                    .setHgvsCdna(clinVarProteinChange.hgvsCdna())
+                    .setHgvsProtein(clinVarProteinChange.hgvsProtein());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.data.genome;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreTool;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarGeneStats;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleKey;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleProperties;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
+import org.monarchinitiative.exomiser.data.genome.model.BuildInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts existing variants.mv.db and clinvar.mv.db stores to use {@link PackedAlleleKey} keys. Alleles which can be
+ * packed are moved into the 'alleles.packed' and 'clinvar.packed' maps, the original maps are kept for those which
+ * cannot. The converted stores replace the originals so that they can be used as a drop-in replacement - the core
+ * DAOs detect the packed maps when the stores are opened.
+ *
+ * @since 14.0.0
+ */
+public class PackedAlleleStoreBuildRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PackedAlleleStoreBuildRunner.class);
+
+    private final Path variantsStore;
+    private final Path clinVarStore;
+
+    public PackedAlleleStoreBuildRunner(BuildInfo buildInfo, Path outDir) {
+        Path buildDir = outDir.toAbsolutePath();
+        this.variantsStore = buildDir.resolve(buildInfo.getBuildString() + "_variants.mv.db");
+        this.clinVarStore = buildDir.resolve(buildInfo.getBuildString() + "_clinvar.mv.db");
+    }
+
+    public List<Path> getStores() {
+        return List.of(variantsStore, clinVarStore);
+    }
+
+    public void run() {
+        for (Path store : getStores()) {
+            if (Files.exists(store)) {
+                packStore(store);
+            } else {
+                logger.info("Skipping {} - file not found", store);
+            }
+        }
+    }
+
+    private void packStore(Path storePath) {
+        Path tempPath = storePath.resolveSibling(storePath.getFileName() + ".packing");
+        try (MVStore source = MVStore.open(storePath.toString())) {
+            if (MvStoreUtil.hasPackedAlleleMap(source) || MvStoreUtil.hasPackedClinVarMap(source)) {
+                logger.info("Skipping {} - store is already packed", storePath);
+                return;
+            }
+            logger.info("Packing alleles from {}", storePath);
+            Files.deleteIfExists(tempPath);
+            MVStore target = new MVStore.Builder()
+                    .fileName(tempPath.toString())
+                    .compress()
+                    .open();
+            target.setVersionsToKeep(0);
+            try {
+                copyAlleles(source, target);
+                copyClinVar(source, target);
+                copyGeneStats(source, target);
+                copyClinVarProteinIndex(source, target);
+                target.commit();
+            } finally {
+                target.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to pack alleles from " + storePath, e);
+        }
+        logger.info("Compacting store...");
+        MVStoreTool.compact(tempPath.toString(), true);
+        try {
+            Files.move(tempPath, storePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to replace " + storePath + " with packed store " + tempPath, e);
+        }
+    }
+
+    private void copyAlleles(MVStore source, MVStore target) {
+        MVMap<AlleleKey, AlleleProperties> alleles = MvStoreUtil.openAlleleMVMap(source);
+        if (alleles.isEmpty()) {
+            return;
+        }
+        MVMap<Long, byte[]> packedMap = MvStoreUtil.openPackedAlleleMVMap(target);
+        MVMap<AlleleKey, AlleleProperties> overflowMap = MvStoreUtil.openAlleleMVMap(target);
+        for (Map.Entry<AlleleKey, AlleleProperties> entry : alleles.entrySet()) {
+            long packedKey = pack(entry.getKey());
+            if (packedKey == PackedAlleleKey.NOT_PACKABLE) {
+                overflowMap.put(entry.getKey(), entry.getValue());
+            } else {
+                packedMap.put(packedKey, entry.getValue().toByteArray());
+            }
+        }
+        logger.info("Packed {} of {} alleles", packedMap.size(), alleles.size());
+    }
+
+    private void copyClinVar(MVStore source, MVStore target) {
+        MVMap<AlleleKey, ClinVar> clinVar = MvStoreUtil.openClinVarMVMap(source);
+        if (clinVar.isEmpty()) {
+            return;
+        }
+        MVMap<Long, ClinVar> packedMap = MvStoreUtil.openPackedClinVarMVMap(target);
+        MVMap<AlleleKey, ClinVar> overflowMap = MvStoreUtil.openClinVarMVMap(target);
+        for (Map.Entry<AlleleKey, ClinVar> entry : clinVar.entrySet()) {
+            long packedKey = pack(entry.getKey());
+            if (packedKey == PackedAlleleKey.NOT_PACKABLE) {
+                overflowMap.put(entry.getKey(), entry.getValue());
+            } else {
+                packedMap.put(packedKey, entry.getValue());
+            }
+        }
+        logger.info("Packed {} of {} ClinVar alleles", packedMap.size(), clinVar.size());
+    }
+
+    private void copyGeneStats(MVStore source, MVStore target) {
+        MVMap<String, ClinVarGeneStats> geneStats = MvStoreUtil.openGeneStatsMVMap(source);
+        if (!geneStats.isEmpty()) {
+            MvStoreUtil.openGeneStatsMVMap(target).putAll(geneStats);
+        }
+    }
+
+    private void copyClinVarProteinIndex(MVStore source, MVStore target) {
+        if (MvStoreUtil.hasClinVarProteinMap(source)) {
+            MvStoreUtil.openClinVarProteinMVMap(target).putAll(MvStoreUtil.openClinVarProteinMVMap(source));
+        }
+    }
+
+    private static long pack(AlleleKey alleleKey) {
+        return PackedAlleleKey.pack(alleleKey.getChr(), alleleKey.getPosition(), alleleKey.getRef(), alleleKey.getAlt());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.data.genome;
+
+import org.monarchinitiative.exomiser.core.genome.dao.MappedScoreFile;
+import org.monarchinitiative.exomiser.core.genome.dao.MappedScoreFileWriter;
+import org.monarchinitiative.exomiser.data.genome.model.BuildInfo;
+import org.monarchinitiative.exomiser.data.genome.model.parsers.ChromosomeParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Converts the bgzipped CADD SNV or REMM tsv files into a {@link MappedScoreFile} for use with the
+ * {@link org.monarchinitiative.exomiser.core.genome.dao.MappedCaddDao} or
+ * {@link org.monarchinitiative.exomiser.core.genome.dao.MappedRemmDao}. Lines on unplaced contigs, or CADD lines
+ * with non-ACGT alleles, are skipped.
+ *
+ * @since 14.0.0
+ */
+public class PathogenicityScoreBuildRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PathogenicityScoreBuildRunner.class);
+
+    public enum ScoreFormat {
+        //#Chrom  Pos     Ref     Alt     RawScore        PHRED
+        //1       10001   T       A       0.088260        4.066
+        CADD_SNV("cadd_snv", MappedScoreFile.SNV_SLOTS, 100f, 5),
+        //#Chrom  Pos     ReMM
+        //1       10001   0.082
+        REMM("remm", MappedScoreFile.POSITION_SLOTS, 1000f, 2);
+
+        private final String name;
+        private final int slots;
+        private final float scale;
+        private final int scoreColumn;
+
+        ScoreFormat(String name, int slots, float scale, int scoreColumn) {
+            this.name = name;
+            this.slots = slots;
+            this.scale = scale;
+            this.scoreColumn = scoreColumn;
+        }
+    }
+
+    private final Path scoresPath;
+    private final ScoreFormat scoreFormat;
+    private final Path outFile;
+
+    public PathogenicityScoreBuildRunner(BuildInfo buildInfo, Path outDir, Path scoresPath, ScoreFormat scoreFormat) {
+        this.scoresPath = scoresPath;
+        this.scoreFormat = scoreFormat;
+        this.outFile = outDir.toAbsolutePath().resolve(buildInfo.getBuildString() + "_" + scoreFormat.name + ".scores.bin");
+    }
+
+    public Path getOutFile() {
+        return outFile;
+    }
+
+    public void run() {
+        logger.info("Writing {} scores from {} to {}", scoreFormat, scoresPath, outFile);
+        long count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(scoresPath))));
+             MappedScoreFileWriter writer = new MappedScoreFileWriter(outFile, scoreFormat.slots, scoreFormat.scale)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("#") && writeLine(writer, line.split("\t"))) {
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write " + scoreFormat + " scores to " + outFile, e);
+        }
+        logger.info("Wrote {} {} scores", count, scoreFormat);
+    }
+
+    private boolean writeLine(MappedScoreFileWriter writer, String[] fields) throws IOException {
+        byte contigId = ChromosomeParser.parseChr(fields[0]);
+        if (contigId == 0) {
+            return false;
+        }
+        int position = Integer.parseInt(fields[1]);
+        float score = Float.parseFloat(fields[scoreFormat.scoreColumn]);
+        if (scoreFormat == ScoreFormat.CADD_SNV) {
+            int slot = MappedScoreFile.snvSlot(fields[2], fields[3]);
+            if (slot == -1) {
+                return false;
+            }
+            writer.write(contigId, position, fields[2].charAt(0), slot, score);
+        } else {
+            writer.write(contigId, position, 0, score);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package org.monarchinitiative.exomiser.data.genome;
+
+import de.charite.compbio.jannovar.annotation.VariantEffect;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.VariantAnnotator;
+import org.monarchinitiative.exomiser.core.genome.dao.ClinVarDaoMvStore;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.model.TranscriptAnnotation;
+import org.monarchinitiative.exomiser.core.model.VariantAnnotation;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarProteinChange;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleKey;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
+import org.monarchinitiative.exomiser.data.genome.model.BuildInfo;
+import org.monarchinitiative.svart.GenomicVariant;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+class ClinVarProteinIndexBuildRunnerTest {
+
+    private static final BuildInfo BUILD_INFO = BuildInfo.of(GenomeAssembly.HG19, "2307");
+
+    private static final ClinVar PATHOGENIC_2_STARS = ClinVar.newBuilder()
+            .setPrimaryInterpretation(ClinVar.ClinSig.PATHOGENIC)
+            .setReviewStatus("criteria provided, multiple submitters, no conflicts")
+            .build();
+
+    private static final ClinVar PATHOGENIC_1_STAR = ClinVar.newBuilder()
+            .setPrimaryInterpretation(ClinVar.ClinSig.PATHOGENIC)
+            .setReviewStatus("criteria provided, single submitter")
+            .build();
+
+    private static final ClinVar BENIGN_2_STARS = ClinVar.newBuilder()
+            .setPrimaryInterpretation(ClinVar.ClinSig.BENIGN)
+            .setReviewStatus("criteria provided, multiple submitters, no conflicts")
+            .build();
+
+    /**
+     * Returns the pre-defined annotations for the variants keyed by 'chr-pos-ref-alt' and records which variants were
+     * annotated.
+     */
+    private static class StubVariantAnnotator implements VariantAnnotator {
+
+        private final Map<String, VariantAnnotation> annotations;
+        private final List<String> annotated = new ArrayList<>();
+
+        private StubVariantAnnotator(Map<String, VariantAnnotation> annotations) {
+            this.annotations = annotations;
+        }
+
+        @Override
+        public GenomeAssembly genomeAssembly() {
+            return GenomeAssembly.HG19;
+        }
+
+        @Override
+        public List<VariantAnnotation> annotate(GenomicVariant variant) {
+            String key = variant.contigId() + "-" + variant.start() + "-" + variant.ref() + "-" + variant.alt();
+            annotated.add(key);
+            VariantAnnotation variantAnnotation = annotations.get(key);
+            return variantAnnotation == null ? List.of() : List.of(variantAnnotation);
+        }
+    }
+
+    private static VariantAnnotation fgfr2Annotation(VariantEffect variantEffect, String hgvsCdna, String hgvsProtein) {
+        TranscriptAnnotation transcriptAnnotation = TranscriptAnnotation.builder()
+                .variantEffect(variantEffect)
+                .accession("ENST00000358487.5")
+                .hgvsCdna(hgvsCdna)
+                .hgvsProtein(hgvsProtein)
+                .build();
+        return VariantAnnotation.of("FGFR2", "ENSG00000066468", variantEffect, List.of(transcriptAnnotation));
+    }
+
+    private static AlleleKey alleleKey(int chr, int position, String ref, String alt) {
+        return AlleleKey.newBuilder().setChr(chr).setPosition(position).setRef(ref).setAlt(alt).build();
+    }
+
+    private static void writeClinVarStore(Path clinVarStore) {
+        try (MVStore mvStore = MVStore.open(clinVarStore.toString())) {
+            var clinVarMap = MvStoreUtil.openClinVarMVMap(mvStore);
+            clinVarMap.put(alleleKey(10, 123276893, "A", "T"), PATHOGENIC_2_STARS);
+            clinVarMap.put(alleleKey(10, 123276892, "C", "T"), PATHOGENIC_2_STARS);
+            clinVarMap.put(alleleKey(10, 123276891, "G", "C"), BENIGN_2_STARS);
+            clinVarMap.put(alleleKey(10, 123276890, "G", "C"), PATHOGENIC_1_STAR);
+            clinVarMap.put(alleleKey(10, 123276880, "GA", "G"), PATHOGENIC_2_STARS);
+            clinVarMap.put(alleleKey(10, 123276870, "C", "A"), PATHOGENIC_2_STARS);
+        }
+    }
+
+    private final StubVariantAnnotator variantAnnotator = new StubVariantAnnotator(Map.of(
+            "10-123276893-A-T", fgfr2Annotation(VariantEffect.MISSENSE_VARIANT, "c.1024T>A", "p.(Cys342Ser)"),
+            "10-123276892-C-T", fgfr2Annotation(VariantEffect.MISSENSE_VARIANT, "c.1025G>A", "p.(Cys342Tyr)"),
+            "10-123276870-C-A", fgfr2Annotation(VariantEffect.STOP_GAINED, "c.1047G>T", "p.(Glu349*)")
+    ));
+
+    @Test
+    void buildIndex(@TempDir Path tempDir) {
+        Path clinVarStore = tempDir.resolve("2307_hg19_clinvar.mv.db");
+        writeClinVarStore(clinVarStore);
+
+        ClinVarProteinIndexBuildRunner instance = new ClinVarProteinIndexBuildRunner(BUILD_INFO, tempDir, List.of(variantAnnotator));
+        instance.run();
+
+        // only the pathogenic 2-star SNV/MNV need to be annotated
+        assertThat(variantAnnotator.annotated, containsInAnyOrder("10-123276893-A-T", "10-123276892-C-T", "10-123276870-C-A"));
+        try (MVStore mvStore = new MVStore.Builder().fileName(clinVarStore.toString()).readOnly().open()) {
+            assertThat(MvStoreUtil.openClinVarProteinMVMap(mvStore).size(), equalTo(1));
+            ClinVarDaoMvStore clinVarDao = new ClinVarDaoMvStore(mvStore, GenomeAssembly.HG19);
+            assertThat(clinVarDao.findClinVarProteinChanges("ENST00000358487.5", 342), equalTo(List.of(
+                    new ClinVarProteinChange("c.1025G>A", "p.(Cys342Tyr)"),
+                    new ClinVarProteinChange("c.1024T>A", "p.(Cys342Ser)")
+            )));
+            assertThat(clinVarDao.findClinVarProteinChanges("ENST00000358487.5", 349), equalTo(List.of()));
+        }
+    }
+
+    @Test
+    void buildIndexFromPackedStore(@TempDir Path tempDir) {
+        Path clinVarStore = tempDir.resolve("2307_hg19_clinvar.mv.db");
+        writeClinVarStore(clinVarStore);
+        new PackedAlleleStoreBuildRunner(BUILD_INFO, tempDir).run();
+
+        new ClinVarProteinIndexBuildRunner(BUILD_INFO, tempDir, List.of(variantAnnotator)).run();
+
+        try (MVStore mvStore = new MVStore.Builder().fileName(clinVarStore.toString()).readOnly().open()) {
+            ClinVarDaoMvStore clinVarDao = new ClinVarDaoMvStore(mvStore, GenomeAssembly.HG19);
+            assertThat(clinVarDao.findClinVarProteinChanges("ENST00000358487.5", 342).size(), equalTo(2));
+        }
+    }
+
+    @Test
+    void packingKeepsIndex(@TempDir Path tempDir) {
+        Path clinVarStore = tempDir.resolve("2307_hg19_clinvar.mv.db");
+        writeClinVarStore(clinVarStore);
+        new ClinVarProteinIndexBuildRunner(BUILD_INFO, tempDir, List.of(variantAnnotator)).run();
+
+        new PackedAlleleStoreBuildRunner(BUILD_INFO, tempDir).run();
+
+        try (MVStore mvStore = new MVStore.Builder().fileName(clinVarStore.toString()).readOnly().open()) {
+            assertThat(MvStoreUtil.hasPackedClinVarMap(mvStore), equalTo(true));
+            ClinVarDaoMvStore clinVarDao = new ClinVarDaoMvStore(mvStore, GenomeAssembly.HG19);
+            assertThat(clinVarDao.findClinVarProteinChanges("ENST00000358487.5", 342).size(), equalTo(2));
+        }
+    }
+
+    @Test
+    void skipsMissingStore(@TempDir Path tempDir) {
+        new ClinVarProteinIndexBuildRunner(BUILD_INFO, tempDir, List.of(variantAnnotator)).run();
+        assertThat(variantAnnotator.annotated, equalTo(List.of()));
+    }
+}
@@ -0,0 +1,69 @@
+package org.monarchinitiative.exomiser.data.genome;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.PackedAlleleKey;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleKey;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.AlleleProperties;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto.ClinVar;
+import org.monarchinitiative.exomiser.data.genome.model.BuildInfo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class PackedAlleleStoreBuildRunnerTest {
+
+    private static final BuildInfo BUILD_INFO = BuildInfo.of(GenomeAssembly.HG19, "2307");
+
+    private final AlleleKey snvKey = AlleleKey.newBuilder().setChr(1).setPosition(12345).setRef("A").setAlt("T").build();
+    private final AlleleKey longInsertionKey = AlleleKey.newBuilder().setChr(1).setPosition(23456).setRef("A").setAlt("ATTTTTTTTTTTTT").build();
+
+    @Test
+    void packVariantsStore(@TempDir Path tempDir) {
+        AlleleProperties snvProperties = AlleleProperties.newBuilder().setRsId("rs12345").putProperties("KG", 0.04f).build();
+        AlleleProperties insertionProperties = AlleleProperties.newBuilder().putProperties("CADD", 25.0f).build();
+        Path variantsStore = tempDir.resolve("2307_hg19_variants.mv.db");
+        try (MVStore mvStore = MVStore.open(variantsStore.toString())) {
+            MvStoreUtil.openAlleleMVMap(mvStore).put(snvKey, snvProperties);
+            MvStoreUtil.openAlleleMVMap(mvStore).put(longInsertionKey, insertionProperties);
+        }
+
+        new PackedAlleleStoreBuildRunner(BUILD_INFO, tempDir).run();
+
+        try (MVStore mvStore = new MVStore.Builder().fileName(variantsStore.toString()).readOnly().open()) {
+            assertThat(MvStoreUtil.hasPackedAlleleMap(mvStore), equalTo(true));
+            var packedMap = MvStoreUtil.openPackedAlleleMVMap(mvStore);
+            assertThat(packedMap.size(), equalTo(1));
+            assertThat(packedMap.get(PackedAlleleKey.pack(1, 12345, "A", "T")), equalTo(snvProperties.toByteArray()));
+            var overflowMap = MvStoreUtil.openAlleleMVMap(mvStore);
+            assertThat(overflowMap.size(), equalTo(1));
+            assertThat(overflowMap.get(longInsertionKey), equalTo(insertionProperties));
+        }
+        assertThat(Files.exists(tempDir.resolve("2307_hg19_variants.mv.db.packing")), equalTo(false));
+    }
+
+    @Test
+    void packClinVarStore(@TempDir Path tempDir) {
+        ClinVar pathogenic = ClinVar.newBuilder().setPrimaryInterpretation(ClinVar.ClinSig.PATHOGENIC).build();
+        ClinVar benign = ClinVar.newBuilder().setPrimaryInterpretation(ClinVar.ClinSig.BENIGN).build();
+        Path clinVarStore = tempDir.resolve("2307_hg19_clinvar.mv.db");
+        try (MVStore mvStore = MVStore.open(clinVarStore.toString())) {
+            MvStoreUtil.openClinVarMVMap(mvStore).put(snvKey, pathogenic);
+            MvStoreUtil.openClinVarMVMap(mvStore).put(longInsertionKey, benign);
+        }
+
+        new PackedAlleleStoreBuildRunner(BUILD_INFO, tempDir).run();
+
+        try (MVStore mvStore = new MVStore.Builder().fileName(clinVarStore.toString()).readOnly().open()) {
+            assertThat(MvStoreUtil.hasPackedClinVarMap(mvStore), equalTo(true));
+            assertThat(MvStoreUtil.openPackedClinVarMVMap(mvStore).get(PackedAlleleKey.pack(1, 12345, "A", "T")), equalTo(pathogenic));
+            assertThat(MvStoreUtil.openClinVarMVMap(mvStore).get(longInsertionKey), equalTo(benign));
+        }
+    }
+}
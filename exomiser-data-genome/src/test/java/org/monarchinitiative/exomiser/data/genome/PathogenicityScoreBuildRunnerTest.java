@@ -0,0 +1,75 @@
+package org.monarchinitiative.exomiser.data.genome;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.dao.MappedScoreFile;
+import org.monarchinitiative.exomiser.data.genome.model.BuildInfo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class PathogenicityScoreBuildRunnerTest {
+
+    private static final BuildInfo BUILD_INFO = BuildInfo.of(GenomeAssembly.HG19, "2307");
+
+    private static Path writeGzip(Path path, String content) throws IOException {
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(path))) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return path;
+    }
+
+    @Test
+    void buildCaddSnvScores(@TempDir Path tempDir) throws IOException {
+        Path caddSnvs = writeGzip(tempDir.resolve("whole_genome_SNVs.tsv.gz"), """
+                ## CADD GRCh37-v1.6 (c) University of Washington, Hudson-Alpha Institute for Biotechnology and Berlin Institute of Health 2013-2020. All rights reserved.
+                #Chrom\tPos\tRef\tAlt\tRawScore\tPHRED
+                1\t10001\tT\tA\t0.088260\t4.07
+                1\t10001\tT\tC\t0.105475\t4.39
+                1\t10001\tT\tG\t0.091973\t4.13
+                1\t10002\tA\tC\t0.120000\t4.6
+                GL000192.1\t1\tA\tC\t0.120000\t4.6
+                X\t200\tN\tC\t0.120000\t4.6
+                X\t201\tG\tC\t0.120000\t23.4
+                """);
+        PathogenicityScoreBuildRunner instance = new PathogenicityScoreBuildRunner(BUILD_INFO, tempDir, caddSnvs, PathogenicityScoreBuildRunner.ScoreFormat.CADD_SNV);
+        instance.run();
+
+        assertThat(instance.getOutFile(), equalTo(tempDir.resolve("2307_hg19_cadd_snv.scores.bin")));
+        MappedScoreFile scores = MappedScoreFile.open(instance.getOutFile());
+        assertThat(scores.getScore(1, 10001, MappedScoreFile.snvSlot("T", "A")), equalTo(4.07f));
+        assertThat(scores.getScore(1, 10001, MappedScoreFile.snvSlot("T", "C")), equalTo(4.39f));
+        assertThat(scores.getScore(1, 10001, MappedScoreFile.snvSlot("T", "G")), equalTo(4.13f));
+        assertThat(scores.getScore(1, 10002, MappedScoreFile.snvSlot("A", "C")), equalTo(4.6f));
+        assertThat(scores.getScore(1, 10002, MappedScoreFile.snvSlot("A", "G")), equalTo(Float.NaN));
+        assertThat(scores.getScore(23, 201, MappedScoreFile.snvSlot("G", "C")), equalTo(23.4f));
+        assertThat(scores.getSnvScore(1, 10001, "T", "A"), equalTo(4.07f));
+        // the reference base at this position is T
+        assertThat(scores.getSnvScore(1, 10001, "C", "A"), equalTo(Float.NaN));
+    }
+
+    @Test
+    void buildRemmScores(@TempDir Path tempDir) throws IOException {
+        Path remm = writeGzip(tempDir.resolve("ReMM.v0.4.hg19.tsv.gz"), """
+                #Chr\tStart\tReMM
+                1\t10001\t0.082
+                1\t10002\t0.914
+                1\t10004\t0.5
+                """);
+        PathogenicityScoreBuildRunner instance = new PathogenicityScoreBuildRunner(BUILD_INFO, tempDir, remm, PathogenicityScoreBuildRunner.ScoreFormat.REMM);
+        instance.run();
+
+        MappedScoreFile scores = MappedScoreFile.open(instance.getOutFile());
+        assertThat(scores.getScore(1, 10001, 0), equalTo(0.082f));
+        assertThat(scores.getScore(1, 10003, 0), equalTo(Float.NaN));
+        assertThat(scores.getMaxScore(1, 10001, 10004), equalTo(0.914f));
+    }
+}
@@ -21,6 +21,7 @@
 package org.monarchinitiative.exomiser.data.phenotype;
 
 import org.flywaydb.core.Flyway;
+import org.monarchinitiative.exomiser.core.prioritisers.util.DataMatrixIO;
 import org.monarchinitiative.exomiser.data.phenotype.config.ApplicationConfigurationProperties;
 import org.monarchinitiative.exomiser.data.phenotype.config.ReleaseFileSystem;
 import org.monarchinitiative.exomiser.data.phenotype.processors.ResourceChecker;
@@ -34,6 +35,7 @@
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -100,6 +102,13 @@ public void run(ApplicationArguments applicationArguments) {
             }
         }
 
+        String randomWalkMatrix = applicationConfigurationProperties.getRandomWalkMatrix();
+        if (randomWalkMatrix != null && !randomWalkMatrix.isEmpty()) {
+            convertRandomWalkMatrix(Path.of(randomWalkMatrix));
+        } else {
+            logger.info("Skipping conversion of random walk matrix.");
+        }
+
         boolean migrateH2 = applicationConfigurationProperties.isMigrateDatabase();
         if (migrateH2) {
             logger.info("Migrating exomiser databases...");
@@ -109,4 +118,11 @@ public void run(ApplicationArguments applicationArguments) {
             logger.info("Skipping migration of H2 database.");
         }
     }
+
+    private void convertRandomWalkMatrix(Path randomWalkMatrix) {
+        String fileName = randomWalkMatrix.getFileName().toString().replaceAll("\\.mv$", "");
+        Path mappedMatrix = releaseFileSystem.releaseDir().resolve(fileName + ".bin");
+        logger.info("Converting random walk matrix {} to memory-mapped {}", randomWalkMatrix, mappedMatrix);
+        DataMatrixIO.convertToMappedDataMatrix(randomWalkMatrix, mappedMatrix);
+    }
 }
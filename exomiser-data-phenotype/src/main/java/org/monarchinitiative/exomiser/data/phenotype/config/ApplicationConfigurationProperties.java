@@ -57,6 +57,12 @@ public class ApplicationConfigurationProperties {
      */
     private boolean migrateDatabase = true;
 
+    /**
+     * Optional path to an existing random walk matrix MVStore e.g. rw_string_10.mv. If set, this will be converted to
+     * the memory-mapped rw_string_10.bin format in the release directory. Default is empty.
+     */
+    private String randomWalkMatrix = "";
+
     public String getBuildDir() {
         return buildDir;
     }
@@ -97,4 +103,12 @@ public void setMigrateDatabase(boolean migrateDatabase) {
         this.migrateDatabase = migrateDatabase;
     }
 
+    public String getRandomWalkMatrix() {
+        return randomWalkMatrix;
+    }
+
+    public void setRandomWalkMatrix(String randomWalkMatrix) {
+        this.randomWalkMatrix = randomWalkMatrix;
+    }
+
 }
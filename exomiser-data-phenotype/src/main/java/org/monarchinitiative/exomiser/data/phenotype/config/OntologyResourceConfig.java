@@ -58,7 +58,7 @@ public OntologyProcessingGroup ontologyProcessingGroup() {
         OutputLineWriter<OboOntologyTerm> hpWriter = new OutputLineWriter<>(processPath.resolve("hpo.pg"));
         OutputLineWriter<AltToCurrentId> hpAltIdWriter = new OutputLineWriter<>(processPath.resolve("hp_alt_ids.pg"));
         Resource hpHpMappingsResource = resourceBuilder.buildResource(resourceProperties.getHpHpMappings());
-        OwlSimPhenodigmProcessor hpHpPhenodigmProcessor = new OwlSimPhenodigmProcessor(hpHpMappingsResource, processPath.resolve("hpHpmapping.pg"));
+        OwlSimPhenodigmProcessor hpHpPhenodigmProcessor = new OwlSimPhenodigmProcessor(hpHpMappingsResource, processPath.resolve("hpHpmapping.pg"), releasePath.resolve("hp_hp_mappings.bin"));
         // copy the HPO file to the release directory
         CopyResourceStep copyHpoResourceStep = new CopyResourceStep(hpoResource, releasePath);
 
@@ -66,13 +66,13 @@ public OntologyProcessingGroup ontologyProcessingGroup() {
         Resource mpoResource = resourceBuilder.buildResource(resourceProperties.getMp());
         OutputLineWriter<OboOntologyTerm> mpWriter = new OutputLineWriter<>(processPath.resolve("mp.pg"));
         Resource hpMpMappingsResource = resourceBuilder.buildResource(resourceProperties.getHpMpMappings());
-        OwlSimPhenodigmProcessor hpMpPhenodigmProcessor = new OwlSimPhenodigmProcessor(hpMpMappingsResource, processPath.resolve("hpMpMapping.pg"));
+        OwlSimPhenodigmProcessor hpMpPhenodigmProcessor = new OwlSimPhenodigmProcessor(hpMpMappingsResource, processPath.resolve("hpMpMapping.pg"), releasePath.resolve("hp_mp_mappings.bin"));
 
         // Fish
         Resource zpoResource = resourceBuilder.buildResource(resourceProperties.getZp());
         OutputLineWriter<OboOntologyTerm> zpWriter = new OutputLineWriter<>(processPath.resolve("zp.pg"));
         Resource hpZpMappingsResource = resourceBuilder.buildResource(resourceProperties.getHpZpMappings());
-        OwlSimPhenodigmProcessor hpZpPhenodigmProcessor = new OwlSimPhenodigmProcessor(hpZpMappingsResource, processPath.resolve("hpZpMapping.pg"));
+        OwlSimPhenodigmProcessor hpZpPhenodigmProcessor = new OwlSimPhenodigmProcessor(hpZpMappingsResource, processPath.resolve("hpZpMapping.pg"), releasePath.resolve("hp_zp_mappings.bin"));
 
         List<Resource> ontologyResources = List.of(
                 hpoResource,
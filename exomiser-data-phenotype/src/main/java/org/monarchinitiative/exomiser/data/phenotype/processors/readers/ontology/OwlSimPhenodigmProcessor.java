@@ -20,11 +20,13 @@
 
 package org.monarchinitiative.exomiser.data.phenotype.processors.readers.ontology;
 
+import org.monarchinitiative.exomiser.core.phenotype.dao.PhenotypeMappingFileWriter;
 import org.monarchinitiative.exomiser.data.phenotype.processors.Resource;
 import org.monarchinitiative.exomiser.data.phenotype.processors.model.ontology.OboOntologyTerm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.nio.charset.Charset;
@@ -41,6 +43,9 @@
  * usual ResourceReader/OutputFileWriter pattern used in the rest of the package as the cache files are potentially very
  * large (tens of GB) due to them being all-vs-all ontology comparisons. For this reason we simple stream and process the
  * files line-by-line.
+ * <p>
+ * Optionally the mappings can also be written to a memory-mapped {@link org.monarchinitiative.exomiser.core.phenotype.dao.PhenotypeMappingFile}
+ * which the Exomiser can use in place of querying the hp_*_mappings tables.
  *
  * @author Jules Jacobsen <j.jacobsen@qmul.ac.uk>
  * @since 13.0.0
@@ -51,10 +56,22 @@ public class OwlSimPhenodigmProcessor {
 
     private final Resource hpMappingsResource;
     private final Path hpMappingsOutFile;
+    @Nullable
+    private final Path phenotypeMappingOutFile;
 
     public OwlSimPhenodigmProcessor(Resource hpMappingsResource, Path hpMappingsOutFile) {
+        this(hpMappingsResource, hpMappingsOutFile, null);
+    }
+
+    /**
+     * @param phenotypeMappingOutFile the path of the {@link org.monarchinitiative.exomiser.core.phenotype.dao.PhenotypeMappingFile}
+     *                                to write the mappings to. Can be null, in which case only the hpMappingsOutFile is written.
+     * @since 14.0.0
+     */
+    public OwlSimPhenodigmProcessor(Resource hpMappingsResource, Path hpMappingsOutFile, @Nullable Path phenotypeMappingOutFile) {
         this.hpMappingsResource = hpMappingsResource;
         this.hpMappingsOutFile = hpMappingsOutFile;
+        this.phenotypeMappingOutFile = phenotypeMappingOutFile;
     }
 
     public void process(List<OboOntologyTerm> hpTerms, List<OboOntologyTerm> otherTerms) {
@@ -64,11 +81,20 @@ public void process(List<OboOntologyTerm> hpTerms, List<OboOntologyTerm> otherTe
         PhenodigmCacheLineProcessor cacheLineProcessor = new PhenodigmCacheLineProcessor(hpTerms, otherTerms);
 
         try (BufferedReader reader = hpMappingsResource.newBufferedReader();
-             BufferedWriter writer = Files.newBufferedWriter(hpMappingsOutFile, Charset.defaultCharset())) {
+             BufferedWriter writer = Files.newBufferedWriter(hpMappingsOutFile, Charset.defaultCharset());
+             PhenotypeMappingFileWriter phenotypeMappingFileWriter = phenotypeMappingOutFile == null ? null : new PhenotypeMappingFileWriter(phenotypeMappingOutFile)) {
             for (String line; (line = reader.readLine()) != null; ) {
-                String outLine = cacheLineProcessor.processLine(line);
-                writer.write(outLine);
+                PhenodigmMapping mapping = cacheLineProcessor.parseLine(line);
+                writer.write(mapping.toOutputLine());
                 writer.newLine();
+                if (phenotypeMappingFileWriter != null) {
+                    phenotypeMappingFileWriter.write(mapping.queryId(), mapping.queryTerm(), mapping.hitId(), mapping.hitTerm(), Double.parseDouble(mapping.simJ()), Double.parseDouble(mapping.ic()), mapping.score(), mapping.lcsId(), mapping.lcsTerm());
+                }
+            }
+            // only replaces the mapping file once all the lines have been processed
+            if (phenotypeMappingFileWriter != null) {
+                phenotypeMappingFileWriter.finish();
+                logger.info("Written phenotype mapping file {}", phenotypeMappingOutFile);
             }
         } catch (Exception ex) {
             logger.error("Error processing {}", hpMappingsResource, ex);
@@ -76,6 +102,17 @@ public void process(List<OboOntologyTerm> hpTerms, List<OboOntologyTerm> otherTe
         logger.info("Written {} phenotype mappings to {}", cacheLineProcessor.linesProcessed(), hpMappingsOutFile);
     }
 
+    /**
+     * A parsed line of the phenodigm cache. The simJ and ic are kept as the original tokens from the cache so that they
+     * are written out unchanged.
+     */
+    record PhenodigmMapping(int id, String queryId, String queryTerm, String hitId, String hitTerm, String simJ, String ic, double score, String lcsId, String lcsTerm) {
+
+        String toOutputLine() {
+            return String.format("%d|%s|%s|%s|%s|%s|%s|%s|%s|%s", id, queryId, queryTerm, hitId, hitTerm, simJ, ic, score, lcsId, lcsTerm);
+        }
+    }
+
     static class PhenodigmCacheLineProcessor {
         private final Map<String, String> hpIdTerms;
         private final Map<String, String> otherIdTerms;
@@ -92,6 +129,10 @@ private Map<String, String> idLabelCache(List<OboOntologyTerm> ontologyTerms) {
         }
 
         public String processLine(String line) {
+            return parseLine(line).toOutputLine();
+        }
+
+        PhenodigmMapping parseLine(String line) {
             String[] fields = line.split("\t");
 
             String queryId = reformatCurie(fields[0]);
@@ -107,7 +148,7 @@ public String processLine(String line) {
             String lcs = reformatCurie(fields[4].split(";")[0]);
             String lcsTerm = hpIdTerms.containsKey(lcs) ? hpIdTerms.get(lcs) : otherIdTerms.getOrDefault(lcs, "");
 
-            return String.format("%d|%s|%s|%s|%s|%s|%s|%s|%s|%s", id.getAndIncrement(), queryId, queryTerm, hitId, hitTerm, simJ, ic, score, lcs, lcsTerm);
+            return new PhenodigmMapping(id.getAndIncrement(), queryId, queryTerm, hitId, hitTerm, simJ, ic, score, lcs, lcsTerm);
         }
 
         public int linesProcessed() {
@@ -22,6 +22,9 @@
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeMatch;
+import org.monarchinitiative.exomiser.core.phenotype.PhenotypeTerm;
+import org.monarchinitiative.exomiser.core.phenotype.dao.PhenotypeMappingFile;
 import org.monarchinitiative.exomiser.data.phenotype.processors.Resource;
 import org.monarchinitiative.exomiser.data.phenotype.processors.model.ontology.OboOntologyTerm;
 
@@ -60,6 +63,36 @@ void processHpHpCache(@TempDir Path tempDir) throws IOException {
         assertTrue(Files.size(processedCacheFile) > 0);
     }
 
+    @Test
+    void processHpHpCacheWritesPhenotypeMappingFile(@TempDir Path tempDir) throws IOException {
+        Resource hpHpPhenodigmCache = Resource.of("src/test/resources/data/hp-hp-phenodigm-cache-test.txt");
+        Path phenotypeMappingFile = tempDir.resolve("hp_hp_mappings.bin");
+        OwlSimPhenodigmProcessor instance = new OwlSimPhenodigmProcessor(hpHpPhenodigmCache, tempDir.resolve("hpHpMapping.pg"), phenotypeMappingFile);
+
+        List<OboOntologyTerm> hpTerms = List.of(
+                OboOntologyTerm.builder().id("HP:0002651").label("Spondyloepimetaphyseal dysplasia").build(),
+                OboOntologyTerm.builder().id("HP:0002652").label("Skeletal dysplasia").build(),
+                OboOntologyTerm.builder().id("HP:0002657").label("Spondylometaphyseal dysplasia").build()
+        );
+
+        instance.process(hpTerms, hpTerms);
+
+        PhenotypeTerm spondyloepimetaphysealDysplasia = PhenotypeTerm.of("HP:0002651", "Spondyloepimetaphyseal dysplasia");
+        PhenotypeTerm skeletalDysplasia = PhenotypeTerm.of("HP:0002652", "Skeletal dysplasia");
+        PhenotypeTerm spondylometaphysealDysplasia = PhenotypeTerm.of("HP:0002657", "Spondylometaphyseal dysplasia");
+        List<PhenotypeMatch> expected = List.of(
+                PhenotypeMatch.builder().query(spondyloepimetaphysealDysplasia).match(spondyloepimetaphysealDysplasia).lcs(spondyloepimetaphysealDysplasia)
+                        .simj(1.0).ic(8.829843768215113).score(Math.sqrt(1.0 * 8.829843768215113)).build(),
+                PhenotypeMatch.builder().query(spondyloepimetaphysealDysplasia).match(spondylometaphysealDysplasia).lcs(skeletalDysplasia)
+                        .simj(0.8).ic(5.347717078478497).score(Math.sqrt(0.8 * 5.347717078478497)).build(),
+                PhenotypeMatch.builder().query(spondyloepimetaphysealDysplasia).match(skeletalDysplasia).lcs(skeletalDysplasia)
+                        .simj(0.8888888888888888).ic(5.347717078478497).score(Math.sqrt(0.8888888888888888 * 5.347717078478497)).build()
+        );
+        PhenotypeMappingFile mappingFile = PhenotypeMappingFile.open(phenotypeMappingFile);
+        assertThat(List.copyOf(mappingFile.getPhenotypeMatches(spondyloepimetaphysealDysplasia)), equalTo(expected));
+        assertThat(mappingFile.getPhenotypeMatches(PhenotypeTerm.of("HP:0030744", "")).size(), equalTo(5));
+    }
+
     @Test
     void processHpHpCacheLine() {
         List<OboOntologyTerm> hpTerms = List.of(
@@ -74,6 +107,17 @@ void processHpHpCacheLine() {
         assertThat(instance.linesProcessed(), equalTo(2));
     }
 
+    @Test
+    void processCacheLineWritesOriginalSimJAndIcTokens() {
+        List<OboOntologyTerm> hpTerms = List.of(
+                OboOntologyTerm.builder().id("HP:0002651").label("Spondyloepimetaphyseal dysplasia").build()
+        );
+
+        OwlSimPhenodigmProcessor.PhenodigmCacheLineProcessor instance = new OwlSimPhenodigmProcessor.PhenodigmCacheLineProcessor(hpTerms, hpTerms);
+        assertThat(instance.processLine("HP_0002651\tHP_0002651\t1\t0.00001\tHP_0002651;"),
+                equalTo("0|HP:0002651|Spondyloepimetaphyseal dysplasia|HP:0002651|Spondyloepimetaphyseal dysplasia|1|0.00001|0.0031622776601683794|HP:0002651|Spondyloepimetaphyseal dysplasia"));
+    }
+
     @Test
     void processHpMpCacheLine() {
         List<OboOntologyTerm> hpTerms = List.of(
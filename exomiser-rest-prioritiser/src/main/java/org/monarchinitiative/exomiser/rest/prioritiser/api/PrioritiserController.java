@@ -20,12 +20,15 @@
 
 package org.monarchinitiative.exomiser.rest.prioritiser.api;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.monarchinitiative.exomiser.core.model.Gene;
 import org.monarchinitiative.exomiser.core.model.GeneIdentifier;
 import org.monarchinitiative.exomiser.core.prioritisers.HiPhiveOptions;
 import org.monarchinitiative.exomiser.core.prioritisers.Prioritiser;
 import org.monarchinitiative.exomiser.core.prioritisers.PriorityFactory;
 import org.monarchinitiative.exomiser.core.prioritisers.PriorityResult;
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +40,7 @@
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,11 +56,15 @@ public class PrioritiserController {
 
     private final Map<Integer, GeneIdentifier> geneIdentifiers;
     private final PriorityFactory priorityFactory;
+    private final PrioritiserResultCache resultCache;
+    private final Map<PriorityType, Timer> requestTimers;
 
     @Autowired
-    public PrioritiserController(Map<Integer, GeneIdentifier> geneIdentifiers, PriorityFactory priorityFactory) {
+    public PrioritiserController(Map<Integer, GeneIdentifier> geneIdentifiers, PriorityFactory priorityFactory, PrioritiserResultCache resultCache, MeterRegistry meterRegistry) {
         this.geneIdentifiers = geneIdentifiers;
         this.priorityFactory = priorityFactory;
+        this.resultCache = resultCache;
+        this.requestTimers = requestTimers(meterRegistry);
         logger.info("Started PrioritiserController with GeneIdentifier cache of {} entries", geneIdentifiers.size());
     }
 
@@ -97,17 +105,38 @@ public PrioritiserResultSet prioritise(@RequestBody PrioritiserRequest prioritis
 
         Prioritiser<? extends PriorityResult> prioritiser = parsePrioritiser(prioritiserRequest.getPrioritiser(), prioritiserRequest
                 .getPrioritiserParams());
-        List<Gene> genes = makeGenesFromIdentifiers(prioritiserRequest.getGenes());
 
-        List<PriorityResult> results = runLimitAndCollectResults(prioritiser, prioritiserRequest.getPhenotypes(), genes, prioritiserRequest
-                .getLimit());
+        List<PriorityResult> results = resultCache.get(prioritiserRequest, () -> {
+            List<Gene> genes = makeGenesFromIdentifiers(prioritiserRequest.getGenes());
+            return runLimitAndCollectResults(prioritiser, prioritiserRequest.getPhenotypes(), genes, prioritiserRequest
+                    .getLimit());
+        });
 
         Instant end = Instant.now();
         Duration duration = Duration.between(start, end);
+        requestTimers.get(prioritiser.getPriorityType()).record(duration.toNanos(), TimeUnit.NANOSECONDS);
 
         return new PrioritiserResultSet(prioritiserRequest, duration.toMillis(), results);
     }
 
+    /**
+     * Records the time taken to return the results for each type of prioritiser made by {@link #parsePrioritiser},
+     * including those returned from the result cache. The 50th, 95th and 99th percentiles are published along with the
+     * count, total and max times.
+     */
+    private static Map<PriorityType, Timer> requestTimers(MeterRegistry meterRegistry) {
+        Map<PriorityType, Timer> timers = new EnumMap<>(PriorityType.class);
+        for (PriorityType priorityType : EnumSet.of(PriorityType.PHENIX_PRIORITY, PriorityType.PHIVE_PRIORITY, PriorityType.HIPHIVE_PRIORITY)) {
+            Timer timer = Timer.builder("exomiser.prioritiser.request")
+                    .description("Time taken to return the prioritiser results")
+                    .tag("prioritiser", priorityType.toString())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            timers.put(priorityType, timer);
+        }
+        return timers;
+    }
+
     private Prioritiser<? extends PriorityResult> parsePrioritiser(String prioritiserName, String prioritiserParams) {
         switch (prioritiserName) {
             case "phenix":
@@ -151,14 +180,30 @@ private <T extends PriorityResult> List<PriorityResult> runLimitAndCollectResult
         Set<Integer> wantedGeneIds = genes.stream().map(Gene::getEntrezGeneID).collect(Collectors.toSet());
 
         Stream<T> resultsStream = prioritiser.prioritise(phenotypes, genes)
-                .filter(result -> wantedGeneIds.contains(result.getGeneId()))
-                .sorted(Comparator.naturalOrder());
+                .filter(result -> wantedGeneIds.contains(result.getGeneId()));
 
+        List<PriorityResult> results = limit == 0 ? resultsStream.sorted(Comparator.naturalOrder()).collect(toImmutableList()) : topResults(resultsStream, limit);
         logger.info("Finished {}", prioritiser.getPriorityType());
-        if (limit == 0) {
-            return resultsStream.collect(toImmutableList());
-        }
-        return resultsStream.limit(limit).collect(toImmutableList());
+        return results;
+    }
+
+    /**
+     * Selects the top results using a heap bounded by the limit, rather than sorting all the results. The head of the
+     * heap is the worst of the current top results, which is replaced by any better result.
+     */
+    static <T extends PriorityResult> List<PriorityResult> topResults(Stream<T> results, int limit) {
+        PriorityQueue<PriorityResult> topResults = new PriorityQueue<>(limit + 1, Comparator.<PriorityResult>naturalOrder().reversed());
+        results.forEach(result -> {
+            if (topResults.size() < limit) {
+                topResults.add(result);
+            } else if (result.compareTo(topResults.peek()) < 0) {
+                topResults.poll();
+                topResults.add(result);
+            }
+        });
+        return topResults.stream()
+                .sorted(Comparator.naturalOrder())
+                .collect(toImmutableList());
     }
 
 }
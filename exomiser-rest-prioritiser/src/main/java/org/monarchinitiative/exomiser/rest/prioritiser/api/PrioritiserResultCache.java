@@ -0,0 +1,217 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.rest.prioritiser.api;
+
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityResult;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, least-recently-used cache of the results returned by the {@link PrioritiserController}. Clients tend to
+ * send the same request repeatedly, e.g. while a user edits a list of HPO terms, and the results only depend on the
+ * prioritiser, its parameters, the HPO ids and the genes requested, so these can be returned without re-running the
+ * prioritiser.
+ * <p>
+ * Requests with a limit only compute and store the top results, so a cached entry can only be used for a request with
+ * the same or a smaller limit. A request for more results will replace the entry.
+ * <p>
+ * Concurrent requests for the same results share a single run of the prioritiser, the later requests waiting for the
+ * first to finish.
+ *
+ * @since 14.0.0
+ */
+public class PrioritiserResultCache {
+
+    private final int maximumSize;
+
+    private final Map<Key, Entry> entries;
+    // results currently being created, so that concurrent requests for the same results only run the prioritiser once
+    private final ConcurrentMap<Key, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder joinCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of results held in memory. A size of 0 disables the cache.
+     */
+    public PrioritiserResultCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must be >= 0");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PrioritiserResultCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the results for the request, creating them with the supplier if they are not already cached. If another
+     * thread is already creating the same results this will wait for it, only running the supplier itself if the other
+     * thread was creating fewer results than requested.
+     *
+     * @param request         the request for which the results are required
+     * @param resultsSupplier function to create the sorted results, up to the request limit, if they are not cached
+     * @return the sorted results, up to the request limit.
+     */
+    public List<PriorityResult> get(PrioritiserRequest request, Supplier<List<PriorityResult>> resultsSupplier) {
+        int limit = request.getLimit();
+        if (maximumSize == 0) {
+            missCount.increment();
+            return resultsSupplier.get();
+        }
+        Key key = Key.of(request);
+        while (true) {
+            Entry cached = getCached(key, limit);
+            if (cached != null) {
+                return cached.limitTo(limit);
+            }
+            CompletableFuture<Entry> future = new CompletableFuture<>();
+            CompletableFuture<Entry> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                Entry loaded = existing.join();
+                if (loaded.contains(limit)) {
+                    joinCount.increment();
+                    return loaded.limitTo(limit);
+                }
+                // the other thread created fewer results than requested, so try again
+                continue;
+            }
+            try {
+                // another thread may have finished creating these between the first check and claiming the load
+                cached = getCached(key, limit);
+                Entry entry = cached != null ? cached : load(key, limit, resultsSupplier);
+                future.complete(entry);
+                return entry.limitTo(limit);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, future);
+            }
+        }
+    }
+
+    private Entry getCached(Key key, int limit) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.contains(limit)) {
+                hitCount.increment();
+                return entry;
+            }
+            return null;
+        }
+    }
+
+    private Entry load(Key key, int limit, Supplier<List<PriorityResult>> resultsSupplier) {
+        missCount.increment();
+        Entry entry = new Entry(List.copyOf(resultsSupplier.get()), limit);
+        synchronized (entries) {
+            Entry current = entries.get(key);
+            if (current == null || !current.contains(limit)) {
+                entries.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(hitCount.sum(), joinCount.sum(), missCount.sum());
+    }
+
+    /**
+     * Cache key for the results of a request. The limit is not part of the key as the results for a smaller limit
+     * can be taken from those for a larger one.
+     *
+     * @param prioritiser       the name of the prioritiser
+     * @param prioritiserParams the prioritiser parameters
+     * @param hpoIds            the normalised, i.e. de-duplicated and sorted, HPO ids
+     * @param geneIds           the sorted gene ids. These are empty when the request is for all known genes.
+     */
+    public record Key(String prioritiser, String prioritiserParams, List<String> hpoIds, List<Integer> geneIds) {
+
+        public static Key of(PrioritiserRequest request) {
+            List<String> normalisedHpoIds = request.getPhenotypes().stream()
+                    .map(String::trim)
+                    .filter(hpoId -> !hpoId.isEmpty())
+                    .distinct()
+                    .sorted()
+                    .toList();
+            List<Integer> sortedGeneIds = request.getGenes().stream()
+                    .distinct()
+                    .sorted()
+                    .toList();
+            return new Key(request.getPrioritiser(), request.getPrioritiserParams(), normalisedHpoIds, sortedGeneIds);
+        }
+    }
+
+    /**
+     * @param results the sorted results
+     * @param limit   the limit used to create the results, where 0 is unlimited
+     */
+    private record Entry(List<PriorityResult> results, int limit) {
+
+        private boolean isComplete() {
+            return limit == 0 || results.size() < limit;
+        }
+
+        private boolean contains(int requestedLimit) {
+            return isComplete() || (requestedLimit > 0 && requestedLimit <= limit);
+        }
+
+        private List<PriorityResult> limitTo(int requestedLimit) {
+            if (requestedLimit == 0 || requestedLimit >= results.size()) {
+                return results;
+            }
+            return results.subList(0, requestedLimit);
+        }
+    }
+
+    /**
+     * @param hitCount  number of requests returned from the cache
+     * @param joinCount number of requests which waited for another request to run the prioritiser
+     * @param missCount number of requests which ran the prioritiser
+     */
+    public record Stats(long hitCount, long joinCount, long missCount) {
+
+        public long requestCount() {
+            return hitCount + joinCount + missCount;
+        }
+
+        public double hitRate() {
+            long requestCount = requestCount();
+            return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+        }
+    }
+}
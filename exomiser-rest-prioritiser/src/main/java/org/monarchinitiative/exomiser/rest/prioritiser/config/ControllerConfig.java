@@ -21,10 +21,15 @@
 package org.monarchinitiative.exomiser.rest.prioritiser.config;
 
 import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.monarchinitiative.exomiser.core.model.GeneIdentifier;
+import org.monarchinitiative.exomiser.rest.prioritiser.api.PrioritiserResultCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -79,4 +84,28 @@ public Map<Integer, GeneIdentifier> getGeneIdentifiers() {
         throw new RuntimeException("Unable to retrieve gene identifiers");
     }
 
+    @Bean
+    public PrioritiserResultCache prioritiserResultCache(@Value("${exomiser.prioritiser.result-cache-size:100}") int maximumSize) {
+        logger.info("Caching the results of up to {} requests", maximumSize);
+        return new PrioritiserResultCache(maximumSize);
+    }
+
+    @Bean
+    public MeterBinder prioritiserResultCacheMetrics(PrioritiserResultCache prioritiserResultCache) {
+        return registry -> {
+            FunctionCounter.builder("exomiser.prioritiser.cache.hits", prioritiserResultCache, cache -> cache.getStats().hitCount())
+                    .description("Number of requests returned from the result cache")
+                    .register(registry);
+            FunctionCounter.builder("exomiser.prioritiser.cache.joins", prioritiserResultCache, cache -> cache.getStats().joinCount())
+                    .description("Number of requests which waited for another request to run the prioritiser")
+                    .register(registry);
+            FunctionCounter.builder("exomiser.prioritiser.cache.misses", prioritiserResultCache, cache -> cache.getStats().missCount())
+                    .description("Number of requests which ran the prioritiser")
+                    .register(registry);
+            Gauge.builder("exomiser.prioritiser.cache.size", prioritiserResultCache, PrioritiserResultCache::size)
+                    .description("Number of requests in the result cache")
+                    .register(registry);
+        };
+    }
+
 }
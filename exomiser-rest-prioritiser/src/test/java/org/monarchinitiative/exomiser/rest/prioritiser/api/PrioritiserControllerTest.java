@@ -0,0 +1,72 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.rest.prioritiser.api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.core.prioritisers.PhenixPriorityResult;
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityFactory;
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityResult;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+
+class PrioritiserControllerTest {
+
+    @Test
+    void requestTimersAreRegisteredOnceAtConstruction() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new PrioritiserController(Map.of(), mock(PriorityFactory.class), new PrioritiserResultCache(0), meterRegistry);
+
+        Set<String> prioritiserTags = new TreeSet<>();
+        for (Timer timer : meterRegistry.find("exomiser.prioritiser.request").timers()) {
+            prioritiserTags.add(timer.getId().getTag("prioritiser"));
+        }
+        assertThat(prioritiserTags, equalTo(new TreeSet<>(Set.of("HIPHIVE_PRIORITY", "PHENIX_PRIORITY", "PHIVE_PRIORITY"))));
+    }
+
+    @Test
+    void topResultsMatchesSortedAndLimitedResults() {
+        Random random = new Random(42);
+        List<PriorityResult> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            // include ties which are ordered by gene symbol
+            results.add(new PhenixPriorityResult(i, "GENE" + i, random.nextInt(100) / 100d, 1.0, 1.0));
+        }
+        Collections.shuffle(results, random);
+
+        List<PriorityResult> expected = results.stream().sorted(Comparator.naturalOrder()).limit(20).toList();
+        assertThat(PrioritiserController.topResults(results.stream(), 20), equalTo(expected));
+    }
+
+    @Test
+    void topResultsWithLimitGreaterThanNumberOfResults() {
+        List<PriorityResult> results = List.of(
+                new PhenixPriorityResult(1, "GENE1", 0.5, 1.0, 1.0),
+                new PhenixPriorityResult(2, "GENE2", 0.9, 1.0, 1.0)
+        );
+        assertThat(PrioritiserController.topResults(results.stream(), 10), equalTo(List.of(results.get(1), results.get(0))));
+    }
+}
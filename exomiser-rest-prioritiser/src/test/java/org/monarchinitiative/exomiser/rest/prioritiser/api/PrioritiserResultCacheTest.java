@@ -0,0 +1,195 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.rest.prioritiser.api;
+
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.core.prioritisers.PhenixPriorityResult;
+import org.monarchinitiative.exomiser.core.prioritisers.PriorityResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrioritiserResultCacheTest {
+
+    private static final List<PriorityResult> RESULTS = List.of(
+            new PhenixPriorityResult(1, "GENE1", 0.9, 1.0, 1.0),
+            new PhenixPriorityResult(2, "GENE2", 0.8, 1.0, 1.0),
+            new PhenixPriorityResult(3, "GENE3", 0.7, 1.0, 1.0)
+    );
+
+    private static PrioritiserRequest request(List<String> phenotypes, int limit) {
+        return PrioritiserRequest.builder()
+                .prioritiser("phenix")
+                .phenotypes(phenotypes)
+                .limit(limit)
+                .build();
+    }
+
+    private static Supplier<List<PriorityResult>> countingSupplier(AtomicInteger count, int limit) {
+        return () -> {
+            count.incrementAndGet();
+            return limit == 0 ? RESULTS : RESULTS.subList(0, Math.min(limit, RESULTS.size()));
+        };
+    }
+
+    @Test
+    void throwsExceptionWithNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PrioritiserResultCache(-1));
+    }
+
+    @Test
+    void disabledCacheAlwaysRunsSupplier() {
+        PrioritiserResultCache instance = new PrioritiserResultCache(0);
+        AtomicInteger count = new AtomicInteger();
+        PrioritiserRequest request = request(List.of("HP:0000001"), 0);
+        instance.get(request, countingSupplier(count, 0));
+        instance.get(request, countingSupplier(count, 0));
+        assertThat(count.get(), equalTo(2));
+        assertThat(instance.size(), equalTo(0));
+        assertThat(instance.getStats(), equalTo(new PrioritiserResultCache.Stats(0, 0, 2)));
+    }
+
+    @Test
+    void returnsCachedResultsForRequestWithPhenotypesInDifferentOrder() {
+        PrioritiserResultCache instance = new PrioritiserResultCache(10);
+        AtomicInteger count = new AtomicInteger();
+        List<PriorityResult> first = instance.get(request(List.of("HP:0000002", "HP:0000001"), 0), countingSupplier(count, 0));
+        List<PriorityResult> second = instance.get(request(List.of("HP:0000001", "HP:0000002"), 0), countingSupplier(count, 0));
+        assertThat(count.get(), equalTo(1));
+        assertThat(second, equalTo(first));
+        assertThat(instance.getStats(), equalTo(new PrioritiserResultCache.Stats(1, 0, 1)));
+    }
+
+    @Test
+    void smallerLimitIsTakenFromCachedResults() {
+        PrioritiserResultCache instance = new PrioritiserResultCache(10);
+        AtomicInteger count = new AtomicInteger();
+        instance.get(request(List.of("HP:0000001"), 2), countingSupplier(count, 2));
+        List<PriorityResult> results = instance.get(request(List.of("HP:0000001"), 1), countingSupplier(count, 1));
+        assertThat(count.get(), equalTo(1));
+        assertThat(results, equalTo(RESULTS.subList(0, 1)));
+    }
+
+    @Test
+    void largerLimitReplacesCachedResults() {
+        PrioritiserResultCache instance = new PrioritiserResultCache(10);
+        AtomicInteger count = new AtomicInteger();
+        instance.get(request(List.of("HP:0000001"), 1), countingSupplier(count, 1));
+        List<PriorityResult> results = instance.get(request(List.of("HP:0000001"), 0), countingSupplier(count, 0));
+        assertThat(count.get(), equalTo(2));
+        assertThat(results, equalTo(RESULTS));
+        // the complete results are now cached
+        assertThat(instance.get(request(List.of("HP:0000001"), 2), countingSupplier(count, 2)), equalTo(RESULTS.subList(0, 2)));
+        assertThat(instance.get(request(List.of("HP:0000001"), 5), countingSupplier(count, 5)), equalTo(RESULTS));
+        assertThat(count.get(), equalTo(2));
+        assertThat(instance.size(), equalTo(1));
+    }
+
+    @Test
+    void leastRecentlyUsedResultsAreEvicted() {
+        PrioritiserResultCache instance = new PrioritiserResultCache(1);
+        AtomicInteger count = new AtomicInteger();
+        instance.get(request(List.of("HP:0000001"), 0), countingSupplier(count, 0));
+        instance.get(request(List.of("HP:0000002"), 0), countingSupplier(count, 0));
+        instance.get(request(List.of("HP:0000001"), 0), countingSupplier(count, 0));
+        assertThat(count.get(), equalTo(3));
+        assertThat(instance.size(), equalTo(1));
+    }
+
+    @Test
+    void concurrentRequestsRunSupplierOnce() throws Exception {
+        PrioritiserResultCache instance = new PrioritiserResultCache(2);
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<PriorityResult>> slowSupplier = () -> {
+            count.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return RESULTS;
+        };
+
+        int numThreads = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<List<PriorityResult>>> futures = new ArrayList<>();
+            futures.add(executorService.submit(() -> instance.get(request(List.of("HP:0000001"), 0), slowSupplier)));
+            started.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < numThreads; i++) {
+                futures.add(executorService.submit(() -> instance.get(request(List.of("HP:0000001"), 0), slowSupplier)));
+            }
+            release.countDown();
+            List<PriorityResult> results = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<PriorityResult>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS), sameInstance(results));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(count.get(), equalTo(1));
+        // the other requests either waited for the running supplier or found the finished results, never both
+        PrioritiserResultCache.Stats stats = instance.getStats();
+        assertThat(stats.joinCount() + stats.hitCount(), equalTo((long) numThreads - 1));
+        assertThat(stats.missCount(), equalTo(1L));
+    }
+
+    @Test
+    void requestForMoreResultsThanInFlightRunsSupplierAgain() throws Exception {
+        PrioritiserResultCache instance = new PrioritiserResultCache(2);
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<PriorityResult>> slowLimitedSupplier = () -> {
+            count.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return RESULTS.subList(0, 1);
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<PriorityResult>> limited = executorService.submit(() -> instance.get(request(List.of("HP:0000001"), 1), slowLimitedSupplier));
+            started.await(5, TimeUnit.SECONDS);
+            Future<List<PriorityResult>> complete = executorService.submit(() -> instance.get(request(List.of("HP:0000001"), 0), countingSupplier(count, 0)));
+            release.countDown();
+            assertThat(limited.get(5, TimeUnit.SECONDS), equalTo(RESULTS.subList(0, 1)));
+            assertThat(complete.get(5, TimeUnit.SECONDS), equalTo(RESULTS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(count.get(), equalTo(2));
+    }
+}
@@ -23,13 +23,18 @@
 import org.monarchinitiative.exomiser.autoconfigure.genome.GenomeAnalysisServiceAutoConfiguration;
 import org.monarchinitiative.exomiser.autoconfigure.phenotype.PrioritiserAutoConfiguration;
 import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisExecutors;
 import org.monarchinitiative.exomiser.core.analysis.AnalysisFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Import;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * @author Jules Jacobsen <jules.jacobsen@sanger.ac.uk>
  */
@@ -44,4 +49,15 @@
 @ComponentScan(basePackageClasses = {Exomiser.class}, basePackages = {"org.monarchinitiative.exomiser.core.analysis"})
 public class ExomiserAutoConfiguration {
 
+    /**
+     * Executor shared by all the analyses run by the application, on which the variants of an analysis requesting more
+     * than one thread are loaded and filtered.
+     *
+     * @since 14.0.0
+     */
+    @Bean(name = "exomiserAnalysisExecutor", destroyMethod = "shutdownNow")
+    @ConditionalOnMissingBean(name = "exomiserAnalysisExecutor")
+    public ExecutorService exomiserAnalysisExecutor() {
+        return AnalysisExecutors.newAnalysisExecutor(Runtime.getRuntime().availableProcessors());
+    }
 }
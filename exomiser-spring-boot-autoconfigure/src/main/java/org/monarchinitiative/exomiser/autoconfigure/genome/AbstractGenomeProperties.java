@@ -39,6 +39,8 @@ public abstract class AbstractGenomeProperties implements GenomeProperties {
 
     private String clinVarDataVersion = "";
     private boolean useClinVarWhiteList = true;
+    // Load the ClinVar variants into memory on startup for faster interval queries, at the cost of a larger heap
+    private boolean clinVarInMemory = false;
 
     // Optional tabix data file containing whitelisted variants
     // This overrides the variant effect, frequency and pathogenicity filters
@@ -50,10 +52,18 @@ public abstract class AbstractGenomeProperties implements GenomeProperties {
     private String remmPath = "";
     private String localFrequencyPath = "";
 
+    // Optional memory-mapped scores built by exomiser-data-genome. These are used in preference to the tabix files
+    // for CADD SNVs and REMM when provided.
+    private String caddSnvScoresPath = "";
+    private String remmScoresPath = "";
+
     // 'special' tabix datasource for quickly testing new pathogenicity data sources before plumbing them into the main
     // datastore
     private String testPathogenicityScorePath = "";
 
+    // Optional bounded caches for the variant data sources
+    private VariantCacheProperties cache = new VariantCacheProperties();
+
     protected AbstractGenomeProperties(GenomeAssembly assembly) {
         this.assembly = assembly;
     }
@@ -99,6 +109,15 @@ public void setUseClinVarWhiteList(boolean useClinVarWhiteList) {
         this.useClinVarWhiteList = useClinVarWhiteList;
     }
 
+    @Override
+    public boolean isClinVarInMemory() {
+        return clinVarInMemory;
+    }
+
+    public void setClinVarInMemory(boolean clinVarInMemory) {
+        this.clinVarInMemory = clinVarInMemory;
+    }
+
     public TranscriptSource getTranscriptSource() {
         return transcriptSource;
     }
@@ -143,6 +162,22 @@ public void setRemmPath(String remmPath) {
         this.remmPath = remmPath;
     }
 
+    public String getCaddSnvScoresPath() {
+        return caddSnvScoresPath;
+    }
+
+    public void setCaddSnvScoresPath(String caddSnvScoresPath) {
+        this.caddSnvScoresPath = caddSnvScoresPath;
+    }
+
+    public String getRemmScoresPath() {
+        return remmScoresPath;
+    }
+
+    public void setRemmScoresPath(String remmScoresPath) {
+        this.remmScoresPath = remmScoresPath;
+    }
+
     public String getLocalFrequencyPath() {
         return localFrequencyPath;
     }
@@ -158,4 +193,13 @@ public String getTestPathogenicityScorePath() {
     public void setTestPathogenicityScorePath(String testPathogenicityScorePath) {
         this.testPathogenicityScorePath = testPathogenicityScorePath;
     }
+
+    @Override
+    public VariantCacheProperties getCache() {
+        return cache;
+    }
+
+    public void setCache(VariantCacheProperties cache) {
+        this.cache = cache;
+    }
 }
@@ -24,6 +24,8 @@
 import org.monarchinitiative.exomiser.core.genome.GenomeAnalysisServiceProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +38,7 @@
  */
 @Configuration
 @ConditionalOnClass(GenomeAnalysisService.class)
+@AutoConfigureBefore(CacheAutoConfiguration.class)
 @Import({
         Hg19GenomeAnalysisServiceAutoConfiguration.class,
         Hg38GenomeAnalysisServiceAutoConfiguration.class,
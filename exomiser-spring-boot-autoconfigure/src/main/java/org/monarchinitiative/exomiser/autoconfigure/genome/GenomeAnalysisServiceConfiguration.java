@@ -27,6 +27,7 @@
 import org.monarchinitiative.exomiser.core.genome.VariantAnnotator;
 import org.monarchinitiative.exomiser.core.genome.VariantDataService;
 import org.monarchinitiative.exomiser.core.genome.dao.AllelePropertiesDao;
+import org.monarchinitiative.exomiser.core.genome.dao.ClinVarDao;
 import org.monarchinitiative.exomiser.core.genome.dao.FrequencyDao;
 import org.monarchinitiative.exomiser.core.genome.dao.PathogenicityDao;
 import org.monarchinitiative.exomiser.core.genome.dao.VariantWhiteList;
@@ -56,6 +57,8 @@ public interface GenomeAnalysisServiceConfiguration {
 
     AllelePropertiesDao allelePropertiesDao();
 
+    ClinVarDao clinVarDao();
+
     FrequencyDao localFrequencyDao();
 
     PathogenicityDao remmDao();
@@ -24,11 +24,16 @@
 import org.h2.mvstore.MVStore;
 import org.monarchinitiative.exomiser.core.genome.*;
 import org.monarchinitiative.exomiser.core.genome.dao.*;
+import org.monarchinitiative.exomiser.core.genome.dao.serialisers.MvStoreUtil;
 import org.monarchinitiative.exomiser.core.model.ChromosomalRegionIndex;
 import org.monarchinitiative.exomiser.core.model.RegulatoryFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import java.nio.file.Path;
 
@@ -53,8 +58,11 @@ public abstract class GenomeAnalysisServiceConfigurer implements GenomeAnalysisS
     protected final MVStore allelesMvStore;
     protected final MVStore clinVarMvStore;
 
-    protected GenomeAnalysisServiceConfigurer(GenomeProperties genomeProperties, Path exomiserDataDirectory) {
+    private final ObjectProvider<CacheManager> cacheManagers;
+
+    protected GenomeAnalysisServiceConfigurer(GenomeProperties genomeProperties, Path exomiserDataDirectory, ObjectProvider<CacheManager> cacheManagers) {
         this.genomeProperties = genomeProperties;
+        this.cacheManagers = cacheManagers;
         logger.debug("Loading data sources for {} {} {}", genomeProperties.getDataVersion(), genomeProperties.getAssembly(), genomeProperties
                 .getTranscriptSource());
         GenomeDataResolver genomeDataResolver = new GenomeDataResolver(genomeProperties, exomiserDataDirectory);
@@ -67,6 +75,20 @@ protected GenomeAnalysisServiceConfigurer(GenomeProperties genomeProperties, Pat
         this.clinVarMvStore = genomeDataSourceLoader.getClinVarMvStore();
     }
 
+    /**
+     * Returns the cache used by the {@link org.springframework.cache.annotation.Cacheable} DAO methods for the named data
+     * source of this assembly, e.g. {@code hg19.cadd}, so that the batch reads of the DAOs can share its entries.
+     *
+     * @param dataSource one of the {@link VariantCacheProperties#DATA_SOURCES}
+     * @return the cache, or null if there is no {@link CacheManager}
+     * @since 14.0.0
+     */
+    @Nullable
+    protected Cache variantCache(String dataSource) {
+        CacheManager cacheManager = cacheManagers.getIfUnique();
+        return cacheManager == null ? null : cacheManager.getCache(genomeProperties.getAssembly() + "." + dataSource);
+    }
+
     protected VariantAnnotator buildVariantAnnotator() {
         ChromosomalRegionIndex<RegulatoryFeature> regulatoryRegionIndex = genomeDataService().getRegulatoryRegionIndex();
         return new JannovarVariantAnnotator(genomeProperties.getAssembly(), jannovarData, regulatoryRegionIndex);
@@ -74,13 +96,24 @@ protected VariantAnnotator buildVariantAnnotator() {
 
     //This method is calling the public interface of the concrete implementation so that the caching works on the DAOs
     protected VariantDataService buildVariantDataService() {
-        AllelePropertiesDaoAdapter allelePropertiesDaoAdapter = new AllelePropertiesDaoAdapter(allelePropertiesDao());
-        ClinVarDao clinVarDao = new ClinVarDaoMvStore(clinVarMvStore, genomeProperties.getAssembly());
+        FrequencyDao defaultFrequencyDao;
+        PathogenicityDao defaultPathogenicityDao;
+        if (MvStoreUtil.hasPackedAlleleMap(allelesMvStore)) {
+            // packed stores decode only the requested fields, so by-pass the cached AllelePropertiesDao
+            logger.debug("Using packed allele store for {} {}", genomeProperties.getDataVersion(), genomeProperties.getAssembly());
+            PackedAllelePropertiesDaoMvStore packedAllelePropertiesDao = new PackedAllelePropertiesDaoMvStore(allelesMvStore);
+            defaultFrequencyDao = packedAllelePropertiesDao;
+            defaultPathogenicityDao = packedAllelePropertiesDao;
+        } else {
+            AllelePropertiesDaoAdapter allelePropertiesDaoAdapter = new AllelePropertiesDaoAdapter(allelePropertiesDao());
+            defaultFrequencyDao = allelePropertiesDaoAdapter;
+            defaultPathogenicityDao = allelePropertiesDaoAdapter;
+        }
         return VariantDataServiceImpl.builder()
                 .variantWhiteList(variantWhiteList())
-                .clinVarDao(clinVarDao)
-                .defaultFrequencyDao(allelePropertiesDaoAdapter)
-                .defaultPathogenicityDao(allelePropertiesDaoAdapter)
+                .clinVarDao(clinVarDao())
+                .defaultFrequencyDao(defaultFrequencyDao)
+                .defaultPathogenicityDao(defaultPathogenicityDao)
                 .localFrequencyDao(localFrequencyDao())
                 .remmDao(remmDao())
                 .caddDao(caddDao())
@@ -90,6 +123,14 @@ protected VariantDataService buildVariantDataService() {
                 .build();
     }
 
+    protected ClinVarDao buildClinVarDao() {
+        if (genomeProperties.isClinVarInMemory()) {
+            logger.info("Loading {} ClinVar {} into memory", genomeProperties.getAssembly(), genomeProperties.getClinVarDataVersion());
+            return new ClinVarDaoInMemory(clinVarMvStore, genomeProperties.getAssembly());
+        }
+        return new ClinVarDaoMvStore(clinVarMvStore, genomeProperties.getAssembly());
+    }
+
     protected GenomeDataService buildGenomeDataService() {
         RegulatoryFeatureDao regulatoryFeatureDao = new RegulatoryFeatureDao(genomeDataSource);
         TadDao tadDao = new TadDao(genomeDataSource);
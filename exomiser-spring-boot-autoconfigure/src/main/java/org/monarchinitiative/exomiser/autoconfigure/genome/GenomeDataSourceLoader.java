@@ -22,15 +22,18 @@
 
 import de.charite.compbio.jannovar.data.JannovarData;
 import org.h2.mvstore.MVStore;
+import org.monarchinitiative.exomiser.autoconfigure.ExomiserAutoConfigurationException;
 import org.monarchinitiative.exomiser.core.genome.dao.*;
 import org.monarchinitiative.exomiser.core.genome.jannovar.JannovarDataSourceLoader;
 import org.monarchinitiative.exomiser.core.proto.AlleleProto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +62,10 @@ public class GenomeDataSourceLoader {
     private final TabixDataSource remmTabixDataSource;
     private final TabixDataSource testPathogenicityTabixDataSource;
 
+    //Optional memory-mapped scores
+    private final MappedScoreFile caddSnvScores;
+    private final MappedScoreFile remmScores;
+
     public GenomeDataSourceLoader(GenomeProperties genomeProperties, GenomeDataResolver genomeDataResolver) {
         logger.debug("Loading {} genome data sources...", genomeProperties.getAssembly());
         this.genomeProperties = genomeProperties;
@@ -79,6 +86,8 @@ public GenomeDataSourceLoader(GenomeProperties genomeProperties, GenomeDataResol
         this.caddIndelTabixDataSource = getTabixDataSourceOrDefault("CADD InDel", genomeProperties.getCaddInDelPath());
         this.remmTabixDataSource = getTabixDataSourceOrDefault("REMM", genomeProperties.getRemmPath());
         this.testPathogenicityTabixDataSource = getTabixDataSourceOrDefault("TEST", genomeProperties.getTestPathogenicityScorePath());
+        this.caddSnvScores = loadMappedScoreFileOrNull("CADD snv", genomeProperties.getCaddSnvScoresPath());
+        this.remmScores = loadMappedScoreFileOrNull("REMM", genomeProperties.getRemmScoresPath());
 //        this.jannovarData = jannovarDataFuture.join();
         logger.debug("{} genome data sources loaded", genomeProperties.getAssembly());
     }
@@ -135,6 +144,19 @@ private TabixDataSource getTabixDataSourceOrDefault(String dataSourceName, Strin
         }
     }
 
+    private MappedScoreFile loadMappedScoreFileOrNull(String dataSourceName, String scoresPath) {
+        Path path = genomeDataResolver.resolvePathOrNullIfEmpty(scoresPath);
+        if (path == null) {
+            return null;
+        }
+        logger.info("Opening {} scores from source: {}", dataSourceName, path);
+        try {
+            return MappedScoreFile.open(path);
+        } catch (IOException e) {
+            throw new ExomiserAutoConfigurationException("Failed to load/find file " + path + ". Please check exomiser properties file points to a valid scores file.", e);
+        }
+    }
+
     public JannovarData getJannovarData() {
         return jannovarData;
     }
@@ -171,6 +193,14 @@ public TabixDataSource getTestPathogenicityTabixDataSource() {
         return testPathogenicityTabixDataSource;
     }
 
+    public Optional<MappedScoreFile> getCaddSnvScores() {
+        return Optional.ofNullable(caddSnvScores);
+    }
+
+    public Optional<MappedScoreFile> getRemmScores() {
+        return Optional.ofNullable(remmScores);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
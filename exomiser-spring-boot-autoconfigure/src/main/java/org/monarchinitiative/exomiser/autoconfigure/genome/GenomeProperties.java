@@ -59,6 +59,10 @@ interface GenomeProperties {
 
     void setUseClinVarWhiteList(boolean useClinVarWhiteList);
 
+    boolean isClinVarInMemory();
+
+    void setClinVarInMemory(boolean clinVarInMemory);
+
     HikariDataSource genomeDataSource();
 
     //Optional tabix variant data
@@ -79,6 +83,14 @@ interface GenomeProperties {
 
     void setRemmPath(String remmPath);
 
+    String getCaddSnvScoresPath();
+
+    void setCaddSnvScoresPath(String caddSnvScoresPath);
+
+    String getRemmScoresPath();
+
+    void setRemmScoresPath(String remmScoresPath);
+
     String getLocalFrequencyPath();
 
     void setLocalFrequencyPath(String localFrequencyPath);
@@ -86,4 +98,6 @@ interface GenomeProperties {
     String getTestPathogenicityScorePath();
 
     void setTestPathogenicityScorePath(String testPathogenicityScorePath);
+
+    VariantCacheProperties getCache();
 }
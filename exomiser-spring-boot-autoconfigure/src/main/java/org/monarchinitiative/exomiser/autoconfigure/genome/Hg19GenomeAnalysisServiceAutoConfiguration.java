@@ -28,8 +28,10 @@
 import org.monarchinitiative.exomiser.core.genome.VariantAnnotator;
 import org.monarchinitiative.exomiser.core.genome.VariantDataService;
 import org.monarchinitiative.exomiser.core.genome.dao.*;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -49,8 +51,8 @@
 @EnableConfigurationProperties(Hg19GenomeProperties.class)
 public class Hg19GenomeAnalysisServiceAutoConfiguration extends GenomeAnalysisServiceConfigurer {
 
-    public Hg19GenomeAnalysisServiceAutoConfiguration(Hg19GenomeProperties hg19GenomeProperties, Path exomiserDataDirectory) {
-        super(hg19GenomeProperties, exomiserDataDirectory);
+    public Hg19GenomeAnalysisServiceAutoConfiguration(Hg19GenomeProperties hg19GenomeProperties, Path exomiserDataDirectory, ObjectProvider<CacheManager> cacheManagers) {
+        super(hg19GenomeProperties, exomiserDataDirectory, cacheManagers);
     }
 
     @Bean("hg19jannovarData")
@@ -116,7 +118,13 @@ public GenomeAnalysisService genomeAnalysisService() {
     @Bean("hg19allelePropertiesDao")
     @Override
     public AllelePropertiesDao allelePropertiesDao() {
-        return new AllelePropertiesDaoMvStore(genomeDataSourceLoader.getAllelePropsMvStore());
+        return new AllelePropertiesDaoMvStore(genomeDataSourceLoader.getAllelePropsMvStore(), variantCache("allele"));
+    }
+
+    @Bean("hg19clinVarDao")
+    @Override
+    public ClinVarDao clinVarDao() {
+        return buildClinVarDao();
     }
 
     @Bean("hg19localFrequencyDao")
@@ -127,20 +135,25 @@ public FrequencyDao localFrequencyDao() {
 
     @Bean("hg19remmDao")
     @Override
-    public RemmDao remmDao() {
-        return new RemmDao(genomeDataSourceLoader.getRemmTabixDataSource());
+    public PathogenicityDao remmDao() {
+        return genomeDataSourceLoader.getRemmScores()
+                .<PathogenicityDao>map(MappedRemmDao::new)
+                .orElseGet(() -> new RemmDao(genomeDataSourceLoader.getRemmTabixDataSource(), variantCache("remm")));
     }
 
     @Bean("hg19caddDao")
     @Override
-    public CaddDao caddDao() {
-        return new CaddDao(genomeDataSourceLoader.getCaddIndelTabixDataSource(), genomeDataSourceLoader.getCaddSnvTabixDataSource());
+    public PathogenicityDao caddDao() {
+        CaddDao caddDao = new CaddDao(genomeDataSourceLoader.getCaddIndelTabixDataSource(), genomeDataSourceLoader.getCaddSnvTabixDataSource(), variantCache("cadd"));
+        return genomeDataSourceLoader.getCaddSnvScores()
+                .<PathogenicityDao>map(caddSnvScores -> new MappedCaddDao(caddSnvScores, caddDao))
+                .orElse(caddDao);
     }
 
     @Bean("hg19testPathDao")
     @Override
     public PathogenicityDao testPathScoreDao() {
-        return new TestPathogenicityScoreDao(genomeDataSourceLoader.getTestPathogenicityTabixDataSource());
+        return new TestPathogenicityScoreDao(genomeDataSourceLoader.getTestPathogenicityTabixDataSource(), variantCache("test_path"));
     }
 
     @Bean("hg19svFrequencyDao")
@@ -0,0 +1,77 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.autoconfigure.genome;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.function.LongConsumer;
+
+/**
+ * {@link CaffeineCache} which times how long it takes to load a missing value. Spring's caching interceptor calls
+ * {@link #get(Object)} and, on a miss, invokes the cached method on the same thread before calling
+ * {@link #put(Object, Object)} with the result, so the time between these two calls is the time taken to load the value
+ * from the underlying data source.
+ *
+ * @since 14.0.0
+ */
+class MeteredCaffeineCache extends CaffeineCache {
+
+    private final ThreadLocal<Miss> lastMiss = new ThreadLocal<>();
+
+    private volatile LongConsumer loadTimeRecorder = nanos -> {
+    };
+
+    MeteredCaffeineCache(String name, Cache<Object, Object> cache) {
+        super(name, cache, true);
+    }
+
+    /**
+     * @param loadTimeRecorder consumer of the time, in nanoseconds, taken to load each value missing from the cache
+     */
+    void setLoadTimeRecorder(LongConsumer loadTimeRecorder) {
+        this.loadTimeRecorder = loadTimeRecorder;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper valueWrapper = super.get(key);
+        if (valueWrapper == null) {
+            lastMiss.set(new Miss(key, System.nanoTime()));
+        }
+        return valueWrapper;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        Miss miss = lastMiss.get();
+        if (miss != null) {
+            lastMiss.remove();
+            if (miss.key().equals(key)) {
+                loadTimeRecorder.accept(System.nanoTime() - miss.startNanos());
+            }
+        }
+    }
+
+    private record Miss(Object key, long startNanos) {
+    }
+}
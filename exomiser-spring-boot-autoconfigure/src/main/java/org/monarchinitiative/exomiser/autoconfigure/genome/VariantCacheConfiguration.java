@@ -20,11 +20,31 @@
 
 package org.monarchinitiative.exomiser.autoconfigure.genome;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
 /**
  * @author Jules Jacobsen <j.jacobsen@qmul.ac.uk>
  */
@@ -37,4 +57,86 @@ public KeyGenerator variantKeyGenerator() {
         return new VariantKeyGenerator();
     }
 
+    /**
+     * Bounded Caffeine caches for the variant data sources, enabled using the {@code exomiser.hg19.cache.enabled} and
+     * {@code exomiser.hg38.cache.enabled} properties. Each data source has its own cache, bounded by the estimated
+     * memory use of the entries, so that a large allele cache cannot evict the CADD or ClinVar entries. Any cache name
+     * not configured here, e.g. for a disabled assembly, is not cached.
+     *
+     * @since 14.0.0
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Caffeine.class)
+    @ConditionalOnExpression("${exomiser.hg19.cache.enabled:false} or ${exomiser.hg38.cache.enabled:false}")
+    static class VariantCaffeineCacheConfiguration {
+
+        private static final Logger logger = LoggerFactory.getLogger(VariantCaffeineCacheConfiguration.class);
+
+        @Bean
+        @ConditionalOnMissingBean(CacheManager.class)
+        public CacheManager cacheManager(ObjectProvider<Hg19GenomeProperties> hg19GenomeProperties, ObjectProvider<Hg38GenomeProperties> hg38GenomeProperties) {
+            List<Cache> caches = new ArrayList<>();
+            Stream.of(hg19GenomeProperties.getIfAvailable(), hg38GenomeProperties.getIfAvailable())
+                    .filter(genomeProperties -> genomeProperties != null && genomeProperties.getCache().isEnabled())
+                    .forEach(genomeProperties -> caches.addAll(buildCaches(genomeProperties)));
+
+            SimpleCacheManager variantCacheManager = new SimpleCacheManager();
+            variantCacheManager.setCaches(caches);
+            variantCacheManager.initializeCaches();
+
+            CompositeCacheManager cacheManager = new CompositeCacheManager(variantCacheManager);
+            cacheManager.setFallbackToNoOpCache(true);
+            return cacheManager;
+        }
+
+        private List<Cache> buildCaches(GenomeProperties genomeProperties) {
+            String assembly = genomeProperties.getAssembly().toString();
+            VariantCacheProperties cacheProperties = genomeProperties.getCache();
+            List<Cache> caches = new ArrayList<>();
+            for (String dataSource : VariantCacheProperties.DATA_SOURCES) {
+                String cacheName = assembly + "." + dataSource;
+                long maximumWeight = cacheProperties.getMaximumWeightBytes(dataSource);
+                logger.info("Caching {} with a maximum weight of {} bytes", cacheName, maximumWeight);
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder()
+                        .maximumWeight(maximumWeight)
+                        .weigher(VariantCacheWeigher.INSTANCE)
+                        .recordStats()
+                        .build();
+                caches.add(new MeteredCaffeineCache(cacheName, nativeCache));
+            }
+            return caches;
+        }
+    }
+
+    /**
+     * Publishes the hit, miss, eviction and size statistics of the variant caches along with a histogram of the time
+     * taken to load the missing values, tagged with the cache name. These are bound to any {@link MeterRegistry}
+     * provided by the application, e.g. by Spring Boot Actuator.
+     *
+     * @since 14.0.0
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Caffeine.class, MeterRegistry.class})
+    static class VariantCacheMetricsConfiguration {
+
+        @Bean
+        public MeterBinder variantCacheMetrics(ObjectProvider<CacheManager> cacheManagers) {
+            return registry -> cacheManagers.orderedStream()
+                    .flatMap(cacheManager -> cacheManager.getCacheNames().stream().map(cacheManager::getCache))
+                    .filter(MeteredCaffeineCache.class::isInstance)
+                    .map(MeteredCaffeineCache.class::cast)
+                    .forEach(cache -> bindTo(registry, cache));
+        }
+
+        private static void bindTo(MeterRegistry registry, MeteredCaffeineCache cache) {
+            CaffeineCacheMetrics.monitor(registry, cache.getNativeCache(), cache.getName());
+            Timer loadTimer = Timer.builder("exomiser.cache.load")
+                    .description("Time taken to load values missing from the cache")
+                    .tag("cache", cache.getName())
+                    .publishPercentileHistogram()
+                    .register(registry);
+            cache.setLoadTimeRecorder(nanos -> loadTimer.record(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
 }
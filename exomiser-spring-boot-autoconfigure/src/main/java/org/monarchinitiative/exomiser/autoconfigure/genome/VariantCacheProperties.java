@@ -0,0 +1,85 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.autoconfigure.genome;
+
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of the bounded, in-memory caches for the variant data sources of a genome assembly. e.g.
+ * <pre>
+ * exomiser.hg19.cache.enabled=true
+ * exomiser.hg19.cache.default-maximum-weight=64MB
+ * exomiser.hg19.cache.maximum-weight.allele=1GB
+ * exomiser.hg19.cache.maximum-weight.cadd=256MB
+ * </pre>
+ * The maximum weight is an estimate of the memory used by the cached keys and values. When enabled for any assembly
+ * these caches replace any {@code spring.cache.*} configuration for the variant data.
+ *
+ * @since 14.0.0
+ */
+public class VariantCacheProperties {
+
+    /**
+     * The names of the cached data sources. The cache name for each of these is prefixed with the assembly, e.g.
+     * {@code hg19.allele}, as used in the {@link org.springframework.cache.annotation.Cacheable} annotations of the
+     * DAOs.
+     */
+    public static final List<String> DATA_SOURCES = List.of("allele", "clinvar", "cadd", "remm", "local", "test_path", "sv.freq", "sv.path");
+
+    private boolean enabled = false;
+    private DataSize defaultMaximumWeight = DataSize.ofMegabytes(64);
+    private Map<String, DataSize> maximumWeight = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getDefaultMaximumWeight() {
+        return defaultMaximumWeight;
+    }
+
+    public void setDefaultMaximumWeight(DataSize defaultMaximumWeight) {
+        this.defaultMaximumWeight = defaultMaximumWeight;
+    }
+
+    public Map<String, DataSize> getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public void setMaximumWeight(Map<String, DataSize> maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * @return the maximum weight, in bytes, for the named data source, or the default if this has not been specified.
+     */
+    public long getMaximumWeightBytes(String dataSource) {
+        return maximumWeight.getOrDefault(dataSource, defaultMaximumWeight).toBytes();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.autoconfigure.genome;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.google.protobuf.MessageLite;
+import org.monarchinitiative.exomiser.core.model.frequency.FrequencyData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicityData;
+
+/**
+ * Estimates the number of bytes used by a cached variant key and its value so that the variant caches can be bounded
+ * by memory use rather than entry count. These are approximations of the retained heap size - they are only intended
+ * to be in the right order of magnitude.
+ *
+ * @since 14.0.0
+ */
+class VariantCacheWeigher implements Weigher<Object, Object> {
+
+    static final VariantCacheWeigher INSTANCE = new VariantCacheWeigher();
+
+    // object header, fields and the entry in the cache
+    private static final int OBJECT_OVERHEAD = 64;
+    private static final int FREQUENCY_SIZE = 16;
+    private static final int PATHOGENICITY_SCORE_SIZE = 32;
+    private static final int CLINVAR_SIZE = 256;
+    private static final int INCLUDED_ALLELE_SIZE = 64;
+
+    private VariantCacheWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = weigh(key) + weigh(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long weigh(Object object) {
+        if (object instanceof MessageLite messageLite) {
+            return OBJECT_OVERHEAD + 2L * messageLite.getSerializedSize();
+        }
+        if (object instanceof FrequencyData frequencyData) {
+            return OBJECT_OVERHEAD + (long) FREQUENCY_SIZE * frequencyData.getKnownFrequencies().size();
+        }
+        if (object instanceof PathogenicityData pathogenicityData) {
+            return OBJECT_OVERHEAD + (long) PATHOGENICITY_SCORE_SIZE * pathogenicityData.getPredictedPathogenicityScores().size() + weigh(pathogenicityData.getClinVarData());
+        }
+        if (object instanceof ClinVarData clinVarData) {
+            return clinVarData.isEmpty() ? 0 : CLINVAR_SIZE + (long) INCLUDED_ALLELE_SIZE * clinVarData.getIncludedAlleles().size();
+        }
+        return OBJECT_OVERHEAD;
+    }
+}
@@ -61,11 +61,19 @@ public HikariDataSource phenotypeDataSource(DataSourceProperties phenotypeDataSo
     private String randomWalkIndexFileName = "rw_string_9_05_id2index.gz";
     private boolean randomWalkPreload = false;
 
+    // Serve the HP-HP/MP/ZP phenotype matches from the memory-mapped hp_*_mappings.bin files in the phenotype data
+    // directory instead of the hp_*_mappings database tables
+    private boolean mappedPhenotypeMatches = false;
+
     //Phenix data
     private String phenixDataDir = "phenix";
     private String hpoFileName = "hp.obo";
     private String hpoAnnotationFile = "ALL_SOURCES_ALL_FREQUENCIES_genes_to_phenotype.txt";
 
+    //Bootstrapped p-value populations - each of these takes ~4MB
+    private int bootstrapCacheSize = 8;
+    private Path bootstrapCacheDirectory;
+
     public Path getDataDirectory() {
         return dataDirectory;
     }
@@ -98,6 +106,22 @@ public void setRandomWalkIndexFileName(String randomWalkIndexFileName) {
         this.randomWalkIndexFileName = randomWalkIndexFileName;
     }
 
+    public int getBootstrapCacheSize() {
+        return bootstrapCacheSize;
+    }
+
+    public void setBootstrapCacheSize(int bootstrapCacheSize) {
+        this.bootstrapCacheSize = bootstrapCacheSize;
+    }
+
+    public Path getBootstrapCacheDirectory() {
+        return bootstrapCacheDirectory;
+    }
+
+    public void setBootstrapCacheDirectory(String bootstrapCacheDirectory) {
+        this.bootstrapCacheDirectory = Paths.get(bootstrapCacheDirectory);
+    }
+
     public boolean isRandomWalkPreload() {
         return randomWalkPreload;
     }
@@ -106,6 +130,14 @@ public void setRandomWalkPreload(boolean randomWalkPreload) {
         this.randomWalkPreload = randomWalkPreload;
     }
 
+    public boolean isMappedPhenotypeMatches() {
+        return mappedPhenotypeMatches;
+    }
+
+    public void setMappedPhenotypeMatches(boolean mappedPhenotypeMatches) {
+        this.mappedPhenotypeMatches = mappedPhenotypeMatches;
+    }
+
     public String getPhenixDataDir() {
         return phenixDataDir;
     }
@@ -20,8 +20,21 @@
 
 package org.monarchinitiative.exomiser.autoconfigure.phenotype;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.monarchinitiative.exomiser.autoconfigure.DataDirectoryAutoConfiguration;
+import org.monarchinitiative.exomiser.autoconfigure.ExomiserAutoConfigurationException;
 import org.monarchinitiative.exomiser.autoconfigure.UndefinedDataDirectoryException;
+import org.monarchinitiative.exomiser.core.analysis.util.BootstrapPopulationCache;
+import org.monarchinitiative.exomiser.core.phenotype.dao.HumanPhenotypeOntologyDao;
+import org.monarchinitiative.exomiser.core.phenotype.dao.MappedOntologyDao;
+import org.monarchinitiative.exomiser.core.phenotype.dao.MousePhenotypeOntologyDao;
+import org.monarchinitiative.exomiser.core.phenotype.dao.PhenotypeMappingFile;
+import org.monarchinitiative.exomiser.core.phenotype.dao.ZebraFishPhenotypeOntologyDao;
+import org.monarchinitiative.exomiser.core.phenotype.service.OntologyService;
+import org.monarchinitiative.exomiser.core.phenotype.service.OntologyServiceImpl;
 import org.monarchinitiative.exomiser.core.prioritisers.PriorityFactory;
 import org.monarchinitiative.exomiser.core.prioritisers.util.DataMatrix;
 import org.monarchinitiative.exomiser.core.prioritisers.util.DataMatrixIO;
@@ -35,6 +48,7 @@
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
 
 import java.io.IOException;
 import java.nio.file.DirectoryIteratorException;
@@ -148,6 +162,15 @@ public Path hpoAnnotationFilePath() {
         return hpoAnnotationFilePath;
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public BootstrapPopulationCache bootstrapPopulationCache() {
+        int maximumSize = phenotypeProperties.getBootstrapCacheSize();
+        Path directory = phenotypeProperties.getBootstrapCacheDirectory();
+        logger.debug("Caching up to {} bootstrapped p-value populations{}", maximumSize, directory == null ? "" : " in " + directory);
+        return new BootstrapPopulationCache(phenotypeProperties.getDataVersion(), maximumSize, directory);
+    }
+
     /**
      * This needs a lot of RAM and is slow to create from the randomWalkFile, so
      * it's set as lazy use on the command-line.
@@ -166,6 +189,11 @@ public DataMatrix randomWalkMatrix() {
             Path randomWalkIndexFilePath = phenotypeDataDirectory().resolve(randomWalkIndexFileNameValue);
             return DataMatrixIO.loadInMemoryDataMatrixFromFile(randomWalkFilePath.toString(), randomWalkIndexFilePath.toString(), true);
         }
+        // memory-mapped matrix converted from the .mv file using DataMatrixIO.convertToMappedDataMatrix
+        if (randomWalkFileNameValue.endsWith(".bin")) {
+            logger.debug("Using memory-mapped random-walk matrix from {}", randomWalkFilePath);
+            return DataMatrixIO.loadMappedDataMatrix(randomWalkFilePath);
+        }
         if (phenotypeProperties.isRandomWalkPreload()) {
             logger.info("Pre-loading in-memory random-walk matrix from {}", randomWalkFilePath);
             return DataMatrixIO.loadInMemoryDataMatrix(randomWalkFilePath);
@@ -174,4 +202,61 @@ public DataMatrix randomWalkMatrix() {
         return DataMatrixIO.loadOffHeapDataMatrix(randomWalkFilePath);
     }
 
+    /**
+     * Serves the HP-HP, HP-MP and HP-ZP phenotype matches from the memory-mapped files built by exomiser-data-phenotype
+     * rather than querying the phenotype database for every HPO term. This takes precedence over the component-scanned
+     * {@link OntologyServiceImpl}, which only uses the database.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(value = "exomiser.phenotype.mapped-phenotype-matches", havingValue = "true")
+    public OntologyService mappedOntologyService(HumanPhenotypeOntologyDao hpoDao, MousePhenotypeOntologyDao mpoDao, ZebraFishPhenotypeOntologyDao zpoDao) {
+        return new OntologyServiceImpl(hpoDao,
+                new MappedOntologyDao(hpoDao, openPhenotypeMappingFile("hp_hp_mappings.bin")),
+                new MappedOntologyDao(mpoDao, openPhenotypeMappingFile("hp_mp_mappings.bin")),
+                new MappedOntologyDao(zpoDao, openPhenotypeMappingFile("hp_zp_mappings.bin")));
+    }
+
+    private PhenotypeMappingFile openPhenotypeMappingFile(String fileName) {
+        Path path = phenotypeDataDirectory().resolve(fileName);
+        logger.info("Opening phenotype mappings from {}", path);
+        try {
+            return PhenotypeMappingFile.open(path);
+        } catch (IOException e) {
+            throw new ExomiserAutoConfigurationException("Failed to load/find file " + path + ". Please check this was built by exomiser-data-phenotype or set exomiser.phenotype.mapped-phenotype-matches=false", e);
+        }
+    }
+
+    /**
+     * Publishes the {@link BootstrapPopulationCache} hit, disk hit, join and miss counts along with the number of
+     * populations held in memory. These are bound to any {@link MeterRegistry} provided by the application.
+     *
+     * @since 14.0.0
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class BootstrapPopulationCacheMetricsConfiguration {
+
+        @Bean
+        public MeterBinder bootstrapPopulationCacheMetrics(BootstrapPopulationCache bootstrapPopulationCache) {
+            return registry -> {
+                FunctionCounter.builder("exomiser.bootstrap.cache.hits", bootstrapPopulationCache, cache -> cache.getStats().hitCount())
+                        .description("Number of bootstrapped p-value populations found in memory")
+                        .register(registry);
+                FunctionCounter.builder("exomiser.bootstrap.cache.disk.hits", bootstrapPopulationCache, cache -> cache.getStats().diskHitCount())
+                        .description("Number of bootstrapped p-value populations read from disk")
+                        .register(registry);
+                FunctionCounter.builder("exomiser.bootstrap.cache.joins", bootstrapPopulationCache, cache -> cache.getStats().joinCount())
+                        .description("Number of requests which waited for another request to load the same population")
+                        .register(registry);
+                FunctionCounter.builder("exomiser.bootstrap.cache.misses", bootstrapPopulationCache, cache -> cache.getStats().missCount())
+                        .description("Number of bootstrapped p-value populations created")
+                        .register(registry);
+                Gauge.builder("exomiser.bootstrap.cache.size", bootstrapPopulationCache, BootstrapPopulationCache::size)
+                        .description("Number of bootstrapped p-value populations held in memory")
+                        .register(registry);
+            };
+        }
+    }
+
 }
@@ -55,6 +55,7 @@ public void genomeAnalysisService() throws Exception {
         assertThat(context.getBean("hg19VariantWhiteList"), instanceOf(VariantWhiteList.class));
 
         assertThat(context.getBean("hg19allelePropertiesDao"), instanceOf(AllelePropertiesDao.class));
+        assertThat(context.getBean("hg19clinVarDao"), instanceOf(ClinVarDaoMvStore.class));
 
         assertThat(context.getBean("hg19remmDao"), instanceOf(RemmDao.class));
         assertThat(context.getBean("hg19caddDao"), instanceOf(CaddDao.class));
@@ -70,6 +71,14 @@ public void genomeAnalysisServiceWithOptionalTestPathDao() throws Exception {
         assertThat(context.getBean("hg19testPathDao"), instanceOf(TestPathogenicityScoreDao.class));
     }
 
+    @Test
+    public void genomeAnalysisServiceWithInMemoryClinVar() throws Exception {
+
+        load(EmptyConfiguration.class, TEST_DATA_ENV, "exomiser.hg19.data-version=1710", "exomiser.hg19.clin-var-in-memory=true");
+
+        assertThat(context.getBean("hg19clinVarDao"), instanceOf(ClinVarDaoInMemory.class));
+    }
+
     @Configuration
     @ImportAutoConfiguration(value = Hg19GenomeAnalysisServiceAutoConfiguration.class)
     protected static class EmptyConfiguration {
@@ -0,0 +1,131 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.monarchinitiative.exomiser.autoconfigure.genome;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.autoconfigure.AbstractAutoConfigurationTest;
+import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
+import org.monarchinitiative.exomiser.core.genome.dao.AllelePropertiesDao;
+import org.monarchinitiative.exomiser.core.genome.dao.ClinVarDao;
+import org.monarchinitiative.exomiser.core.model.Variant;
+import org.monarchinitiative.exomiser.core.model.VariantEvaluation;
+import org.monarchinitiative.exomiser.core.model.pathogenicity.ClinVarData;
+import org.monarchinitiative.exomiser.core.proto.AlleleProto;
+import org.monarchinitiative.svart.CoordinateSystem;
+import org.monarchinitiative.svart.Strand;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class VariantCacheConfigurationTest extends AbstractAutoConfigurationTest {
+
+    private static final Variant VARIANT = VariantEvaluation.builder()
+            .variant(GenomeAssembly.HG19.getContigById(1), Strand.POSITIVE, CoordinateSystem.oneBased(), 2345, "A", "T")
+            .build();
+
+    @Test
+    public void cachesAreBoundedByConfiguredMaximumWeight() {
+        load(CacheConfiguration.class, TEST_DATA_ENV, "exomiser.hg19.data-version=1710",
+                "exomiser.hg19.cache.enabled=true",
+                "exomiser.hg19.cache.default-maximum-weight=2MB",
+                "exomiser.hg19.cache.maximum-weight.cadd=1MB");
+
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        // hg38 is not configured so is not cached
+        assertThat(boundedCacheNames(cacheManager), equalTo(Set.of("hg19.allele", "hg19.clinvar", "hg19.cadd", "hg19.remm", "hg19.local", "hg19.test_path", "hg19.sv.freq", "hg19.sv.path")));
+        assertThat(maximumWeight(cacheManager, "hg19.cadd"), equalTo(1024L * 1024L));
+        assertThat(maximumWeight(cacheManager, "hg19.allele"), equalTo(2L * 1024L * 1024L));
+    }
+
+    @Test
+    public void batchAlleleReadsShareTheVariantCache() {
+        load(CacheConfiguration.class, TEST_DATA_ENV, "exomiser.hg19.data-version=1710", "exomiser.hg19.cache.enabled=true");
+
+        AllelePropertiesDao allelePropertiesDao = (AllelePropertiesDao) context.getBean("hg19allelePropertiesDao");
+        AlleleProto.AlleleProperties alleleProperties = allelePropertiesDao.getAlleleProperties(List.of(VARIANT)).get(0);
+
+        Cache<Object, Object> nativeCache = nativeCache(context.getBean(CacheManager.class), "hg19.allele");
+        assertThat(nativeCache.estimatedSize(), equalTo(1L));
+        assertThat(allelePropertiesDao.getAlleleProperties(VARIANT), sameInstance(alleleProperties));
+        assertThat(allelePropertiesDao.getAlleleProperties(List.of(VARIANT)).get(0), sameInstance(alleleProperties));
+        assertThat(nativeCache.stats().hitCount(), equalTo(2L));
+    }
+
+    @Test
+    public void clinVarDataIsCached() {
+        load(CacheConfiguration.class, TEST_DATA_ENV, "exomiser.hg19.data-version=1710", "exomiser.hg19.cache.enabled=true");
+
+        ClinVarDao clinVarDao = (ClinVarDao) context.getBean("hg19clinVarDao");
+        ClinVarData clinVarData = clinVarDao.getClinVarData(VARIANT);
+
+        Cache<Object, Object> nativeCache = nativeCache(context.getBean(CacheManager.class), "hg19.clinvar");
+        assertThat(nativeCache.estimatedSize(), equalTo(1L));
+        assertThat(clinVarDao.getClinVarData(VARIANT), sameInstance(clinVarData));
+        assertThat(nativeCache.stats().hitCount(), equalTo(1L));
+    }
+
+    @Test
+    public void cacheMetricsAreBoundToMeterRegistry() {
+        load(CacheConfiguration.class, TEST_DATA_ENV, "exomiser.hg19.data-version=1710", "exomiser.hg19.cache.enabled=true");
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        context.getBean("variantCacheMetrics", MeterBinder.class).bindTo(meterRegistry);
+
+        ClinVarDao clinVarDao = (ClinVarDao) context.getBean("hg19clinVarDao");
+        clinVarDao.getClinVarData(VARIANT);
+        clinVarDao.getClinVarData(VARIANT);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "hg19.clinvar").tag("result", "hit").functionCounter().count(), equalTo(1.0));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "hg19.clinvar").tag("result", "miss").functionCounter().count(), equalTo(1.0));
+        assertThat(meterRegistry.get("exomiser.cache.load").tag("cache", "hg19.clinvar").timer().count(), equalTo(1L));
+    }
+
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String cacheName) {
+        return ((MeteredCaffeineCache) cacheManager.getCache(cacheName)).getNativeCache();
+    }
+
+    private static Set<String> boundedCacheNames(CacheManager cacheManager) {
+        // n.b. the fallback no-op cache names are also reported by the CacheManager, so these are excluded here
+        return cacheManager.getCacheNames().stream()
+                .filter(cacheName -> cacheManager.getCache(cacheName) instanceof MeteredCaffeineCache)
+                .collect(Collectors.toSet());
+    }
+
+    private static long maximumWeight(CacheManager cacheManager, String cacheName) {
+        return nativeCache(cacheManager, cacheName).policy().eviction().orElseThrow().getMaximum();
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(value = GenomeAnalysisServiceAutoConfiguration.class)
+    protected static class CacheConfiguration {
+    }
+}
@@ -20,10 +20,17 @@
 
 package org.monarchinitiative.exomiser.autoconfigure.phenotype;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.monarchinitiative.exomiser.autoconfigure.AbstractAutoConfigurationTest;
 import org.monarchinitiative.exomiser.autoconfigure.DataDirectoryAutoConfiguration;
+import org.monarchinitiative.exomiser.core.analysis.util.BootstrapPopulationCache;
 import org.monarchinitiative.exomiser.core.prioritisers.util.DataMatrix;
+import org.monarchinitiative.exomiser.core.prioritisers.util.DataMatrixIO;
+import org.monarchinitiative.exomiser.core.prioritisers.util.MappedDataMatrix;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.cache.CacheManager;
@@ -66,6 +73,27 @@ public void canDefinePhenotypeDataDirectory() {
         assertThat(phenotypeDataDirectory, equalTo(definedDir));
     }
 
+    @Test
+    public void bootstrapPopulationCacheIsDefined() {
+        load(EmptyConfiguration.class, TEST_DATA_ENV, DATA_VERSION, "exomiser.phenotype.bootstrap-cache-size=2");
+        BootstrapPopulationCache bootstrapPopulationCache = this.context.getBean(BootstrapPopulationCache.class);
+        assertThat(bootstrapPopulationCache.getStats().requestCount(), equalTo(0L));
+    }
+
+    @Test
+    public void bootstrapPopulationCacheMetricsAreBound() {
+        load(EmptyConfiguration.class, TEST_DATA_ENV, DATA_VERSION, "exomiser.phenotype.bootstrap-cache-size=2");
+        MeterBinder meterBinder = (MeterBinder) this.context.getBean("bootstrapPopulationCacheMetrics");
+        MeterRegistry registry = new SimpleMeterRegistry();
+        meterBinder.bindTo(registry);
+
+        assertThat(registry.get("exomiser.bootstrap.cache.hits").functionCounter().count(), equalTo(0.0));
+        assertThat(registry.get("exomiser.bootstrap.cache.disk.hits").functionCounter().count(), equalTo(0.0));
+        assertThat(registry.get("exomiser.bootstrap.cache.joins").functionCounter().count(), equalTo(0.0));
+        assertThat(registry.get("exomiser.bootstrap.cache.misses").functionCounter().count(), equalTo(0.0));
+        assertThat(registry.get("exomiser.bootstrap.cache.size").gauge().value(), equalTo(0.0));
+    }
+
     @Test
     public void phenixDirectoryDefaultNameIsDefinedRelativeToPhenotypeDataDirectory() {
         load(EmptyConfiguration.class, TEST_DATA_ENV, DATA_VERSION);
@@ -149,6 +177,18 @@ public void randomWalkMatrixLoadInMemory() {
         assertThat(dataMatrix.numColumns(), equalTo(10));
     }
 
+    @Test
+    public void randomWalkMatrixMemoryMapped(@TempDir Path tempDir) {
+        DataMatrix inMemoryMatrix = DataMatrixIO.loadInMemoryDataMatrix(TEST_DATA.resolve("1710_phenotype/rw_string_10.mv"));
+        DataMatrixIO.writeMappedDataMatrix(inMemoryMatrix, tempDir.resolve("rw_string_10.bin"));
+
+        load(EmptyConfiguration.class, TEST_DATA_ENV, DATA_VERSION, "exomiser.phenotype.data-directory=" + tempDir, "exomiser.phenotype.random-walk-file-name=rw_string_10.bin");
+        DataMatrix dataMatrix = (DataMatrix) context.getBean("randomWalkMatrix");
+        assertThat(dataMatrix, instanceOf(MappedDataMatrix.class));
+        assertThat(dataMatrix.numRows(), equalTo(10));
+        assertThat(dataMatrix.numColumns(), equalTo(10));
+    }
+
     @Test
     public void randomWalkMatrixCanBeOverriden() {
         load(UserConfiguration.class, TEST_DATA_ENV, DATA_VERSION, "exomiser.phenotype.randomWalkFileName=wibble.gz", "exomiser.randomWalkIndexFileName=wibbleIndex.gz");
@@ -27,6 +27,7 @@
 import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
 import htsjdk.tribble.readers.TabixReader;
 import org.mockito.Mockito;
+import org.monarchinitiative.exomiser.core.analysis.util.BootstrapPopulationCache;
 import org.monarchinitiative.exomiser.core.genome.*;
 import org.monarchinitiative.exomiser.core.phenotype.dao.HumanPhenotypeOntologyDao;
 import org.monarchinitiative.exomiser.core.phenotype.dao.MousePhenotypeOntologyDao;
@@ -140,6 +141,12 @@ public DataMatrix dataMatrix() {
         return DataMatrix.empty();
     }
 
+    @Bean
+    public BootstrapPopulationCache bootstrapPopulationCache() {
+        logger.info("Stubbing bootstrapPopulationCache");
+        return BootstrapPopulationCache.disabled();
+    }
+
     @Bean
     Path phenixDataDirectory() {
         logger.info("Stubbing phenixDataDirectory");
@@ -25,6 +25,8 @@
  */
 package org.monarchinitiative.exomiser.web.config;
 
+import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.web.service.AnalysisJobQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +34,8 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 
+import java.time.Duration;
+
 /**
  *
  * @author Jules Jacobsen <jules.jacobsen@sanger.ac.uk>
@@ -68,4 +72,14 @@ public Boolean clinicalInstance() {
         }
         return clinicalInstance;
     }
+
+    @Bean(destroyMethod = "close")
+    public AnalysisJobQueue analysisJobQueue(Exomiser exomiser) {
+        int numWorkers = env.getProperty("exomiser.web.job-workers", Integer.class, 2);
+        int queueCapacity = env.getProperty("exomiser.web.job-queue-capacity", Integer.class, 20);
+        int retentionMinutes = env.getProperty("exomiser.web.job-retention-minutes", Integer.class, 60);
+        int maxRetainedJobs = env.getProperty("exomiser.web.max-retained-jobs", Integer.class, 50);
+        logger.info("Running analysis jobs using {} workers with a queue of {} jobs, retaining up to {} finished jobs", numWorkers, queueCapacity, maxRetainedJobs);
+        return new AnalysisJobQueue(exomiser, numWorkers, queueCapacity, Duration.ofMinutes(retentionMinutes), maxRetainedJobs);
+    }
 }
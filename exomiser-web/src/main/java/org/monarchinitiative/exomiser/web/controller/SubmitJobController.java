@@ -37,16 +37,18 @@
 import org.monarchinitiative.exomiser.core.analysis.util.PedFiles;
 import org.monarchinitiative.exomiser.core.filters.FilterReport;
 import org.monarchinitiative.exomiser.core.genome.GenomeAssembly;
-import org.monarchinitiative.exomiser.core.genome.VcfFiles;
 import org.monarchinitiative.exomiser.core.model.*;
 import org.monarchinitiative.exomiser.core.model.frequency.FrequencySource;
 import org.monarchinitiative.exomiser.core.model.pathogenicity.PathogenicitySource;
 import org.monarchinitiative.exomiser.core.prioritisers.PriorityType;
 import org.monarchinitiative.exomiser.core.prioritisers.service.PriorityService;
 import org.monarchinitiative.exomiser.core.writers.*;
+import org.monarchinitiative.exomiser.web.service.AnalysisJob;
+import org.monarchinitiative.exomiser.web.service.AnalysisJobQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -55,6 +57,7 @@
 import javax.annotation.Nullable;
 import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -74,6 +77,7 @@ public class SubmitJobController {
     private static final Logger logger = LoggerFactory.getLogger(SubmitJobController.class);
 
     private static final String SUBMIT_PAGE = "submit";
+    private static final String JOB_PAGE = "job";
     private static final Set<VariantEffect> NON_EXONIC_VARIANT_EFFECTS = Sets.immutableEnumSet(
             VariantEffect.UPSTREAM_GENE_VARIANT,
             VariantEffect.INTERGENIC_VARIANT,
@@ -96,6 +100,8 @@ public class SubmitJobController {
     private Exomiser exomiser;
     @Autowired
     private PriorityService priorityService;
+    @Autowired
+    private AnalysisJobQueue analysisJobQueue;
 
     @GetMapping(value = SUBMIT_PAGE)
     public String submit() {
@@ -118,23 +124,33 @@ public String submit(
             @RequestParam("inheritance") String modeOfInheritance,
             @RequestParam(value = "genes-to-keep", required = false) List<String> genesToFilter,
             @RequestParam("prioritiser") String prioritiser,
+            @RequestParam(value = "async", required = false, defaultValue = "false") boolean async,
             HttpSession session,
             Model model) {
 
         UUID analysisId = UUID.randomUUID();
         logger.info("Analysis id: {}", analysisId);
-        Path vcfPath = createVcfPathFromMultipartFile(vcfFile);
-        Path pedPath = createPedPathFromMultipartFile(pedFile);
         //require a mimimum input of a VCF file and a set of HPO terms - these can come from the diseaseId
-        if (vcfPath == null) {
-            logger.info("User did not submit a VCF - returning to submission page");
+        if (phenotypes == null && diseaseId == null) {
+            logger.info("User did not provide a disease or phenotype set - returning to submission page");
             return SUBMIT_PAGE;
         }
 
-        if (phenotypes == null && diseaseId == null) {
-            logger.info("User did not provide a disease or phenotype set - returning to submission page");
+        // the VCF is counted as it is uploaded, stopping as soon as it is found to be too large
+        Path vcfPath = createVcfPathFromMultipartFile(vcfFile);
+        if (vcfPath == null) {
+            logger.info("User did not submit a VCF - returning to submission page");
             return SUBMIT_PAGE;
         }
+        long numVariantsInSample = uploadVcf(vcfFile, vcfPath);
+        if (numVariantsInSample > maxVariants) {
+            logger.info("{} contains more than the allowed maximum of {} variants. Returning user to submit page", vcfPath, maxVariants);
+            deleteSampleFile(vcfPath);
+            return "resubmitWithFewerVariants";
+        } else {
+            logger.info("{} contains {} variants - within set limit of {}", vcfPath, numVariantsInSample, maxVariants);
+        }
+        Path pedPath = createPedPathFromMultipartFile(pedFile);
 
         if(phenotypes == null) {
             logger.info("No phenotypes provided - trying to use disease phenotypes");
@@ -144,19 +160,11 @@ public String submit(
         logger.info("Using disease: {}", diseaseId);
         logger.info("Using phenotypes: {}", phenotypes);
 
-        long numVariantsInSample = VcfFiles.readVariantContexts(vcfPath).count();
-        if (numVariantsInSample > maxVariants) {
-            logger.info("{} contains {} variants - this is more than the allowed maximum of {}."
-                    + "Returning user to submit page", vcfPath, numVariantsInSample, maxVariants);
-            cleanUpSampleFiles(vcfPath, pedPath);
-            model.addAttribute("numVariants", numVariantsInSample);
-            return "resubmitWithFewerVariants";
-        } else {
-            logger.info("{} contains {} variants - within set limit of {}", vcfPath, numVariantsInSample, maxVariants);
-        }
-
         Sample sample = buildSample(vcfPath, pedPath, proband, phenotypes);
         Analysis analysis = buildAnalysis(geneticInterval, minimumQuality, removeDbSnp, keepOffTarget, keepNonPathogenic, modeOfInheritance, frequency, makeGenesToKeep(genesToFilter), prioritiser);
+        if (async) {
+            return submitJob(sample, analysis, pedPath, model);
+        }
         AnalysisResults analysisResults = exomiser.run(sample, analysis);
 
         buildResultsModel(model, analysis, analysisResults);
@@ -165,6 +173,51 @@ public String submit(
         return "results";
     }
 
+    /**
+     * Queues the analysis to be run asynchronously. The user is redirected to the job page which will show the results
+     * once the analysis is complete.
+     */
+    private String submitJob(Sample sample, Analysis analysis, @Nullable Path pedPath, Model model) {
+        Path vcfPath = sample.getVcfPath();
+        Optional<AnalysisJob> submittedJob = analysisJobQueue.submit(sample, analysis, () -> cleanUpSampleFiles(vcfPath, pedPath));
+        if (submittedJob.isEmpty()) {
+            logger.info("Job queue is full - returning user to job page");
+            cleanUpSampleFiles(vcfPath, pedPath);
+            model.addAttribute("status", "REJECTED");
+            return JOB_PAGE;
+        }
+        return "redirect:/" + JOB_PAGE + "?id=" + submittedJob.get().getId();
+    }
+
+    @GetMapping(value = JOB_PAGE)
+    public String job(@RequestParam("id") UUID jobId, Model model) {
+        Optional<AnalysisJob> optionalJob = analysisJobQueue.getJob(jobId);
+        if (optionalJob.isEmpty()) {
+            model.addAttribute("status", "UNKNOWN");
+            return JOB_PAGE;
+        }
+        AnalysisJob job = optionalJob.get();
+        if (job.getStatus() == AnalysisJob.Status.COMPLETED) {
+            AnalysisResults analysisResults = job.getAnalysisResults();
+            buildResultsModel(model, job.getAnalysis(), analysisResults);
+            logger.info("Returning job {} results to user", jobId);
+            // finished jobs are held by the queue until the retention period expires, so the page can be reloaded
+            return "results";
+        }
+        model.addAttribute("status", job.getStatus().toString());
+        model.addAttribute("errorMessage", job.getErrorMessage());
+        model.addAttribute("numQueuedJobs", analysisJobQueue.getNumQueuedJobs());
+        return JOB_PAGE;
+    }
+
+    @GetMapping(value = JOB_PAGE + "/status")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> jobStatus(@RequestParam("id") UUID jobId) {
+        return analysisJobQueue.getJob(jobId)
+                .map(job -> ResponseEntity.ok(Map.<String, Object>of("id", jobId, "status", job.getStatus())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // TODO: use
     //  @ExceptionHandler, @ControllerAdvice, and ProblemDetail for better error handling on user-side
     //   add spring.mvc.problemdetails.enabled=true
@@ -390,13 +443,31 @@ private Set<String> makeGenesToKeep(List<String> genesToFilter) {
 
     @Nullable
     private Path createVcfPathFromMultipartFile(MultipartFile multipartVcfFile) {
-        if (multipartVcfFile == null || multipartVcfFile.getOriginalFilename() == null) {
+        if (multipartVcfFile == null || multipartVcfFile.getOriginalFilename() == null || multipartVcfFile.isEmpty()) {
             return null;
         }
-        if (multipartVcfFile.getOriginalFilename().endsWith(".vcf.gz")) {
-            return createPathFromMultipartFile(multipartVcfFile, ".vcf.gz");
+        String suffix = multipartVcfFile.getOriginalFilename().endsWith(".vcf.gz") ? ".vcf.gz" : ".vcf";
+        try {
+            return Files.createTempFile(Paths.get(System.getProperty("java.io.tmpdir")), "exomiser-", suffix);
+        } catch (IOException e) {
+            logger.error("Failed to create file for {}", multipartVcfFile.getOriginalFilename(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Writes the uploaded VCF to the vcfPath, returning the number of variants in the file or maxVariants + 1 if there
+     * are more than the maximum allowed.
+     */
+    private long uploadVcf(MultipartFile multipartVcfFile, Path vcfPath) {
+        logger.info("Uploading multipart file: {}", multipartVcfFile.getOriginalFilename());
+        boolean compressed = vcfPath.toString().endsWith(".gz");
+        try (InputStream inputStream = multipartVcfFile.getInputStream()) {
+            return VcfUploads.transferAndCountVariants(inputStream, vcfPath, compressed, maxVariants);
+        } catch (IOException e) {
+            deleteSampleFile(vcfPath);
+            throw new IllegalStateException("Failed to upload file " + multipartVcfFile.getOriginalFilename(), e);
         }
-        return createPathFromMultipartFile(multipartVcfFile, ".vcf");
     }
 
     private Path createPedPathFromMultipartFile(MultipartFile multipartPedFile) {
@@ -0,0 +1,113 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.web.controller;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Utility for writing an uploaded VCF file to disk whilst counting the variants it contains, so that the file is only
+ * read once rather than being written and then parsed again just to be counted.
+ *
+ * @since 14.0.0
+ */
+class VcfUploads {
+
+    private VcfUploads() {
+        // static utility class
+    }
+
+    /**
+     * Copies the VCF from the input stream to the output path counting the number of records as it goes. Counting stops
+     * as soon as the count exceeds the maxVariants, in which case the output file will be incomplete and should be
+     * discarded.
+     *
+     * @param vcfInputStream the uploaded VCF, which may be gzip or bgzip compressed
+     * @param outputPath     where to write the VCF
+     * @param compressed     true if the input is gzip or bgzip compressed
+     * @param maxVariants    the maximum number of variants to count
+     * @return the number of variants in the file, or maxVariants + 1 if the file contains more than maxVariants
+     * @throws IOException if the input could not be read or the output could not be written
+     */
+    static long transferAndCountVariants(InputStream vcfInputStream, Path outputPath, boolean compressed, long maxVariants) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(outputPath));
+             TeeInputStream teeInputStream = new TeeInputStream(vcfInputStream, outputStream)) {
+            InputStream decodedInputStream = compressed ? new GZIPInputStream(teeInputStream, 64 * 1024) : teeInputStream;
+            BufferedReader reader = new BufferedReader(new InputStreamReader(decodedInputStream, StandardCharsets.UTF_8), 64 * 1024);
+            long numVariants = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && line.charAt(0) != '#' && ++numVariants > maxVariants) {
+                    return numVariants;
+                }
+            }
+            // copy any trailing bytes not consumed by the decoder e.g. the bgzip EOF marker
+            teeInputStream.transferTo(OutputStream.nullOutputStream());
+            return numVariants;
+        }
+    }
+
+    /**
+     * Copies all bytes read from the input stream to the output stream.
+     */
+    private static class TeeInputStream extends FilterInputStream {
+
+        private final OutputStream outputStream;
+
+        private TeeInputStream(InputStream inputStream, OutputStream outputStream) {
+            super(inputStream);
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                outputStream.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int numRead = super.read(bytes, offset, length);
+            if (numRead > 0) {
+                outputStream.write(bytes, offset, numRead);
+            }
+            return numRead;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // skipped bytes need to be copied too
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            int numRead = read(buffer, 0, buffer.length);
+            return Math.max(numRead, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
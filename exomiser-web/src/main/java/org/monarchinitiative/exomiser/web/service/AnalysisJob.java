@@ -0,0 +1,132 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.web.service;
+
+import org.monarchinitiative.exomiser.core.analysis.Analysis;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisResults;
+import org.monarchinitiative.exomiser.core.analysis.sample.Sample;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An analysis submitted to the {@link AnalysisJobQueue}. The status and results are updated by the worker thread running
+ * the analysis and can be polled from any thread.
+ *
+ * @since 14.0.0
+ */
+public class AnalysisJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final UUID id;
+    private final Sample sample;
+    private final Analysis analysis;
+    private final Instant submitted;
+
+    private volatile Status status = Status.QUEUED;
+    @Nullable
+    private volatile AnalysisResults analysisResults;
+    @Nullable
+    private volatile String errorMessage;
+    @Nullable
+    private volatile Instant finished;
+
+    AnalysisJob(UUID id, Sample sample, Analysis analysis) {
+        this.id = id;
+        this.sample = sample;
+        this.analysis = analysis;
+        this.submitted = Instant.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Sample getSample() {
+        return sample;
+    }
+
+    public Analysis getAnalysis() {
+        return analysis;
+    }
+
+    public Instant getSubmitted() {
+        return submitted;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * @return the results of the analysis, or null if the job has not completed.
+     */
+    @Nullable
+    public AnalysisResults getAnalysisResults() {
+        return analysisResults;
+    }
+
+    /**
+     * @return the reason the job failed, or null if it has not failed.
+     */
+    @Nullable
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Nullable
+    Instant getFinished() {
+        return finished;
+    }
+
+    void running() {
+        status = Status.RUNNING;
+    }
+
+    void completed(AnalysisResults analysisResults) {
+        this.analysisResults = analysisResults;
+        this.finished = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void failed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finished = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    @Override
+    public String toString() {
+        return "AnalysisJob{" +
+                "id=" + id +
+                ", status=" + status +
+                ", submitted=" + submitted +
+                ", finished=" + finished +
+                '}';
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.web.service;
+
+import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.Analysis;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisResults;
+import org.monarchinitiative.exomiser.core.analysis.sample.Sample;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Runs submitted analyses on a fixed number of worker threads so that the servlet request threads are not tied up for
+ * the duration of an analysis. Submissions are rejected once the queue is full. Finished jobs are held for the
+ * retention period, so their results can be viewed more than once, and are then removed by a periodic sweep. As each
+ * finished job holds its full results, no more than the maximum number of finished jobs are retained, the oldest of
+ * them being removed first.
+ *
+ * @since 14.0.0
+ */
+public class AnalysisJobQueue implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalysisJobQueue.class);
+
+    private final Exomiser exomiser;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final int maxRetainedJobs;
+    private final ScheduledExecutorService sweeper;
+    private final Map<UUID, AnalysisJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * @param exomiser        the {@link Exomiser} used to run the analyses
+     * @param numWorkers      the number of analyses to run concurrently
+     * @param queueCapacity   the maximum number of analyses waiting to be run
+     * @param retention       how long a finished job and its results are held for
+     * @param maxRetainedJobs the maximum number of finished jobs and their results held at any one time
+     */
+    public AnalysisJobQueue(Exomiser exomiser, int numWorkers, int queueCapacity, Duration retention, int maxRetainedJobs) {
+        if (maxRetainedJobs < 0) {
+            throw new IllegalArgumentException("maxRetainedJobs must be zero or greater, was " + maxRetainedJobs);
+        }
+        this.exomiser = exomiser;
+        this.executor = new ThreadPoolExecutor(numWorkers, numWorkers, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+        this.retention = retention;
+        this.maxRetainedJobs = maxRetainedJobs;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analysis-job-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // expired jobs are removed at most a minute, or one retention period if shorter, after they expire
+        long sweepMillis = Math.max(1, Math.min(retention.toMillis(), Duration.ofMinutes(1).toMillis()));
+        this.sweeper.scheduleWithFixedDelay(this::removeExpiredJobs, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Submits the analysis to be run, or rejects it if the queue is full.
+     *
+     * @param sample     the sample to analyse
+     * @param analysis   the analysis to run
+     * @param onFinished called by the worker thread once the job has finished, successfully or not. Use this to clean
+     *                   up any input files.
+     * @return the submitted job, or an empty optional if the job was rejected
+     */
+    public Optional<AnalysisJob> submit(Sample sample, Analysis analysis, Runnable onFinished) {
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID(), sample, analysis);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(new QueuedJob(job, onFinished));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            logger.info("Rejected job - {} jobs already queued", executor.getQueue().size());
+            return Optional.empty();
+        }
+        logger.info("Queued job {} - {} jobs queued", job.getId(), executor.getQueue().size());
+        return Optional.of(job);
+    }
+
+    /**
+     * A job waiting in, or taken from, the executor queue. This is a named class rather than a lambda so that the jobs
+     * still queued when the queue is closed can be failed and cleaned up.
+     */
+    private final class QueuedJob implements Runnable {
+
+        private final AnalysisJob job;
+        private final Runnable onFinished;
+
+        private QueuedJob(AnalysisJob job, Runnable onFinished) {
+            this.job = job;
+            this.onFinished = onFinished;
+        }
+
+        @Override
+        public void run() {
+            job.running();
+            logger.info("Running job {}", job.getId());
+            try {
+                AnalysisResults analysisResults = exomiser.run(job.getSample(), job.getAnalysis());
+                job.completed(analysisResults);
+                logger.info("Completed job {}", job.getId());
+            } catch (Exception e) {
+                logger.error("Job {} failed", job.getId(), e);
+                job.failed(e.getMessage());
+            } finally {
+                removeExcessJobs();
+                onFinished.run();
+            }
+        }
+
+        private void cancel() {
+            try {
+                job.failed("Job cancelled - server shutting down");
+            } finally {
+                onFinished.run();
+            }
+        }
+    }
+
+    public Optional<AnalysisJob> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * @return the number of jobs queued waiting to be run.
+     */
+    public int getNumQueuedJobs() {
+        return executor.getQueue().size();
+    }
+
+    void removeExpiredJobs() {
+        Instant expiry = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinished().isBefore(expiry));
+    }
+
+    /**
+     * Removes the oldest finished jobs until no more than the maximum number of finished jobs are retained.
+     */
+    synchronized void removeExcessJobs() {
+        List<AnalysisJob> finishedJobs = jobs.values().stream()
+                .filter(AnalysisJob::isFinished)
+                .sorted(Comparator.comparing(AnalysisJob::getFinished))
+                .toList();
+        int numExcess = finishedJobs.size() - maxRetainedJobs;
+        for (int i = 0; i < numExcess; i++) {
+            AnalysisJob job = finishedJobs.get(i);
+            jobs.remove(job.getId());
+            logger.info("Removed job {} - over the limit of {} retained jobs", job.getId(), maxRetainedJobs);
+        }
+    }
+
+    /**
+     * Interrupts the running jobs and cancels the queued jobs, running the clean-up for each of them.
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        List<Runnable> queuedJobs = executor.shutdownNow();
+        logger.info("Cancelling {} queued jobs", queuedJobs.size());
+        for (Runnable queuedJob : queuedJobs) {
+            ((QueuedJob) queuedJob).cancel();
+        }
+    }
+}
@@ -31,6 +31,9 @@
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
@@ -52,4 +55,18 @@ public void submitJobControllerGetReturnsOkStatusAndSubmitPage() throws Exceptio
                 .andExpect(view().name("submit"));
     }
 
+    @Test
+    public void unknownJobReturnsJobPage() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/job").param("id", UUID.randomUUID().toString()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("job"))
+                .andExpect(model().attribute("status", "UNKNOWN"));
+    }
+
+    @Test
+    public void unknownJobStatusReturnsNotFound() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/job/status").param("id", UUID.randomUUID().toString()))
+                .andExpect(status().isNotFound());
+    }
+
 }
@@ -0,0 +1,81 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.web.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class VcfUploadsTest {
+
+    private static final String VCF = "##fileformat=VCFv4.2\n" +
+            "#CHROM\tPOS\tID\tREF\tALT\tQUAL\tFILTER\tINFO\tFORMAT\tsample\n" +
+            "1\t12345\t.\tA\tT\t100\tPASS\t.\tGT\t0/1\n" +
+            "1\t12346\t.\tC\tG\t100\tPASS\t.\tGT\t0/1\n" +
+            "\n" +
+            "2\t12345\t.\tA\tT\t100\tPASS\t.\tGT\t1/1\n";
+
+    @TempDir
+    Path tempDir;
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Test
+    void transferAndCountVariants() throws IOException {
+        byte[] vcf = VCF.getBytes(StandardCharsets.UTF_8);
+        Path vcfPath = tempDir.resolve("sample.vcf");
+        long numVariants = VcfUploads.transferAndCountVariants(new ByteArrayInputStream(vcf), vcfPath, false, 10);
+        assertThat(numVariants, equalTo(3L));
+        assertThat(Files.readAllBytes(vcfPath), equalTo(vcf));
+    }
+
+    @Test
+    void transferAndCountCompressedVariants() throws IOException {
+        byte[] vcfGz = gzip(VCF.getBytes(StandardCharsets.UTF_8));
+        Path vcfPath = tempDir.resolve("sample.vcf.gz");
+        long numVariants = VcfUploads.transferAndCountVariants(new ByteArrayInputStream(vcfGz), vcfPath, true, 10);
+        assertThat(numVariants, equalTo(3L));
+        assertThat(Files.readAllBytes(vcfPath), equalTo(vcfGz));
+    }
+
+    @Test
+    void transferAndCountVariantsStopsOnceMaxVariantsExceeded() throws IOException {
+        byte[] vcf = VCF.getBytes(StandardCharsets.UTF_8);
+        Path vcfPath = tempDir.resolve("sample.vcf");
+        long numVariants = VcfUploads.transferAndCountVariants(new ByteArrayInputStream(vcf), vcfPath, false, 1);
+        assertThat(numVariants, equalTo(2L));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * The Exomiser - A tool to annotate and prioritize genomic variants
+ *
+ * Copyright (c) 2026 Queen Mary University of London.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.monarchinitiative.exomiser.web.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.exomiser.core.Exomiser;
+import org.monarchinitiative.exomiser.core.analysis.Analysis;
+import org.monarchinitiative.exomiser.core.analysis.AnalysisResults;
+import org.monarchinitiative.exomiser.core.analysis.sample.Sample;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AnalysisJobQueueTest {
+
+    private final Sample sample = Sample.builder().build();
+    private final Analysis analysis = Analysis.builder().build();
+    private final AnalysisResults analysisResults = AnalysisResults.builder().sample(sample).analysis(analysis).build();
+    private final Exomiser exomiser = mock(Exomiser.class);
+
+    private AnalysisJobQueue instance;
+
+    @AfterEach
+    void tearDown() {
+        instance.close();
+    }
+
+    private static AnalysisJob awaitFinished(AnalysisJob job) throws InterruptedException {
+        for (int i = 0; i < 1000 && !job.isFinished(); i++) {
+            Thread.sleep(10);
+        }
+        return job;
+    }
+
+    @Test
+    void submittedJobCompletes() throws Exception {
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenReturn(analysisResults);
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ofHours(1), 10);
+
+        CountDownLatch finished = new CountDownLatch(1);
+        AnalysisJob job = instance.submit(sample, analysis, finished::countDown).orElseThrow();
+        assertThat(finished.await(10, TimeUnit.SECONDS), is(true));
+
+        assertThat(awaitFinished(job).getStatus(), equalTo(AnalysisJob.Status.COMPLETED));
+        assertThat(job.getAnalysisResults(), equalTo(analysisResults));
+        // finished jobs are kept until the retention period expires
+        assertThat(instance.getJob(job.getId()), equalTo(Optional.of(job)));
+        instance.removeExpiredJobs();
+        assertThat(instance.getJob(job.getId()), equalTo(Optional.of(job)));
+    }
+
+    @Test
+    void finishedJobIsRemovedOnceRetentionExpires() throws Exception {
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenReturn(analysisResults);
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ofMillis(50), 10);
+
+        AnalysisJob job = awaitFinished(instance.submit(sample, analysis, () -> {}).orElseThrow());
+        // removed by the scheduled sweep
+        for (int i = 0; i < 1000 && instance.getJob(job.getId()).isPresent(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(instance.getJob(job.getId()), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void oldestFinishedJobsAreRemovedOverTheRetainedJobLimit() throws Exception {
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenReturn(analysisResults);
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ofHours(1), 2);
+
+        AnalysisJob first = awaitFinished(instance.submit(sample, analysis, () -> {}).orElseThrow());
+        Thread.sleep(5);
+        AnalysisJob second = awaitFinished(instance.submit(sample, analysis, () -> {}).orElseThrow());
+        Thread.sleep(5);
+        AnalysisJob third = awaitFinished(instance.submit(sample, analysis, () -> {}).orElseThrow());
+        // the worker applies the limit just after marking the job finished, so this may not have happened yet
+        instance.removeExcessJobs();
+
+        assertThat(instance.getJob(first.getId()), equalTo(Optional.empty()));
+        assertThat(instance.getJob(second.getId()), equalTo(Optional.of(second)));
+        assertThat(instance.getJob(third.getId()), equalTo(Optional.of(third)));
+    }
+
+    @Test
+    void unfinishedJobsDoNotCountTowardsTheRetainedJobLimit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return analysisResults;
+        });
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ofHours(1), 0);
+
+        AnalysisJob job = instance.submit(sample, analysis, () -> {}).orElseThrow();
+        instance.removeExcessJobs();
+        assertThat(instance.getJob(job.getId()), equalTo(Optional.of(job)));
+        release.countDown();
+    }
+
+    @Test
+    void failedJobHasErrorMessage() throws Exception {
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenThrow(new IllegalArgumentException("Missing VCF"));
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ofHours(1), 10);
+
+        AnalysisJob job = instance.submit(sample, analysis, () -> {}).orElseThrow();
+
+        assertThat(awaitFinished(job).getStatus(), equalTo(AnalysisJob.Status.FAILED));
+        assertThat(job.getErrorMessage(), equalTo("Missing VCF"));
+    }
+
+    @Test
+    void submitRejectsJobsOnceQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return analysisResults;
+        });
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ofHours(1), 10);
+
+        AnalysisJob running = instance.submit(sample, analysis, () -> {}).orElseThrow();
+        AnalysisJob queued = instance.submit(sample, analysis, () -> {}).orElseThrow();
+        assertThat(instance.submit(sample, analysis, () -> {}).isPresent(), is(false));
+
+        release.countDown();
+        assertThat(awaitFinished(running).getStatus(), equalTo(AnalysisJob.Status.COMPLETED));
+        assertThat(awaitFinished(queued).getStatus(), equalTo(AnalysisJob.Status.COMPLETED));
+    }
+
+    @Test
+    void unfinishedJobIsNotRemoved() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return analysisResults;
+        });
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ZERO, 10);
+
+        AnalysisJob job = instance.submit(sample, analysis, () -> {}).orElseThrow();
+        instance.removeExpiredJobs();
+        assertThat(instance.getJob(job.getId()), equalTo(Optional.of(job)));
+        release.countDown();
+    }
+
+    @Test
+    void closeCancelsQueuedJobsAndRunsTheirCleanUp() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(exomiser.run(any(Sample.class), any(Analysis.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return analysisResults;
+        });
+        instance = new AnalysisJobQueue(exomiser, 1, 1, Duration.ofHours(1), 10);
+
+        CountDownLatch runningCleanedUp = new CountDownLatch(1);
+        CountDownLatch queuedCleanedUp = new CountDownLatch(1);
+        instance.submit(sample, analysis, runningCleanedUp::countDown).orElseThrow();
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        AnalysisJob queued = instance.submit(sample, analysis, queuedCleanedUp::countDown).orElseThrow();
+
+        instance.close();
+
+        assertThat(queuedCleanedUp.getCount(), equalTo(0L));
+        assertThat(queued.getStatus(), equalTo(AnalysisJob.Status.FAILED));
+        // the running job is interrupted and cleans up after itself
+        assertThat(runningCleanedUp.await(10, TimeUnit.SECONDS), is(true));
+    }
+}